@@ -0,0 +1,109 @@
+/*
+ * A benchmarking program for measuring the time of each phase in the compilation of a large script by Vnano Engine.
+ * --------------------------------------------------------------------------------
+ * This file is released under CC0.
+ * Written in 2026 by RINEARN
+ * --------------------------------------------------------------------------------
+ *
+ * Preparation
+ *
+ *     Execute "build.bat" or "build.sh" in advance to generate "Vnano.jar".
+ *
+ * How to Run This Code
+ *
+ *     Set the current directory to the location of "Vnano.jar" by cd command, then:
+ *
+ *         java -cp Vnano.jar benchmark/CompilePhases.java
+ *
+ *     (Requires Java 11 or later, for launching a source file directly.)
+ *     The number of statements in the generated script can be specified as the argument (default: 10000).
+ *
+ * Example of Result:
+ *
+ *     STATEMENT_COUNT = 10000 [STATEMENTS]
+ *     PARSING_TIME = 196.7 [MSEC]
+ *     SEMANTIC_ANALYSIS_TIME = 310.6 [MSEC]
+ *     CODE_GENERATION_TIME = 389.5 [MSEC]
+ *     SEMANTIC_ANALYSIS_ALLOCATION = 64.8 [MB]
+ *     CODE_GENERATION_ALLOCATION = 203.8 [MB]
+ *
+ *     * Values of *_TIME are dependent on your environment.
+ *       Each of them is the minimum value in repeated measurements.
+ *       PARSING_TIME includes the preprocessing and the lexical analysis.
+ *       Values of *_ALLOCATION are the sizes of objects allocated in the last measurement.
+ *
+ * --------------------------------------------------------------------------------
+ */
+
+import java.lang.management.ManagementFactory;
+
+import org.vcssl.nano.compiler.AstNode;
+import org.vcssl.nano.compiler.CodeGenerator;
+import org.vcssl.nano.compiler.LexicalAnalyzer;
+import org.vcssl.nano.compiler.Parser;
+import org.vcssl.nano.compiler.Preprocessor;
+import org.vcssl.nano.compiler.SemanticAnalyzer;
+import org.vcssl.nano.interconnect.Interconnect;
+
+public class CompilePhases {
+
+	private static final int MEASUREMENT_COUNT = 10;
+
+	public static void main(String[] args) throws Exception {
+		int statementCount = args.length != 0 ? Integer.parseInt(args[0]) : 10000;
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		// Generate a large script, consisting of 10 statements (including a function declaration) for each block.
+		StringBuilder scriptBuilder = new StringBuilder();
+		for (int i=0; i<statementCount/10; i++) {
+			scriptBuilder.append("float f" + i + "(float x, int n) { return x * n + 1.0; }\n");
+			scriptBuilder.append("int a" + i + " = " + i + ";\n");
+			scriptBuilder.append("float b" + i + " = a" + i + " * 2.5 + (a" + i + " - 1) / 3.0;\n");
+			scriptBuilder.append("int v" + i + "[4];\n");
+			scriptBuilder.append("v" + i + "[a" + i + " % 4] = a" + i + " * a" + i + ";\n");
+			scriptBuilder.append("bool c" + i + " = a" + i + " >= 3 && b" + i + " != 0.0;\n");
+			scriptBuilder.append("if (c" + i + ") { b" + i + " -= 1.0; } else { b" + i + " += 2.0; }\n");
+			scriptBuilder.append("b" + i + " = f" + i + "(b" + i + ", a" + i + ");\n");
+			scriptBuilder.append("string s" + i + " = \"value\" + (int)b" + i + ";\n");
+		}
+		String script = scriptBuilder.toString();
+		Interconnect interconnect = new Interconnect();
+
+		long minParsingTime = Long.MAX_VALUE;
+		long minAnalysisTime = Long.MAX_VALUE;
+		long minGenerationTime = Long.MAX_VALUE;
+		long analysisAllocation = 0;
+		long generationAllocation = 0;
+
+		for (int measurementIndex=0; measurementIndex<MEASUREMENT_COUNT; measurementIndex++) {
+
+			// Preprocessing, lexical analysis, and parsing.
+			long beginTime = System.nanoTime();
+			String preprocessedScript = new Preprocessor().preprocess(script);
+			AstNode parsedAst = new Parser().parse(new LexicalAnalyzer().analyze(preprocessedScript, "CompilePhases.vnano"));
+			minParsingTime = Math.min(minParsingTime, System.nanoTime() - beginTime);
+
+			// Semantic analysis.
+			long beginAllocation = threadBean.getThreadAllocatedBytes(threadId);
+			beginTime = System.nanoTime();
+			AstNode analyzedAst = new SemanticAnalyzer().analyze(parsedAst, interconnect);
+			minAnalysisTime = Math.min(minAnalysisTime, System.nanoTime() - beginTime);
+			analysisAllocation = threadBean.getThreadAllocatedBytes(threadId) - beginAllocation;
+
+			// Code generation.
+			beginAllocation = threadBean.getThreadAllocatedBytes(threadId);
+			beginTime = System.nanoTime();
+			new CodeGenerator().generate(analyzedAst);
+			minGenerationTime = Math.min(minGenerationTime, System.nanoTime() - beginTime);
+			generationAllocation = threadBean.getThreadAllocatedBytes(threadId) - beginAllocation;
+		}
+
+		System.out.println("STATEMENT_COUNT = " + (statementCount / 10 * 10) + " [STATEMENTS]");
+		System.out.println("PARSING_TIME = " + (minParsingTime / 100000) / 10.0 + " [MSEC]");
+		System.out.println("SEMANTIC_ANALYSIS_TIME = " + (minAnalysisTime / 100000) / 10.0 + " [MSEC]");
+		System.out.println("CODE_GENERATION_TIME = " + (minGenerationTime / 100000) / 10.0 + " [MSEC]");
+		System.out.println("SEMANTIC_ANALYSIS_ALLOCATION = " + (analysisAllocation / 100000) / 10.0 + " [MB]");
+		System.out.println("CODE_GENERATION_ALLOCATION = " + (generationAllocation / 100000) / 10.0 + " [MB]");
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * A benchmarking program for measuring the compilation speed of Vnano Engine,
+ * comparing the path through the textual VRIL code with the path loading the binary VM object code.
+ * --------------------------------------------------------------------------------
+ * This file is released under CC0.
+ * Written in 2026 by RINEARN
+ * --------------------------------------------------------------------------------
+ *
+ * Preparation
+ *
+ *     Execute "build.bat" or "build.sh" in advance to generate "Vnano.jar".
+ *
+ * How to Run This Code
+ *
+ *     Set the current directory to the location of "Vnano.jar" by cd command, then:
+ *
+ *         java -cp Vnano.jar benchmark/CompileSpeed.java
+ *
+ *     (Requires Java 11 or later, for launching a source file directly.)
+ *     The number of the repetition of the statement block in the generated script
+ *     can be specified as the argument (default: 2000, which generates a 6000-line script).
+ *
+ * Example of Result:
+ *
+ *     SCRIPT_LINES = 6000 [LINES]
+ *     VRIL_LINES = 70007 [LINES]
+ *     SOURCE_TO_VRIL_TIME = 7017.6 [MSEC]
+ *     VRIL_TO_OBJECT_CODE_TIME = 21.7 [MSEC]
+ *     BINARY_TO_OBJECT_CODE_TIME = 21.6 [MSEC]
+ *
+ *     * Values of *_TIME are dependent on your environment.
+ *       Each of them is the minimum value in repeated measurements.
+ *
+ * --------------------------------------------------------------------------------
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.vcssl.nano.compiler.Compiler;
+import org.vcssl.nano.interconnect.Interconnect;
+import org.vcssl.nano.vm.VirtualMachine;
+import org.vcssl.nano.vm.VirtualMachineObjectCode;
+import org.vcssl.nano.vm.VirtualMachineObjectCodeSerializer;
+
+public class CompileSpeed {
+
+	private static final int MEASUREMENT_COUNT = 10;
+
+	public static void main(String[] args) throws Exception {
+		int blockCount = args.length != 0 ? Integer.parseInt(args[0]) : 2000;
+
+		// Generate a long script, by repeating a block of statements.
+		StringBuilder scriptBuilder = new StringBuilder();
+		for (int i=0; i<blockCount; i++) {
+			scriptBuilder.append("int a" + i + " = " + i + ";\n");
+			scriptBuilder.append("float b" + i + " = a" + i + " * 2.5 + 1.0;\n");
+			scriptBuilder.append("if (a" + i + " > 3) { b" + i + " = b" + i + " - 1.0; } else { b" + i + " += 2.0; }\n");
+		}
+		String[] scripts = { scriptBuilder.toString() };
+		String[] names = { "main" };
+
+		Interconnect interconnect = new Interconnect();
+		interconnect.setMainScript(names[0], scripts[0]);
+		VirtualMachine vm = new VirtualMachine();
+		VirtualMachineObjectCodeSerializer serializer = new VirtualMachineObjectCodeSerializer();
+
+		long minSourceToVrilTime = Long.MAX_VALUE;
+		long minVrilToObjectCodeTime = Long.MAX_VALUE;
+		long minBinaryToObjectCodeTime = Long.MAX_VALUE;
+		String vril = null;
+
+		for (int measurementIndex=0; measurementIndex<MEASUREMENT_COUNT; measurementIndex++) {
+
+			// Source code -> VRIL code (text)
+			long beginTime = System.nanoTime();
+			vril = new Compiler().compile(scripts, names, interconnect);
+			minSourceToVrilTime = Math.min(minSourceToVrilTime, System.nanoTime() - beginTime);
+
+			// VRIL code (text) -> VM object code
+			beginTime = System.nanoTime();
+			VirtualMachineObjectCode objectCode = vm.assemble(vril, interconnect);
+			minVrilToObjectCodeTime = Math.min(minVrilToObjectCodeTime, System.nanoTime() - beginTime);
+
+			// Binary VM object code -> VM object code
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			serializer.write(objectCode, outputStream);
+			byte[] binary = outputStream.toByteArray();
+			beginTime = System.nanoTime();
+			serializer.load(new ByteArrayInputStream(binary));
+			minBinaryToObjectCodeTime = Math.min(minBinaryToObjectCodeTime, System.nanoTime() - beginTime);
+		}
+
+		System.out.println("SCRIPT_LINES = " + (blockCount * 3) + " [LINES]");
+		System.out.println("VRIL_LINES = " + vril.split("\\r\\n|\\r|\\n").length + " [LINES]");
+		System.out.println("SOURCE_TO_VRIL_TIME = " + (minSourceToVrilTime / 100000) / 10.0 + " [MSEC]");
+		System.out.println("VRIL_TO_OBJECT_CODE_TIME = " + (minVrilToObjectCodeTime / 100000) / 10.0 + " [MSEC]");
+		System.out.println("BINARY_TO_OBJECT_CODE_TIME = " + (minBinaryToObjectCodeTime / 100000) / 10.0 + " [MSEC]");
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * A benchmarking program for measuring the speed and the allocation of repetitive evaluations of a parameterized expression,
+ * comparing the compiled expression with the execution of the script accessing a field connected as a plug-in.
+ * --------------------------------------------------------------------------------
+ * This file is released under CC0.
+ * Written in 2026 by RINEARN
+ * --------------------------------------------------------------------------------
+ *
+ * Preparation
+ *
+ *     Execute "build.bat" or "build.sh" in advance to generate "Vnano.jar".
+ *
+ * How to Run This Code
+ *
+ *     Set the current directory to the location of "Vnano.jar" by cd command, then:
+ *
+ *         java -cp Vnano.jar benchmark/ExpressionEvaluation.java
+ *
+ *     (Requires Java 11 or later, for launching a source file directly.)
+ *     The number of evaluations in each measurement can be specified as the argument (default: 1000000).
+ *
+ * Example of Result:
+ *
+ *     EVALUATION_COUNT = 1000000 [TIMES]
+ *     PLUGIN_FIELD_TIME = 255.5 [NSEC/EVAL]
+ *     PLUGIN_FIELD_ALLOCATION = 168.0 [BYTES/EVAL]
+ *     COMPILED_EXPRESSION_TIME = 97.5 [NSEC/EVAL]
+ *     COMPILED_EXPRESSION_ALLOCATION = 0.0 [BYTES/EVAL]
+ *
+ *     * Values of *_TIME are dependent on your environment.
+ *       Each of them is the minimum value in repeated measurements.
+ *       Values of *_ALLOCATION are measured in the last measurement.
+ *
+ * --------------------------------------------------------------------------------
+ */
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.vcssl.nano.VnanoCompiledExpression;
+import org.vcssl.nano.VnanoEngine;
+
+public class ExpressionEvaluation {
+
+	private static final int MEASUREMENT_COUNT = 10;
+
+	public static class Parameters {
+		public double a = 0.0;
+		public double x = 0.0;
+		public double b = 0.0;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int evaluationCount = args.length != 0 ? Integer.parseInt(args[0]) : 1000000;
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		// Activate the engines only once, for excluding the cost of activations of plug-ins from the measurement.
+		Map<String, Object> optionMap = new HashMap<String, Object>();
+		optionMap.put("AUTOMATIC_ACTIVATION_ENABLED", Boolean.FALSE);
+
+		// The engine on which the script accessing fields of the above class is executed.
+		Parameters parameters = new Parameters();
+		VnanoEngine pluginEngine = new VnanoEngine();
+		pluginEngine.connectPlugin("Parameters", parameters);
+		pluginEngine.setOptionMap(optionMap);
+		pluginEngine.activate();
+
+		// The engine on which the compiled expression is evaluated.
+		VnanoEngine expressionEngine = new VnanoEngine();
+		expressionEngine.setOptionMap(optionMap);
+		expressionEngine.activate();
+		VnanoCompiledExpression expression = expressionEngine.compileExpression("a * x + b", "a", "x", "b");
+
+		long minPluginFieldTime = Long.MAX_VALUE;
+		long minCompiledExpressionTime = Long.MAX_VALUE;
+		long pluginFieldAllocation = 0;
+		long compiledExpressionAllocation = 0;
+		double checksum = 0.0;
+
+		for (int measurementIndex=0; measurementIndex<MEASUREMENT_COUNT; measurementIndex++) {
+
+			// Script accessing fields connected as a plug-in.
+			long beginAllocation = threadBean.getThreadAllocatedBytes(threadId);
+			long beginTime = System.nanoTime();
+			for (int i=0; i<evaluationCount; i++) {
+				parameters.a = 2.0;
+				parameters.x = i;
+				parameters.b = 1.0;
+				checksum += (Double)pluginEngine.executeScript("a * x + b;");
+			}
+			minPluginFieldTime = Math.min(minPluginFieldTime, System.nanoTime() - beginTime);
+			pluginFieldAllocation = threadBean.getThreadAllocatedBytes(threadId) - beginAllocation;
+
+			// Compiled expression.
+			beginAllocation = threadBean.getThreadAllocatedBytes(threadId);
+			beginTime = System.nanoTime();
+			for (int i=0; i<evaluationCount; i++) {
+				checksum += expression.evaluate(2.0, i, 1.0);
+			}
+			minCompiledExpressionTime = Math.min(minCompiledExpressionTime, System.nanoTime() - beginTime);
+			compiledExpressionAllocation = threadBean.getThreadAllocatedBytes(threadId) - beginAllocation;
+		}
+
+		pluginEngine.deactivate();
+		expressionEngine.deactivate();
+
+		System.out.println("EVALUATION_COUNT = " + evaluationCount + " [TIMES]");
+		System.out.println("PLUGIN_FIELD_TIME = " + (minPluginFieldTime * 10 / evaluationCount) / 10.0 + " [NSEC/EVAL]");
+		System.out.println("PLUGIN_FIELD_ALLOCATION = " + (pluginFieldAllocation * 10 / evaluationCount) / 10.0 + " [BYTES/EVAL]");
+		System.out.println("COMPILED_EXPRESSION_TIME = " + (minCompiledExpressionTime * 10 / evaluationCount) / 10.0 + " [NSEC/EVAL]");
+		System.out.println("COMPILED_EXPRESSION_ALLOCATION = " + (compiledExpressionAllocation * 10 / evaluationCount) / 10.0 + " [BYTES/EVAL]");
+		if (Double.isNaN(checksum)) {
+			System.out.println("(unreachable)");
+		}
+	}
+}
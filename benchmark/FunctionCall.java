@@ -0,0 +1,93 @@
+/*
+ * A benchmarking program for measuring the speed and the allocation of calls of internal functions,
+ * on the Processor (the interpreter) and on the Accelerator.
+ * --------------------------------------------------------------------------------
+ * This file is released under CC0.
+ * Written in 2026 by RINEARN
+ * --------------------------------------------------------------------------------
+ *
+ * Preparation
+ *
+ *     Execute "build.bat" or "build.sh" in advance to generate "Vnano.jar".
+ *
+ * How to Run This Code
+ *
+ *     Set the current directory to the location of "Vnano.jar" by cd command, then:
+ *
+ *         java -cp Vnano.jar benchmark/FunctionCall.java
+ *
+ *     (Requires Java 11 or later, for launching a source file directly.)
+ *     The number of calls of each function in each measurement can be specified as the argument (default: 1000000).
+ *
+ * Example of Result:
+ *
+ *     CALL_COUNT = 1000000 [TIMES]
+ *     PROCESSOR_TIME = 452.1 [NSEC/CALL]
+ *     PROCESSOR_ALLOCATION = 136.0 [BYTES/CALL]
+ *     ACCELERATOR_TIME = 38.2 [NSEC/CALL]
+ *     ACCELERATOR_ALLOCATION = 0.0 [BYTES/CALL]
+ *
+ *     * Values of *_TIME are dependent on your environment.
+ *       Each of them is the minimum value in repeated measurements.
+ *       Values of *_ALLOCATION are measured in the last measurement.
+ *       Each loop calls a function returning a value and a void function, so they are counted as 2 calls.
+ *
+ * --------------------------------------------------------------------------------
+ */
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.vcssl.nano.VnanoEngine;
+
+public class FunctionCall {
+
+	private static final int MEASUREMENT_COUNT = 10;
+
+	public static void main(String[] args) throws Exception {
+		int loopCount = (args.length != 0 ? Integer.parseInt(args[0]) : 1000000) / 2;
+		long callCount = loopCount * 2L;
+
+		// The script calling a function returning a value and a void function in the loop.
+		String script =
+			"int counter = 0;                       \n" +
+			"int add(int a, int b) { return a + b; } \n" +
+			"void increment() { counter++; }         \n" +
+			"int sum = 0;                            \n" +
+			"for (int i=0; i<" + loopCount + "; i++) { \n" +
+			"	sum = add(sum, i);                   \n" +
+			"	increment();                         \n" +
+			"}                                       \n" ;
+
+		System.out.println("CALL_COUNT = " + callCount + " [TIMES]");
+		measure("PROCESSOR", script, false, callCount);
+		measure("ACCELERATOR", script, true, callCount);
+	}
+
+	private static void measure(String name, String script, boolean acceleratorEnabled, long callCount) throws Exception {
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		Map<String, Object> optionMap = new HashMap<String, Object>();
+		optionMap.put("ACCELERATOR_ENABLED", acceleratorEnabled);
+		optionMap.put("AUTOMATIC_ACTIVATION_ENABLED", Boolean.FALSE);
+		VnanoEngine engine = new VnanoEngine();
+		engine.setOptionMap(optionMap);
+		engine.activate();
+
+		long minTime = Long.MAX_VALUE;
+		long allocation = 0;
+		for (int measurementIndex=0; measurementIndex<MEASUREMENT_COUNT; measurementIndex++) {
+			long beginAllocation = threadBean.getThreadAllocatedBytes(threadId);
+			long beginTime = System.nanoTime();
+			engine.executeScript(script);
+			minTime = Math.min(minTime, System.nanoTime() - beginTime);
+			allocation = threadBean.getThreadAllocatedBytes(threadId) - beginAllocation;
+		}
+		engine.deactivate();
+
+		System.out.println(name + "_TIME = " + Math.round(minTime * 10.0 / callCount) / 10.0 + " [NSEC/CALL]");
+		System.out.println(name + "_ALLOCATION = " + Math.round(allocation * 10.0 / callCount) / 10.0 + " [BYTES/CALL]");
+	}
+}
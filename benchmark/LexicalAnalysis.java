@@ -0,0 +1,74 @@
+/*
+ * A benchmarking program for measuring the throughput of the lexical analysis of Vnano Engine,
+ * for a large script generated synthetically.
+ * --------------------------------------------------------------------------------
+ * This file is released under CC0.
+ * Written in 2026 by RINEARN
+ * --------------------------------------------------------------------------------
+ *
+ * Preparation
+ *
+ *     Execute "build.bat" or "build.sh" in advance to generate "Vnano.jar".
+ *
+ * How to Run This Code
+ *
+ *     Set the current directory to the location of "Vnano.jar" by cd command, then:
+ *
+ *         java -cp Vnano.jar benchmark/LexicalAnalysis.java
+ *
+ *     (Requires Java 11 or later, for launching a source file directly.)
+ *     The number of the repetition of the statement block in the generated script
+ *     can be specified as the argument (default: 20000, which generates a 100000-line script).
+ *
+ * Example of Result:
+ *
+ *     SCRIPT_SIZE = 4.2 [MB]
+ *     TOKEN_COUNT = 1320000 [TOKENS]
+ *     LEXING_TIME = 1094.5 [MSEC]
+ *     LEXING_THROUGHPUT = 3.8 [MB/SEC]
+ *
+ *     * Values of LEXING_* are dependent on your environment.
+ *       Each of them is calculated from the minimum time in repeated measurements.
+ *       The lexing time includes the analysis of types, precedences and so on of tokens,
+ *       but does not include the preprocessing (the removal of comments, and so on).
+ *
+ * --------------------------------------------------------------------------------
+ */
+
+import org.vcssl.nano.compiler.LexicalAnalyzer;
+import org.vcssl.nano.compiler.Preprocessor;
+
+public class LexicalAnalysis {
+
+	private static final int MEASUREMENT_COUNT = 10;
+
+	public static void main(String[] args) throws Exception {
+		int blockCount = args.length != 0 ? Integer.parseInt(args[0]) : 20000;
+
+		// Generate a large script, by repeating a block of statements containing various kinds of tokens.
+		StringBuilder scriptBuilder = new StringBuilder();
+		for (int i=0; i<blockCount; i++) {
+			scriptBuilder.append("int a" + i + " = " + i + ";\n");
+			scriptBuilder.append("float b" + i + " = a" + i + " * 2.5e-3 + 1.0;\n");
+			scriptBuilder.append("if (a" + i + " >= 3 && b" + i + " != 0.0) { b" + i + " -= 1.0; } else { b" + i + "++; }\n");
+			scriptBuilder.append("string s" + i + " = \"value\" + (int)b" + i + ";\n");
+			scriptBuilder.append("bool c" + i + "[2]; c" + i + "[0] = !(a" + i + " % 2 == 0);\n");
+		}
+		String script = new Preprocessor().preprocess(scriptBuilder.toString());
+		double scriptMegaBytes = script.length() / 1000000.0;
+
+		long minLexingTime = Long.MAX_VALUE;
+		int tokenCount = 0;
+		for (int measurementIndex=0; measurementIndex<MEASUREMENT_COUNT; measurementIndex++) {
+			long beginTime = System.nanoTime();
+			tokenCount = new LexicalAnalyzer().analyze(script, "LexicalAnalysis.vnano").length;
+			minLexingTime = Math.min(minLexingTime, System.nanoTime() - beginTime);
+		}
+
+		double lexingSeconds = minLexingTime / 1.0E9;
+		System.out.println("SCRIPT_SIZE = " + Math.round(scriptMegaBytes * 10.0) / 10.0 + " [MB]");
+		System.out.println("TOKEN_COUNT = " + tokenCount + " [TOKENS]");
+		System.out.println("LEXING_TIME = " + Math.round(lexingSeconds * 10000.0) / 10.0 + " [MSEC]");
+		System.out.println("LEXING_THROUGHPUT = " + Math.round(scriptMegaBytes / lexingSeconds * 10.0) / 10.0 + " [MB/SEC]");
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * A benchmarking program comparing recursive functions with the manual-stack workaround
+ * (which had been required before recursive calls were supported),
+ * on the Processor (the interpreter) and on the Accelerator.
+ * --------------------------------------------------------------------------------
+ * This file is released under CC0.
+ * Written in 2026 by RINEARN
+ * --------------------------------------------------------------------------------
+ *
+ * Preparation
+ *
+ *     Execute "build.bat" or "build.sh" in advance to generate "Vnano.jar".
+ *
+ * How to Run This Code
+ *
+ *     Set the current directory to the location of "Vnano.jar" by cd command, then:
+ *
+ *         java -cp Vnano.jar benchmark/RecursiveFunction.java
+ *
+ *     (Requires Java 11 or later, for launching a source file directly.)
+ *
+ * Example of Result:
+ *
+ *     FIB_N = 22, SORT_LENGTH = 20000
+ *     PROCESSOR_FIB_RECURSIVE = 46.0 [MSEC] (RESULT = 17711)
+ *     PROCESSOR_FIB_MANUAL_STACK = 36.2 [MSEC] (RESULT = 17711)
+ *     PROCESSOR_SORT_RECURSIVE = 191.3 [MSEC] (RESULT = true)
+ *     PROCESSOR_SORT_MANUAL_STACK = 197.7 [MSEC] (RESULT = true)
+ *     ACCELERATOR_FIB_RECURSIVE = 17.7 [MSEC] (RESULT = 17711)
+ *     ACCELERATOR_FIB_MANUAL_STACK = 4.8 [MSEC] (RESULT = 17711)
+ *     ACCELERATOR_SORT_RECURSIVE = 52.7 [MSEC] (RESULT = true)
+ *     ACCELERATOR_SORT_MANUAL_STACK = 19.0 [MSEC] (RESULT = true)
+ *
+ *     * Values are dependent on your environment.
+ *       Each of them is the minimum value in repeated measurements.
+ *       On the Accelerator, local data of recursive functions are not cached as scalars (they are swapped with frames),
+ *       so the manual-stack versions (of which loops are fully cached) are still faster.
+ *
+ * --------------------------------------------------------------------------------
+ */
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.vcssl.nano.VnanoEngine;
+
+public class RecursiveFunction {
+
+	private static final int MEASUREMENT_COUNT = 10;
+	private static final int FIB_N = 22;
+	private static final int SORT_LENGTH = 20000;
+
+	// The code generating pseudo-random values to be sorted, shared by both of quick-sort scripts.
+	private static final String SORT_DATA =
+		"int n = " + SORT_LENGTH + ";                               \n" +
+		"int data[n];                                               \n" +
+		"int seed = 12345;                                          \n" +
+		"for (int k=0; k<n; k++) {                                  \n" +
+		"	seed = (seed * 1103515245 + 12345) % 2147483648;         \n" +
+		"	data[k] = seed % 100000;                                 \n" +
+		"}                                                          \n" ;
+
+	// The code checking that the data is sorted, shared by both of quick-sort scripts.
+	private static final String SORT_CHECK =
+		"bool sorted = true;                                        \n" +
+		"for (int k=1; k<n; k++) {                                  \n" +
+		"	if (data[k] < data[k-1]) { sorted = false; }             \n" +
+		"}                                                          \n" +
+		"sorted;                                                    \n" ;
+
+	// The partitioning code shared by both of quick-sort scripts. It takes lo/hi and leaves i/j.
+	private static final String PARTITION =
+		"	int pivot = a[(lo + hi) / 2];                            \n" +
+		"	int i = lo;                                              \n" +
+		"	int j = hi;                                              \n" +
+		"	while (i <= j) {                                         \n" +
+		"		while (a[i] < pivot) { i++; }                         \n" +
+		"		while (pivot < a[j]) { j--; }                         \n" +
+		"		if (i <= j) {                                         \n" +
+		"			int t = a[i];                                      \n" +
+		"			a[i] = a[j];                                       \n" +
+		"			a[j] = t;                                          \n" +
+		"			i++;                                               \n" +
+		"			j--;                                               \n" +
+		"		}                                                     \n" +
+		"	}                                                        \n" ;
+
+	private static final String FIB_RECURSIVE =
+		"int fib(int n) {                                           \n" +
+		"	if (n < 2) { return n; }                                 \n" +
+		"	return fib(n - 1) + fib(n - 2);                          \n" +
+		"}                                                          \n" +
+		"fib(" + FIB_N + ");                                        \n" ;
+
+	// Emulates the recursion of fib(n) by an array used as a stack of arguments.
+	private static final String FIB_MANUAL_STACK =
+		"int fib(int n) {                                           \n" +
+		"	int stack[n * 2 + 2];                                    \n" +
+		"	int sp = 0;                                              \n" +
+		"	int result = 0;                                          \n" +
+		"	stack[sp] = n;                                           \n" +
+		"	sp++;                                                    \n" +
+		"	while (0 < sp) {                                         \n" +
+		"		sp--;                                                 \n" +
+		"		int m = stack[sp];                                    \n" +
+		"		if (m < 2) {                                          \n" +
+		"			result += m;                                       \n" +
+		"		} else {                                              \n" +
+		"			stack[sp] = m - 1;                                 \n" +
+		"			stack[sp + 1] = m - 2;                             \n" +
+		"			sp += 2;                                           \n" +
+		"		}                                                     \n" +
+		"	}                                                        \n" +
+		"	return result;                                           \n" +
+		"}                                                          \n" +
+		"fib(" + FIB_N + ");                                        \n" ;
+
+	private static final String SORT_RECURSIVE =
+		"void quickSort(int &a[], int lo, int hi) {                 \n" +
+		"	if (hi <= lo) { return; }                                \n" +
+		PARTITION +
+		"	quickSort(a, lo, j);                                     \n" +
+		"	quickSort(a, i, hi);                                     \n" +
+		"}                                                          \n" +
+		SORT_DATA +
+		"quickSort(data, 0, n - 1);                                 \n" +
+		SORT_CHECK ;
+
+	// Emulates the recursion of quickSort by an array used as a stack of ranges.
+	private static final String SORT_MANUAL_STACK =
+		"void quickSort(int &a[], int n) {                          \n" +
+		"	int stack[n * 2 + 2];                                    \n" +
+		"	int sp = 0;                                              \n" +
+		"	stack[0] = 0;                                            \n" +
+		"	stack[1] = n - 1;                                        \n" +
+		"	sp = 2;                                                  \n" +
+		"	while (0 < sp) {                                         \n" +
+		"		sp -= 2;                                              \n" +
+		"		int lo = stack[sp];                                   \n" +
+		"		int hi = stack[sp + 1];                               \n" +
+		"		if (lo < hi) {                                        \n" +
+		PARTITION +
+		"			stack[sp] = lo;                                    \n" +
+		"			stack[sp + 1] = j;                                 \n" +
+		"			stack[sp + 2] = i;                                 \n" +
+		"			stack[sp + 3] = hi;                                \n" +
+		"			sp += 4;                                           \n" +
+		"		}                                                     \n" +
+		"	}                                                        \n" +
+		"}                                                          \n" +
+		SORT_DATA +
+		"quickSort(data, n);                                        \n" +
+		SORT_CHECK ;
+
+	public static void main(String[] args) throws Exception {
+		System.out.println("FIB_N = " + FIB_N + ", SORT_LENGTH = " + SORT_LENGTH);
+		for (boolean acceleratorEnabled: new boolean[] { false, true }) {
+			String name = acceleratorEnabled ? "ACCELERATOR" : "PROCESSOR";
+			measure(name + "_FIB_RECURSIVE", FIB_RECURSIVE, acceleratorEnabled);
+			measure(name + "_FIB_MANUAL_STACK", FIB_MANUAL_STACK, acceleratorEnabled);
+			measure(name + "_SORT_RECURSIVE", SORT_RECURSIVE, acceleratorEnabled);
+			measure(name + "_SORT_MANUAL_STACK", SORT_MANUAL_STACK, acceleratorEnabled);
+		}
+	}
+
+	private static void measure(String name, String script, boolean acceleratorEnabled) throws Exception {
+		Map<String, Object> optionMap = new HashMap<String, Object>();
+		optionMap.put("ACCELERATOR_ENABLED", acceleratorEnabled);
+		optionMap.put("AUTOMATIC_ACTIVATION_ENABLED", Boolean.FALSE);
+		VnanoEngine engine = new VnanoEngine();
+		engine.setOptionMap(optionMap);
+		engine.activate();
+
+		Object expectedResult = null;
+		long minTime = Long.MAX_VALUE;
+		for (int measurementIndex=0; measurementIndex<MEASUREMENT_COUNT; measurementIndex++) {
+			long beginTime = System.nanoTime();
+			Object result = engine.executeScript(script);
+			minTime = Math.min(minTime, System.nanoTime() - beginTime);
+
+			// Check that the result is consistent (fib value, or true for sorted data).
+			if (expectedResult == null) {
+				expectedResult = result;
+			} else if (!expectedResult.equals(result)) {
+				throw new IllegalStateException("Inconsistent result of " + name + ": " + result);
+			}
+		}
+		engine.deactivate();
+
+		System.out.println(name + " = " + Math.round(minTime / 100000.0) / 10.0 + " [MSEC] (RESULT = " + expectedResult + ")");
+	}
+}
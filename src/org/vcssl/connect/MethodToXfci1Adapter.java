@@ -12,6 +12,8 @@ package org.vcssl.connect;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 
 /**
@@ -27,6 +29,17 @@ public class MethodToXfci1Adapter implements ExternalFunctionConnectorInterface1
 	/** The object instance to which the method belongs to. */
 	private Object objectInstance = null;
 
+	/**
+	 * Names of methods of Math and StrictMath classes, which are regarded as pure functions
+	 * (see {@link org.vcssl.connect.PureFunction PureFunction}) without annotations.
+	 * Methods which may throw exceptions (e.g.: addExact) or return different values (e.g.: random) are not contained.
+	 */
+	private static final Set<String> PURE_MATH_METHOD_NAMES = new HashSet<String>(Arrays.asList(
+		"sin", "cos", "tan", "asin", "acos", "atan", "atan2", "sinh", "cosh", "tanh",
+		"exp", "expm1", "log", "log10", "log1p", "sqrt", "cbrt", "pow", "hypot",
+		"abs", "max", "min", "floor", "ceil", "rint", "round", "signum", "toRadians", "toDegrees"
+	));
+
 
 	/**
 	 * Creates a new adapter to access to a non-static method.
@@ -51,6 +64,25 @@ public class MethodToXfci1Adapter implements ExternalFunctionConnectorInterface1
 	}
 
 
+	/**
+	 * Returns whether the method is a pure function, which is deterministic and has no side effects.
+	 *
+	 * A method is regarded as a pure function if it is annotated by
+	 * {@link org.vcssl.connect.PureFunction PureFunction},
+	 * or if it is one of the pure mathematical methods of Math or StrictMath class (e.g.: sqrt, sin, exp).
+	 *
+	 * @return Returns true if the method is a pure function.
+	 */
+	public boolean isPure() {
+		if (this.method.isAnnotationPresent(PureFunction.class)) {
+			return true;
+		}
+		Class<?> declaringClass = this.method.getDeclaringClass();
+		return (declaringClass == Math.class || declaringClass == StrictMath.class)
+				&& PURE_MATH_METHOD_NAMES.contains(this.method.getName());
+	}
+
+
 	@Override
 	public String getFunctionName() {
 		return this.method.getName();
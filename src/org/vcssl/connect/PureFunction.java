@@ -0,0 +1,51 @@
+/*
+ * ==================================================
+ * Pure Function Annotation
+ * --------------------------------------------------
+ * This file is released under CC0.
+ * Written in 2026 by RINEARN
+ * ==================================================
+ */
+
+// THE STATUS OF THE SPECIFICATION OF THIS ANNOTATION IS "EXTENSION ONLY".
+// IN PRINCIPLE, DON'T DELETE EXISTING ELEMENTS.
+
+package org.vcssl.connect;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * An annotation to declare that an external function provided by a plug-in is pure,
+ * for allowing scripting engines to optimize calls of it.
+ *
+ * A pure function must satisfy all of the following conditions:
+ *
+ * - It always returns the same value for the same arguments (it is deterministic).
+ * - It has no side effects: it modifies neither its arguments nor any other data observable from scripts or from the host application.
+ * - It does not fail (throw exceptions) for any arguments of the declared types.
+ *
+ * For calls of a pure function, scripting engines may perform optimizations
+ * which change the number and the timing of the invocations.
+ * For example, a call of which all arguments are constants may be evaluated only once at compile-time,
+ * which may be before initialization procedures of the plug-in
+ * (e.g.: initializeForConnection and initializeForExecution methods of XFCI 1) are performed,
+ * so a pure function should not depend on them.
+ * a call in a loop of which arguments do not change in the loop may be moved out of the loop,
+ * and a call having the same arguments as the previous call may be replaced with the previous result.
+ *
+ * This annotation can be put on a method, which is connected as a plug-in through
+ * {@link org.vcssl.connect.MethodToXfci1Adapter MethodToXfci1Adapter}
+ * (including methods of a class or an instance connected as a plug-in),
+ * or on a class implementing {@link org.vcssl.connect.ExternalFunctionConnectorInterface1 XFCI 1}.
+ * Functions without this annotation are regarded as impure.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface PureFunction {
+}
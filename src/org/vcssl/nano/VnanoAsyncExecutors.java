@@ -0,0 +1,121 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+
+/**
+ * The class providing shared executors for asynchronous executions of scripts,
+ * requested by {@link VnanoEngine#executeScriptAsync(String) VnanoEngine.executeScriptAsync(...)} methods.
+ *
+ * Executors are created lazily when they are required at first, and shared by all engines.
+ * All threads created by them are daemon threads, so they don't prevent the shutdown of the application.
+ */
+final class VnanoAsyncExecutors {
+
+	/**
+	 * The holder of the default executor, to create it lazily (when this class is loaded at first).
+	 */
+	private static final class DefaultExecutorHolder {
+
+		/** The default executor for asynchronous executions of scripts. */
+		private static final Executor EXECUTOR = createDefaultExecutor();
+	}
+
+
+	/**
+	 * The holder of the scheduler for deadlines, to create it lazily (when this class is loaded at first).
+	 */
+	private static final class DeadlineSchedulerHolder {
+
+		/** The scheduler to complete futures of asynchronous executions when their deadlines have come. */
+		private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+			new DaemonThreadFactory("vnano-async-deadline")
+		);
+	}
+
+
+	/**
+	 * The thread factory creating daemon threads with the specified name.
+	 */
+	private static final class DaemonThreadFactory implements ThreadFactory {
+
+		/** The name of created threads. */
+		private final String threadName;
+
+		/**
+		 * Creates a new thread factory.
+		 *
+		 * @param threadName The name of created threads.
+		 */
+		private DaemonThreadFactory(String threadName) {
+			this.threadName = threadName;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, this.threadName);
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+
+	/**
+	 * This class is not instantiated.
+	 */
+	private VnanoAsyncExecutors() {
+	}
+
+
+	/**
+	 * Gets the default executor for asynchronous executions of scripts.
+	 *
+	 * If the runtime supports virtual threads (Java 21 or later),
+	 * the returned executor creates a new virtual thread for each execution.
+	 * Otherwise, it is a thread pool which creates new (daemon) threads when no idle threads exist.
+	 *
+	 * @return The default executor.
+	 */
+	static Executor getDefaultExecutor() {
+		return DefaultExecutorHolder.EXECUTOR;
+	}
+
+
+	/**
+	 * Gets the scheduler to complete futures of asynchronous executions when their deadlines have come.
+	 *
+	 * @return The scheduler for deadlines.
+	 */
+	static ScheduledExecutorService getDeadlineScheduler() {
+		return DeadlineSchedulerHolder.SCHEDULER;
+	}
+
+
+	/**
+	 * Creates the default executor for asynchronous executions of scripts.
+	 *
+	 * This library supports Java 8, so the method creating the executor of virtual threads is called via the reflection.
+	 *
+	 * @return The created executor.
+	 */
+	private static Executor createDefaultExecutor() {
+		try {
+			Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService)factoryMethod.invoke(null);
+
+		// Virtual threads are not supported on this runtime.
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return Executors.newCachedThreadPool(new DaemonThreadFactory("vnano-async-execution"));
+		}
+	}
+}
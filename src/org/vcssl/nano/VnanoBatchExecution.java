@@ -0,0 +1,411 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano;
+
+import java.lang.reflect.Array;
+import java.util.concurrent.CountDownLatch;
+
+import org.vcssl.nano.interconnect.Interconnect;
+import org.vcssl.nano.interconnect.InternalVariable;
+import org.vcssl.nano.interconnect.VariableTable;
+import org.vcssl.nano.spec.DataType;
+import org.vcssl.nano.spec.DataTypeName;
+import org.vcssl.nano.spec.ErrorType;
+import org.vcssl.nano.vm.ReexecutionCache;
+import org.vcssl.nano.vm.VirtualMachine;
+import org.vcssl.nano.vm.VirtualMachineObjectCode;
+import org.vcssl.nano.vm.memory.DataContainer;
+import org.vcssl.nano.vm.memory.Memory;
+
+
+/**
+ * The class performing a batch execution of a script,
+ * requested by {@link VnanoEngine#executeBatch(String, java.util.Map, int) VnanoEngine.executeBatch(...)} method.
+ *
+ * In a batch execution, the same script is executed for each row of columnar inputs.
+ * Each column is an array of a primitive type (or String) and is accessible from the script as a scalar variable,
+ * of which value is the element at the current row.
+ * The compiled code and the memory allocated for it are reused for all rows processed by the same worker,
+ * and values of columns are copied directly between arrays and data containers in the memory,
+ * without converting them to/from boxed objects.
+ */
+final class VnanoBatchExecution {
+
+	/** The VM executing the code. */
+	private final VirtualMachine virtualMachine;
+
+	/** The interconnect to which external functions are connected. */
+	private final Interconnect interconnect;
+
+	/** The VM object code to be executed, compiled with a variable table created by {@link #createVariableTable}. */
+	private final VirtualMachineObjectCode objectCode;
+
+	/** The table of external variables provided by plug-ins. */
+	private final VariableTable externalVariableTable;
+
+	/** The names of columns. */
+	private final String[] columnNames;
+
+	/** The arrays of columns. */
+	private final Object[] columns;
+
+	/** The data types of columns. */
+	private final DataType[] columnDataTypes;
+
+	/** The number of rows. */
+	private final int rowCount;
+
+	/** The flag representing whether any worker has failed, to stop other workers. */
+	private volatile boolean failed = false;
+
+
+	/**
+	 * Creates a new batch execution.
+	 *
+	 * @param virtualMachine The VM executing the code.
+	 * @param interconnect The interconnect to which external functions are connected.
+	 * @param objectCode The VM object code compiled with a variable table created by {@link #createVariableTable}.
+	 * @param externalVariableTable The table of external variables provided by plug-ins.
+	 * @param columnNames The names of columns.
+	 * @param columns The arrays of columns, already checked by {@link #checkColumns} method.
+	 */
+	VnanoBatchExecution(VirtualMachine virtualMachine, Interconnect interconnect, VirtualMachineObjectCode objectCode,
+			VariableTable externalVariableTable, String[] columnNames, Object[] columns) {
+
+		this.virtualMachine = virtualMachine;
+		this.interconnect = interconnect;
+		this.objectCode = objectCode;
+		this.externalVariableTable = externalVariableTable;
+		this.columnNames = columnNames;
+		this.columns = columns;
+		this.columnDataTypes = new DataType[columns.length];
+		for (int columnIndex=0; columnIndex<columns.length; columnIndex++) {
+			this.columnDataTypes[columnIndex] = getDataTypeOf(columns[columnIndex]);
+		}
+		this.rowCount = getRowCountOf(columns);
+	}
+
+
+	/**
+	 * Returns the data type of elements of the specified column.
+	 *
+	 * @param column The array of the column.
+	 * @return The data type of elements of the column (or null if it is unsupported).
+	 */
+	private static DataType getDataTypeOf(Object column) {
+		if (column instanceof double[]) {
+			return DataType.FLOAT64;
+		} else if (column instanceof long[]) {
+			return DataType.INT64;
+		} else if (column instanceof boolean[]) {
+			return DataType.BOOL;
+		} else if (column instanceof String[]) {
+			return DataType.STRING;
+		} else {
+			return null;
+		}
+	}
+
+
+	/**
+	 * Checks types and lengths of the specified columns, and returns the number of rows.
+	 *
+	 * @param columnNames The names of columns.
+	 * @param columns The arrays of columns.
+	 * @return The number of rows (0 if no columns are specified).
+	 * @throws IllegalArgumentException Thrown if the type of any column is unsupported, or lengths of columns are different.
+	 */
+	static int checkColumns(String[] columnNames, Object[] columns) {
+		for (int columnIndex=0; columnIndex<columns.length; columnIndex++) {
+			if (columns[columnIndex] == null || columnNames[columnIndex] == null) {
+				throw new NullPointerException();
+			}
+			if (getDataTypeOf(columns[columnIndex]) == null) {
+				throw new IllegalArgumentException(
+					"The type of the column \"" + columnNames[columnIndex] + "\" is unsupported: "
+					+ columns[columnIndex].getClass().getSimpleName()
+					+ " (double[], long[], boolean[], or String[] is supported)"
+				);
+			}
+		}
+		int rowCount = getRowCountOf(columns);
+		for (int columnIndex=0; columnIndex<columns.length; columnIndex++) {
+			if (Array.getLength(columns[columnIndex]) != rowCount) {
+				throw new IllegalArgumentException(
+					"The length of the column \"" + columnNames[columnIndex] + "\" is different from the lengths of other columns."
+				);
+			}
+		}
+		return rowCount;
+	}
+
+
+	/**
+	 * Returns the number of rows, which is the length of the first column.
+	 *
+	 * @param columns The arrays of columns.
+	 * @return The number of rows (0 if no columns are specified).
+	 */
+	private static int getRowCountOf(Object[] columns) {
+		return columns.length == 0 ? 0 : Array.getLength(columns[0]);
+	}
+
+
+	/**
+	 * Creates a table of global variables, in which external variables in the specified table are registered at first,
+	 * and then variables corresponding with the specified columns are registered.
+	 *
+	 * All tables created by this method for the same columns have the same layout,
+	 * so the code compiled with one of them can be executed with the others.
+	 * Data containers of column variables are created for each table,
+	 * and initialized by values of columns at the specified row.
+	 *
+	 * @param externalVariableTable The table of external variables provided by plug-ins.
+	 * @param columnNames The names of columns.
+	 * @param columns The arrays of columns.
+	 * @param row The index of the row of which values are stored in data containers of column variables.
+	 * @return The created table.
+	 */
+	static VariableTable createVariableTable(VariableTable externalVariableTable, String[] columnNames, Object[] columns, int row) {
+		VariableTable variableTable = new VariableTable();
+		for (int variableIndex=0; variableIndex<externalVariableTable.getSize(); variableIndex++) {
+			variableTable.addVariable(externalVariableTable.getVariableByIndex(variableIndex));
+		}
+		for (int columnIndex=0; columnIndex<columns.length; columnIndex++) {
+			DataType dataType = getDataTypeOf(columns[columnIndex]);
+			InternalVariable variable = new InternalVariable(
+				columnNames[columnIndex], DataTypeName.getDataTypeNameOf(dataType), 0, false
+			);
+			DataContainer<?> container = new DataContainer<Void>();
+			if (row < Array.getLength(columns[columnIndex])) {
+				writeColumnValue(container, dataType, columns[columnIndex], row);
+			}
+			variable.setDataContainer(container);
+			variableTable.addVariable(variable);
+		}
+		return variableTable;
+	}
+
+
+	/**
+	 * Executes the code for all rows, and returns the column of evaluated values.
+	 *
+	 * Rows are split into the specified number of ranges (at most), and each range is processed by a worker.
+	 * The first range is processed on the current thread, and others are processed on the default executor
+	 * for asynchronous executions.
+	 *
+	 * @param threadCount The maximum number of threads processing rows in parallel.
+	 * @return The column of evaluated values (or null if the script has no evaluated value, or there are no rows).
+	 * @throws VnanoException Thrown when any error has occurred in the processing of the script.
+	 * @throws InterruptedException Thrown when the current thread has been interrupted while waiting for other workers.
+	 */
+	Object execute(int threadCount) throws VnanoException, InterruptedException {
+		if (this.rowCount == 0) {
+			return null;
+		}
+		int workerCount = Math.min(threadCount, this.rowCount);
+
+		// Start workers except for the first one, on other threads.
+		final Object[] resultColumns = new Object[workerCount];
+		final Throwable[] thrownExceptions = new Throwable[workerCount];
+		final CountDownLatch latch = new CountDownLatch(workerCount - 1);
+		for (int workerIndex=1; workerIndex<workerCount; workerIndex++) {
+			final int index = workerIndex;
+			final int beginRow = this.getBeginRowOf(workerIndex, workerCount);
+			final int endRow = this.getBeginRowOf(workerIndex + 1, workerCount);
+			VnanoAsyncExecutors.getDefaultExecutor().execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						resultColumns[index] = executeRows(beginRow, endRow);
+					} catch (Throwable e) {
+						thrownExceptions[index] = e;
+						failed = true;
+					} finally {
+						latch.countDown();
+					}
+				}
+			});
+		}
+
+		// Process the first range on the current thread, and wait for other workers.
+		try {
+			resultColumns[0] = this.executeRows(0, this.getBeginRowOf(1, workerCount));
+		} catch (VnanoException | RuntimeException e) {
+			thrownExceptions[0] = e;
+			this.failed = true;
+		}
+		latch.await();
+
+		// If any worker has failed, re-throw the exception thrown by it.
+		for (Throwable thrownException: thrownExceptions) {
+			if (thrownException instanceof VnanoException) {
+				throw (VnanoException)thrownException;
+			} else if (thrownException instanceof RuntimeException) {
+				throw (RuntimeException)thrownException;
+			} else if (thrownException instanceof Error) {
+				throw (Error)thrownException;
+			}
+		}
+
+		// Merge results of all workers.
+		if (resultColumns[0] == null) {
+			return null;
+		}
+		if (workerCount == 1) {
+			return resultColumns[0];
+		}
+		Object resultColumn = Array.newInstance(resultColumns[0].getClass().getComponentType(), this.rowCount);
+		int offset = 0;
+		for (Object workerResultColumn: resultColumns) {
+			int length = Array.getLength(workerResultColumn);
+			System.arraycopy(workerResultColumn, 0, resultColumn, offset, length);
+			offset += length;
+		}
+		return resultColumn;
+	}
+
+
+	/**
+	 * Executes the code for rows in the specified range, on a newly allocated memory.
+	 *
+	 * Values of columns modified by the script are written back to arrays of columns.
+	 *
+	 * @param beginRow The index of the first row to be processed.
+	 * @param endRow The index next to the last row to be processed.
+	 * @return The column of evaluated values of processed rows (or null if the script has no evaluated value).
+	 * @throws VnanoException Thrown when any error has occurred in the processing of the script.
+	 */
+	private Object executeRows(int beginRow, int endRow) throws VnanoException {
+		int columnCount = this.columns.length;
+		int externalVariableCount = this.externalVariableTable.getSize();
+
+		// Execute the code for the first row, with allocating a new memory.
+		VariableTable variableTable = createVariableTable(this.externalVariableTable, this.columnNames, this.columns, beginRow);
+		ReexecutionCache cache = new ReexecutionCache();
+		this.virtualMachine.processObjectCode(this.objectCode, this.interconnect, variableTable, cache);
+
+		// Get data containers of columns and the result value, from the memory.
+		Memory memory = cache.getMemory();
+		DataContainer<?>[] columnContainers = new DataContainer<?>[columnCount];
+		for (int columnIndex=0; columnIndex<columnCount; columnIndex++) {
+			columnContainers[columnIndex] = memory.getDataContainer(Memory.Partition.GLOBAL, externalVariableCount + columnIndex);
+		}
+		DataContainer<?> resultContainer = memory.hasResultDataContainer() ? memory.getResultDataContainer() : null;
+		Object resultColumn = null;
+		DataType resultDataType = null;
+		if (resultContainer != null) {
+			if (resultContainer.getArrayRank() != 0) {
+				throw new VnanoException(ErrorType.BATCH_RESULT_IS_NOT_SCALAR);
+			}
+			resultDataType = resultContainer.getDataType();
+			resultColumn = createColumn(resultDataType, endRow - beginRow);
+		}
+		this.readRow(columnContainers, beginRow, resultContainer, resultDataType, resultColumn, 0);
+
+		// Re-execute the code for remaining rows, on the same memory.
+		for (int row=beginRow+1; row<endRow && !this.failed; row++) {
+			for (int columnIndex=0; columnIndex<columnCount; columnIndex++) {
+				writeColumnValue(columnContainers[columnIndex], this.columnDataTypes[columnIndex], this.columns[columnIndex], row);
+			}
+			this.virtualMachine.reprocess(cache, this.interconnect);
+			this.readRow(columnContainers, row, resultContainer, resultDataType, resultColumn, row - beginRow);
+		}
+		return resultColumn;
+	}
+
+
+	/**
+	 * Returns the index of the first row processed by the specified worker.
+	 *
+	 * @param workerIndex The index of the worker.
+	 * @param workerCount The total number of workers.
+	 * @return The index of the first row processed by the worker.
+	 */
+	private int getBeginRowOf(int workerIndex, int workerCount) {
+		return (int)((long)this.rowCount * workerIndex / workerCount);
+	}
+
+
+	/**
+	 * Reads values of columns and the result value at the current row from data containers, and stores them to arrays.
+	 *
+	 * @param columnContainers The data containers of columns.
+	 * @param row The index of the current row.
+	 * @param resultContainer The data container of the result value (or null if the script has no evaluated value).
+	 * @param resultDataType The data type of the result value.
+	 * @param resultColumn The array to store result values.
+	 * @param resultIndex The index in the array to store the result value.
+	 */
+	private void readRow(DataContainer<?>[] columnContainers, int row,
+			DataContainer<?> resultContainer, DataType resultDataType, Object resultColumn, int resultIndex) {
+
+		int columnCount = this.columns.length;
+		for (int columnIndex=0; columnIndex<columnCount; columnIndex++) {
+			readColumnValue(columnContainers[columnIndex], this.columnDataTypes[columnIndex], this.columns[columnIndex], row);
+		}
+		if (resultContainer != null) {
+			readColumnValue(resultContainer, resultDataType, resultColumn, resultIndex);
+		}
+	}
+
+
+	/**
+	 * Creates the array of a column.
+	 *
+	 * @param dataType The data type of elements of the column.
+	 * @param length The length of the column.
+	 * @return The created array.
+	 * @throws VnanoException Thrown if the data type is not supported for columns.
+	 */
+	private static Object createColumn(DataType dataType, int length) throws VnanoException {
+		switch (dataType) {
+			case FLOAT64 : return new double[length];
+			case INT64 : return new long[length];
+			case BOOL : return new boolean[length];
+			case STRING : return new String[length];
+			default : throw new VnanoException(ErrorType.BATCH_RESULT_IS_NOT_SCALAR);
+		}
+	}
+
+
+	/**
+	 * Writes the value of the column at the specified row to the data container, without replacing its data array.
+	 *
+	 * @param container The data container to which the value will be written.
+	 * @param dataType The data type of elements of the column.
+	 * @param column The array of the column.
+	 * @param row The index of the row.
+	 */
+	static void writeColumnValue(DataContainer<?> container, DataType dataType, Object column, int row) {
+		switch (dataType) {
+			case FLOAT64 : container.setFloat64ScalarData(((double[])column)[row]); return;
+			case INT64 : container.setInt64ScalarData(((long[])column)[row]); return;
+			case BOOL : container.setBoolScalarData(((boolean[])column)[row]); return;
+			case STRING : container.setStringScalarData(((String[])column)[row]); return;
+			default : throw new VnanoFatalException("Unexpected data type: " + dataType);
+		}
+	}
+
+
+	/**
+	 * Reads the value from the data container, and stores it to the column at the specified row.
+	 *
+	 * @param container The data container from which the value will be read.
+	 * @param dataType The data type of elements of the column.
+	 * @param column The array of the column.
+	 * @param row The index of the row.
+	 */
+	private static void readColumnValue(DataContainer<?> container, DataType dataType, Object column, int row) {
+		switch (dataType) {
+			case FLOAT64 : ((double[])column)[row] = container.getFloat64ScalarData(); return;
+			case INT64 : ((long[])column)[row] = container.getInt64ScalarData(); return;
+			case BOOL : ((boolean[])column)[row] = container.getBoolScalarData(); return;
+			case STRING : ((String[])column)[row] = container.getStringScalarData(); return;
+			default : throw new VnanoFatalException("Unexpected data type: " + dataType);
+		}
+	}
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano;
+
+import org.vcssl.nano.interconnect.Interconnect;
+import org.vcssl.nano.spec.DataType;
+import org.vcssl.nano.spec.DataTypeName;
+import org.vcssl.nano.vm.ReexecutionCache;
+import org.vcssl.nano.vm.VirtualMachineObjectCode;
+import org.vcssl.nano.vm.memory.DataContainer;
+
+/**
+ * The class of a compiled expression having parameters, which can be evaluated repetitively
+ * on the Vnano Engine with less overheads.
+ *
+ * Instances of this class are created by
+ * {@link VnanoEngine#compileExpression(String, String...) VnanoEngine.compileExpression(...)} method,
+ * and can be evaluated by {@link VnanoCompiledExpression#evaluate(double...)} method
+ * or {@link VnanoCompiledExpression#evaluate(long...)} method.
+ *
+ * The memory for evaluating the expression is allocated at the first evaluation, and is reused by later evaluations.
+ * Arguments are written directly into the data containers of parameters in the memory,
+ * and the evaluated value is read directly from the memory,
+ * so later evaluations require no allocations of objects (no boxing, no conversions of data, and so on).
+ * On the other hand, an instance of this class must not be evaluated from multiple threads at the same time.
+ * For evaluations in parallel, compile the same expression for each thread.
+ *
+ * If options, permissions, plug-ins or library scripts of the engine are changed after the compilation,
+ * the expression will be re-compiled automatically at the next evaluation, because the compiled code depends on them.
+ */
+public final class VnanoCompiledExpression {
+
+	/** The engine which compiled this expression, and evaluates it. */
+	private final VnanoEngine engine;
+
+	/** The content of the expression. */
+	private final String expression;
+
+	/** The names of parameters. */
+	private final String[] parameterNames;
+
+	/** The data types of parameters. */
+	private final DataType[] parameterDataTypes;
+
+	/**
+	 * The arrays of which lengths are 1, storing arguments of the current evaluation.
+	 * The type of each array is double[] for a float parameter, or long[] for an int parameter.
+	 */
+	private final Object[] argumentSlots;
+
+	/** The VM object code compiled from the expression. */
+	private VirtualMachineObjectCode objectCode = null;
+
+	/** The interconnect having the external variable table in which parameters are added. */
+	private Interconnect interconnect = null;
+
+	/** The value of "AUTOMATIC_ACTIVATION_ENABLED" option when the expression was compiled. */
+	private boolean automaticActivationEnabled = true;
+
+	/** The version of the state of the engine (options, plug-ins, and so on) when the expression was compiled. */
+	private int engineStateVersion = -1;
+
+	/** The resources (memory and so on) generated by the first evaluation, or null if they have not been generated yet. */
+	private ReexecutionCache reexecutionCache = null;
+
+	/** The data containers of parameters in the memory, or null if the memory has not been allocated yet. */
+	private DataContainer<?>[] parameterContainers = null;
+
+
+	/**
+	 * Create a new compiled expression, which has not been compiled yet.
+	 * (Instances of this class are created only by
+	 * {@link VnanoEngine#compileExpression(String, String...) VnanoEngine.compileExpression(...)} method.)
+	 *
+	 * @param engine The engine which compiles the expression.
+	 * @param expression The content of the expression.
+	 * @param parameterDeclarations
+	 *     The declarations of parameters. Each of them is the name of the parameter,
+	 *     or the data type name ("float" or "int") and the name separated by spaces.
+	 * @throws IllegalArgumentException Thrown if any declaration of the parameter is invalid.
+	 */
+	VnanoCompiledExpression(VnanoEngine engine, String expression, String[] parameterDeclarations) {
+		int parameterCount = parameterDeclarations.length;
+		this.engine = engine;
+		this.expression = expression;
+		this.parameterNames = new String[parameterCount];
+		this.parameterDataTypes = new DataType[parameterCount];
+		this.argumentSlots = new Object[parameterCount];
+
+		for (int parameterIndex=0; parameterIndex<parameterCount; parameterIndex++) {
+			String declaration = parameterDeclarations[parameterIndex];
+			if (declaration == null) {
+				throw new NullPointerException();
+			}
+			String[] words = declaration.trim().split("\\s+");
+			if (words.length == 1) {
+				this.parameterNames[parameterIndex] = words[0];
+				this.parameterDataTypes[parameterIndex] = DataType.FLOAT64;
+			} else if (words.length == 2 && DataTypeName.isDataTypeNameOf(DataType.FLOAT64, words[0])) {
+				this.parameterNames[parameterIndex] = words[1];
+				this.parameterDataTypes[parameterIndex] = DataType.FLOAT64;
+			} else if (words.length == 2 && DataTypeName.isDataTypeNameOf(DataType.INT64, words[0])) {
+				this.parameterNames[parameterIndex] = words[1];
+				this.parameterDataTypes[parameterIndex] = DataType.INT64;
+			} else {
+				throw new IllegalArgumentException(
+					"Invalid declaration of the parameter: \"" + declaration + "\" (the data type should be float or int)"
+				);
+			}
+			if (this.parameterDataTypes[parameterIndex] == DataType.FLOAT64) {
+				this.argumentSlots[parameterIndex] = new double[1];
+			} else {
+				this.argumentSlots[parameterIndex] = new long[1];
+			}
+		}
+	}
+
+
+	/**
+	 * Evaluates this expression for the specified arguments of float parameters.
+	 *
+	 * @param arguments The arguments of parameters, in the same order as declarations of parameters.
+	 * @return The evaluated value of the expression (an int value is converted to a double value).
+	 * @throws VnanoException
+	 *     Thrown when any error has detected for the processing of the expression,
+	 *     or when the evaluated value is not a scalar of float or int type.
+	 * @throws IllegalArgumentException
+	 *     (Unchecked Exception) Thrown if the number of arguments is different from the number of parameters,
+	 *     or any parameter is not a float parameter.
+	 */
+	public double evaluate(double... arguments) throws VnanoException {
+		this.checkArguments(arguments.length, DataType.FLOAT64);
+		for (int parameterIndex=0; parameterIndex<arguments.length; parameterIndex++) {
+			((double[])this.argumentSlots[parameterIndex])[0] = arguments[parameterIndex];
+		}
+		DataContainer<?> resultContainer = this.engine.evaluateCompiledExpression(this, true);
+		if (resultContainer.getDataType() == DataType.INT64) {
+			return resultContainer.getInt64ScalarData();
+		} else {
+			return resultContainer.getFloat64ScalarData();
+		}
+	}
+
+
+	/**
+	 * Evaluates this expression for the specified arguments of int parameters.
+	 *
+	 * @param arguments The arguments of parameters, in the same order as declarations of parameters.
+	 * @return The evaluated value of the expression.
+	 * @throws VnanoException
+	 *     Thrown when any error has detected for the processing of the expression,
+	 *     or when the evaluated value is not a scalar of int type.
+	 * @throws IllegalArgumentException
+	 *     (Unchecked Exception) Thrown if the number of arguments is different from the number of parameters,
+	 *     or any parameter is not an int parameter.
+	 */
+	public long evaluate(long... arguments) throws VnanoException {
+		this.checkArguments(arguments.length, DataType.INT64);
+		for (int parameterIndex=0; parameterIndex<arguments.length; parameterIndex++) {
+			((long[])this.argumentSlots[parameterIndex])[0] = arguments[parameterIndex];
+		}
+		DataContainer<?> resultContainer = this.engine.evaluateCompiledExpression(this, false);
+		return resultContainer.getInt64ScalarData();
+	}
+
+
+	/**
+	 * Checks the number of arguments, and data types of parameters.
+	 *
+	 * @param argumentCount The number of arguments.
+	 * @param argumentDataType The data type of arguments.
+	 * @throws IllegalArgumentException Thrown if the number or the data type of arguments is incorrect.
+	 */
+	private void checkArguments(int argumentCount, DataType argumentDataType) {
+		if (argumentCount != this.parameterNames.length) {
+			throw new IllegalArgumentException(
+				"The number of arguments (" + argumentCount + ") is different from the number of parameters ("
+				+ this.parameterNames.length + ")"
+			);
+		}
+		for (int parameterIndex=0; parameterIndex<argumentCount; parameterIndex++) {
+			if (this.parameterDataTypes[parameterIndex] != argumentDataType) {
+				throw new IllegalArgumentException(
+					"The parameter \"" + this.parameterNames[parameterIndex] + "\" is not a "
+					+ DataTypeName.getDataTypeNameOf(argumentDataType) + " parameter"
+				);
+			}
+		}
+	}
+
+
+	/**
+	 * Gets the engine which compiled this expression.
+	 *
+	 * @return The engine which compiled this expression.
+	 */
+	public VnanoEngine getEngine() {
+		return this.engine;
+	}
+
+
+	/**
+	 * Gets the content of this expression.
+	 *
+	 * @return The content of this expression.
+	 */
+	public String getExpression() {
+		return this.expression;
+	}
+
+
+	/**
+	 * Gets the names of parameters.
+	 *
+	 * @return The names of parameters.
+	 */
+	String[] getParameterNames() {
+		return this.parameterNames;
+	}
+
+
+	/**
+	 * Gets the arrays storing arguments of the current evaluation.
+	 *
+	 * @return The arrays storing arguments (double[] for float parameters, long[] for int parameters).
+	 */
+	Object[] getArgumentSlots() {
+		return this.argumentSlots;
+	}
+
+
+	/**
+	 * Gets the data types of parameters.
+	 *
+	 * @return The data types of parameters.
+	 */
+	DataType[] getParameterDataTypes() {
+		return this.parameterDataTypes;
+	}
+
+
+	/**
+	 * Gets the VM object code compiled from this expression.
+	 *
+	 * @return The VM object code.
+	 */
+	VirtualMachineObjectCode getObjectCode() {
+		return this.objectCode;
+	}
+
+
+	/**
+	 * Gets the interconnect having the external variable table in which parameters are added.
+	 *
+	 * @return The interconnect for evaluating this expression.
+	 */
+	Interconnect getInterconnect() {
+		return this.interconnect;
+	}
+
+
+	/**
+	 * Gets the value of "AUTOMATIC_ACTIVATION_ENABLED" option when this expression was compiled.
+	 *
+	 * @return The value of "AUTOMATIC_ACTIVATION_ENABLED" option.
+	 */
+	boolean isAutomaticActivationEnabled() {
+		return this.automaticActivationEnabled;
+	}
+
+
+	/**
+	 * Gets the version of the state of the engine when this expression was compiled.
+	 *
+	 * @return The version of the state of the engine.
+	 */
+	int getEngineStateVersion() {
+		return this.engineStateVersion;
+	}
+
+
+	/**
+	 * Sets the (re-)compiled code, and discards resources generated by the previous evaluations.
+	 *
+	 * @param objectCode The compiled VM object code.
+	 * @param interconnect The interconnect having the external variable table in which parameters are added.
+	 * @param automaticActivationEnabled The value of "AUTOMATIC_ACTIVATION_ENABLED" option.
+	 * @param engineStateVersion The version of the state of the engine when the expression was compiled.
+	 */
+	void setCompiledCode(VirtualMachineObjectCode objectCode, Interconnect interconnect,
+			boolean automaticActivationEnabled, int engineStateVersion) {
+
+		this.objectCode = objectCode;
+		this.interconnect = interconnect;
+		this.automaticActivationEnabled = automaticActivationEnabled;
+		this.engineStateVersion = engineStateVersion;
+		this.setReexecutionCache(null, null);
+	}
+
+
+	/**
+	 * Gets the resources generated by the first evaluation.
+	 *
+	 * @return The resources generated by the first evaluation (or null if they have not been generated yet).
+	 */
+	ReexecutionCache getReexecutionCache() {
+		return this.reexecutionCache;
+	}
+
+
+	/**
+	 * Gets the data containers of parameters in the memory.
+	 *
+	 * @return The data containers of parameters (or null if the memory has not been allocated yet).
+	 */
+	DataContainer<?>[] getParameterContainers() {
+		return this.parameterContainers;
+	}
+
+
+	/**
+	 * Sets the resources generated by the first evaluation, to be reused by later evaluations.
+	 *
+	 * @param reexecutionCache The resources generated by the first evaluation (or null to discard them).
+	 * @param parameterContainers The data containers of parameters in the memory (or null to discard them).
+	 */
+	void setReexecutionCache(ReexecutionCache reexecutionCache, DataContainer<?>[] parameterContainers) {
+		this.reexecutionCache = reexecutionCache;
+		this.parameterContainers = parameterContainers;
+	}
+}
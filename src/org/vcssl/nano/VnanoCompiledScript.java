@@ -0,0 +1,166 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.vcssl.nano.vm.ReexecutionCache;
+import org.vcssl.nano.vm.VirtualMachineObjectCode;
+
+/**
+ * The class of a compiled script, which can be executed repetitively on the Vnano Engine without re-compilations.
+ *
+ * Instances of this class are created by {@link VnanoEngine#compile(String) VnanoEngine.compile(String)} method,
+ * and can be executed by {@link VnanoCompiledScript#execute()} method
+ * (or {@link VnanoEngine#executeCompiledScript(VnanoCompiledScript) VnanoEngine.executeCompiledScript(...)} method).
+ *
+ * The content of the script held by an instance of this class is never changed.
+ * However, if options, permissions, plug-ins or library scripts of the engine are changed after the compilation,
+ * the script will be re-compiled automatically at the next execution, because the compiled code depends on them.
+ *
+ * The compiled code held by an instance of this class is shared and never modified by executions,
+ * and the memory for running it is allocated for each execution independently.
+ * Hence, the same compiled script can be executed on multiple threads in parallel
+ * (see the description of {@link VnanoEngine#executeCompiledScript(VnanoCompiledScript)}).
+ */
+public final class VnanoCompiledScript {
+
+	/** The engine which compiled this script, and executes it. */
+	private final VnanoEngine engine;
+
+	/** The content of the script. */
+	private final String script;
+
+	/** The VM object code compiled from the script. */
+	private volatile VirtualMachineObjectCode objectCode;
+
+	/** The version of the state of the engine (options, plug-ins, and so on) when the script was compiled. */
+	private volatile int engineStateVersion;
+
+	/**
+	 * Stores resources (memory and so on) generated for executions which have already completed,
+	 * to re-execute the script with less overheads.
+	 * Each of them can be used by only one execution at the same time,
+	 * so the number of stored resources grows up to the number of executions which have run in parallel.
+	 */
+	private final Queue<ReexecutionCache> idleReexecutionCacheQueue = new ConcurrentLinkedQueue<ReexecutionCache>();
+
+
+	/**
+	 * Create a new compiled script.
+	 * (Instances of this class are created only by {@link VnanoEngine#compile(String) VnanoEngine.compile(String)} method.)
+	 *
+	 * @param engine The engine which compiled the script.
+	 * @param script The content of the script.
+	 * @param objectCode The VM object code compiled from the script.
+	 * @param engineStateVersion The version of the state of the engine when the script was compiled.
+	 */
+	VnanoCompiledScript(VnanoEngine engine, String script, VirtualMachineObjectCode objectCode, int engineStateVersion) {
+		this.engine = engine;
+		this.script = script;
+		this.objectCode = objectCode;
+		this.engineStateVersion = engineStateVersion;
+	}
+
+
+	/**
+	 * Executes this script on the engine which compiled it.
+	 *
+	 * This method can be called from multiple threads at the same time.
+	 * For details, see the description of
+	 * {@link VnanoEngine#executeCompiledScript(VnanoCompiledScript) VnanoEngine.executeCompiledScript(...)} method.
+	 *
+	 * @return
+	 *     The evaluated value of the expression, or the last expression statement in script code.
+	 *     If there is no evaluated value, returns null.
+	 *
+	 * @throws VnanoException Thrown when any error has detected for the content or the processing of the script.
+	 */
+	public Object execute() throws VnanoException {
+		return this.engine.executeCompiledScript(this);
+	}
+
+
+	/**
+	 * Gets the engine which compiled this script.
+	 *
+	 * @return The engine which compiled this script.
+	 */
+	public VnanoEngine getEngine() {
+		return this.engine;
+	}
+
+
+	/**
+	 * Gets the content of this script.
+	 *
+	 * @return The content of this script.
+	 */
+	public String getScript() {
+		return this.script;
+	}
+
+
+	/**
+	 * Gets the VM object code compiled from this script.
+	 *
+	 * @return The VM object code.
+	 */
+	VirtualMachineObjectCode getObjectCode() {
+		return this.objectCode;
+	}
+
+
+	/**
+	 * Gets the version of the state of the engine when this script was compiled.
+	 *
+	 * @return The version of the state of the engine.
+	 */
+	int getEngineStateVersion() {
+		return this.engineStateVersion;
+	}
+
+
+	/**
+	 * Replaces the VM object code by the re-compiled one, and discards resources generated by the previous executions.
+	 *
+	 * @param objectCode The re-compiled VM object code.
+	 * @param engineStateVersion The version of the state of the engine when the script was re-compiled.
+	 */
+	void setRecompiledObjectCode(VirtualMachineObjectCode objectCode, int engineStateVersion) {
+		this.objectCode = objectCode;
+		this.engineStateVersion = engineStateVersion;
+		this.idleReexecutionCacheQueue.clear();
+	}
+
+
+	/**
+	 * Takes the resources generated for an already completed execution of this script.
+	 *
+	 * The taken resources will not be returned by this method again,
+	 * until they are put back by {@link VnanoCompiledScript#putReexecutionCache(ReexecutionCache)} method.
+	 *
+	 * @return The resources generated for an already completed execution (or null if no resources are available now).
+	 */
+	ReexecutionCache takeReexecutionCache() {
+		return this.idleReexecutionCacheQueue.poll();
+	}
+
+
+	/**
+	 * Puts the resources generated for a completed execution of this script, to be re-used by the next execution.
+	 *
+	 * @param reexecutionCache The resources generated for a completed execution.
+	 */
+	void putReexecutionCache(ReexecutionCache reexecutionCache) {
+
+		// Discard resources generated for the old code, if the script has been re-compiled during the execution.
+		if (reexecutionCache.getLastObjectCode() == this.objectCode) {
+			this.idleReexecutionCacheQueue.offer(reexecutionCache);
+		}
+	}
+}
@@ -5,21 +5,45 @@
 
 package org.vcssl.nano;
 
+import java.io.File;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 
 import javax.script.ScriptException;
 
 import org.vcssl.connect.ConnectorException;
 import org.vcssl.nano.compiler.Compiler;
+import org.vcssl.nano.compiler.LibraryAstCache;
 import org.vcssl.nano.interconnect.Interconnect;
 import org.vcssl.nano.interconnect.MetaQualifiedFileLoader;
+import org.vcssl.nano.interconnect.PhaseProfiler;
+import org.vcssl.nano.interconnect.VariableTable;
+import org.vcssl.nano.spec.AssemblyWord;
+import org.vcssl.nano.spec.DataType;
+import org.vcssl.nano.spec.DataTypeName;
 import org.vcssl.nano.spec.ErrorType;
 import org.vcssl.nano.spec.OperationCode;
 import org.vcssl.nano.spec.OptionKey;
 import org.vcssl.nano.spec.PerformanceKey;
+import org.vcssl.nano.spec.ScriptWord;
+import org.vcssl.nano.vm.ReexecutionCache;
 import org.vcssl.nano.vm.VirtualMachine;
+import org.vcssl.nano.vm.VirtualMachineObjectCode;
+import org.vcssl.nano.vm.VirtualMachineObjectCodeFileCache;
+import org.vcssl.nano.vm.memory.DataContainer;
+import org.vcssl.nano.vm.memory.DataContainerPool;
+import org.vcssl.nano.vm.memory.Memory;
 
 /**
  * The class of the scripting engine of the Vnano (Vnano Engine).
@@ -32,14 +56,50 @@ public final class VnanoEngine {
 	/** Stores an object to mediate information/connections between components ("interconnect"). */
 	private Interconnect interconnect = null;
 
-	/** Stores the script which was executed last time. */
-	private String lastScript = null;
+	/**
+	 * Stores resources generated for executing scripts (compiled code, memory, and so on),
+	 * to re-execute them with less overheads. Keys are contents of scripts, and entries are ordered by their last accesses.
+	 */
+	private Map<String, ReexecutionCache> compiledScriptCacheMap = new LinkedHashMap<String, ReexecutionCache>(16, 0.75f, true);
+
+	/**
+	 * The version of the state (options, plug-ins, and so on) of this engine, incremented when the state is changed.
+	 * This value is used for detecting that compiled scripts have been invalidated by changes of the state.
+	 */
+	private volatile int stateVersion = 0;
+
+	/** The counter of executions of scripts performed by using cached resources. */
+	private volatile int compiledScriptCacheHitCount = 0;
+
+	/** The counter of executions of scripts which have required compilations. */
+	private volatile int compiledScriptCacheMissCount = 0;
+
+	/** The counter of cached scripts removed to stay within the capacity of the cache. */
+	private volatile int compiledScriptCacheEvictionCount = 0;
+
+	/** The cache storing parsed ASTs of library scripts, for compiling only the main script when library scripts are unchanged. */
+	private final LibraryAstCache libraryAstCache = new LibraryAstCache();
+
+	/** The lock object for compilations, because the compiler and the interconnect can not compile multiple scripts in parallel. */
+	private final Object compilationLock = new Object();
+
+	/** The lock object for activations/deactivations of the interconnect, and for the counter of running executions. */
+	private final Object activationLock = new Object();
+
+	/** The number of currently running executions, used for activating/deactivating the interconnect only once for parallel executions. */
+	private int runningExecutionCount = 0;
 
-	/** The flag representing that this engine's state is the same with it of when "lastScript" was executed. */
-	private boolean lastStateIsSame = false;
+	/** The lock for performing asynchronous executions one by one, in order of their requests. */
+	private final ReentrantLock asyncExecutionLock = new ReentrantLock(true);
 
-	/** The flag representing that "AUTOMATIC_ACTIVATION_ENABLED" option was enabled when "lastScript" was executed. */
-	private boolean lastAutoActivationIsEnabled = false;
+	/** The lock object for terminations of asynchronous executions. */
+	private final Object asyncTerminationLock = new Object();
+
+	/** The future of the currently running asynchronous execution (or null if it does not exist). */
+	private CompletableFuture<Object> runningAsyncExecutionFuture = null;
+
+	/** The flag representing whether the currently running asynchronous execution has been terminated. */
+	private boolean runningAsyncExecutionTerminated = false;
 
 
 	/**
@@ -72,81 +132,610 @@ public final class VnanoEngine {
 			throw new NullPointerException();
 		}
 
-		// If the input script is the same with the last executed script, we can re-execute it with less overheads, using caches.
-		if (this.lastScript != null && this.lastStateIsSame) {
+		try {
 
-			// When the references of two String variables are the same, their values are also the same.
-			// (Because they point to the same String instance.)
-			// Of course, their values can be the same when their references are different.
-			if (script == this.lastScript || script.equals(this.lastScript)) {
-				return this.reexecuteLastScript();
+			// If the input script has been executed and cached, we can re-execute it with less overheads, using caches.
+			ReexecutionCache cache = this.compiledScriptCacheMap.get(script);
+			if (cache != null) {
+				this.compiledScriptCacheHitCount++;
+				return this.reexecuteCachedScript(cache);
 			}
+			this.compiledScriptCacheMissCount++;
+
+			// Compile the script, and execute it on the VM.
+			VirtualMachineObjectCode objectCode = this.compileToObjectCode(script);
+			ReexecutionCache generatedCache = new ReexecutionCache();
+			Object evalValue = this.executeObjectCode(objectCode, generatedCache);
+
+			// Cache the resources generated for the execution, to reduce overhead costs of re-executions of the same script.
+			this.cacheExecutedScript(script, generatedCache);
+
+			return evalValue;
+
+		// If any error is occurred for the content/processing of the script,
+		// set the locale to switch the language of error messages, and re-throw the exception to upper layers.
+		} catch (VnanoException e) {
+			return this.handleExecutionException(e);
+
+		// If unexpected exception is occurred, wrap it by the VnanoException and re-throw,
+		// to prevent the stall of the host-application.
+		} catch (Exception unexpectedException) {
+			throw new VnanoException(unexpectedException);
 		}
+	}
+
+
+	/**
+	 * Executes an expression or script code specified as the argument asynchronously,
+	 * on the default executor.
+	 *
+	 * The default executor creates a virtual thread for each execution if the runtime supports virtual threads
+	 * (Java 21 or later), otherwise it runs executions on a pool of daemon threads.
+	 * For details of the behavior, see the description of
+	 * {@link VnanoEngine#executeScriptAsync(String, Executor, long, TimeUnit) executeScriptAsync(String, Executor, long, TimeUnit)}
+	 * method.
+	 *
+	 * @param script An expression or script code to be executed.
+	 * @return The future which will be completed by the evaluated value of the script.
+	 */
+	public CompletableFuture<Object> executeScriptAsync(String script) {
+		return this.executeScriptAsync(script, VnanoAsyncExecutors.getDefaultExecutor());
+	}
+
+
+	/**
+	 * Executes an expression or script code specified as the argument asynchronously,
+	 * on the specified executor.
+	 *
+	 * For details of the behavior, see the description of
+	 * {@link VnanoEngine#executeScriptAsync(String, Executor, long, TimeUnit) executeScriptAsync(String, Executor, long, TimeUnit)}
+	 * method.
+	 *
+	 * @param script An expression or script code to be executed.
+	 * @param executor The executor on which the script will be executed.
+	 * @return The future which will be completed by the evaluated value of the script.
+	 */
+	public CompletableFuture<Object> executeScriptAsync(String script, Executor executor) {
+		return this.submitAsyncExecution(script, executor, -1L, TimeUnit.NANOSECONDS);
+	}
+
 
+	/**
+	 * Executes an expression or script code specified as the argument asynchronously,
+	 * on the specified executor, with the deadline.
+	 *
+	 * The script is executed by {@link VnanoEngine#executeScript(String) executeScript(String)} method
+	 * on a thread of the executor, and the returned future is completed by the evaluated value of the script
+	 * (or by the thrown VnanoException, wrapped by a CompletionException when it is got through the future).
+	 * Asynchronous executions requested to the same engine are performed one by one, in order of their requests,
+	 * so they can be requested from multiple threads at the same time.
+	 * For executing many scripts in parallel, use multiple engines (e.g.: {@link VnanoEnginePool VnanoEnginePool}).
+	 *
+	 * When the future is cancelled, or when the deadline has come before the execution is completed,
+	 * the execution is terminated by the same mechanism as {@link VnanoEngine#terminateScript() terminateScript()} method,
+	 * and the future is completed exceptionally by a CancellationException or a TimeoutException.
+	 * The terminator is reset automatically after the termination, so there is no need to call
+	 * {@link VnanoEngine#resetTerminator() resetTerminator()} method.
+	 * The termination requires that "TERMINATOR_ENABLED" option is enabled.
+	 * If it is disabled, a cancelled execution continues until it is completed, and its result is discarded.
+	 *
+	 * @param script An expression or script code to be executed.
+	 * @param executor The executor on which the script will be executed.
+	 * @param timeout The maximum time from the request to the completion of the execution.
+	 * @param unit The unit of the timeout.
+	 * @return The future which will be completed by the evaluated value of the script.
+	 * @throws VnanoFatalException (Unchecked Exception)
+	 *       Thrown if this method is called in a state in which {@link VnanoEngine#isTerminatorEnabled()} returns false.
+	 */
+	public CompletableFuture<Object> executeScriptAsync(String script, Executor executor, long timeout, TimeUnit unit) {
+		if (unit == null) {
+			throw new NullPointerException();
+		}
+		if (!this.isTerminatorEnabled()) {
+			throw new VnanoFatalException(ErrorType.TERMINATOR_IS_DISABLED);
+		}
+		return this.submitAsyncExecution(script, executor, Math.max(timeout, 0L), unit);
+	}
+
+
+	/**
+	 * Submits an asynchronous execution of the script to the executor,
+	 * and schedules the termination of it at the deadline.
+	 *
+	 * @param script An expression or script code to be executed.
+	 * @param executor The executor on which the script will be executed.
+	 * @param timeout The maximum time from the request to the completion of the execution (negative for no deadline).
+	 * @param unit The unit of the timeout.
+	 * @return The future which will be completed by the evaluated value of the script.
+	 */
+	private CompletableFuture<Object> submitAsyncExecution(final String script, Executor executor, long timeout, TimeUnit unit) {
+		if (script == null || executor == null) {
+			throw new NullPointerException();
+		}
+		final CompletableFuture<Object> future = new CompletableFuture<Object>();
+
+		// Terminate the execution when the future is cancelled, or is completed by the deadline.
+		future.whenComplete(new BiConsumer<Object, Throwable>() {
+			@Override
+			public void accept(Object value, Throwable throwable) {
+				if (throwable instanceof CancellationException || throwable instanceof TimeoutException) {
+					terminateAsyncExecution(future);
+				}
+			}
+		});
+
+		// Schedule the completion of the future at the deadline, and cancel the schedule when the execution has completed.
+		if (0 <= timeout) {
+			final ScheduledFuture<?> deadline = VnanoAsyncExecutors.getDeadlineScheduler().schedule(new Runnable() {
+				@Override
+				public void run() {
+					future.completeExceptionally(new TimeoutException("The deadline of the script execution has come"));
+				}
+			}, timeout, unit);
+			future.whenComplete(new BiConsumer<Object, Throwable>() {
+				@Override
+				public void accept(Object value, Throwable throwable) {
+					deadline.cancel(false);
+				}
+			});
+		}
+
+		try {
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					performAsyncExecution(script, future);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+
+	/**
+	 * Performs the asynchronous execution of the script, and completes the future by the result.
+	 *
+	 * @param script An expression or script code to be executed.
+	 * @param future The future to be completed by the evaluated value of the script.
+	 */
+	private void performAsyncExecution(String script, CompletableFuture<Object> future) {
+		Object evalValue = null;
+		Throwable error = null;
+
+		this.asyncExecutionLock.lock();
 		try {
 
-			// Remove the encoding declaration if exists, and normalize environment-dependent contents, and so on.
+			// If the future has been cancelled (or the deadline has come) while waiting, skip the execution.
+			if (future.isDone()) {
+				return;
+			}
+			synchronized (this.asyncTerminationLock) {
+				this.runningAsyncExecutionFuture = future;
+				this.runningAsyncExecutionTerminated = false;
+			}
+
 			try {
-				script = MetaQualifiedFileLoader.postprocess(null, script); // The first arg is the file name to display in error messages.
-			} catch (VnanoException vne) {
-				String message = vne.getMessageWithoutLocation();
-				throw new ScriptException(message);
+				evalValue = this.executeScript(script);
+			} catch (VnanoException | RuntimeException e) {
+				error = e;
 			}
 
-			// Get the name of the main script from the option map, if it is set.
-			// (The main script name has already been normalized,
-			//  because all option values are normalized when the option map is set to the engine.)
-			String mainScriptName = (String)this.interconnect.getOptionMap().get(OptionKey.MAIN_SCRIPT_NAME);
+			// If the execution has been terminated, reset the terminator for the next execution.
+			synchronized (this.asyncTerminationLock) {
+				this.runningAsyncExecutionFuture = null;
+				if (this.runningAsyncExecutionTerminated) {
+					this.virtualMachine.resetTerminator();
+					this.runningAsyncExecutionTerminated = false;
+				}
+			}
+		} finally {
+			this.asyncExecutionLock.unlock();
+		}
 
-			// Set the name/content of the main script, to the interconnect.
-			this.interconnect.setMainScript(mainScriptName, script);
+		// Complete the future (it has no effect if the future has been cancelled or completed by the deadline).
+		if (error == null) {
+			future.complete(evalValue);
+		} else {
+			future.completeExceptionally(error);
+		}
+	}
 
-			// Check whether the automatic-activation feature is enabled.
-			boolean autoActivationIsEnabled = (Boolean)this.interconnect.getOptionMap().get(OptionKey.AUTOMATIC_ACTIVATION_ENABLED);
 
-			// Activate the interconnect, for executing the script.
-			// (All connected plug-ins are initialized at this timing.)
-			if (autoActivationIsEnabled) {
-				this.interconnect.activate();
+	/**
+	 * Terminates the asynchronous execution corresponding with the specified future, if it is running.
+	 *
+	 * @param future The future of the asynchronous execution to be terminated.
+	 */
+	private void terminateAsyncExecution(CompletableFuture<Object> future) {
+		synchronized (this.asyncTerminationLock) {
+			if (this.runningAsyncExecutionFuture == future && this.isTerminatorEnabled()) {
+				this.runningAsyncExecutionTerminated = true;
+				this.virtualMachine.terminate();
 			}
+		}
+	}
 
-			// Get the file paths and contents of all scripts (the main script and all library scripts), from the interconnect.
-			String[] scripts = this.interconnect.getScriptContents();
-			String[] paths   = this.interconnect.getScriptPaths();
 
-			// Translate scripts to a VRIL code (intermediate assembly code) by a compiler.
-			String assemblyCode = new Compiler().compile(scripts, paths, this.interconnect);
+	/**
+	 * Compiles an expression or script code specified as the argument,
+	 * and returns the compiled script which can be executed repetitively without re-compilations.
+	 *
+	 * The returned compiled script can be executed by {@link VnanoCompiledScript#execute()} method,
+	 * only on this engine.
+	 * Unlike {@link VnanoEngine#executeScript(String) executeScript(String)} method,
+	 * the executions of the compiled script don't require to compare the content of the script with cached ones,
+	 * so they have less overheads especially for long scripts.
+	 * In addition, executions of multiple compiled scripts can be interleaved without any re-compilations.
+	 *
+	 * Please note that, if options, permissions, plug-ins or library scripts of this engine are changed
+	 * after the compilation, the script will be re-compiled automatically at the next execution.
+	 *
+	 * @param script An expression or script code to be compiled.
+	 * @return The compiled script.
+	 * @throws VnanoException Thrown when any error has detected for the content of the script.
+	 */
+	public VnanoCompiledScript compile(String script) throws VnanoException {
+		if (script == null) {
+			throw new NullPointerException();
+		}
+		try {
+			VirtualMachineObjectCode objectCode = this.compileToObjectCode(script);
+			return new VnanoCompiledScript(this, script, objectCode, this.stateVersion);
 
-			// Execute the VRIL code on a VM.
-			Object evalValue = this.virtualMachine.executeAssemblyCode(assemblyCode, this.interconnect);
+		// If any error is occurred for the content of the script,
+		// set the locale to switch the language of error messages, and re-throw the exception to upper layers.
+		} catch (VnanoException e) {
+			Locale locale = (Locale)this.interconnect.getOptionMap().get(OptionKey.LOCALE); // Type was already checked.
+			e.setLocale(locale);
+			throw e;
 
-			// Deactivate the interconnect.
-			// (All Connected plug-ins are finalized at this timing.)
-			if (autoActivationIsEnabled) {
-				this.interconnect.deactivate();
+		// If unexpected exception is occurred, wrap it by the VnanoException and re-throw,
+		// to prevent the stall of the host-application.
+		} catch (Exception unexpectedException) {
+			throw new VnanoException(unexpectedException);
+		}
+	}
+
+
+	/**
+	 * Executes a script compiled by {@link VnanoEngine#compile(String) compile(String)} method of this engine.
+	 *
+	 * Unlike {@link VnanoEngine#executeScript(String) executeScript(String)} method,
+	 * this method can be called from multiple threads at the same time,
+	 * for executing the same (or different) compiled scripts in parallel.
+	 * The compiled code is shared between parallel executions, and the memory is allocated for each execution independently.
+	 * When "AUTOMATIC_ACTIVATION_ENABLED" option is enabled, this engine is activated before the first one of parallel executions,
+	 * and is deactivated after the last one of them.
+	 *
+	 * Please note that, external variables/functions provided by plug-ins are shared between parallel executions,
+	 * so plug-ins accessed in parallel must be thread-safe, and values of external variables should not be modified by scripts.
+	 * Also, you must not change the state (options, plug-ins, and so on) of this engine during parallel executions.
+	 *
+	 * @param compiledScript The compiled script to be executed.
+	 *
+	 * @return
+	 *     The evaluated value of the expression, or the last expression statement in script code.
+	 *     If there is no evaluated value, returns null.
+	 *
+	 * @throws VnanoException Thrown when any error has detected for the content or the processing of the script.
+	 * @throws VnanoFatalException (Unchecked Exception) Thrown if the script was compiled by another engine.
+	 */
+	public Object executeCompiledScript(VnanoCompiledScript compiledScript) throws VnanoException {
+		if (compiledScript == null) {
+			throw new NullPointerException();
+		}
+		if (compiledScript.getEngine() != this) {
+			throw new VnanoFatalException(ErrorType.COMPILED_SCRIPT_OF_ANOTHER_ENGINE);
+		}
+
+		try {
+
+			// If the state of this engine has been changed after the compilation, re-compile the script.
+			// (Check the version again in the synchronized block, to avoid re-compiling it by multiple threads.)
+			if (compiledScript.getEngineStateVersion() != this.stateVersion) {
+				synchronized (compiledScript) {
+					int currentStateVersion = this.stateVersion;
+					if (compiledScript.getEngineStateVersion() != currentStateVersion) {
+						VirtualMachineObjectCode objectCode = this.compileToObjectCode(compiledScript.getScript());
+						compiledScript.setRecompiledObjectCode(objectCode, currentStateVersion);
+					}
+				}
 			}
 
-			// Stores the input script, to detect that the same script is input again.
-			// Also, set some flags, to reduce overhead costs of re-executions of the same script.
-			this.lastScript = script;
-			this.lastStateIsSame = true;
-			this.lastAutoActivationIsEnabled = autoActivationIsEnabled;
+			// Take the resources generated for a completed execution, if they are not used by other executions,
+			// and re-execute the compiled script with less overheads by using them.
+			ReexecutionCache cache = compiledScript.takeReexecutionCache();
+			Object evalValue = null;
+			if (cache != null) {
+				evalValue = this.reexecuteCachedScript(cache);
+
+			// Otherwise, execute the compiled script with allocating a new memory.
+			} else {
+				cache = new ReexecutionCache();
+				evalValue = this.executeObjectCode(compiledScript.getObjectCode(), cache);
+			}
 
+			// Put back the resources to be used by the next execution.
+			// (If an error occurred, the resources are discarded because they may be in inconsistent state.)
+			compiledScript.putReexecutionCache(cache);
 			return evalValue;
 
 		// If any error is occurred for the content/processing of the script,
 		// set the locale to switch the language of error messages, and re-throw the exception to upper layers.
+		} catch (VnanoException e) {
+			return this.handleExecutionException(e);
+
+		// If unexpected exception is occurred, wrap it by the VnanoException and re-throw,
+		// to prevent the stall of the host-application.
+		} catch (Exception unexpectedException) {
+			throw new VnanoException(unexpectedException);
+		}
+	}
+
+
+	/**
+	 * Executes an expression or script code for each row of columnar inputs, on a single thread.
+	 *
+	 * This method is equivalent to {@link VnanoEngine#executeBatch(String, Map, int) executeBatch(script, columns, 1)}.
+	 *
+	 * @param script An expression or script code to be executed for each row.
+	 * @param columns The map storing names of variables as keys, and arrays of their values (columns) as values.
+	 * @return The array (column) of evaluated values of all rows, or null if there is no evaluated value.
+	 * @throws VnanoException Thrown when any error has detected for the content or the processing of the script.
+	 */
+	public Object executeBatch(String script, Map<String, Object> columns) throws VnanoException {
+		return this.executeBatch(script, columns, 1);
+	}
+
+
+	/**
+	 * Executes an expression or script code for each row of columnar inputs,
+	 * with splitting rows across the specified number of threads.
+	 *
+	 * Each column is an array of double[] (float), long[] (int), boolean[] (bool), or String[] (string),
+	 * and all columns must have the same length, which is the number of rows.
+	 * In the script, each column is accessible as a scalar variable of which name is the key of the column in the map,
+	 * and of which value is the element of the column at the current row.
+	 * If the script modifies the value of the variable, the modified value is stored to the column at the current row.
+	 *
+	 * The script is compiled only once, and the compiled code is re-executed for each row on the same memory,
+	 * with copying values directly between columns and the memory.
+	 * Rows are split into continuous ranges, and each range is processed on an independent memory
+	 * (the first range is processed on the current thread, and others are processed on the default executor of
+	 * {@link VnanoEngine#executeScriptAsync(String) executeScriptAsync(String)} method).
+	 * Hence, plug-ins called in parallel must be thread-safe.
+	 * Values of external variables provided by plug-ins are loaded once for each range,
+	 * and they are not written back after the execution.
+	 *
+	 * @param script An expression or script code to be executed for each row.
+	 * @param columns The map storing names of variables as keys, and arrays of their values (columns) as values.
+	 * @param threadCount The maximum number of threads processing rows in parallel.
+	 * @return
+	 *     The array (column) of evaluated values of all rows, of which type is the same as the type of the column
+	 *     corresponding with the data type of the evaluated value.
+	 *     If there is no evaluated value, or there are no rows, returns null.
+	 * @throws VnanoException Thrown when any error has detected for the content or the processing of the script.
+	 * @throws IllegalArgumentException
+	 *     (Unchecked Exception) Thrown if the type of any column is unsupported, lengths of columns are different,
+	 *     or the number of threads is not positive.
+	 */
+	public Object executeBatch(String script, Map<String, Object> columns, int threadCount) throws VnanoException {
+		if (script == null || columns == null) {
+			throw new NullPointerException();
+		}
+		if (threadCount <= 0) {
+			throw new IllegalArgumentException("The number of threads should be a positive number: " + threadCount);
+		}
+		String[] columnNames = columns.keySet().toArray(new String[0]);
+		Object[] columnArrays = columns.values().toArray(new Object[0]);
+		VnanoBatchExecution.checkColumns(columnNames, columnArrays);
+
+		try {
+
+			// Compile the script, with the external variable table in which variables of columns are added.
+			VariableTable externalVariableTable = this.interconnect.getExternalVariableTable();
+			Interconnect batchInterconnect = this.interconnect.createVariableTableReplacedInstance(
+				VnanoBatchExecution.createVariableTable(externalVariableTable, columnNames, columnArrays, 0)
+			);
+			VirtualMachineObjectCode objectCode = this.compileToObjectCode(script, batchInterconnect);
+			VnanoBatchExecution batchExecution = new VnanoBatchExecution(
+				this.virtualMachine, batchInterconnect, objectCode, externalVariableTable, columnNames, columnArrays
+			);
+
+			// Execute the compiled code for all rows, with activating/deactivating the interconnect if necessary.
+			boolean autoActivationIsEnabled = this.beginExecution();
+			boolean succeeded = false;
+			try {
+				Object evalValues = batchExecution.execute(threadCount);
+				succeeded = true;
+				return evalValues;
+			} finally {
+				this.endExecution(autoActivationIsEnabled, succeeded);
+			}
+
+		// If any error is occurred for the content/processing of the script,
+		// set the locale to switch the language of error messages, and re-throw the exception to upper layers.
+		} catch (VnanoException e) {
+			return this.handleExecutionException(e);
+
+		// If unexpected exception is occurred, wrap it by the VnanoException and re-throw,
+		// to prevent the stall of the host-application.
+		} catch (Exception unexpectedException) {
+			throw new VnanoException(unexpectedException);
+		}
+	}
+
+
+	/**
+	 * Compiles an expression having parameters, which can be evaluated repetitively with less overheads.
+	 *
+	 * Each parameter is declared by its name (for a float parameter), or by the data type name ("float" or "int")
+	 * and the name separated by a space (e.g.: "int n").
+	 * In the expression, each parameter is accessible as a scalar variable of the declared data type.
+	 * The returned expression can be evaluated by its evaluate(double...) method (for float parameters)
+	 * or evaluate(long...) method (for int parameters), with arguments in the same order as declarations of parameters.
+	 * The end-point ";" of the expression can be omitted.
+	 *
+	 * The memory for evaluating the expression is allocated at the first evaluation,
+	 * and arguments/results are directly written to/read from it at later evaluations, without allocations of objects.
+	 * For details, see the description of {@link VnanoCompiledExpression} class.
+	 *
+	 * @param expression An expression (or script code) to be compiled.
+	 * @param parameterDeclarations The declarations of parameters.
+	 * @return The compiled expression.
+	 * @throws VnanoException Thrown when any error has detected for the content of the expression.
+	 * @throws IllegalArgumentException (Unchecked Exception) Thrown if any declaration of the parameter is invalid.
+	 */
+	public VnanoCompiledExpression compileExpression(String expression, String... parameterDeclarations) throws VnanoException {
+		if (expression == null || parameterDeclarations == null) {
+			throw new NullPointerException();
+		}
+		VnanoCompiledExpression compiledExpression = new VnanoCompiledExpression(this, expression, parameterDeclarations);
+		try {
+			this.compileExpressionCode(compiledExpression);
+			return compiledExpression;
+
+		// If any error is occurred for the content of the expression,
+		// set the locale to switch the language of error messages, and re-throw the exception to upper layers.
 		} catch (VnanoException e) {
 			Locale locale = (Locale)this.interconnect.getOptionMap().get(OptionKey.LOCALE); // Type was already checked.
 			e.setLocale(locale);
+			throw e;
 
-			if (e.getCause() instanceof ConnectorException && ((ConnectorException)e.getCause()).getMessage().startsWith("___")) {
-				this.handleSpecialConnectorException((ConnectorException)e.getCause(), e);
-				return null;
-			} else {
-				throw e;
+		// If unexpected exception is occurred, wrap it by the VnanoException and re-throw,
+		// to prevent the stall of the host-application.
+		} catch (Exception unexpectedException) {
+			throw new VnanoException(unexpectedException);
+		}
+	}
+
+
+	/**
+	 * Compiles the expression held by the specified compiled expression,
+	 * with the external variable table in which parameters are added, and sets the compiled code to it.
+	 *
+	 * @param compiledExpression The compiled expression to be (re-)compiled.
+	 * @throws VnanoException Thrown when any error has detected for the content of the expression.
+	 * @throws ScriptException Thrown when the expression could not be normalized (e.g.: invalid encoding declaration).
+	 */
+	private void compileExpressionCode(VnanoCompiledExpression compiledExpression) throws VnanoException, ScriptException {
+		int currentStateVersion = this.stateVersion;
+		Interconnect expressionInterconnect = this.interconnect.createVariableTableReplacedInstance(
+			VnanoBatchExecution.createVariableTable(
+				this.interconnect.getExternalVariableTable(),
+				compiledExpression.getParameterNames(), compiledExpression.getArgumentSlots(), 0
+			)
+		);
+
+		// The end-point of the expression statement can be omitted, so append it if necessary.
+		// (It is appended on the next line, because the expression may end with a line comment.)
+		String expression = compiledExpression.getExpression();
+		if (!expression.trim().endsWith(ScriptWord.END_OF_STATEMENT)) {
+			expression += AssemblyWord.LINE_SEPARATOR + ScriptWord.END_OF_STATEMENT;
+		}
+		VirtualMachineObjectCode objectCode = this.compileToObjectCode(expression, expressionInterconnect);
+		boolean autoActivationIsEnabled = (Boolean)this.interconnect.getOptionMap().get(OptionKey.AUTOMATIC_ACTIVATION_ENABLED);
+		compiledExpression.setCompiledCode(objectCode, expressionInterconnect, autoActivationIsEnabled, currentStateVersion);
+	}
+
+
+	/**
+	 * Evaluates the compiled expression, with arguments stored in it.
+	 *
+	 * At the first evaluation (or after the re-compilation), this method allocates the memory for the evaluation.
+	 * At later evaluations, this method writes arguments into data containers of parameters in the allocated memory,
+	 * and re-executes the compiled code on it, without allocations of objects.
+	 *
+	 * @param compiledExpression The compiled expression to be evaluated.
+	 * @param floatResultAllowed Specify true if the evaluated value of float type is allowed (in addition to int type).
+	 * @return The data container storing the evaluated value, which is a scalar of int (or float) type.
+	 * @throws VnanoException
+	 *     Thrown when any error has detected for the processing of the expression,
+	 *     or when the data type of the evaluated value is not supported.
+	 */
+	DataContainer<?> evaluateCompiledExpression(VnanoCompiledExpression compiledExpression, boolean floatResultAllowed)
+			throws VnanoException {
+
+		try {
+
+			// If the state of this engine has been changed after the compilation, re-compile the expression.
+			if (compiledExpression.getEngineStateVersion() != this.stateVersion) {
+				this.compileExpressionCode(compiledExpression);
 			}
 
+			boolean autoActivationIsEnabled = compiledExpression.isAutomaticActivationEnabled();
+			this.beginExecution(autoActivationIsEnabled);
+			boolean succeeded = false;
+			try {
+				ReexecutionCache cache = compiledExpression.getReexecutionCache();
+				Object[] argumentSlots = compiledExpression.getArgumentSlots();
+
+				// At the first evaluation, allocate the memory in which arguments are stored, and execute the code on it.
+				if (cache == null) {
+					VariableTable variableTable = VnanoBatchExecution.createVariableTable(
+						this.interconnect.getExternalVariableTable(), compiledExpression.getParameterNames(), argumentSlots, 0
+					);
+					int externalVariableCount = this.interconnect.getExternalVariableTable().getSize();
+					DataContainer<?>[] parameterContainers = new DataContainer<?>[argumentSlots.length];
+					for (int parameterIndex=0; parameterIndex<argumentSlots.length; parameterIndex++) {
+						parameterContainers[parameterIndex] = variableTable.getVariableByIndex(externalVariableCount + parameterIndex).getDataContainer();
+					}
+					cache = new ReexecutionCache();
+					this.virtualMachine.processObjectCode(
+						compiledExpression.getObjectCode(), compiledExpression.getInterconnect(), variableTable, cache
+					);
+					compiledExpression.setReexecutionCache(cache, parameterContainers);
+
+				// At later evaluations, write arguments into the memory directly, and re-execute the code on it.
+				} else {
+					DataContainer<?>[] parameterContainers = compiledExpression.getParameterContainers();
+					DataType[] parameterDataTypes = compiledExpression.getParameterDataTypes();
+					for (int parameterIndex=0; parameterIndex<argumentSlots.length; parameterIndex++) {
+						VnanoBatchExecution.writeColumnValue(
+							parameterContainers[parameterIndex], parameterDataTypes[parameterIndex], argumentSlots[parameterIndex], 0
+						);
+					}
+					this.virtualMachine.reprocess(cache, compiledExpression.getInterconnect());
+				}
+				succeeded = true;
+			} finally {
+
+				// Discard the memory if an error occurred, because it may be in inconsistent state.
+				if (!succeeded) {
+					compiledExpression.setReexecutionCache(null, null);
+				}
+				this.endExecution(autoActivationIsEnabled, succeeded);
+			}
+
+			// Check the data type of the evaluated value, and return the container storing it.
+			Memory memory = compiledExpression.getReexecutionCache().getMemory();
+			DataContainer<?> resultContainer = memory.hasResultDataContainer() ? memory.getResultDataContainer() : null;
+			if (resultContainer == null || resultContainer.getArrayRank() != 0
+					|| !(resultContainer.getDataType() == DataType.INT64
+					|| (floatResultAllowed && resultContainer.getDataType() == DataType.FLOAT64))) {
+
+				String resultTypeName = DataTypeName.VOID;
+				if (resultContainer != null) {
+					resultTypeName = DataTypeName.getDataTypeNameOf(resultContainer.getDataType());
+					for (int dimension=0; dimension<resultContainer.getArrayRank(); dimension++) {
+						resultTypeName += "[]";
+					}
+				}
+				String supportedTypeNames = floatResultAllowed
+						? DataTypeName.DEFAULT_FLOAT + ", " + DataTypeName.DEFAULT_INT : DataTypeName.DEFAULT_INT;
+				throw new VnanoException(ErrorType.UNSUPPORTED_EXPRESSION_RESULT_TYPE, new String[] { resultTypeName, supportedTypeNames });
+			}
+			return resultContainer;
+
+		// If any error is occurred for the content/processing of the expression,
+		// set the locale to switch the language of error messages, and re-throw the exception to upper layers.
+		} catch (VnanoException e) {
+			Locale locale = (Locale)this.interconnect.getOptionMap().get(OptionKey.LOCALE); // Type was already checked.
+			e.setLocale(locale);
+			throw e;
+
 		// If unexpected exception is occurred, wrap it by the VnanoException and re-throw,
 		// to prevent the stall of the host-application.
 		} catch (Exception unexpectedException) {
@@ -156,33 +745,281 @@ public final class VnanoEngine {
 
 
 	/**
-	 * Re-execute the script which was executed last time,
+	 * Compiles the specified script (with registered library scripts) to the VM object code.
+	 *
+	 * @param script The script to be compiled.
+	 * @return The compiled VM object code.
+	 * @throws VnanoException Thrown when any error has detected for the content of the script.
+	 * @throws ScriptException Thrown when the script could not be normalized (e.g.: invalid encoding declaration).
+	 */
+	private VirtualMachineObjectCode compileToObjectCode(String script) throws VnanoException, ScriptException {
+		return this.compileToObjectCode(script, this.interconnect);
+	}
+
+
+	/**
+	 * Compiles the specified script (with registered library scripts) to the VM object code,
+	 * by using the specified interconnect.
+	 *
+	 * @param script The script to be compiled.
+	 * @param interconnect The interconnect to which external functions/variables are connected.
+	 * @return The compiled VM object code.
+	 * @throws VnanoException Thrown when any error has detected for the content of the script.
+	 * @throws ScriptException Thrown when the script could not be normalized (e.g.: invalid encoding declaration).
+	 */
+	private VirtualMachineObjectCode compileToObjectCode(String script, Interconnect interconnect)
+			throws VnanoException, ScriptException {
+
+		synchronized (this.compilationLock) {
+			return this.compileToObjectCodeWithoutLock(script, interconnect);
+		}
+	}
+
+
+	/**
+	 * Compiles the specified script (with registered library scripts) to the VM object code,
+	 * without locking {@link VnanoEngine#compilationLock compilationLock}.
+	 *
+	 * @param script The script to be compiled.
+	 * @param interconnect The interconnect to which external functions/variables are connected.
+	 * @return The compiled VM object code.
+	 * @throws VnanoException Thrown when any error has detected for the content of the script.
+	 * @throws ScriptException Thrown when the script could not be normalized (e.g.: invalid encoding declaration).
+	 */
+	private VirtualMachineObjectCode compileToObjectCodeWithoutLock(String script, Interconnect interconnect)
+			throws VnanoException, ScriptException {
+
+		// Remove the encoding declaration if exists, and normalize environment-dependent contents, and so on.
+		try {
+			script = MetaQualifiedFileLoader.postprocess(null, script); // The first arg is the file name to display in error messages.
+		} catch (VnanoException vne) {
+			String message = vne.getMessageWithoutLocation();
+			throw new ScriptException(message);
+		}
+
+		// Get the name of the main script from the option map, if it is set.
+		// (The main script name has already been normalized,
+		//  because all option values are normalized when the option map is set to the engine.)
+		String mainScriptName = (String)interconnect.getOptionMap().get(OptionKey.MAIN_SCRIPT_NAME);
+
+		// Set the name/content of the main script, to the interconnect.
+		interconnect.setMainScript(mainScriptName, script);
+
+		// Get the file paths and contents of all scripts (the main script and all library scripts), from the interconnect.
+		String[] scripts = interconnect.getScriptContents();
+		String[] paths   = interconnect.getScriptPaths();
+
+		// If the directory to store compiled scripts is specified, load the compiled code from the file if it exists.
+		String cacheDirectoryPath = (String)interconnect.getOptionMap().get(OptionKey.COMPILED_SCRIPT_CACHE_DIRECTORY);
+		VirtualMachineObjectCodeFileCache fileCache = null;
+		String fileCacheKey = null;
+		if (!cacheDirectoryPath.isEmpty()) {
+			fileCache = new VirtualMachineObjectCodeFileCache(new File(cacheDirectoryPath));
+			fileCacheKey = fileCache.computeKey(scripts, paths, interconnect);
+			VirtualMachineObjectCode cachedObjectCode = fileCache.load(fileCacheKey);
+			if (cachedObjectCode != null) {
+				return cachedObjectCode;
+			}
+		}
+
+		// Translate scripts to a VRIL code (intermediate assembly code) by a compiler.
+		String assemblyCode = new Compiler(this.libraryAstCache).compile(scripts, paths, interconnect);
+
+		// Convert the VRIL code to the VM object code, which can be executed on the VM directly.
+		VirtualMachineObjectCode objectCode = this.virtualMachine.assemble(assemblyCode, interconnect);
+
+		// Store the compiled code to the file, to skip the above compilation at the next launch of the application.
+		if (fileCache != null) {
+			fileCache.store(fileCacheKey, objectCode);
+		}
+		return objectCode;
+	}
+
+
+	/**
+	 * Executes the VM object code on the VM, with activating/deactivating the interconnect if necessary.
+	 *
+	 * @param objectCode The VM object code to be executed.
+	 * @param cache The cache to which resources generated for the execution will be stored.
+	 * @return
+	 *     The evaluated value of the expression, or the last expression statement in script code.
+	 *     If there is no evaluated value, returns null.
+	 * @throws VnanoException Thrown when any error has detected for the processing of the script.
+	 */
+	private Object executeObjectCode(VirtualMachineObjectCode objectCode, ReexecutionCache cache) throws VnanoException {
+
+		// Activate the interconnect, for executing the script.
+		// (All connected plug-ins are initialized at this timing.)
+		boolean autoActivationIsEnabled = this.beginExecution();
+
+		// Execute the VM object code on the VM.
+		boolean succeeded = false;
+		try {
+			Object evalValue = this.virtualMachine.executeObjectCode(objectCode, this.interconnect, cache);
+			succeeded = true;
+			return evalValue;
+
+		// Deactivate the interconnect.
+		// (All Connected plug-ins are finalized at this timing.)
+		} finally {
+			this.endExecution(autoActivationIsEnabled, succeeded);
+		}
+	}
+
+
+	/**
+	 * Activates the interconnect if the automatic-activation feature is enabled
+	 * and no other executions are running, and increments the counter of running executions.
+	 *
+	 * @return Returns true if the automatic-activation feature is enabled.
+	 * @throws VnanoException Thrown when any error has occurred in initialization processes of plug-ins.
+	 */
+	private boolean beginExecution() throws VnanoException {
+
+		// Check whether the automatic-activation feature is enabled.
+		boolean autoActivationIsEnabled = (Boolean)this.interconnect.getOptionMap().get(OptionKey.AUTOMATIC_ACTIVATION_ENABLED);
+
+		this.beginExecution(autoActivationIsEnabled);
+		return autoActivationIsEnabled;
+	}
+
+
+	/**
+	 * Activates the interconnect if the specified flag is true and no other executions are running,
+	 * and increments the counter of running executions.
+	 *
+	 * @param autoActivationIsEnabled Specify true if the automatic-activation feature is enabled.
+	 * @throws VnanoException Thrown when any error has occurred in initialization processes of plug-ins.
+	 */
+	private void beginExecution(boolean autoActivationIsEnabled) throws VnanoException {
+		synchronized (this.activationLock) {
+			if (autoActivationIsEnabled && this.runningExecutionCount == 0) {
+				this.interconnect.activate();
+			}
+			this.runningExecutionCount++;
+		}
+	}
+
+
+	/**
+	 * Decrements the counter of running executions, and deactivates the interconnect
+	 * if the automatic-activation feature is enabled and no other executions are running.
+	 *
+	 * As the same as the behavior of previous versions, the interconnect is not deactivated
+	 * when the execution has failed.
+	 *
+	 * @param autoActivationIsEnabled Specify true if the automatic-activation feature is enabled.
+	 * @param succeeded Specify true if the execution has completed successfully.
+	 * @throws VnanoException Thrown when any error has occurred in finalization processes of plug-ins.
+	 */
+	private void endExecution(boolean autoActivationIsEnabled, boolean succeeded) throws VnanoException {
+		synchronized (this.activationLock) {
+			this.runningExecutionCount--;
+			if (autoActivationIsEnabled && succeeded && this.runningExecutionCount == 0) {
+				this.interconnect.deactivate();
+			}
+		}
+	}
+
+
+	/**
+	 * Handles a VnanoException thrown when executing a script.
+	 *
+	 * This method sets the locale to switch the language of error messages, and re-throw the exception,
+	 * excepting the case of the special exceptions, e.g.: the exception for terminating the script by exit() function.
+	 *
+	 * @param exception The thrown VnanoException.
+	 * @return The evaluated value of the script (always null), if the exception did not require to be re-thrown.
+	 * @throws VnanoException Thrown when the exception should be re-thrown to the upper layers.
+	 */
+	private Object handleExecutionException(VnanoException exception) throws VnanoException {
+		Locale locale = (Locale)this.interconnect.getOptionMap().get(OptionKey.LOCALE); // Type was already checked.
+		exception.setLocale(locale);
+
+		if (exception.getCause() instanceof ConnectorException
+				&& ((ConnectorException)exception.getCause()).getMessage().startsWith("___")) {
+
+			this.handleSpecialConnectorException((ConnectorException)exception.getCause(), exception);
+			return null;
+		} else {
+			throw exception;
+		}
+	}
+
+
+	/**
+	 * Stores the resources generated for the execution into the cache, with the specified script as the key.
+	 *
+	 * If the number of cached scripts exceeds the value of "COMPILED_SCRIPT_CACHE_SIZE" option,
+	 * the least recently executed script is removed from the cache.
+	 *
+	 * @param script The executed script, used as the key of the cache.
+	 * @param cache The resources generated for the execution of the script.
+	 */
+	private void cacheExecutedScript(String script, ReexecutionCache cache) {
+		int cacheSize = (Integer)this.interconnect.getOptionMap().get(OptionKey.COMPILED_SCRIPT_CACHE_SIZE);
+
+		// Resources which are not cached will never be used again, so return their memory to the pool in the VM.
+		if (cacheSize <= 0) {
+			this.virtualMachine.releaseMemory(cache);
+			return;
+		}
+		this.compiledScriptCacheMap.put(script, cache);
+
+		// The iteration order of the cache map is the access order, so the first entry is the least recently executed one.
+		Iterator<ReexecutionCache> valueIterator = this.compiledScriptCacheMap.values().iterator();
+		while (cacheSize < this.compiledScriptCacheMap.size()) {
+			ReexecutionCache evictedCache = valueIterator.next();
+			valueIterator.remove();
+			this.virtualMachine.releaseMemory(evictedCache);
+			this.compiledScriptCacheEvictionCount++;
+		}
+	}
+
+
+	/**
+	 * Removes all cached scripts, and invalidates all scripts compiled by {@link VnanoEngine#compile(String)} method.
+	 * This method is called when the state of this engine (options, plug-ins, and so on) is changed,
+	 * because the compiled code and the cached resources depend on the state.
+	 */
+	private void invalidateCompiledScripts() {
+		for (ReexecutionCache cache: this.compiledScriptCacheMap.values()) {
+			this.virtualMachine.releaseMemory(cache);
+		}
+		this.compiledScriptCacheMap.clear();
+		this.stateVersion++;
+	}
+
+
+	/**
+	 * Re-execute the cached script,
 	 * in less overhead way using cached resources in the VM.
 	 *
+	 * @param cache The resources generated by the previous execution of the script.
 	 * @return
 	 *     The evaluated value of the expression, or the last expression statement in script code.
 	 *     If there is no evaluated value, returns null.
 	 *
 	 * @throws VnanoException Thrown when any error has detected for the content or the processing of the script.
 	 */
-	private Object reexecuteLastScript() throws VnanoException {
+	private Object reexecuteCachedScript(ReexecutionCache cache) throws VnanoException {
 
 		// Activate the interconnect, for executing the script.
 		// (All connected plug-ins are initialized at this timing.
-		if (this.lastAutoActivationIsEnabled) {
-			this.interconnect.activate();
-		}
+		boolean autoActivationIsEnabled = this.beginExecution();
 
-		// On the VM, re-execute the last executed VRIL code, using caches.
-		Object evalValue = this.virtualMachine.reexecuteLastAssemblyCode(this.interconnect);
+		// On the VM, re-execute the cached VM object code.
+		boolean succeeded = false;
+		try {
+			Object evalValue = this.virtualMachine.reexecute(cache, this.interconnect);
+			succeeded = true;
+			return evalValue;
 
 		// Deactivate the interconnect.
 		// (All Connected plug-ins are finalized at this timing.)
-		if (this.lastAutoActivationIsEnabled) {
-			this.interconnect.deactivate();
+		} finally {
+			this.endExecution(autoActivationIsEnabled, succeeded);
 		}
-
-		return evalValue;
 	}
 
 
@@ -376,7 +1213,7 @@ public final class VnanoEngine {
 		if (bindingName == null || plugin == null) {
 			throw new NullPointerException();
 		}
-		this.lastStateIsSame = false;
+		this.invalidateCompiledScripts();
 		this.interconnect.connectPlugin(bindingName, plugin);
 	}
 
@@ -387,7 +1224,7 @@ public final class VnanoEngine {
 	 * @throws VnanoException Thrown when an exception occurred on the finalization of the plug-in to be disconnected.
 	 */
 	public void disconnectAllPlugins() throws VnanoException {
-		this.lastStateIsSame = false;
+		this.invalidateCompiledScripts();
 		this.interconnect.disconnectAllPlugins();
 	}
 
@@ -395,6 +1232,9 @@ public final class VnanoEngine {
 	/**
 	 * Register a library script which will be "include"-ed at the head of a executed script.
 	 *
+	 * The parsed content of the registered library script is cached in the engine,
+	 * so it is not parsed again when only the main script is changed.
+	 *
 	 * @param libraryScriptName The file path (or name) of the library script.
 	 * @param libraryScriptContent Content (code) of the library script.
 	 * @throws VnanoException Thrown when incorrect something have been detected for the specified library.
@@ -403,7 +1243,7 @@ public final class VnanoEngine {
 		if (libraryScriptPath == null || libraryScriptContent == null) {
 			throw new NullPointerException();
 		}
-		this.lastStateIsSame = false;
+		this.invalidateCompiledScripts();
 		this.interconnect.addLibraryScript(libraryScriptPath, libraryScriptContent);
 	}
 
@@ -416,7 +1256,7 @@ public final class VnanoEngine {
 	 *   but it requires to be "catch"-ed for keeping compatibility in future.
 	 */
 	public void unregisterAllLibraryScripts() throws VnanoException {
-		this.lastStateIsSame = false;
+		this.invalidateCompiledScripts();
 		this.interconnect.removeAllLibraryScripts();
 	}
 
@@ -440,8 +1280,14 @@ public final class VnanoEngine {
 		if (optionMap == null) {
 			throw new NullPointerException();
 		}
-		this.lastStateIsSame = false;
+		this.invalidateCompiledScripts();
 		this.interconnect.setOptionMap(optionMap);
+
+		// Set the executor for preparing the accelerator in background, only when it is required
+		// (because the default executor is created when it is required at first).
+		if ((Boolean)this.interconnect.getOptionMap().get(OptionKey.ACCELERATOR_TIER_UP_IN_BACKGROUND)) {
+			this.virtualMachine.setTierUpExecutor(VnanoAsyncExecutors.getDefaultExecutor());
+		}
 	}
 
 
@@ -494,7 +1340,7 @@ public final class VnanoEngine {
 		if (permissionMap == null) {
 			throw new NullPointerException();
 		}
-		this.lastStateIsSame = false;
+		this.invalidateCompiledScripts();
 		this.interconnect.setPermissionMap(permissionMap);
 	}
 
@@ -580,6 +1426,50 @@ public final class VnanoEngine {
 				}
 			}
 
+			// Get/store the counter values of the cache of compiled scripts.
+			performanceMap.put(PerformanceKey.COMPILED_SCRIPT_CACHE_HIT_COUNT_INT_VALUE, this.compiledScriptCacheHitCount);
+			performanceMap.put(PerformanceKey.COMPILED_SCRIPT_CACHE_MISS_COUNT_INT_VALUE, this.compiledScriptCacheMissCount);
+			performanceMap.put(PerformanceKey.COMPILED_SCRIPT_CACHE_EVICTION_COUNT_INT_VALUE, this.compiledScriptCacheEvictionCount);
+
+			// Get/store the counter values of switchings from the processor to the accelerator.
+			if (this.virtualMachine != null) {
+				performanceMap.put(
+					PerformanceKey.ACCELERATOR_TIER_UP_COLD_EXECUTION_COUNT_INT_VALUE, this.virtualMachine.getColdExecutionCountIntValue()
+				);
+				performanceMap.put(
+					PerformanceKey.ACCELERATOR_TIER_UP_COUNT_INT_VALUE, this.virtualMachine.getAcceleratorTierUpCountIntValue()
+				);
+			}
+
+			// Get/store the counter values of the pool of data-containers and data arrays reused between executions.
+			if (this.virtualMachine != null) {
+				DataContainerPool dataContainerPool = this.virtualMachine.getDataContainerPool();
+				long arrayRequestCount = dataContainerPool.getArrayRequestCount();
+				long arrayHitCount = dataContainerPool.getArrayHitCount();
+				long containerRequestCount = dataContainerPool.getDataContainerRequestCount();
+				long containerHitCount = dataContainerPool.getDataContainerHitCount();
+				performanceMap.put(PerformanceKey.DATA_POOL_ARRAY_REQUEST_COUNT_LONG_VALUE, arrayRequestCount);
+				performanceMap.put(PerformanceKey.DATA_POOL_ARRAY_HIT_COUNT_LONG_VALUE, arrayHitCount);
+				if (arrayRequestCount != 0) {
+					performanceMap.put(PerformanceKey.DATA_POOL_ARRAY_HIT_RATIO_DOUBLE_VALUE, (double)arrayHitCount / arrayRequestCount);
+				}
+				performanceMap.put(PerformanceKey.DATA_POOL_CONTAINER_REQUEST_COUNT_LONG_VALUE, containerRequestCount);
+				performanceMap.put(PerformanceKey.DATA_POOL_CONTAINER_HIT_COUNT_LONG_VALUE, containerHitCount);
+				if (containerRequestCount != 0) {
+					performanceMap.put(PerformanceKey.DATA_POOL_CONTAINER_HIT_RATIO_DOUBLE_VALUE, (double)containerHitCount / containerRequestCount);
+				}
+			}
+
+			// Get/store the total elapsed times and the total allocated memory of phases of the compiler, the assembler, and the accelerator.
+			// (The allocated memory is not stored if it is not measurable on the current JVM.)
+			PhaseProfiler profiler = this.interconnect.getPhaseProfiler();
+			for (PhaseProfiler.Phase phase: PhaseProfiler.Phase.values()) {
+				performanceMap.put(phase.getElapsedTimeKey(), profiler.getTotalNanoTime(phase));
+				if (PhaseProfiler.isAllocatedBytesMeasurable()) {
+					performanceMap.put(phase.getAllocatedBytesKey(), profiler.getTotalAllocatedBytes(phase));
+				}
+			}
+
 			return performanceMap;
 		}
 	}
@@ -0,0 +1,474 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.vcssl.nano.spec.ErrorType;
+import org.vcssl.nano.spec.OptionKey;
+import org.vcssl.nano.spec.PerformanceKey;
+
+/**
+ * The class of a pool of Vnano Engines, which have been set up and activated in advance,
+ * for executing scripts on multiple threads (e.g.: in request/response servers) with less overheads.
+ *
+ * When an instance of this class is created, the specified number of engines are created,
+ * and the specified {@link VnanoEnginePool.EngineInitializer EngineInitializer} sets up each of them
+ * (connects plug-ins, registers library scripts, sets options, and so on).
+ * Then, the "AUTOMATIC_ACTIVATION_ENABLED" option of each engine is disabled,
+ * and each engine is activated only once, so plug-ins are not initialized/finalized for every execution.
+ * Also, specified scripts are compiled on each engine in advance ("preloaded").
+ *
+ * Engines can be borrowed by {@link VnanoEnginePool#borrowEngine()} method,
+ * and must be returned by {@link VnanoEnginePool#returnEngine(VnanoEngine)} method after using them.
+ * Alternatively, {@link VnanoEnginePool#lease()} method is available
+ * to return an engine automatically by the try-with-resources statement.
+ * During an engine is borrowed, don't change its state (options, plug-ins, and so on),
+ * and don't activate/deactivate it.
+ *
+ * When the pool becomes unnecessary, call {@link VnanoEnginePool#close()} method to deactivate all engines.
+ */
+public final class VnanoEnginePool implements AutoCloseable {
+
+	/**
+	 * The interface to set up each engine of the pool.
+	 */
+	public static interface EngineInitializer {
+
+		/**
+		 * Sets up the specified engine, e.g.: connects plug-ins, registers library scripts, sets options, and so on.
+		 *
+		 * This method is called once for each engine, when the pool is created.
+		 * Please note that, "AUTOMATIC_ACTIVATION_ENABLED" option will be disabled by the pool after this method,
+		 * and the engine will be activated by the pool, so don't activate the engine in this method.
+		 *
+		 * @param engine The engine to be set up.
+		 * @throws VnanoException Thrown when any error has occurred in the setting up.
+		 */
+		public void initializeEngine(VnanoEngine engine) throws VnanoException;
+	}
+
+
+	/**
+	 * The class of a lease of an engine borrowed from the pool,
+	 * which returns the engine automatically when it is closed (e.g.: by the try-with-resources statement).
+	 */
+	public static final class Lease implements AutoCloseable {
+
+		/** The pool from which the engine was borrowed. */
+		private final VnanoEnginePool pool;
+
+		/** The borrowed engine. */
+		private final VnanoEngine engine;
+
+		/** The flag representing whether the engine has already been returned. */
+		private boolean closed = false;
+
+
+		/**
+		 * Create a new lease of the specified engine.
+		 *
+		 * @param pool The pool from which the engine was borrowed.
+		 * @param engine The borrowed engine.
+		 */
+		private Lease(VnanoEnginePool pool, VnanoEngine engine) {
+			this.pool = pool;
+			this.engine = engine;
+		}
+
+
+		/**
+		 * Gets the borrowed engine.
+		 *
+		 * @return The borrowed engine.
+		 */
+		public VnanoEngine getEngine() {
+			return this.engine;
+		}
+
+
+		/**
+		 * Executes the specified script on the borrowed engine.
+		 *
+		 * If the script has been preloaded by the pool, its compiled code is used without re-compilation.
+		 * Otherwise, the script is executed by {@link VnanoEngine#executeScript(String)} method.
+		 *
+		 * @param script An expression or script code to be executed.
+		 *
+		 * @return
+		 *     The evaluated value of the expression, or the last expression statement in script code.
+		 *     If there is no evaluated value, returns null.
+		 *
+		 * @throws VnanoException Thrown when any error has detected for the content or the processing of the script.
+		 */
+		public Object executeScript(String script) throws VnanoException {
+			return this.pool.executeScript(this.engine, script);
+		}
+
+
+		/**
+		 * Returns the borrowed engine to the pool.
+		 * If the engine has already been returned, this method does nothing.
+		 */
+		@Override
+		public void close() {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			this.pool.returnEngine(this.engine);
+		}
+	}
+
+
+	/** The interval [ns] of checking whether this pool has been closed, during borrowers are waiting for engines. */
+	private static final long CLOSE_CHECK_INTERVAL_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	/** The number of engines held by this pool. */
+	private final int size;
+
+	/** The queue of engines which are not borrowed currently. */
+	private final BlockingQueue<VnanoEngine> idleEngineQueue;
+
+	/** The set of engines which are borrowed currently. */
+	private final Set<VnanoEngine> borrowedEngineSet = Collections.newSetFromMap(new ConcurrentHashMap<VnanoEngine, Boolean>());
+
+	/** Stores preloaded (compiled) scripts of each engine. Keys are engines, and values are maps from contents of scripts. */
+	private final Map<VnanoEngine, Map<String, VnanoCompiledScript>> preloadedScriptMaps;
+
+	/** The flag representing whether this pool has been closed. */
+	private volatile boolean closed = false;
+
+	/** The counter of borrowings of engines. */
+	private long borrowCount = 0;
+
+	/** The total time [ns] for which borrowers have waited for engines. */
+	private long totalWaitNanoseconds = 0;
+
+	/** The maximum time [ns] for which a borrower has waited for an engine. */
+	private long maxWaitNanoseconds = 0;
+
+
+	/**
+	 * Create a new pool holding the specified number of engines.
+	 *
+	 * @param size The number of engines to be held by the pool.
+	 * @param initializer The initializer setting up each engine (plug-ins, library scripts, options, and so on).
+	 * @param preloadedScripts Scripts to be compiled on each engine in advance.
+	 * @throws VnanoException
+	 *     Thrown when any error has occurred in setting up/activating engines, or in compiling preloaded scripts.
+	 */
+	public VnanoEnginePool(int size, EngineInitializer initializer, String... preloadedScripts) throws VnanoException {
+		if (initializer == null || preloadedScripts == null) {
+			throw new NullPointerException();
+		}
+		if (size <= 0) {
+			throw new IllegalArgumentException("The size of the pool should be a positive number: " + size);
+		}
+
+		this.size = size;
+		this.idleEngineQueue = new ArrayBlockingQueue<VnanoEngine>(size);
+		this.preloadedScriptMaps = new IdentityHashMap<VnanoEngine, Map<String, VnanoCompiledScript>>(size);
+
+		// If any error occurs for an engine, deactivate engines which have already been activated, before re-throwing it.
+		// (Otherwise, finalization procedures of plug-ins connected to them are never processed.)
+		VnanoEngine activatedEngine = null;
+		try {
+			for (int engineIndex=0; engineIndex<size; engineIndex++) {
+				VnanoEngine engine = new VnanoEngine();
+				initializer.initializeEngine(engine);
+
+				// Disable the automatic activation, and activate the engine only once here.
+				Map<String, Object> optionMap = new HashMap<String, Object>(engine.getOptionMap());
+				optionMap.put(OptionKey.AUTOMATIC_ACTIVATION_ENABLED, Boolean.FALSE);
+				engine.setOptionMap(optionMap);
+				engine.activate();
+				activatedEngine = engine;
+
+				// Compile the preloaded scripts on the engine.
+				// (The engine must not be changed after this step, otherwise the compiled scripts will be re-compiled.)
+				Map<String, VnanoCompiledScript> preloadedScriptMap = new HashMap<String, VnanoCompiledScript>();
+				for (String script: preloadedScripts) {
+					preloadedScriptMap.put(script, engine.compile(script));
+				}
+				this.preloadedScriptMaps.put(engine, preloadedScriptMap);
+				this.idleEngineQueue.add(engine);
+				activatedEngine = null;
+			}
+		} catch (VnanoException | RuntimeException e) {
+			if (activatedEngine != null) {
+				this.idleEngineQueue.add(activatedEngine);
+			}
+			VnanoEngine engine = null;
+			while ((engine = this.idleEngineQueue.poll()) != null) {
+				try {
+					engine.deactivate();
+				} catch (VnanoException | RuntimeException deactivationException) {
+					e.addSuppressed(deactivationException);
+				}
+			}
+			throw e;
+		}
+	}
+
+
+	/**
+	 * Borrows an engine from this pool. If all engines are borrowed, this method waits until any engine is returned.
+	 *
+	 * The borrowed engine must be returned by {@link VnanoEnginePool#returnEngine(VnanoEngine)} method after using it.
+	 *
+	 * @return The borrowed engine.
+	 * @throws InterruptedException Thrown when the current thread is interrupted during waiting.
+	 * @throws VnanoFatalException (Unchecked Exception) Thrown if this pool has already been closed, or closed during waiting.
+	 */
+	public VnanoEngine borrowEngine() throws InterruptedException {
+		long beginTime = System.nanoTime();
+		VnanoEngine engine = this.pollIdleEngine(-1L);
+		this.registerBorrowedEngine(engine, System.nanoTime() - beginTime);
+		return engine;
+	}
+
+
+	/**
+	 * Borrows an engine from this pool,
+	 * with waiting until any engine is returned for at most the specified time, if all engines are borrowed.
+	 *
+	 * The borrowed engine must be returned by {@link VnanoEnginePool#returnEngine(VnanoEngine)} method after using it.
+	 *
+	 * @param timeout The maximum time to wait.
+	 * @param unit The unit of the argument "timeout".
+	 * @return The borrowed engine (or null if no engine has been available within the specified time).
+	 * @throws InterruptedException Thrown when the current thread is interrupted during waiting.
+	 * @throws VnanoFatalException (Unchecked Exception) Thrown if this pool has already been closed, or closed during waiting.
+	 */
+	public VnanoEngine borrowEngine(long timeout, TimeUnit unit) throws InterruptedException {
+		long beginTime = System.nanoTime();
+		VnanoEngine engine = this.pollIdleEngine(Math.max(0L, unit.toNanos(timeout)));
+		if (engine == null) {
+			return null;
+		}
+		this.registerBorrowedEngine(engine, System.nanoTime() - beginTime);
+		return engine;
+	}
+
+
+	/**
+	 * Borrows an engine from this pool, and returns the lease of it,
+	 * which returns the engine automatically when it is closed (e.g.: by the try-with-resources statement).
+	 * If all engines are borrowed, this method waits until any engine is returned.
+	 *
+	 * @return The lease of the borrowed engine.
+	 * @throws InterruptedException Thrown when the current thread is interrupted during waiting.
+	 * @throws VnanoFatalException (Unchecked Exception) Thrown if this pool has already been closed, or closed during waiting.
+	 */
+	public Lease lease() throws InterruptedException {
+		return new Lease(this, this.borrowEngine());
+	}
+
+
+	/**
+	 * Returns an engine borrowed from this pool.
+	 *
+	 * If this pool has already been closed, the returned engine is deactivated.
+	 *
+	 * @param engine The engine to be returned.
+	 * @throws VnanoFatalException (Unchecked Exception)
+	 *     Thrown if the specified engine is not borrowed from this pool, or has already been returned.
+	 */
+	public void returnEngine(VnanoEngine engine) {
+		if (engine == null) {
+			throw new NullPointerException();
+		}
+		if (!this.borrowedEngineSet.remove(engine)) {
+			throw new VnanoFatalException(ErrorType.ENGINE_NOT_BORROWED_FROM_POOL);
+		}
+
+		// Reset the terminator, because the borrower may have terminated the script.
+		if (engine.isTerminatorEnabled()) {
+			engine.resetTerminator();
+		}
+
+		this.idleEngineQueue.add(engine);
+
+		// If this pool has been closed during the engine was borrowed, deactivate it.
+		if (this.closed) {
+			this.deactivateIdleEngines();
+		}
+	}
+
+
+	/**
+	 * Executes the specified script on the engine borrowed from this pool.
+	 *
+	 * If the script has been preloaded by the pool, its compiled code is used without re-compilation.
+	 * Otherwise, the script is executed by {@link VnanoEngine#executeScript(String)} method.
+	 *
+	 * @param engine The engine borrowed from this pool.
+	 * @param script An expression or script code to be executed.
+	 *
+	 * @return
+	 *     The evaluated value of the expression, or the last expression statement in script code.
+	 *     If there is no evaluated value, returns null.
+	 *
+	 * @throws VnanoException Thrown when any error has detected for the content or the processing of the script.
+	 * @throws VnanoFatalException (Unchecked Exception) Thrown if the specified engine is not borrowed from this pool.
+	 */
+	public Object executeScript(VnanoEngine engine, String script) throws VnanoException {
+		if (engine == null || script == null) {
+			throw new NullPointerException();
+		}
+		if (!this.borrowedEngineSet.contains(engine)) {
+			throw new VnanoFatalException(ErrorType.ENGINE_NOT_BORROWED_FROM_POOL);
+		}
+		VnanoCompiledScript compiledScript = this.preloadedScriptMaps.get(engine).get(script);
+		if (compiledScript != null) {
+			return compiledScript.execute();
+		} else {
+			return engine.executeScript(script);
+		}
+	}
+
+
+	/**
+	 * Closes this pool, and deactivates all engines.
+	 *
+	 * Engines which are borrowed currently will be deactivated when they are returned.
+	 * After calling this method, no engine can be borrowed from this pool.
+	 */
+	@Override
+	public void close() {
+		this.closed = true;
+		this.deactivateIdleEngines();
+	}
+
+
+	/**
+	 * Gets the number of engines held by this pool.
+	 *
+	 * @return The number of engines.
+	 */
+	public int getSize() {
+		return this.size;
+	}
+
+
+	/**
+	 * Gets the Map (performance map) storing names and values of performance monitoring items of this pool,
+	 * e.g.: wait times for borrowing engines, and the utilization ratio of engines.
+	 *
+	 * For details of the monitoring items, see ENGINE_POOL_... keys in {@link org.vcssl.nano.spec.PerformanceKey}.
+	 *
+	 * @return The Map (performance map) storing names and values of performance monitoring items.
+	 */
+	public Map<String, Object> getPerformanceMap() {
+		synchronized (this) {
+			Map<String, Object> performanceMap = new LinkedHashMap<String, Object>();
+			int borrowedEngineCount = this.borrowedEngineSet.size();
+			performanceMap.put(PerformanceKey.ENGINE_POOL_SIZE_INT_VALUE, this.size);
+			performanceMap.put(PerformanceKey.ENGINE_POOL_BORROWED_ENGINE_COUNT_INT_VALUE, borrowedEngineCount);
+			performanceMap.put(PerformanceKey.ENGINE_POOL_UTILIZATION_RATIO_DOUBLE_VALUE, (double)borrowedEngineCount / this.size);
+			performanceMap.put(PerformanceKey.ENGINE_POOL_BORROW_COUNT_LONG_VALUE, this.borrowCount);
+			performanceMap.put(PerformanceKey.ENGINE_POOL_TOTAL_WAIT_NANOSECONDS_LONG_VALUE, this.totalWaitNanoseconds);
+			performanceMap.put(PerformanceKey.ENGINE_POOL_MAX_WAIT_NANOSECONDS_LONG_VALUE, this.maxWaitNanoseconds);
+			return performanceMap;
+		}
+	}
+
+
+	/**
+	 * Takes an engine which is not borrowed currently from the queue, with waiting until any engine is returned if necessary.
+	 *
+	 * The waiting is performed in short intervals, and whether this pool has been closed is checked for each of them,
+	 * because engines returned after closing this pool are deactivated without being provided to waiting borrowers.
+	 *
+	 * @param timeoutNanoseconds The maximum time [ns] to wait, or a negative value to wait without the limit.
+	 * @return The taken engine (or null if no engine has been available within the specified time).
+	 * @throws InterruptedException Thrown when the current thread is interrupted during waiting.
+	 * @throws VnanoFatalException (Unchecked Exception) Thrown if this pool has already been closed, or closed during waiting.
+	 */
+	private VnanoEngine pollIdleEngine(long timeoutNanoseconds) throws InterruptedException {
+		long beginTime = System.nanoTime();
+		while (true) {
+			this.checkNotClosed();
+
+			long waitNanoseconds = CLOSE_CHECK_INTERVAL_NANOSECONDS;
+			if (0 <= timeoutNanoseconds) {
+				long remainingNanoseconds = timeoutNanoseconds - (System.nanoTime() - beginTime);
+				waitNanoseconds = Math.max(0L, Math.min(waitNanoseconds, remainingNanoseconds));
+			}
+			VnanoEngine engine = this.idleEngineQueue.poll(waitNanoseconds, TimeUnit.NANOSECONDS);
+
+			// If this pool has been closed just when the engine was taken, put it back to be deactivated, and fail.
+			if (engine != null && this.closed) {
+				this.idleEngineQueue.add(engine);
+				this.deactivateIdleEngines();
+				this.checkNotClosed();
+			}
+			if (engine != null) {
+				return engine;
+			}
+			if (0 <= timeoutNanoseconds && timeoutNanoseconds <= System.nanoTime() - beginTime) {
+				return null;
+			}
+		}
+	}
+
+
+	/**
+	 * Registers the engine as a borrowed one, and updates the counters of waiting times.
+	 *
+	 * @param engine The borrowed engine.
+	 * @param waitNanoseconds The time [ns] for which the borrower has waited for the engine.
+	 */
+	private void registerBorrowedEngine(VnanoEngine engine, long waitNanoseconds) {
+		this.borrowedEngineSet.add(engine);
+		synchronized (this) {
+			this.borrowCount++;
+			this.totalWaitNanoseconds += waitNanoseconds;
+			if (this.maxWaitNanoseconds < waitNanoseconds) {
+				this.maxWaitNanoseconds = waitNanoseconds;
+			}
+		}
+	}
+
+
+	/**
+	 * Throws an exception if this pool has already been closed.
+	 *
+	 * @throws VnanoFatalException (Unchecked Exception) Thrown if this pool has already been closed.
+	 */
+	private void checkNotClosed() {
+		if (this.closed) {
+			throw new VnanoFatalException(ErrorType.ENGINE_POOL_IS_CLOSED);
+		}
+	}
+
+
+	/**
+	 * Takes all engines which are not borrowed currently from the queue, and deactivates them.
+	 *
+	 * @throws VnanoFatalException (Unchecked Exception) Thrown when any error has occurred in finalizations of plug-ins.
+	 */
+	private void deactivateIdleEngines() {
+		VnanoEngine engine = null;
+		while ((engine = this.idleEngineQueue.poll()) != null) {
+			try {
+				engine.deactivate();
+			} catch (VnanoException e) {
+				throw new VnanoFatalException(e);
+			}
+		}
+	}
+}
@@ -10,8 +10,15 @@ import java.io.Reader;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -28,11 +35,59 @@ import org.vcssl.nano.spec.SpecialBindingValue;
  * The wrapper class of {@link VnanoEngine VnanoEngine} class to use it
  * through "ScriptEngine" interface of the Scripting API of the standard library.
  */
-public final class VnanoScriptEngine implements ScriptEngine {
+public final class VnanoScriptEngine implements ScriptEngine, Compilable {
 
 	private static final String DEFAULT_ENCODING = "UTF-8";
 
 
+	/**
+	 * The class wrapping {@link VnanoCompiledScript VnanoCompiledScript} by "CompiledScript" class
+	 * of the Scripting API of the standard library.
+	 */
+	private static final class CompiledScriptWrapper extends CompiledScript {
+
+		/** The script engine which compiled the script. */
+		private final VnanoScriptEngine scriptEngine;
+
+		/** The compiled script to be wrapped. */
+		private final VnanoCompiledScript vnanoCompiledScript;
+
+		/**
+		 * Create a new wrapper of the specified compiled script.
+		 *
+		 * @param scriptEngine The script engine which compiled the script.
+		 * @param vnanoCompiledScript The compiled script to be wrapped.
+		 */
+		private CompiledScriptWrapper(VnanoScriptEngine scriptEngine, VnanoCompiledScript vnanoCompiledScript) {
+			this.scriptEngine = scriptEngine;
+			this.vnanoCompiledScript = vnanoCompiledScript;
+		}
+
+		/**
+		 * Executes the compiled script.
+		 * The specified context is ignored, as same as {@link VnanoScriptEngine#eval(String) VnanoScriptEngine.eval(String)}.
+		 *
+		 * @param context Ignored on this script engine implementation.
+		 * @return The evaluated value of the expression, or last expression statement in the script code.
+		 * @throws ScriptException Thrown when an error will be detected for the content or the processing of the script.
+		 */
+		@Override
+		public Object eval(ScriptContext context) throws ScriptException {
+			return this.scriptEngine.evalCompiledScript(this.vnanoCompiledScript);
+		}
+
+		/**
+		 * Gets the script engine which compiled the script.
+		 *
+		 * @return The script engine which compiled the script.
+		 */
+		@Override
+		public ScriptEngine getEngine() {
+			return this.scriptEngine;
+		}
+	}
+
+
 	/** A Vnano Engine to be wrapped by ScriptEngine interface. */
 	private VnanoEngine vnanoEngine = null;
 
@@ -104,34 +159,201 @@ public final class VnanoScriptEngine implements ScriptEngine {
 
 		// If a VnanoException has occurred, wrap it by a ScriptException and rethrow,
 		} catch (VnanoException vnanoException) {
+			throw this.createScriptException(vnanoException);
+
+		// Wrap and rethrow other kinds of Exceptions.
+		} catch (Exception unexpectedException) {
+
+			ScriptException scriptException = new ScriptException(unexpectedException);
+			throw scriptException;
+		}
+	}
+
+
+	/**
+	 * Executes an expression or a script code passed as an argument asynchronously, on the default executor.
+	 *
+	 * For details, see the description of
+	 * {@link VnanoEngine#executeScriptAsync(String) VnanoEngine.executeScriptAsync(String)} method.
+	 * Errors are notified through the returned future as ScriptExceptions.
+	 *
+	 * @param scriptCode The expression or the script code to execute.
+	 * @return The future which will be completed by the evaluated value of the script.
+	 */
+	public CompletableFuture<Object> executeScriptAsync(String scriptCode) {
+		return this.executeScriptAsync(scriptCode, VnanoAsyncExecutors.getDefaultExecutor());
+	}
+
+
+	/**
+	 * Executes an expression or a script code passed as an argument asynchronously, on the specified executor.
+	 *
+	 * For details, see the description of
+	 * {@link VnanoEngine#executeScriptAsync(String, Executor) VnanoEngine.executeScriptAsync(String, Executor)} method.
+	 * Errors are notified through the returned future as ScriptExceptions.
+	 *
+	 * @param scriptCode The expression or the script code to execute.
+	 * @param executor The executor on which the script will be executed.
+	 * @return The future which will be completed by the evaluated value of the script.
+	 */
+	public CompletableFuture<Object> executeScriptAsync(String scriptCode, Executor executor) {
+		return this.requestAsyncExecution(scriptCode, executor, -1L, null);
+	}
+
+
+	/**
+	 * Executes an expression or a script code passed as an argument asynchronously, on the specified executor, with the deadline.
+	 *
+	 * For details, see the description of
+	 * {@link VnanoEngine#executeScriptAsync(String, Executor, long, TimeUnit) VnanoEngine.executeScriptAsync(String, Executor, long, TimeUnit)} method.
+	 * Errors are notified through the returned future as ScriptExceptions.
+	 *
+	 * @param scriptCode The expression or the script code to execute.
+	 * @param executor The executor on which the script will be executed.
+	 * @param timeout The maximum time from the request to the completion of the execution.
+	 * @param unit The unit of the timeout.
+	 * @return The future which will be completed by the evaluated value of the script.
+	 * @throws VnanoFatalException (Unchecked Exception) Thrown if "TERMINATOR_ENABLED" option is disabled.
+	 */
+	public CompletableFuture<Object> executeScriptAsync(String scriptCode, Executor executor, long timeout, TimeUnit unit) {
+		if (unit == null) {
+			throw new NullPointerException();
+		}
+		return this.requestAsyncExecution(scriptCode, executor, timeout, unit);
+	}
 
-			// Get the error message without the line-number, because it will be appended by the ScriptException.
-			String message = vnanoException.getMessageWithoutLocation();
 
-			// If the error message exists, create an ScriptException from the message, and set the VnanoException as the cause.
-			if (message != null) {
-				ScriptException scriptException = null;
-				if (vnanoException.hasFileName() && vnanoException.hasLineNumber()) {
-					scriptException = new ScriptException(
-						message + ":", vnanoException.getFileName(), vnanoException.getLineNumber()
-					);
+	/**
+	 * Requests the asynchronous execution of a script to the engine,
+	 * and returns the future which notifies errors as ScriptExceptions.
+	 *
+	 * @param scriptCode The expression or the script code to execute.
+	 * @param executor The executor on which the script will be executed.
+	 * @param timeout The maximum time from the request to the completion of the execution.
+	 * @param unit The unit of the timeout (or null for no deadline).
+	 * @return The future which will be completed by the evaluated value of the script.
+	 */
+	private CompletableFuture<Object> requestAsyncExecution(String scriptCode, Executor executor, long timeout, TimeUnit unit) {
+		if (scriptCode == null || executor == null) {
+			throw new NullPointerException();
+		}
+		final CompletableFuture<Object> future = new CompletableFuture<Object>();
+
+		// Register plug-ins and library scripts to the engine, before requesting the execution.
+		try {
+			this.updatePluginConnections();
+			this.updateLibraryInclusions();
+		} catch (VnanoException vnanoException) {
+			future.completeExceptionally(this.createScriptException(vnanoException));
+			return future;
+		}
+
+		// Request the execution, and forward its result to the returned future, converting VnanoException to ScriptException.
+		final CompletableFuture<Object> engineFuture = unit == null
+				? this.vnanoEngine.executeScriptAsync(scriptCode, executor)
+				: this.vnanoEngine.executeScriptAsync(scriptCode, executor, timeout, unit);
+
+		engineFuture.whenComplete(new BiConsumer<Object, Throwable>() {
+			@Override
+			public void accept(Object value, Throwable throwable) {
+				if (throwable == null) {
+					future.complete(value);
+				} else if (throwable instanceof VnanoException) {
+					future.completeExceptionally(createScriptException((VnanoException)throwable));
 				} else {
-					scriptException = new ScriptException(message);
+					future.completeExceptionally(throwable);
 				}
-
-				try {
-					scriptException.initCause(vnanoException);
-				} catch (IllegalStateException ise) {
-					// If the ScriptException already has any cause, this IllegalStateException will be thrown.
-					// But we consider that it never occurs here.
+			}
+		});
+
+		// Cancel (and terminate) the execution when the returned future is cancelled.
+		future.whenComplete(new BiConsumer<Object, Throwable>() {
+			@Override
+			public void accept(Object value, Throwable throwable) {
+				if (throwable instanceof CancellationException) {
+					engineFuture.cancel(false);
 				}
+			}
+		});
+		return future;
+	}
 
-				throw scriptException;
 
-			// If the VnanoException has no error message, simply wrap it by ScriptException and rethrow.
-			} else {
-				throw new ScriptException(vnanoException);
-			}
+	/**
+	 * Compiles an expression or a script code passed as an argument,
+	 * and returns the compiled script which can be executed repetitively without re-compilations.
+	 *
+	 * @param scriptCode The expression or the script code to compile.
+	 * @return The compiled script.
+	 * @throws ScriptException Thrown when an error will be detected for the content of the script.
+	 */
+	@Override
+	public CompiledScript compile(String scriptCode) throws ScriptException {
+		if (scriptCode == null) {
+			throw new NullPointerException();
+		}
+
+		try {
+
+			// Register plug-ins and library scripts to the engine.
+			this.updatePluginConnections();
+			this.updateLibraryInclusions();
+
+			// Compile the script.
+			VnanoCompiledScript vnanoCompiledScript = this.vnanoEngine.compile(scriptCode);
+			return new CompiledScriptWrapper(this, vnanoCompiledScript);
+
+		// If a VnanoException has occurred, wrap it by a ScriptException and rethrow,
+		} catch (VnanoException vnanoException) {
+			throw this.createScriptException(vnanoException);
+
+		// Wrap and rethrow other kinds of Exceptions.
+		} catch (Exception unexpectedException) {
+
+			ScriptException scriptException = new ScriptException(unexpectedException);
+			throw scriptException;
+		}
+	}
+
+
+	/**
+	 * Compiles an expression or a script code read from Reader (for example: FileReader),
+	 * and returns the compiled script which can be executed repetitively without re-compilations.
+	 *
+	 * @param reader The Reader instance to read script code.
+	 * @return The compiled script.
+	 * @throws ScriptException Thrown when an error will be detected for the content of the script.
+	 */
+	@Override
+	public CompiledScript compile(Reader reader) throws ScriptException {
+		if (reader == null) {
+			throw new NullPointerException();
+		}
+		return this.compile(this.readScript(reader));
+	}
+
+
+	/**
+	 * Executes a compiled script, wrapped by an instance of {@link CompiledScriptWrapper}.
+	 *
+	 * @param vnanoCompiledScript The compiled script to execute.
+	 * @return The evaluated value of the expression, or last expression statement in the script code.
+	 * @throws ScriptException Thrown when an error will be detected for the content or the processing of the script.
+	 */
+	private Object evalCompiledScript(VnanoCompiledScript vnanoCompiledScript) throws ScriptException {
+		try {
+
+			// Register plug-ins and library scripts to the engine.
+			// (If they are updated, the script will be re-compiled automatically.)
+			this.updatePluginConnections();
+			this.updateLibraryInclusions();
+
+			// Execute the compiled script.
+			return vnanoCompiledScript.execute();
+
+		// If a VnanoException has occurred, wrap it by a ScriptException and rethrow,
+		} catch (VnanoException vnanoException) {
+			throw this.createScriptException(vnanoException);
 
 		// Wrap and rethrow other kinds of Exceptions.
 		} catch (Exception unexpectedException) {
@@ -142,6 +364,44 @@ public final class VnanoScriptEngine implements ScriptEngine {
 	}
 
 
+	/**
+	 * Creates a ScriptException wrapping a VnanoException, to be thrown through the Scripting API.
+	 *
+	 * @param vnanoException The VnanoException to be wrapped.
+	 * @return The created ScriptException.
+	 */
+	private ScriptException createScriptException(VnanoException vnanoException) {
+
+		// Get the error message without the line-number, because it will be appended by the ScriptException.
+		String message = vnanoException.getMessageWithoutLocation();
+
+		// If the error message exists, create an ScriptException from the message, and set the VnanoException as the cause.
+		if (message != null) {
+			ScriptException scriptException = null;
+			if (vnanoException.hasFileName() && vnanoException.hasLineNumber()) {
+				scriptException = new ScriptException(
+					message + ":", vnanoException.getFileName(), vnanoException.getLineNumber()
+				);
+			} else {
+				scriptException = new ScriptException(message);
+			}
+
+			try {
+				scriptException.initCause(vnanoException);
+			} catch (IllegalStateException ise) {
+				// If the ScriptException already has any cause, this IllegalStateException will be thrown.
+				// But we consider that it never occurs here.
+			}
+
+			return scriptException;
+
+		// If the VnanoException has no error message, simply wrap it by ScriptException.
+		} else {
+			return new ScriptException(vnanoException);
+		}
+	}
+
+
 	/**
 	 * Executes an expression or a script code read from Reader (for example: FileReader).
 	 * .
@@ -155,14 +415,25 @@ public final class VnanoScriptEngine implements ScriptEngine {
 			throw new NullPointerException();
 		}
 
+		return this.eval(this.readScript(reader));
+	}
+
+
+	/**
+	 * Reads all contents of a script code from Reader.
+	 *
+	 * @param reader The Reader instance to read script code.
+	 * @return The read script code.
+	 * @throws ScriptException Thrown when failed to read the script code.
+	 */
+	private String readScript(Reader reader) throws ScriptException {
 		try {
 			StringBuilder builder = new StringBuilder();
 			int charcode = -1;
 			while ((charcode = reader.read()) != -1) {
 				builder.append((char)charcode);
 			}
-			String script = builder.toString();
-			return this.eval(script);
+			return builder.toString();
 
 		} catch (IOException ioe) {
 			throw new ScriptException(ioe);
@@ -0,0 +1,143 @@
+package org.vcssl.nano.combinedtest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.vcssl.nano.VnanoEngine;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.VnanoFatalException;
+import org.vcssl.nano.spec.OptionKey;
+
+
+public class AsyncExecutionCombinedTest extends CombinedTestElement {
+
+	private static final String INFINITE_LOOP_SCRIPT = "int i = 0; while (true) { i++; }";
+
+	private VnanoEngine engine = null;
+
+	@Override
+	public void initializeTest(VnanoEngine engine) {
+		this.engine = engine;
+	}
+
+	@Override
+	public void finalizeTest() {
+		this.engine = null;
+	}
+
+	@Override
+	public void executeTest() {
+		try {
+			this.testAsyncExecutions();
+			this.testErrors();
+			this.testCancellation();
+			this.testDeadline();
+		} catch (VnanoException | InterruptedException | ExecutionException | TimeoutException e) {
+			throw new CombinedTestException("Unexpected exception occurred", e);
+		}
+	}
+
+	private VnanoEngine createTerminatableEngine() throws VnanoException {
+		VnanoEngine terminatableEngine = new VnanoEngine();
+		Map<String, Object> optionMap = new HashMap<String, Object>();
+		optionMap.put(OptionKey.TERMINATOR_ENABLED, Boolean.TRUE);
+		terminatableEngine.setOptionMap(optionMap);
+		return terminatableEngine;
+	}
+
+	private void testAsyncExecutions() throws InterruptedException, ExecutionException, TimeoutException {
+		String scriptCode = "int a = 1; for (int i=0; i<100; i++) { a += i; } a;";
+
+		// On the default executor.
+		long resultL = (long)this.engine.executeScriptAsync(scriptCode).get(10, TimeUnit.SECONDS);
+		super.evaluateResult(resultL, 4951l, "async execution on the default executor", scriptCode);
+
+		// Many requests from multiple threads should be performed one by one, on the specified executor.
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<CompletableFuture<Object>> futures = new ArrayList<CompletableFuture<Object>>();
+			for (int requestIndex=0; requestIndex<20; requestIndex++) {
+				futures.add(this.engine.executeScriptAsync(requestIndex + " * 2;", executor));
+			}
+			for (int requestIndex=0; requestIndex<20; requestIndex++) {
+				resultL = (long)futures.get(requestIndex).get(10, TimeUnit.SECONDS);
+				super.evaluateResult(resultL, requestIndex * 2l, "async execution " + requestIndex, requestIndex + " * 2;");
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private void testErrors() throws InterruptedException, TimeoutException {
+		String scriptCode = "int a = ;";
+		try {
+			this.engine.executeScriptAsync(scriptCode).get(10, TimeUnit.SECONDS);
+			super.missedExpectedError(scriptCode, scriptCode);
+		} catch (ExecutionException e) {
+			super.evaluateResult(e.getCause() instanceof VnanoException, true, "async execution of an invalid script", scriptCode);
+		}
+
+		// The deadline requires the terminator.
+		try {
+			this.engine.executeScriptAsync(scriptCode, new Executor() {
+				@Override
+				public void execute(Runnable command) {
+					command.run();
+				}
+			}, 1, TimeUnit.SECONDS);
+			super.missedExpectedError("async execution with a deadline on the disabled terminator", "none");
+		} catch (VnanoFatalException e) {
+			super.succeeded("async execution with a deadline on the disabled terminator");
+		}
+	}
+
+	private void testCancellation() throws VnanoException, InterruptedException, ExecutionException, TimeoutException {
+		VnanoEngine terminatableEngine = this.createTerminatableEngine();
+
+		CompletableFuture<Object> loopFuture = terminatableEngine.executeScriptAsync(INFINITE_LOOP_SCRIPT);
+		CompletableFuture<Object> nextFuture = terminatableEngine.executeScriptAsync("1 + 2;");
+		Thread.sleep(100);
+		loopFuture.cancel(true);
+
+		try {
+			loopFuture.get(10, TimeUnit.SECONDS);
+			super.missedExpectedError("cancelled async execution", INFINITE_LOOP_SCRIPT);
+		} catch (CancellationException e) {
+			super.succeeded("cancelled async execution");
+		}
+
+		// The next execution should be performed after the termination of the cancelled one.
+		long resultL = (long)nextFuture.get(10, TimeUnit.SECONDS);
+		super.evaluateResult(resultL, 3l, "async execution after the cancellation", "1 + 2;");
+	}
+
+	private void testDeadline() throws VnanoException, InterruptedException, ExecutionException, TimeoutException {
+		VnanoEngine terminatableEngine = this.createTerminatableEngine();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			CompletableFuture<Object> loopFuture = terminatableEngine.executeScriptAsync(INFINITE_LOOP_SCRIPT, executor, 100, TimeUnit.MILLISECONDS);
+			try {
+				loopFuture.get(10, TimeUnit.SECONDS);
+				super.missedExpectedError("async execution exceeding the deadline", INFINITE_LOOP_SCRIPT);
+			} catch (ExecutionException e) {
+				super.evaluateResult(e.getCause() instanceof TimeoutException, true, "async execution exceeding the deadline", INFINITE_LOOP_SCRIPT);
+			}
+
+			// The terminator should be reset automatically for the next execution.
+			long resultL = (long)terminatableEngine.executeScriptAsync("1 + 2;", executor, 10, TimeUnit.SECONDS).get(10, TimeUnit.SECONDS);
+			super.evaluateResult(resultL, 3l, "async execution after the deadline", "1 + 2;");
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
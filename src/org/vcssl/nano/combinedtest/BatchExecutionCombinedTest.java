@@ -0,0 +1,147 @@
+package org.vcssl.nano.combinedtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.vcssl.nano.VnanoEngine;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.spec.ErrorType;
+
+
+public class BatchExecutionCombinedTest extends CombinedTestElement {
+
+	private VnanoEngine engine = null;
+
+	@Override
+	public void initializeTest(VnanoEngine engine) {
+		this.engine = engine;
+	}
+
+	@Override
+	public void finalizeTest() {
+		this.engine = null;
+	}
+
+	@Override
+	public void executeTest() {
+		try {
+			this.testEvaluatedValues();
+			this.testModifiedColumns();
+			this.testParallelBatchExecution();
+			this.testErrors();
+		} catch (VnanoException e) {
+			throw new CombinedTestException(e);
+		}
+	}
+
+	private void testEvaluatedValues() throws VnanoException {
+		Map<String, Object> columns = new LinkedHashMap<String, Object>();
+		columns.put("x", new double[] { 1.0, 2.0, 3.0 });
+		columns.put("n", new long[] { 10L, 20L, 30L });
+
+		String scriptCode = "x * 2.0 + n;";
+		double[] resultF = (double[])this.engine.executeBatch(scriptCode, columns);
+		super.evaluateResult(resultF, new double[] { 12.0, 24.0, 36.0 }, "float evaluated values", scriptCode);
+
+		scriptCode = "n / 10;";
+		long[] resultL = (long[])this.engine.executeBatch(scriptCode, columns);
+		super.evaluateResult(resultL, new long[] { 1L, 2L, 3L }, "int evaluated values", scriptCode);
+
+		scriptCode = "x >= 2.0;";
+		boolean[] resultB = (boolean[])this.engine.executeBatch(scriptCode, columns);
+		super.evaluateResult(resultB, new boolean[] { false, true, true }, "bool evaluated values", scriptCode);
+
+		columns.put("s", new String[] { "a", "b", "c" });
+		scriptCode = "s + n;";
+		String[] resultS = (String[])this.engine.executeBatch(scriptCode, columns);
+		super.evaluateResult(Arrays.equals(resultS, new String[] { "a10", "b20", "c30" }), true, "string evaluated values", scriptCode);
+
+		// No evaluated values.
+		scriptCode = "float y = x * 2.0;";
+		super.evaluateResult(this.engine.executeBatch(scriptCode, columns) == null, true, "no evaluated values", scriptCode);
+
+		// No rows.
+		Map<String, Object> emptyColumns = new LinkedHashMap<String, Object>();
+		emptyColumns.put("x", new double[0]);
+		scriptCode = "x * 2.0;";
+		super.evaluateResult(this.engine.executeBatch(scriptCode, emptyColumns) == null, true, "no rows", scriptCode);
+	}
+
+	private void testModifiedColumns() throws VnanoException {
+		double[] x = { 1.0, 2.0, 3.0 };
+		boolean[] b = { true, false, true };
+		Map<String, Object> columns = new LinkedHashMap<String, Object>();
+		columns.put("x", x);
+		columns.put("b", b);
+
+		String scriptCode = "if (b) { x += 0.5; } b = !b; x * 10.0;";
+		double[] resultF = (double[])this.engine.executeBatch(scriptCode, columns);
+		super.evaluateResult(resultF, new double[] { 15.0, 20.0, 35.0 }, "evaluated values with modified columns", scriptCode);
+		super.evaluateResult(x, new double[] { 1.5, 2.0, 3.5 }, "modified float column", scriptCode);
+		super.evaluateResult(b, new boolean[] { false, true, false }, "modified bool column", scriptCode);
+	}
+
+	private void testParallelBatchExecution() throws VnanoException {
+		int rowCount = 1001;
+		double[] x = new double[rowCount];
+		long[] n = new long[rowCount];
+		double[] expected = new double[rowCount];
+		for (int row=0; row<rowCount; row++) {
+			x[row] = row * 0.5;
+			n[row] = row;
+			expected[row] = x[row] * x[row] + row * 2;
+		}
+		Map<String, Object> columns = new LinkedHashMap<String, Object>();
+		columns.put("x", x);
+		columns.put("n", n);
+
+		String scriptCode = "float y = x * x; for (int i=0; i<2; i++) { y += n; } y;";
+		double[] resultF = (double[])this.engine.executeBatch(scriptCode, columns, 4);
+		super.evaluateResult(resultF, expected, "parallel batch execution", scriptCode);
+
+		// More threads than rows.
+		columns.put("x", new double[] { 1.0, 2.0 });
+		columns.put("n", new long[] { 3L, 4L });
+		resultF = (double[])this.engine.executeBatch(scriptCode, columns, 8);
+		super.evaluateResult(resultF, new double[] { 7.0, 12.0 }, "parallel batch execution with more threads than rows", scriptCode);
+	}
+
+	private void testErrors() {
+		Map<String, Object> columns = new LinkedHashMap<String, Object>();
+		columns.put("x", new double[] { 1.0, 2.0 });
+		columns.put("n", new long[] { 1L });
+		String scriptCode = "x * n;";
+		try {
+			this.engine.executeBatch(scriptCode, columns);
+			super.missedExpectedError("batch execution with columns of different lengths", scriptCode);
+		} catch (IllegalArgumentException | VnanoException e) {
+			super.evaluateResult(e instanceof IllegalArgumentException, true, "batch execution with columns of different lengths", scriptCode);
+		}
+
+		columns.put("n", new int[] { 1, 2 });
+		try {
+			this.engine.executeBatch(scriptCode, columns);
+			super.missedExpectedError("batch execution with an unsupported column", scriptCode);
+		} catch (IllegalArgumentException | VnanoException e) {
+			super.evaluateResult(e instanceof IllegalArgumentException, true, "batch execution with an unsupported column", scriptCode);
+		}
+
+		columns.put("n", new long[] { 1L, 5L });
+		scriptCode = "int a[3]; a[n];";
+		try {
+			this.engine.executeBatch(scriptCode, columns, 2);
+			super.missedExpectedError("batch execution failed at a row", scriptCode);
+		} catch (VnanoException e) {
+			super.succeeded("batch execution failed at a row");
+		}
+
+		scriptCode = "int a[n]; a;";
+		try {
+			this.engine.executeBatch(scriptCode, columns);
+			super.missedExpectedError("batch execution with a non-scalar evaluated value", scriptCode);
+		} catch (VnanoException e) {
+			super.evaluateResult(e.getErrorType(), ErrorType.BATCH_RESULT_IS_NOT_SCALAR, "batch execution with a non-scalar evaluated value", scriptCode);
+		}
+	}
+}
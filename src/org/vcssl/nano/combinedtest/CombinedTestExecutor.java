@@ -42,8 +42,19 @@ public class CombinedTestExecutor {
 		testElementList.add(new WhileStatementCombinedTest());
 		testElementList.add(new ForStatementCombinedTest());
 		testElementList.add(new FunctionCombinedTest());
+		testElementList.add(new RecursiveFunctionCombinedTest());
+		testElementList.add(new ConstantFoldingCombinedTest());
+		testElementList.add(new LoopInvariantCodeMotionCombinedTest());
+		testElementList.add(new CommonSubexpressionEliminationCombinedTest());
+		testElementList.add(new RegisterReuseCombinedTest());
 		testElementList.add(new ActivationDeactivationCombinedTest());
 		testElementList.add(new RepetitiveExecutionCombinedTest());
+		testElementList.add(new CompiledScriptCombinedTest());
+		testElementList.add(new EnginePoolCombinedTest());
+		testElementList.add(new AsyncExecutionCombinedTest());
+		testElementList.add(new BatchExecutionCombinedTest());
+		testElementList.add(new CompiledExpressionCombinedTest());
+		testElementList.add(new TieredExecutionCombinedTest());
 
 		for (CombinedTestElement testElement: testElementList) {
 			System.out.println("[ " + testElement.getClass().getCanonicalName() + " ]");
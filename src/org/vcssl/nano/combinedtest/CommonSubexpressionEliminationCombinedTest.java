@@ -0,0 +1,149 @@
+package org.vcssl.nano.combinedtest;
+
+import org.vcssl.connect.PureFunction;
+import org.vcssl.nano.VnanoEngine;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.spec.OptionKey;
+import org.vcssl.nano.spec.OptionValue;
+
+
+public class CommonSubexpressionEliminationCombinedTest extends CombinedTestElement {
+
+	private VnanoEngine engine = null;
+	private SubexpressionCounterPlugin subexpressionCounterPlugin = null;
+
+	public class SubexpressionCounterPlugin {
+
+		// Declared as a pure function, but counts calls for checking whether duplicate calls are eliminated.
+		public int pureFunctionCallCount = 0;
+		@PureFunction
+		public double pureSquare(double x) {
+			this.pureFunctionCallCount++;
+			return x * x;
+		}
+	}
+
+	@Override
+	public void initializeTest(VnanoEngine engine) {
+		this.engine = engine;
+	}
+
+	@Override
+	public void finalizeTest() {
+		this.engine = null;
+		this.subexpressionCounterPlugin = null;
+	}
+
+	@Override
+	public void executeTest() {
+		try {
+			this.subexpressionCounterPlugin = new SubexpressionCounterPlugin();
+			this.engine.connectPlugin("SubexpressionCounterPlugin", this.subexpressionCounterPlugin);
+			this.testCommonSubexpressions();
+			this.testOperandsWrittenBetweenSubexpressions();
+			this.testReferenceParameters();
+			this.testPureExternalFunctions();
+			this.testDivisionByZero();
+		} catch (VnanoException e) {
+			throw new CombinedTestException(e);
+		}
+	}
+
+	private void testCommonSubexpressions() throws VnanoException {
+		String scriptCode =
+			" float a[4];                           \n" +
+			" float b[4];                           \n" +
+			" float c[4];                           \n" +
+			" for (int i=0; i<4; i++) {             \n" +
+			"     a[i] = i;                         \n" +
+			"     b[i] = 2.0;                       \n" +
+			"     c[i] = 3.0;                       \n" +
+			" }                                     \n" +
+			" float sum = 0.0;                      \n" +
+			" for (int i=0; i<4; i++) {             \n" +
+			"     sum += a[i]*b[i] + a[i]*c[i];     \n" +
+			" }                                     \n" +
+			" sum;                                  \n" ;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 30.0, "common subexpressions of array elements", scriptCode);
+
+		scriptCode =
+			" float x = 3.0;                        \n" +
+			" float y = x * x + 1.0;                \n" +
+			" float z = x * x + 2.0;                \n" +
+			" y + z;                                \n" ;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 21.0, "common subexpressions in statements", scriptCode);
+	}
+
+	private void testOperandsWrittenBetweenSubexpressions() throws VnanoException {
+
+		// The operand is written between the same expressions, so the result must not be reused.
+		String scriptCode =
+			" float x = 3.0;                        \n" +
+			" float y = x * x + 1.0;                \n" +
+			" x = 4.0;                              \n" +
+			" float z = x * x + 2.0;                \n" +
+			" y + z;                                \n" ;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 28.0, "operands written between expressions", scriptCode);
+
+		// The array element is written through the reference of the element.
+		scriptCode =
+			" float a[2];                           \n" +
+			" a[0] = 3.0;                           \n" +
+			" float y = a[0] * a[0] + 1.0;          \n" +
+			" a[0] = 4.0;                           \n" +
+			" float z = a[0] * a[0] + 2.0;          \n" +
+			" y + z;                                \n" ;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 28.0, "array elements written between expressions", scriptCode);
+	}
+
+	private void testReferenceParameters() throws VnanoException {
+
+		// The variable "g" is written through the reference parameter "p".
+		String scriptCode =
+			" float g = 3.0;                        \n" +
+			" float h = 0.0;                        \n" +
+			" void f(float &p) {                    \n" +
+			"     float y = g * g + 1.0;            \n" +
+			"     p = 4.0;                          \n" +
+			"     h = y + (g * g + 2.0);            \n" +
+			" }                                     \n" +
+			" f(g);                                 \n" +
+			" h;                                    \n" ;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 28.0, "variables written through references", scriptCode);
+	}
+
+	private void testPureExternalFunctions() throws VnanoException {
+
+		// The second call of the pure function is replaced with the result of the first call by the accelerator,
+		// at the optimization level 4 or higher.
+		String scriptCode =
+			" float x = 1.5;                        \n" +
+			" float y = pureSquare(x) + 1.0;        \n" +
+			" float z = pureSquare(x) + 2.0;        \n" +
+			" y + z;                                \n" ;
+		this.subexpressionCounterPlugin.pureFunctionCallCount = 0;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 7.5, "common calls of pure functions", scriptCode);
+		boolean acceleratorEnabled = (Boolean)this.engine.getOptionMap().get(OptionKey.ACCELERATOR_ENABLED);
+		int optimizationLevel = (Integer)this.engine.getOptionMap().get(OptionKey.ACCELERATOR_OPTIMIZATION_LEVEL);
+		boolean eliminated = acceleratorEnabled && OptionValue.ACCELERATOR_OPTIMIZATION_LEVEL_4 <= optimizationLevel;
+		super.evaluateResult(
+			this.subexpressionCounterPlugin.pureFunctionCallCount, eliminated ? 1 : 2, "number of calls of pure functions", scriptCode
+		);
+	}
+
+	private void testDivisionByZero() {
+
+		// Division by zero must be detected, even if the duplicate division is eliminated.
+		String scriptCode =
+			" int a = 0;                            \n" +
+			" int y = 10 / a + 1;                   \n" +
+			" int z = 10 / a + 2;                   \n" +
+			" y + z;                                \n" ;
+		try {
+			this.engine.executeScript(scriptCode);
+			super.missedExpectedError("division by zero in common subexpressions", scriptCode);
+		} catch (VnanoException e) {
+			super.succeeded("division by zero in common subexpressions");
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package org.vcssl.nano.combinedtest;
+
+import org.vcssl.nano.VnanoCompiledExpression;
+import org.vcssl.nano.VnanoEngine;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.spec.ErrorType;
+
+
+public class CompiledExpressionCombinedTest extends CombinedTestElement {
+
+	private VnanoEngine engine = null;
+
+	@Override
+	public void initializeTest(VnanoEngine engine) {
+		this.engine = engine;
+	}
+
+	@Override
+	public void finalizeTest() {
+		this.engine = null;
+	}
+
+	@Override
+	public void executeTest() {
+		try {
+			this.testFloatExpressions();
+			this.testIntExpressions();
+			this.testRecompilation();
+			this.testErrors();
+		} catch (VnanoException e) {
+			throw new CombinedTestException(e);
+		}
+	}
+
+	private void testFloatExpressions() throws VnanoException {
+		String expressionCode = "a * x + b";
+		VnanoCompiledExpression expression = this.engine.compileExpression(expressionCode, "a", "x", "b");
+		super.evaluateResult(expression.evaluate(2.0, 3.0, 1.0), 7.0, "float expression", expressionCode);
+
+		// Repeated evaluations on the reused memory.
+		boolean allSucceeded = true;
+		for (int i=0; i<100; i++) {
+			allSucceeded &= expression.evaluate(2.0, i, 1.0) == 2.0 * i + 1.0;
+		}
+		super.evaluateResult(allSucceeded, true, "repeated evaluations of float expression", expressionCode);
+
+		// Declarations with data type names, and the expression ending with ";".
+		expressionCode = "x * x + 0.5;";
+		expression = this.engine.compileExpression(expressionCode, "float x");
+		super.evaluateResult(expression.evaluate(3.0), 9.5, "float expression with declared parameter", expressionCode);
+
+		// The expression ending with a line comment.
+		expressionCode = "x / 2.0 // half";
+		expression = this.engine.compileExpression(expressionCode, "double x");
+		super.evaluateResult(expression.evaluate(5.0), 2.5, "float expression ending with line comment", expressionCode);
+
+		// An int value is widened to a float value.
+		expressionCode = "10 + 20";
+		expression = this.engine.compileExpression(expressionCode);
+		super.evaluateResult(expression.evaluate(), 30.0, "int value of float expression", expressionCode);
+	}
+
+	private void testIntExpressions() throws VnanoException {
+		String expressionCode = "n * n - m";
+		VnanoCompiledExpression expression = this.engine.compileExpression(expressionCode, "int n", "long m");
+		super.evaluateResult(expression.evaluate(5L, 3L), 22L, "int expression", expressionCode);
+		super.evaluateResult(expression.evaluate(-4L, 6L), 10L, "re-evaluation of int expression", expressionCode);
+
+		expressionCode = "(n + 1) % 3";
+		expression = this.engine.compileExpression(expressionCode, "int n");
+		super.evaluateResult(expression.evaluate(4L), 2L, "int expression with parentheses", expressionCode);
+		super.evaluateResult(expression.evaluate(8L), 0L, "re-evaluation of int expression with parentheses", expressionCode);
+	}
+
+	private void testRecompilation() throws VnanoException {
+		String expressionCode = "x * 3.0";
+		VnanoCompiledExpression expression = this.engine.compileExpression(expressionCode, "x");
+		super.evaluateResult(expression.evaluate(2.0), 6.0, "evaluation before changing options", expressionCode);
+
+		// Changing options invalidates the compiled code, so the expression is re-compiled at the next evaluation.
+		this.engine.setOptionMap(this.engine.getOptionMap());
+		super.evaluateResult(expression.evaluate(4.0), 12.0, "evaluation after changing options", expressionCode);
+	}
+
+	private void testErrors() throws VnanoException {
+		String expressionCode = "a + b";
+		VnanoCompiledExpression expression = this.engine.compileExpression(expressionCode, "a", "b");
+		try {
+			expression.evaluate(1.0);
+			super.missedExpectedError("evaluation with wrong number of arguments", expressionCode);
+		} catch (IllegalArgumentException e) {
+			super.succeeded("evaluation with wrong number of arguments");
+		}
+		try {
+			expression.evaluate(1L, 2L);
+			super.missedExpectedError("evaluation with wrong type of arguments", expressionCode);
+		} catch (IllegalArgumentException e) {
+			super.succeeded("evaluation with wrong type of arguments");
+		}
+		try {
+			this.engine.compileExpression(expressionCode, "string a", "string b");
+			super.missedExpectedError("compilation with unsupported type of parameters", expressionCode);
+		} catch (IllegalArgumentException e) {
+			super.succeeded("compilation with unsupported type of parameters");
+		}
+
+		expressionCode = "x > 0.0";
+		expression = this.engine.compileExpression(expressionCode, "x");
+		try {
+			expression.evaluate(1.0);
+			super.missedExpectedError("evaluation with unsupported type of result", expressionCode);
+		} catch (VnanoException e) {
+			super.evaluateResult(e.getErrorType(), ErrorType.UNSUPPORTED_EXPRESSION_RESULT_TYPE, "evaluation with unsupported type of result", expressionCode);
+		}
+
+		// A float result of the expression evaluated as an int expression.
+		expressionCode = "n * 0.5";
+		expression = this.engine.compileExpression(expressionCode, "int n");
+		try {
+			expression.evaluate(3L);
+			super.missedExpectedError("int evaluation with float result", expressionCode);
+		} catch (VnanoException e) {
+			super.evaluateResult(e.getErrorType(), ErrorType.UNSUPPORTED_EXPRESSION_RESULT_TYPE, "int evaluation with float result", expressionCode);
+		}
+
+		// An error of the expression is detected when compiled.
+		expressionCode = "a + undeclared";
+		try {
+			this.engine.compileExpression(expressionCode, "a");
+			super.missedExpectedError("compilation of expression with undeclared variable", expressionCode);
+		} catch (VnanoException e) {
+			super.succeeded("compilation of expression with undeclared variable");
+		}
+
+		// The expression is still available after an error.
+		expressionCode = "a[i]";
+		expression = this.engine.compileExpression("int a[3]; a[0]=1; a[1]=2; a[2]=3; a[i]", "int i");
+		try {
+			expression.evaluate(5L);
+			super.missedExpectedError("evaluation failed at run-time", expressionCode);
+		} catch (VnanoException e) {
+			super.succeeded("evaluation failed at run-time");
+		}
+		super.evaluateResult(expression.evaluate(2L), 3L, "evaluation after run-time error", expressionCode);
+	}
+}
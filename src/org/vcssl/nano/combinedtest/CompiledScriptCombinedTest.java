@@ -0,0 +1,174 @@
+package org.vcssl.nano.combinedtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.vcssl.nano.VnanoCompiledScript;
+import org.vcssl.nano.VnanoEngine;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.spec.OptionKey;
+
+
+public class CompiledScriptCombinedTest extends CombinedTestElement {
+
+	VnanoEngine engine = null;
+
+	public class VariablePlugin {
+		public int x = 2;
+		public int y = 3;
+	}
+
+	@Override
+	public void initializeTest(VnanoEngine engine) {
+		this.engine = engine;
+	}
+
+	@Override
+	public void finalizeTest() {
+		try {
+			this.engine.disconnectAllPlugins();
+		} catch (VnanoException e) {
+			throw new CombinedTestException(e);
+		}
+		this.engine = null;
+	}
+
+	@Override
+	public void executeTest() {
+		try {
+			this.testInterleavedExecutions();
+			this.testPluginModifications();
+			this.testParallelExecutions();
+			this.testFileCache();
+		} catch (VnanoException e) {
+			throw new CombinedTestException(e);
+		}
+	}
+
+	private void testInterleavedExecutions() throws VnanoException {
+		String scriptCodeA = "int a = 1; for (int i=0; i<10; i++) { a += i; } a;";
+		String scriptCodeB = "float b = 0.5; b * 4.0;";
+		VnanoCompiledScript compiledScriptA = this.engine.compile(scriptCodeA);
+		VnanoCompiledScript compiledScriptB = this.engine.compile(scriptCodeB);
+
+		for (int repetedCount=1; repetedCount<=3; repetedCount++) {
+			long resultL = (long)compiledScriptA.execute();
+			super.evaluateResult(resultL, 46l, "compiled script A " + repetedCount, scriptCodeA);
+			double resultD = (double)compiledScriptB.execute();
+			super.evaluateResult(resultD, 2.0, "compiled script B " + repetedCount, scriptCodeB);
+		}
+
+		// Executions of other scripts should not affect to compiled scripts.
+		this.engine.executeScript("1 + 2;");
+		long resultL = (long)this.engine.executeCompiledScript(compiledScriptA);
+		super.evaluateResult(resultL, 46l, "compiled script A after executeScript", scriptCodeA);
+	}
+
+	private void testPluginModifications() throws VnanoException {
+		VariablePlugin variablePlugin = new VariablePlugin();
+		this.engine.connectPlugin("VariablePlugin", variablePlugin);
+
+		String scriptCode = "x = x * y; x;";
+		VnanoCompiledScript compiledScript = this.engine.compile(scriptCode);
+
+		long resultL = (long)compiledScript.execute();
+		super.evaluateResult(resultL, 6l, "compiled script with plug-in 1", scriptCode);
+		super.evaluateResult(variablePlugin.x, 6, "compiled script with plug-in 1 (written back)", scriptCode);
+
+		variablePlugin.y = 10;
+		resultL = (long)compiledScript.execute();
+		super.evaluateResult(resultL, 60l, "compiled script with plug-in 2", scriptCode);
+
+		// The script should be re-compiled automatically after the plug-in has been re-connected.
+		VariablePlugin newVariablePlugin = new VariablePlugin();
+		this.engine.disconnectAllPlugins();
+		this.engine.connectPlugin("VariablePlugin", newVariablePlugin);
+		resultL = (long)compiledScript.execute();
+		super.evaluateResult(resultL, 6l, "compiled script with re-connected plug-in", scriptCode);
+		super.evaluateResult(variablePlugin.x, 60, "compiled script with re-connected plug-in (old plug-in)", scriptCode);
+	}
+
+	private void testParallelExecutions() throws VnanoException {
+		final String scriptCode = "int a = 1; for (int i=0; i<1000; i++) { a += i; } a;";
+		final VnanoCompiledScript compiledScript = this.engine.compile(scriptCode);
+		final int threadCount = 4;
+		final int repetitionCount = 20;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			List<Future<Long>> futures = new ArrayList<Future<Long>>();
+			for (int threadIndex=0; threadIndex<threadCount; threadIndex++) {
+				futures.add(executor.submit(new Callable<Long>() {
+					@Override
+					public Long call() throws VnanoException {
+						long sum = 0l;
+						for (int repetedCount=0; repetedCount<repetitionCount; repetedCount++) {
+							sum += (long)compiledScript.execute();
+						}
+						return sum;
+					}
+				}));
+			}
+			for (int threadIndex=0; threadIndex<threadCount; threadIndex++) {
+				long resultL = futures.get(threadIndex).get();
+				super.evaluateResult(resultL, 499501l * repetitionCount, "compiled script on thread " + threadIndex, scriptCode);
+			}
+		} catch (InterruptedException | ExecutionException e) {
+			throw new CombinedTestException("Parallel execution of the compiled script failed", e);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private void testFileCache() throws VnanoException {
+		String scriptCode = "int a = 1; for (int i=0; i<10; i++) { a += i; } a;";
+		File cacheDirectory = null;
+		try {
+			cacheDirectory = Files.createTempDirectory("vnano-cache").toFile();
+			Map<String, Object> optionMap = new HashMap<String, Object>();
+			optionMap.put(OptionKey.COMPILED_SCRIPT_CACHE_DIRECTORY, cacheDirectory.getPath());
+
+			// The compiled code should be stored into a file at the first execution.
+			VnanoEngine storingEngine = new VnanoEngine();
+			storingEngine.setOptionMap(optionMap);
+			long resultL = (long)storingEngine.executeScript(scriptCode);
+			super.evaluateResult(resultL, 46l, "file cache (store)", scriptCode);
+			File[] cacheFiles = cacheDirectory.listFiles();
+			super.evaluateResult(cacheFiles.length, 1, "file cache (number of files)", scriptCode);
+
+			// Another engine having the same settings should load the compiled code from the file.
+			VnanoEngine loadingEngine = new VnanoEngine();
+			loadingEngine.setOptionMap(optionMap);
+			resultL = (long)loadingEngine.executeScript(scriptCode);
+			super.evaluateResult(resultL, 46l, "file cache (load)", scriptCode);
+			super.evaluateResult(cacheDirectory.listFiles().length, 1, "file cache (number of files after loading)", scriptCode);
+
+			// A broken file should be ignored and overwritten.
+			Files.write(cacheFiles[0].toPath(), new byte[] { 1, 2, 3 });
+			loadingEngine.setOptionMap(optionMap);
+			resultL = (long)loadingEngine.executeScript(scriptCode);
+			super.evaluateResult(resultL, 46l, "file cache (broken file)", scriptCode);
+			super.evaluateResult(3l < cacheFiles[0].length(), true, "file cache (overwritten file)", scriptCode);
+
+		} catch (IOException e) {
+			throw new CombinedTestException("Unexpected exception occurred", e);
+		} finally {
+			if (cacheDirectory != null) {
+				for (File file: cacheDirectory.listFiles()) {
+					file.delete();
+				}
+				cacheDirectory.delete();
+			}
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package org.vcssl.nano.combinedtest;
+
+import org.vcssl.connect.ConnectorException;
+import org.vcssl.connect.EngineConnectorInterface1;
+import org.vcssl.connect.ExternalFunctionConnectorInterface1;
+import org.vcssl.connect.PureFunction;
+import org.vcssl.nano.VnanoEngine;
+import org.vcssl.nano.VnanoException;
+
+
+public class ConstantFoldingCombinedTest extends CombinedTestElement {
+
+	// A pure XFCI1 plug-in which can not be invoked before it is initialized for execution.
+	@PureFunction
+	public static class InitializationRequiredPlugin implements ExternalFunctionConnectorInterface1 {
+		private boolean initialized = false;
+		@Override public String getFunctionName() { return "scaledByInitializedFactor"; }
+		@Override public boolean hasParameterNames() { return false; }
+		@Override public String[] getParameterNames() { return null; }
+		@Override public Class<?>[] getParameterClasses() { return new Class<?>[] { long.class }; }
+		@Override public Class<?>[] getParameterUnconvertedClasses() { return null; }
+		@Override public boolean[] getParameterDataTypeArbitrarinesses() { return new boolean[] { false }; }
+		@Override public boolean[] getParameterArrayRankArbitrarinesses() { return new boolean[] { false }; }
+		@Override public boolean[] getParameterReferencenesses() { return new boolean[] { false }; }
+		@Override public boolean[] getParameterConstantnesses() { return new boolean[] { false }; }
+		@Override public boolean isParameterCountArbitrary() { return false; }
+		@Override public boolean hasVariadicParameters() { return false; }
+		@Override public Class<?> getReturnClass(Class<?>[] parameterClasses) { return long.class; }
+		@Override public Class<?> getReturnUnconvertedClass(Class<?>[] parameterClasses) { return null; }
+		@Override public boolean isReturnDataTypeArbitrary() { return false; }
+		@Override public boolean isReturnArrayRankArbitrary() { return false; }
+		@Override public boolean isDataConversionNecessary() { return true; }
+		@Override public Class<?> getEngineConnectorClass() { return EngineConnectorInterface1.class; }
+		@Override public void initializeForConnection(Object engineConnector) { }
+		@Override public void finalizeForDisconnection(Object engineConnector) { }
+		@Override public void initializeForExecution(Object engineConnector) { this.initialized = true; }
+		@Override public void finalizeForTermination(Object engineConnector) { this.initialized = false; }
+		@Override
+		public Object invoke(Object[] arguments) throws ConnectorException {
+			if (!this.initialized) {
+				throw new IllegalStateException("Not initialized yet");
+			}
+			return (Long)arguments[0] * 10L;
+		}
+	}
+
+	private VnanoEngine engine = null;
+
+	@Override
+	public void initializeTest(VnanoEngine engine) {
+		this.engine = engine;
+	}
+
+	@Override
+	public void finalizeTest() {
+		this.engine = null;
+	}
+
+	@Override
+	public void executeTest() {
+		try {
+			this.testFoldedExpressions();
+			this.testConstantVariables();
+			this.testConstantConditions();
+			this.testDivisionByZero();
+			this.testPureXfciPlugin();
+		} catch (VnanoException e) {
+			throw new CombinedTestException(e);
+		}
+	}
+
+	private void testFoldedExpressions() throws VnanoException {
+		String scriptCode = "int a = 100 * 1000 + -(7 % 4) / 2; a;";
+		super.evaluateResult((long)this.engine.executeScript(scriptCode), 99999L, "folded int expression", scriptCode);
+
+		scriptCode = "float x = 2.0; x * 3 + (float)(7 / 2) + (int)(2.7);";
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 11.0, "folded float operands", scriptCode);
+
+		scriptCode = "bool b = !(1 < 2) || 2.0 == 2; b;";
+		super.evaluateResult((boolean)this.engine.executeScript(scriptCode), true, "folded bool expression", scriptCode);
+	}
+
+	private void testConstantVariables() throws VnanoException {
+		String scriptCode =
+			" const int N = 10 * 10;          \n" +
+			" const float K = 2;              \n" +
+			" float sum = 0.0;                \n" +
+			" for (int i=0; i<N; i++) {       \n" +
+			"     sum += K * i + N / 4;       \n" +
+			" }                               \n" +
+			" sum;                            \n" ;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 12400.0, "propagated constant variables", scriptCode);
+	}
+
+	private void testConstantConditions() throws VnanoException {
+		String scriptCode =
+			" const bool DEBUG = false;       \n" +
+			" int x = 0;                      \n" +
+			" if (DEBUG) {                    \n" +
+			"     x = 1;                      \n" +
+			" } else if (x == 0) {            \n" +
+			"     x = 2;                      \n" +
+			" }                               \n" +
+			" if (x == 2) {                   \n" +
+			"     x += 10;                    \n" +
+			" } else if (DEBUG && x > 0) {    \n" +
+			"     x = -1;                     \n" +
+			" }                               \n" +
+			" if (!DEBUG) {                   \n" +
+			"     int y = 100;                \n" +
+			"     x += y;                     \n" +
+			" } else {                        \n" +
+			"     x = -2;                     \n" +
+			" }                               \n" +
+			" x;                              \n" ;
+		super.evaluateResult((long)this.engine.executeScript(scriptCode), 112L, "constant conditions of if statements", scriptCode);
+	}
+
+	private void testDivisionByZero() {
+
+		// Division by zero in a constant expression must be detected at runtime, as same as not folded cases.
+		String scriptCode = "int a = 1 / 0; a;";
+		try {
+			this.engine.executeScript(scriptCode);
+			super.missedExpectedError("division by zero in constant expression", scriptCode);
+		} catch (VnanoException e) {
+			super.succeeded("division by zero in constant expression");
+		}
+	}
+
+	private void testPureXfciPlugin() throws VnanoException {
+
+		// Pure XFCI1 plug-ins must not be invoked at compile-time, which is before they are initialized for execution.
+		this.engine.connectPlugin("scaledByInitializedFactor", new InitializationRequiredPlugin());
+		String scriptCode = "scaledByInitializedFactor(3);";
+		super.evaluateResult((long)this.engine.executeScript(scriptCode), 30L, "pure XFCI plug-in with constant arguments", scriptCode);
+	}
+}
@@ -0,0 +1,189 @@
+package org.vcssl.nano.combinedtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.vcssl.nano.VnanoEngine;
+import org.vcssl.nano.VnanoEnginePool;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.VnanoFatalException;
+import org.vcssl.nano.spec.PerformanceKey;
+
+
+public class EnginePoolCombinedTest extends CombinedTestElement {
+
+	private static final String PRELOADED_SCRIPT = "int a = 1; for (int i=0; i<100; i++) { a += i; } a;";
+
+	ActivationDeactivationCombinedTest.ActivationCounterPlugin counterPlugin = null;
+
+	@Override
+	public void initializeTest(VnanoEngine engine) {
+		this.counterPlugin = new ActivationDeactivationCombinedTest().new ActivationCounterPlugin();
+	}
+
+	@Override
+	public void finalizeTest() {
+		this.counterPlugin = null;
+	}
+
+	@Override
+	public void executeTest() {
+		try {
+			this.testLeases();
+			this.testParallelBorrowings();
+			this.testClosingDuringWaiting();
+			this.testFailedCreation();
+		} catch (VnanoException | InterruptedException | ExecutionException e) {
+			throw new CombinedTestException("Unexpected exception occurred", e);
+		}
+	}
+
+	private VnanoEnginePool createPool(int size) throws VnanoException {
+		final ActivationDeactivationCombinedTest.ActivationCounterPlugin plugin = this.counterPlugin;
+		return new VnanoEnginePool(size, new VnanoEnginePool.EngineInitializer() {
+			@Override
+			public void initializeEngine(VnanoEngine engine) throws VnanoException {
+				engine.connectPlugin("dummyVariable", plugin);
+			}
+		}, PRELOADED_SCRIPT);
+	}
+
+	private void testLeases() throws VnanoException, InterruptedException {
+		this.counterPlugin.initializedCounter = 0;
+		this.counterPlugin.finalizedCounter = 0;
+		VnanoEnginePool pool = this.createPool(2);
+
+		// All engines should be activated only once when the pool is created.
+		super.evaluateResult(this.counterPlugin.initializedCounter, 2, "initialized count after creation", "none");
+
+		for (int repetedCount=1; repetedCount<=3; repetedCount++) {
+			try (VnanoEnginePool.Lease lease = pool.lease()) {
+				long resultL = (long)lease.executeScript(PRELOADED_SCRIPT);
+				super.evaluateResult(resultL, 4951l, "preloaded script " + repetedCount, PRELOADED_SCRIPT);
+				resultL = (long)lease.executeScript("1 + 2;");
+				super.evaluateResult(resultL, 3l, "not preloaded script " + repetedCount, "1 + 2;");
+			}
+		}
+		super.evaluateResult(this.counterPlugin.initializedCounter, 2, "initialized count after executions", "none");
+		super.evaluateResult(this.counterPlugin.finalizedCounter, 0, "finalized count after executions", "none");
+
+		// When all engines are borrowed, the borrowing with the timeout should fail.
+		VnanoEngine engineA = pool.borrowEngine();
+		VnanoEngine engineB = pool.borrowEngine();
+		super.evaluateResult(pool.borrowEngine(1, TimeUnit.MILLISECONDS) == null, true, "borrowing from the exhausted pool", "none");
+
+		Map<String, Object> performanceMap = pool.getPerformanceMap();
+		super.evaluateResult(performanceMap.get(PerformanceKey.ENGINE_POOL_BORROWED_ENGINE_COUNT_INT_VALUE), 2, "borrowed engine count", "none");
+		super.evaluateResult(performanceMap.get(PerformanceKey.ENGINE_POOL_UTILIZATION_RATIO_DOUBLE_VALUE), 1.0, "utilization ratio", "none");
+		super.evaluateResult(performanceMap.get(PerformanceKey.ENGINE_POOL_BORROW_COUNT_LONG_VALUE), 5l, "borrow count", "none");
+
+		pool.returnEngine(engineA);
+		pool.returnEngine(engineB);
+
+		// Returning the same engine twice should fail.
+		try {
+			pool.returnEngine(engineA);
+			super.missedExpectedError("duplicate return (should be failed)", "none");
+		} catch (VnanoFatalException e) {
+			super.succeeded("duplicate return (should be failed)");
+		}
+
+		// All engines should be deactivated when the pool is closed.
+		pool.close();
+		super.evaluateResult(this.counterPlugin.finalizedCounter, 2, "finalized count after closing", "none");
+	}
+
+	private void testParallelBorrowings() throws VnanoException, InterruptedException, ExecutionException {
+		final int threadCount = 4;
+		final int repetitionCount = 20;
+		final VnanoEnginePool pool = this.createPool(2);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			List<Future<Long>> futures = new ArrayList<Future<Long>>();
+			for (int threadIndex=0; threadIndex<threadCount; threadIndex++) {
+				futures.add(executor.submit(new Callable<Long>() {
+					@Override
+					public Long call() throws VnanoException, InterruptedException {
+						long sum = 0l;
+						for (int repetedCount=0; repetedCount<repetitionCount; repetedCount++) {
+							try (VnanoEnginePool.Lease lease = pool.lease()) {
+								sum += (long)lease.executeScript(PRELOADED_SCRIPT);
+							}
+						}
+						return sum;
+					}
+				}));
+			}
+			for (int threadIndex=0; threadIndex<threadCount; threadIndex++) {
+				long resultL = futures.get(threadIndex).get();
+				super.evaluateResult(resultL, 4951l * repetitionCount, "pooled engine on thread " + threadIndex, PRELOADED_SCRIPT);
+			}
+		} finally {
+			executor.shutdown();
+			pool.close();
+		}
+
+		Map<String, Object> performanceMap = pool.getPerformanceMap();
+		long borrowCount = (Long)performanceMap.get(PerformanceKey.ENGINE_POOL_BORROW_COUNT_LONG_VALUE);
+		super.evaluateResult(borrowCount, (long)(threadCount * repetitionCount), "borrow count of parallel borrowings", "none");
+	}
+
+	private void testClosingDuringWaiting() throws VnanoException, InterruptedException, ExecutionException {
+		final VnanoEnginePool pool = this.createPool(1);
+		VnanoEngine engine = pool.borrowEngine();
+
+		// The borrower waiting for the exhausted pool should fail when the pool is closed, instead of waiting forever.
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Boolean> future = executor.submit(new Callable<Boolean>() {
+				@Override
+				public Boolean call() throws InterruptedException {
+					try {
+						pool.borrowEngine();
+						return false;
+					} catch (VnanoFatalException e) {
+						return true;
+					}
+				}
+			});
+			Thread.sleep(50);
+			pool.close();
+			pool.returnEngine(engine);
+			try {
+				super.evaluateResult(future.get(10, TimeUnit.SECONDS).booleanValue(), true, "closing the pool during waiting", "none");
+			} catch (java.util.concurrent.TimeoutException e) {
+				super.missedExpectedError("closing the pool during waiting (should wake the waiting borrower)", "none");
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void testFailedCreation() {
+		this.counterPlugin.initializedCounter = 0;
+		this.counterPlugin.finalizedCounter = 0;
+		final ActivationDeactivationCombinedTest.ActivationCounterPlugin plugin = this.counterPlugin;
+
+		// When the preloaded script fails to be compiled, already activated engines should be deactivated.
+		try {
+			new VnanoEnginePool(2, new VnanoEnginePool.EngineInitializer() {
+				@Override
+				public void initializeEngine(VnanoEngine engine) throws VnanoException {
+					engine.connectPlugin("dummyVariable", plugin);
+				}
+			}, "int a = ;");
+			super.missedExpectedError("creation with an incorrect preloaded script (should be failed)", "int a = ;");
+		} catch (VnanoException e) {
+			super.succeeded("creation with an incorrect preloaded script (should be failed)");
+		}
+		super.evaluateResult(this.counterPlugin.finalizedCounter, this.counterPlugin.initializedCounter, "finalized count after failed creation", "none");
+	}
+}
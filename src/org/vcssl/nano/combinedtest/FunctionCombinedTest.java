@@ -646,6 +646,7 @@ public class FunctionCombinedTest extends CombinedTestElement {
 	private void testFunctionCallsByScalarReferences() throws VnanoException {
 		String scriptCode;
 		long resultLS;
+		double resultD;
 		long[] resultLV;
 		long[] expectedLV;
 		boolean resultBS;
@@ -788,6 +789,22 @@ public class FunctionCombinedTest extends CombinedTestElement {
 			"int a=0; ... int c=0; string fun(int &x, ... int &z) { a=2; ... int xs=x; ... int as=a; ... int xs=x; bool result[3]; result[0]=(as==xs); ... result[2]=(cs==zs); return result;} bool r[]=fun(a,b,c);",
 			scriptCode
 		);
+
+		// スカラの参照渡し (call by reference of a scalar)
+		// 参照渡しの引数と値渡しの引数が混在する関数を、ループ内で繰り返し呼ぶ場合
+		scriptCode =
+			" void fun(float &x, float v) {         \n" +
+			"     x = x + v;                        \n" +
+			" }                                     \n" +
+			"                                       \n" +
+			" float sum = 0.0;                      \n" +
+			" for (int i=0; i<3; i++) {             \n" +
+			"     fun(sum, 10.0);                   \n" +
+			" }                                     \n" +
+			" sum;                                  \n" ;
+
+		resultD = (double)this.engine.executeScript(scriptCode);
+		super.evaluateResult(resultD, 30.0, "void fun(float &x, float v) { x = x + v; } float sum=0.0; for(...i<3...) { fun(sum, 10.0); }", scriptCode);
 	}
 
 
@@ -0,0 +1,201 @@
+package org.vcssl.nano.combinedtest;
+
+import org.vcssl.connect.PureFunction;
+import org.vcssl.nano.VnanoEngine;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.spec.OptionKey;
+import org.vcssl.nano.spec.OptionValue;
+
+
+public class LoopInvariantCodeMotionCombinedTest extends CombinedTestElement {
+
+	private VnanoEngine engine = null;
+	private LoopCounterPlugin loopCounterPlugin = null;
+
+	public class LoopCounterPlugin {
+		public long loopCounter = 0;
+		public long nextLoopCounter() {
+			this.loopCounter++;
+			return this.loopCounter;
+		}
+
+		// Declared as a pure function, but counts calls for checking whether it is moved out of loops.
+		public int pureFunctionCallCount = 0;
+		@PureFunction
+		public double pureScale(double x) {
+			this.pureFunctionCallCount++;
+			return x * 2.0;
+		}
+	}
+
+	@Override
+	public void initializeTest(VnanoEngine engine) {
+		this.engine = engine;
+	}
+
+	@Override
+	public void finalizeTest() {
+		this.engine = null;
+		this.loopCounterPlugin = null;
+	}
+
+	@Override
+	public void executeTest() {
+		try {
+			this.loopCounterPlugin = new LoopCounterPlugin();
+			this.engine.connectPlugin("LoopCounterPlugin", this.loopCounterPlugin);
+			this.testInvariantExpressions();
+			this.testOperandsWrittenInLoops();
+			this.testDivisionInBranches();
+			this.testExternalVariables();
+			this.testPureExternalFunctions();
+			this.testInternalFunctions();
+		} catch (VnanoException e) {
+			throw new CombinedTestException(e);
+		}
+	}
+
+	private void testInvariantExpressions() throws VnanoException {
+		String scriptCode =
+			" float scale = 2.0;                    \n" +
+			" float offset = 3.0;                   \n" +
+			" int n = 4;                            \n" +
+			" float sum = 0.0;                      \n" +
+			" for (int i=0; i<n*2; i++) {           \n" +
+			"     int j = 0;                        \n" +
+			"     while (j < n) {                   \n" +
+			"         sum += scale * offset + i;    \n" +
+			"         j++;                          \n" +
+			"     }                                 \n" +
+			" }                                     \n" +
+			" sum;                                  \n" ;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 304.0, "invariant expressions in nested loops", scriptCode);
+	}
+
+	private void testOperandsWrittenInLoops() throws VnanoException {
+
+		// The value of "scale" is changed in a branch, so "scale * offset" must not be moved.
+		String scriptCode =
+			" float scale = 2.0;                    \n" +
+			" float offset = 3.0;                   \n" +
+			" float sum = 0.0;                      \n" +
+			" for (int i=0; i<10; i++) {            \n" +
+			"     sum += scale * offset;            \n" +
+			"     if (i == 4) {                     \n" +
+			"         scale = 1.0;                  \n" +
+			"     }                                 \n" +
+			" }                                     \n" +
+			" sum;                                  \n" ;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 45.0, "operands written in loops", scriptCode);
+
+		// "a" and "b" refer to the same variable, so "b * 2" changes when "a" is written.
+		scriptCode =
+			" void f(int &a, int &b) {              \n" +
+			"     for (int i=0; i<3; i++) {         \n" +
+			"         a += b * 2;                   \n" +
+			"     }                                 \n" +
+			" }                                     \n" +
+			" int x = 1;                            \n" +
+			" f(x, x);                              \n" +
+			" x;                                    \n" ;
+		super.evaluateResult((long)this.engine.executeScript(scriptCode), 27L, "operands written through references", scriptCode);
+	}
+
+	private void testDivisionInBranches() throws VnanoException {
+
+		// Integer division by zero must not be moved out of the branch which is never executed.
+		String scriptCode =
+			" int zero = 0;                         \n" +
+			" int x = 0;                            \n" +
+			" for (int i=0; i<10; i++) {            \n" +
+			"     if (zero != 0) {                  \n" +
+			"         x += 10 / zero;               \n" +
+			"     }                                 \n" +
+			"     x += 1;                           \n" +
+			" }                                     \n" +
+			" x;                                    \n" ;
+		super.evaluateResult((long)this.engine.executeScript(scriptCode), 10L, "division in branches", scriptCode);
+	}
+
+	private void testExternalVariables() throws VnanoException {
+
+		// External functions must be assumed to have side effects, so "nextLoopCounter() * 10" must not be moved.
+		String scriptCode =
+			" loopCounter = 0;                      \n" +
+			" int sum = 0;                          \n" +
+			" for (int i=0; i<5; i++) {             \n" +
+			"     sum += nextLoopCounter() * 10;    \n" +
+			" }                                     \n" +
+			" sum;                                  \n" ;
+		super.evaluateResult((long)this.engine.executeScript(scriptCode), 150L, "external functions", scriptCode);
+
+		// External variables must not be regarded as invariant.
+		scriptCode =
+			" loopCounter = 0;                      \n" +
+			" int sum = 0;                          \n" +
+			" for (int i=0; i<5; i++) {             \n" +
+			"     loopCounter += 1;                 \n" +
+			"     sum += loopCounter * 10;          \n" +
+			" }                                     \n" +
+			" sum;                                  \n" ;
+		super.evaluateResult((long)this.engine.executeScript(scriptCode), 150L, "external variables", scriptCode);
+	}
+
+	private void testPureExternalFunctions() throws VnanoException {
+
+		// The call of the pure function is moved out of the loop by the accelerator, at the optimization level 2 or higher.
+		String scriptCode =
+			" float x = 1.5;                        \n" +
+			" float sum = 0.0;                      \n" +
+			" for (int i=0; i<5; i++) {             \n" +
+			"     sum += pureScale(x) + i;          \n" +
+			" }                                     \n" +
+			" sum;                                  \n" ;
+		this.loopCounterPlugin.pureFunctionCallCount = 0;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 25.0, "invariant calls of pure functions", scriptCode);
+		boolean acceleratorEnabled = (Boolean)this.engine.getOptionMap().get(OptionKey.ACCELERATOR_ENABLED);
+		int optimizationLevel = (Integer)this.engine.getOptionMap().get(OptionKey.ACCELERATOR_OPTIMIZATION_LEVEL);
+		boolean hoisted = acceleratorEnabled && OptionValue.ACCELERATOR_OPTIMIZATION_LEVEL_2 <= optimizationLevel;
+		super.evaluateResult(
+			this.loopCounterPlugin.pureFunctionCallCount, hoisted ? 1 : 5, "number of calls of pure functions", scriptCode
+		);
+
+		// The argument changes in the loop, so the call must not be moved.
+		scriptCode =
+			" float sum = 0.0;                      \n" +
+			" for (int i=0; i<5; i++) {             \n" +
+			"     sum += pureScale((float)i);       \n" +
+			" }                                     \n" +
+			" sum;                                  \n" ;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 20.0, "variant calls of pure functions", scriptCode);
+
+		// The call with the constant argument is evaluated at compile-time.
+		scriptCode =
+			" const float K = 3.0;                  \n" +
+			" float sum = 0.0;                      \n" +
+			" for (int i=0; i<5; i++) {             \n" +
+			"     sum += pureScale(K);              \n" +
+			" }                                     \n" +
+			" sum;                                  \n" ;
+		this.loopCounterPlugin.pureFunctionCallCount = 0;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 30.0, "constant calls of pure functions", scriptCode);
+		super.evaluateResult(this.loopCounterPlugin.pureFunctionCallCount, 1, "number of constant calls of pure functions", scriptCode);
+	}
+
+	private void testInternalFunctions() throws VnanoException {
+
+		// Variables may be changed by internal functions, so "g * 10" must not be moved.
+		String scriptCode =
+			" int g = 0;                            \n" +
+			" void increment() {                    \n" +
+			"     g++;                              \n" +
+			" }                                     \n" +
+			" int sum = 0;                          \n" +
+			" for (int i=0; i<5; i++) {             \n" +
+			"     increment();                      \n" +
+			"     sum += g * 10;                    \n" +
+			" }                                     \n" +
+			" sum;                                  \n" ;
+		super.evaluateResult((long)this.engine.executeScript(scriptCode), 150L, "variables written by internal functions", scriptCode);
+	}
+}
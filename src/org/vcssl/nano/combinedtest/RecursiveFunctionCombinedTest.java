@@ -0,0 +1,209 @@
+package org.vcssl.nano.combinedtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.vcssl.nano.VnanoEngine;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.spec.OptionKey;
+
+
+public class RecursiveFunctionCombinedTest extends CombinedTestElement {
+
+	private VnanoEngine engine = null;
+
+	@Override
+	public void initializeTest(VnanoEngine engine) {
+		this.engine = engine;
+	}
+
+	@Override
+	public void finalizeTest() {
+		this.engine = null;
+	}
+
+	@Override
+	public void executeTest() {
+		try {
+
+			// Test on the current settings (the accelerator is enabled by default).
+			this.testAll();
+
+			// Test on the processor, without the accelerator.
+			Map<String, Object> originalOptionMap = this.engine.getOptionMap();
+			Map<String, Object> optionMap = new LinkedHashMap<String, Object>(originalOptionMap);
+			optionMap.put(OptionKey.ACCELERATOR_ENABLED, false);
+			this.engine.setOptionMap(optionMap);
+			try {
+				this.testAll();
+			} finally {
+				this.engine.setOptionMap(originalOptionMap);
+			}
+
+		} catch (VnanoException e) {
+			throw new CombinedTestException(e);
+		}
+	}
+
+	private void testAll() throws VnanoException {
+		this.testScalarRecursion();
+		this.testDeepRecursion();
+		this.testMutualRecursion();
+		this.testIndirectRecursion();
+		this.testRecursionWithLocalArrays();
+		this.testRecursionWithReferenceArguments();
+	}
+
+	private void testScalarRecursion() throws VnanoException {
+		String scriptCode =
+			" int fib(int n) {                               \n" +
+			"     if (n < 2) {                               \n" +
+			"         return n;                              \n" +
+			"     }                                          \n" +
+			"     return fib(n - 1) + fib(n - 2);            \n" +
+			" }                                              \n" +
+			" float power(float x, int n) {                  \n" +
+			"     if (n == 0) {                              \n" +
+			"         return 1.0;                            \n" +
+			"     }                                          \n" +
+			"     float half = power(x, n / 2);              \n" +
+			"     if (n % 2 == 0) {                          \n" +
+			"         return half * half;                    \n" +
+			"     }                                          \n" +
+			"     return half * half * x;                    \n" +
+			" }                                              \n" +
+			" string rev(string s, int n) {                  \n" +
+			"     if (n == 0) {                              \n" +
+			"         return s;                              \n" +
+			"     }                                          \n" +
+			"     return rev(s + n, n - 1);                  \n" +
+			" }                                              \n" +
+			" \"\" + fib(15) + \",\" + power(2.0, 10) + \",\" + rev(\"x\", 5); \n" ;
+		super.evaluateResult((String)this.engine.executeScript(scriptCode), "610,1024.0,x54321", "scalar recursion", scriptCode);
+	}
+
+	private void testDeepRecursion() throws VnanoException {
+		String scriptCode =
+			" int sumTo(int n) {                             \n" +
+			"     if (n == 0) {                              \n" +
+			"         return 0;                              \n" +
+			"     }                                          \n" +
+			"     int s = n + sumTo(n - 1);                  \n" +
+			"     return s;                                  \n" +
+			" }                                              \n" +
+			" sumTo(5000);                                   \n" ;
+		super.evaluateResult((long)this.engine.executeScript(scriptCode), 12502500L, "deep recursion", scriptCode);
+	}
+
+	private void testMutualRecursion() throws VnanoException {
+		String scriptCode =
+			" int calls = 0;                                 \n" +
+			" bool isEven(int n) {                           \n" +
+			"     calls++;                                   \n" +
+			"     if (n == 0) {                              \n" +
+			"         return true;                           \n" +
+			"     }                                          \n" +
+			"     return isOdd(n - 1);                       \n" +
+			" }                                              \n" +
+			" bool isOdd(int n) {                            \n" +
+			"     calls++;                                   \n" +
+			"     if (n == 0) {                              \n" +
+			"         return false;                          \n" +
+			"     }                                          \n" +
+			"     return isEven(n - 1);                      \n" +
+			" }                                              \n" +
+			" \"\" + isEven(10) + \",\" + isOdd(7) + \",\" + calls; \n" ;
+		super.evaluateResult((String)this.engine.executeScript(scriptCode), "true,true,19", "mutual recursion", scriptCode);
+	}
+
+	private void testIndirectRecursion() throws VnanoException {
+		String scriptCode =
+			" int twice(int x) {                             \n" +
+			"     return x * 2;                              \n" +
+			" }                                              \n" +
+			" int a(int n) {                                 \n" +
+			"     if (n <= 0) {                              \n" +
+			"         return 0;                              \n" +
+			"     }                                          \n" +
+			"     return twice(1) + b(n - 1);                \n" +
+			" }                                              \n" +
+			" int b(int n) {                                 \n" +
+			"     if (n <= 0) {                              \n" +
+			"         return 0;                              \n" +
+			"     }                                          \n" +
+			"     int t = n;                                 \n" +
+			"     return c(n - 1) + t;                       \n" +
+			" }                                              \n" +
+			" int c(int n) {                                 \n" +
+			"     if (n <= 0) {                              \n" +
+			"         return 0;                              \n" +
+			"     }                                          \n" +
+			"     return a(n - 1) + 1;                       \n" +
+			" }                                              \n" +
+			" a(9);                                          \n" ;
+
+		// Execute twice, for checking re-executions of the same code with resources cached by the first execution.
+		super.evaluateResult((long)this.engine.executeScript(scriptCode), 24L, "indirect recursion", scriptCode);
+		super.evaluateResult((long)this.engine.executeScript(scriptCode), 24L, "indirect recursion (re-execution)", scriptCode);
+	}
+
+	private void testRecursionWithLocalArrays() throws VnanoException {
+		String scriptCode =
+			" int localArraySum(int depth) {                 \n" +
+			"     int arr[3];                                \n" +
+			"     arr[0] = depth;                            \n" +
+			"     arr[1] = depth * 2;                        \n" +
+			"     arr[2] = depth * 3;                        \n" +
+			"     int below = 0;                             \n" +
+			"     if (0 < depth) {                           \n" +
+			"         below = localArraySum(depth - 1);      \n" +
+			"     }                                          \n" +
+			"     return arr[0] + arr[1] + arr[2] + below;   \n" +
+			" }                                              \n" +
+			" localArraySum(10);                             \n" ;
+		super.evaluateResult((long)this.engine.executeScript(scriptCode), 330L, "recursion with local arrays", scriptCode);
+	}
+
+	private void testRecursionWithReferenceArguments() throws VnanoException {
+		String scriptCode =
+			" void swapElements(int &a[], int i, int j) {    \n" +
+			"     int t = a[i];                              \n" +
+			"     a[i] = a[j];                               \n" +
+			"     a[j] = t;                                  \n" +
+			" }                                              \n" +
+			" void quickSort(int &a[], int lo, int hi) {     \n" +
+			"     if (hi <= lo) {                            \n" +
+			"         return;                                \n" +
+			"     }                                          \n" +
+			"     int pivot = a[(lo + hi) / 2];              \n" +
+			"     int i = lo;                                \n" +
+			"     int j = hi;                                \n" +
+			"     while (i <= j) {                           \n" +
+			"         while (a[i] < pivot) {                 \n" +
+			"             i++;                               \n" +
+			"         }                                      \n" +
+			"         while (pivot < a[j]) {                 \n" +
+			"             j--;                               \n" +
+			"         }                                      \n" +
+			"         if (i <= j) {                          \n" +
+			"             swapElements(a, i, j);             \n" +
+			"             i++;                               \n" +
+			"             j--;                               \n" +
+			"         }                                      \n" +
+			"     }                                          \n" +
+			"     quickSort(a, lo, j);                       \n" +
+			"     quickSort(a, i, hi);                       \n" +
+			" }                                              \n" +
+			" int data[8];                                   \n" +
+			" for (int k=0; k<8; k++) {                      \n" +
+			"     data[k] = (k * 5 + 3) % 8 + 1;             \n" +
+			" }                                              \n" +
+			" quickSort(data, 0, 7);                         \n" +
+			" string s = \"\";                               \n" +
+			" for (int k=0; k<8; k++) {                      \n" +
+			"     s += data[k];                              \n" +
+			" }                                              \n" +
+			" s;                                             \n" ;
+		super.evaluateResult((String)this.engine.executeScript(scriptCode), "12345678", "recursion with reference arguments", scriptCode);
+	}
+}
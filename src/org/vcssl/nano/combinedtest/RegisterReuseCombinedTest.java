@@ -0,0 +1,102 @@
+package org.vcssl.nano.combinedtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.vcssl.nano.VnanoEngine;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.spec.OptionKey;
+
+
+public class RegisterReuseCombinedTest extends CombinedTestElement {
+
+	private VnanoEngine engine = null;
+
+	@Override
+	public void initializeTest(VnanoEngine engine) {
+		this.engine = engine;
+	}
+
+	@Override
+	public void finalizeTest() {
+		this.engine = null;
+	}
+
+	@Override
+	public void executeTest() {
+		try {
+			Map<String, Object> originalOptionMap = this.engine.getOptionMap();
+			Map<String, Object> optionMap = new LinkedHashMap<String, Object>(originalOptionMap);
+			optionMap.put(OptionKey.REGISTER_REUSE_ENABLED, true);
+			this.engine.setOptionMap(optionMap);
+			try {
+				this.testScalarExpressions();
+				this.testVectorExpressions();
+				this.testFunctions();
+				this.testConditions();
+			} finally {
+				this.engine.setOptionMap(originalOptionMap);
+			}
+		} catch (VnanoException e) {
+			throw new CombinedTestException(e);
+		}
+	}
+
+	private void testScalarExpressions() throws VnanoException {
+		String scriptCode =
+			" int n = 0;                                 \n" +
+			" float x = 0.0;                             \n" +
+			" for (int i=0; i<10; i++) {                 \n" +
+			"     n = n + i * 2 - (i + 1) / 2;           \n" +
+			"     x = x + i * 0.5 - (x * 0.25 + 1.0);    \n" +
+			" }                                          \n" +
+			" string s = \"n=\" + n + \", \" + (n * 2);  \n" +
+			" s + \", \" + (x < 0.0);                    \n" ;
+		super.evaluateResult((String)this.engine.executeScript(scriptCode), "n=65, 130, false", "scalar expressions", scriptCode);
+	}
+
+	private void testVectorExpressions() throws VnanoException {
+		String scriptCode =
+			" float a[4];                                \n" +
+			" float b[4];                                \n" +
+			" for (int i=0; i<4; i++) {                  \n" +
+			"     a[i] = i + 1.0;                        \n" +
+			"     b[i] = a[i] * a[i] - a[i] / 2.0;       \n" +
+			" }                                          \n" +
+			" float c[4] = a * 2.0 + b;                  \n" +
+			" float d[4] = (c - a) * (c + a);            \n" +
+			" d[0] + d[1] + d[2] + d[3];                 \n" ;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 691.5, "vector expressions", scriptCode);
+	}
+
+	private void testFunctions() throws VnanoException {
+		String scriptCode =
+			" float f(float p, float q) {                \n" +
+			"     return p * q + p - q * 2.0;            \n" +
+			" }                                          \n" +
+			" void g(float &r, float v) {                \n" +
+			"     r = r + v * v;                         \n" +
+			" }                                          \n" +
+			" float sum = 0.0;                           \n" +
+			" for (int i=0; i<5; i++) {                  \n" +
+			"     sum = sum + f(i * 1.0, i + 1.0) * 2.0 + f(1.0, 2.0); \n" +
+			"     g(sum, i * 0.5);                       \n" +
+			" }                                          \n" +
+			" sum;                                       \n" ;
+		super.evaluateResult((double)this.engine.executeScript(scriptCode), 42.5, "functions", scriptCode);
+	}
+
+	private void testConditions() throws VnanoException {
+		String scriptCode =
+			" int count = 0;                             \n" +
+			" for (int i=0; i<20; i++) {                 \n" +
+			"     if (i % 2 == 0 && i * i > 10 || i == 1) { \n" +
+			"         count = count + i % 3 + 1;         \n" +
+			"     } else if (!(i < 15)) {                \n" +
+			"         count = count - 1;                 \n" +
+			"     }                                      \n" +
+			" }                                          \n" +
+			" count;                                     \n" ;
+		super.evaluateResult((long)this.engine.executeScript(scriptCode), 14L, "conditions", scriptCode);
+	}
+}
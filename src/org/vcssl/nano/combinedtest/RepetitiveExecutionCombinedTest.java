@@ -1,7 +1,11 @@
 package org.vcssl.nano.combinedtest;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.vcssl.nano.VnanoEngine;
 import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.spec.OptionKey;
 
 
 public class RepetitiveExecutionCombinedTest extends CombinedTestElement {
@@ -54,6 +58,27 @@ public class RepetitiveExecutionCombinedTest extends CombinedTestElement {
 			testId = 8;
 			this.testRepetitiveExecitons("x * y ;", 600, testId);
 
+			// Interleaved executions of multiple scripts, with the cache of compiled scripts.
+			Map<String, Object> originalOptionMap = engine.getOptionMap();
+			Map<String, Object> cacheOptionMap = new LinkedHashMap<String, Object>(originalOptionMap);
+			cacheOptionMap.put(OptionKey.COMPILED_SCRIPT_CACHE_SIZE, 2);
+			engine.setOptionMap(cacheOptionMap);
+
+			testId = 9;
+			this.testInterleavedExecutions(
+				new String[] { "1 + x * y - 4;", "x * y ;", "x - y ;" }, new int[] { 597, 600, -10 }, testId
+			);
+
+			cacheOptionMap.put(OptionKey.COMPILED_SCRIPT_CACHE_SIZE, 3);
+			engine.setOptionMap(cacheOptionMap);
+
+			testId = 10;
+			this.testInterleavedExecutions(
+				new String[] { "1 + x * y - 4;", "x * y ;", "x - y ;" }, new int[] { 597, 600, -10 }, testId
+			);
+
+			engine.setOptionMap(originalOptionMap);
+
 		} catch (VnanoException e) {
 			throw new CombinedTestException(e);
 		}
@@ -70,4 +95,18 @@ public class RepetitiveExecutionCombinedTest extends CombinedTestElement {
 			super.evaluateResult(resultL, expectedValue, title, scriptCode);
 		}
 	}
+
+	private void testInterleavedExecutions(String[] scriptCodes, int[] expectedValues, int testIdNumberInTitle)
+			throws VnanoException{
+
+		long resultL;
+
+		for (int repetedCount=1; repetedCount<=3; repetedCount++) {
+			for (int scriptIndex=0; scriptIndex<scriptCodes.length; scriptIndex++) {
+				resultL = (long)this.engine.executeScript(scriptCodes[scriptIndex]);
+				String title = "interleaved execition " + testIdNumberInTitle + "-" + repetedCount + "-" + scriptIndex;
+				super.evaluateResult(resultL, expectedValues[scriptIndex], title, scriptCodes[scriptIndex]);
+			}
+		}
+	}
 }
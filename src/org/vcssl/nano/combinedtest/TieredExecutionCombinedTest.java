@@ -0,0 +1,151 @@
+package org.vcssl.nano.combinedtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.vcssl.nano.VnanoEngine;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.spec.ErrorType;
+import org.vcssl.nano.spec.OptionKey;
+import org.vcssl.nano.spec.PerformanceKey;
+
+
+public class TieredExecutionCombinedTest extends CombinedTestElement {
+
+	private VnanoEngine engine = null;
+	private CounterPlugin counterPlugin = null;
+
+	public class CounterPlugin {
+		public long tieredCount = 0;
+	}
+
+	private static final String SCRIPT_CODE =
+		"tieredCount++; float sum = 0.0; for (int i=0; i<10; i++) { sum += i * 0.5; } sum + tieredCount;";
+
+	@Override
+	public void initializeTest(VnanoEngine engine) {
+		this.engine = engine;
+	}
+
+	@Override
+	public void finalizeTest() {
+		this.engine = null;
+		this.counterPlugin = null;
+	}
+
+	@Override
+	public void executeTest() {
+		try {
+			this.counterPlugin = new CounterPlugin();
+			this.engine.connectPlugin("TieredExecutionCounterPlugin", this.counterPlugin);
+			Map<String, Object> originalOptionMap = this.engine.getOptionMap();
+			try {
+				this.testTierUp();
+				this.testTierUpInBackground();
+				this.testBatchExecutionInTiers();
+				this.testInvalidThreshold();
+			} finally {
+				this.engine.setOptionMap(originalOptionMap);
+			}
+		} catch (VnanoException e) {
+			throw new CombinedTestException(e);
+		}
+	}
+
+	private void setTierUpOptions(int threshold, boolean inBackground) throws VnanoException {
+		Map<String, Object> optionMap = new LinkedHashMap<String, Object>(this.engine.getOptionMap());
+		optionMap.put(OptionKey.ACCELERATOR_TIER_UP_THRESHOLD, threshold);
+		optionMap.put(OptionKey.ACCELERATOR_TIER_UP_IN_BACKGROUND, inBackground);
+		optionMap.put(OptionKey.PERFORMANCE_MONITOR_ENABLED, true);
+		this.engine.setOptionMap(optionMap);
+	}
+
+	private boolean isAcceleratorEnabled() {
+		return (Boolean)this.engine.getOptionMap().get(OptionKey.ACCELERATOR_ENABLED);
+	}
+
+	private int getPerformanceValue(String performanceKey) {
+		return (Integer)this.engine.getPerformanceMap().get(performanceKey);
+	}
+
+	private void testTierUp() throws VnanoException {
+		CounterPlugin counterPlugin = this.counterPlugin;
+		counterPlugin.tieredCount = 0;
+		this.setTierUpOptions(3, false);
+
+		int coldCountBefore = this.getPerformanceValue(PerformanceKey.ACCELERATOR_TIER_UP_COLD_EXECUTION_COUNT_INT_VALUE);
+		int tierUpCountBefore = this.getPerformanceValue(PerformanceKey.ACCELERATOR_TIER_UP_COUNT_INT_VALUE);
+
+		// The results must be the same before/after switching to the accelerator.
+		boolean allSucceeded = true;
+		for (int executionCount=1; executionCount<=6; executionCount++) {
+			double result = (Double)this.engine.executeScript(SCRIPT_CODE);
+			allSucceeded &= result == 22.5 + executionCount && counterPlugin.tieredCount == executionCount;
+		}
+		super.evaluateResult(allSucceeded, true, "results of tiered executions", SCRIPT_CODE);
+
+		int coldCount = this.getPerformanceValue(PerformanceKey.ACCELERATOR_TIER_UP_COLD_EXECUTION_COUNT_INT_VALUE) - coldCountBefore;
+		int tierUpCount = this.getPerformanceValue(PerformanceKey.ACCELERATOR_TIER_UP_COUNT_INT_VALUE) - tierUpCountBefore;
+		super.evaluateResult(coldCount, this.isAcceleratorEnabled() ? 3 : 0, "cold executions before tier-up", SCRIPT_CODE);
+		super.evaluateResult(tierUpCount, this.isAcceleratorEnabled() ? 1 : 0, "tier-up count", SCRIPT_CODE);
+	}
+
+	private void testTierUpInBackground() throws VnanoException {
+		CounterPlugin counterPlugin = this.counterPlugin;
+		counterPlugin.tieredCount = 0;
+		this.setTierUpOptions(2, true);
+
+		int tierUpCountBefore = this.getPerformanceValue(PerformanceKey.ACCELERATOR_TIER_UP_COUNT_INT_VALUE);
+
+		// Execute the script until it is switched to the accelerator prepared in background.
+		boolean allSucceeded = true;
+		boolean tieredUp = false;
+		long beginTime = System.nanoTime();
+		int executionCount = 0;
+		while (!tieredUp && System.nanoTime() - beginTime < 10000000000L) {
+			executionCount++;
+			double result = (Double)this.engine.executeScript(SCRIPT_CODE);
+			allSucceeded &= result == 22.5 + executionCount && counterPlugin.tieredCount == executionCount;
+			tieredUp = this.getPerformanceValue(PerformanceKey.ACCELERATOR_TIER_UP_COUNT_INT_VALUE) != tierUpCountBefore;
+			if (!this.isAcceleratorEnabled() && 10 <= executionCount) {
+				break;
+			}
+		}
+		for (int i=0; i<3; i++) {
+			executionCount++;
+			double result = (Double)this.engine.executeScript(SCRIPT_CODE);
+			allSucceeded &= result == 22.5 + executionCount && counterPlugin.tieredCount == executionCount;
+		}
+		super.evaluateResult(allSucceeded, true, "results of tiered executions in background", SCRIPT_CODE);
+		super.evaluateResult(tieredUp, this.isAcceleratorEnabled(), "tier-up in background", SCRIPT_CODE);
+	}
+
+	private void testBatchExecutionInTiers() throws VnanoException {
+		this.setTierUpOptions(2, false);
+
+		int rowCount = 10;
+		double[] x = new double[rowCount];
+		double[] expected = new double[rowCount];
+		for (int row=0; row<rowCount; row++) {
+			x[row] = row;
+			expected[row] = row * row + 1.0;
+		}
+		Map<String, Object> columns = new LinkedHashMap<String, Object>();
+		columns.put("x", x);
+
+		String scriptCode = "x * x + 1.0;";
+		double[] result = (double[])this.engine.executeBatch(scriptCode, columns);
+		super.evaluateResult(result, expected, "batch execution in tiers", scriptCode);
+	}
+
+	private void testInvalidThreshold() {
+		Map<String, Object> optionMap = new LinkedHashMap<String, Object>(this.engine.getOptionMap());
+		optionMap.put(OptionKey.ACCELERATOR_TIER_UP_THRESHOLD, -1);
+		try {
+			this.engine.setOptionMap(optionMap);
+			super.missedExpectedError("negative tier-up threshold", "(option)");
+		} catch (VnanoException e) {
+			super.evaluateResult(e.getErrorType(), ErrorType.INVALID_OPTION_VALUE_CONTENT, "negative tier-up threshold", "(option)");
+		}
+	}
+}
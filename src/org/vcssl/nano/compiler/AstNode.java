@@ -7,13 +7,12 @@ package org.vcssl.nano.compiler;
 
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
+import org.vcssl.nano.VnanoException;
 import org.vcssl.nano.VnanoFatalException;
+import org.vcssl.nano.spec.DataType;
+import org.vcssl.nano.spec.DataTypeName;
 
 
 /**
@@ -122,8 +121,40 @@ public class AstNode implements Cloneable {
 	/** Stores the name of the script in which the corresponding code with this node is. */
 	private String fileName = null;
 
-	/** Stores attributes of this node. */
-	private Map<AttributeKey, String> attributeMap = null;
+	/** All keys of attributes, where the index is the ordinal of each key. */
+	private static final AttributeKey[] ATTRIBUTE_KEYS = AttributeKey.values();
+
+	/** The value of the typed cache of an int-type attribute, representing that the value has not been parsed yet. */
+	private static final int UNPARSED_INT_ATTRIBUTE = Integer.MIN_VALUE;
+
+	/** The cache of string representations of small int-type attribute values (array ranks and so on). */
+	private static final String[] SMALL_INT_STRINGS = new String[64];
+	static {
+		for (int i=0; i<SMALL_INT_STRINGS.length; i++) {
+			SMALL_INT_STRINGS[i] = Integer.toString(i);
+		}
+	}
+
+	/** Stores values of attributes of this node, where the index is the ordinal of the key (null for unset attributes). */
+	private String[] attributeValues = null;
+
+	/**
+	 * Stores ordinals of keys of set attributes, in the order in which they have been set
+	 * (for keeping their displaying order in the result of "dump" method).
+	 */
+	private byte[] attributeOrder = null;
+
+	/** The number of set attributes, which is the valid length of {@link AstNode#attributeOrder attributeOrder}. */
+	private int attributeCount = 0;
+
+	/** The typed cache of {@link AttributeKey#ARRAY_RANK ARRAY_RANK} attribute. */
+	private int arrayRank = UNPARSED_INT_ATTRIBUTE;
+
+	/** The typed cache of {@link AttributeKey#OPERATOR_PRECEDENCE OPERATOR_PRECEDENCE} attribute. */
+	private int operatorPrecedence = UNPARSED_INT_ATTRIBUTE;
+
+	/** The typed cache of {@link AttributeKey#DATA_TYPE DATA_TYPE} attribute (null if it has not been resolved yet). */
+	private DataType dataType = null;
 
 
 	/**
@@ -138,9 +169,8 @@ public class AstNode implements Cloneable {
 		this.childNodeList = new ArrayList<AstNode>();
 		this.lineNumber = lineNumber;
 		this.fileName = fileName;
-
-		// Why we use LikedHashMap instead of HashMap is: for keeping their displaying order in the result of "dump" method.
-		this.attributeMap = new LinkedHashMap<AttributeKey, String>();
+		this.attributeValues = new String[ATTRIBUTE_KEYS.length];
+		this.attributeOrder = new byte[ATTRIBUTE_KEYS.length];
 	}
 
 
@@ -160,7 +190,12 @@ public class AstNode implements Cloneable {
 			AstNode cloneChildNode = childNode.clone();
 			cloneNode.addChildNode(cloneChildNode);
 		}
-		cloneNode.attributeMap = new LinkedHashMap<AttributeKey, String>(this.attributeMap); // コピー
+		cloneNode.attributeValues = this.attributeValues.clone(); // コピー
+		cloneNode.attributeOrder = this.attributeOrder.clone();
+		cloneNode.attributeCount = this.attributeCount;
+		cloneNode.arrayRank = this.arrayRank;
+		cloneNode.operatorPrecedence = this.operatorPrecedence;
+		cloneNode.dataType = this.dataType;
 		return cloneNode;
 	}
 
@@ -207,10 +242,13 @@ public class AstNode implements Cloneable {
 		if (attributeValue == null) {
 			throw new VnanoFatalException("null can not be the value of an attribute");
 		}
-		if (this.attributeMap.containsKey(attributeKey)) {
-			this.attributeMap.remove(attributeKey);
-		}
-		this.attributeMap.put(attributeKey, attributeValue);
+
+		// The overwritten attribute is moved to the last in the displaying order (the order in which attributes are set).
+		this.removeAttribute(attributeKey);
+		int keyIndex = attributeKey.ordinal();
+		this.attributeValues[keyIndex] = attributeValue;
+		this.attributeOrder[this.attributeCount] = (byte)keyIndex;
+		this.attributeCount++;
 	}
 
 
@@ -221,7 +259,7 @@ public class AstNode implements Cloneable {
 	 * @return The value of the attribute.
 	 */
 	public String getAttribute(AttributeKey attributeKey) {
-		return this.attributeMap.get(attributeKey);
+		return this.attributeValues[attributeKey.ordinal()];
 	}
 
 
@@ -231,7 +269,38 @@ public class AstNode implements Cloneable {
 	 * @param attributeKey The key of the attribute to be removed.
 	 */
 	public void removeAttribute(AttributeKey attributeKey) {
-		this.attributeMap.remove(attributeKey);
+		int keyIndex = attributeKey.ordinal();
+		if (this.attributeValues[keyIndex] == null) {
+			return;
+		}
+		this.attributeValues[keyIndex] = null;
+
+		// Remove the key from the displaying order, by shifting following keys.
+		int orderIndex = 0;
+		while (this.attributeOrder[orderIndex] != keyIndex) {
+			orderIndex++;
+		}
+		System.arraycopy(this.attributeOrder, orderIndex+1, this.attributeOrder, orderIndex, this.attributeCount-orderIndex-1);
+		this.attributeCount--;
+
+		// Discard the typed cache of the removed attribute.
+		switch (attributeKey) {
+			case ARRAY_RANK : {
+				this.arrayRank = UNPARSED_INT_ATTRIBUTE;
+				break;
+			}
+			case OPERATOR_PRECEDENCE : {
+				this.operatorPrecedence = UNPARSED_INT_ATTRIBUTE;
+				break;
+			}
+			case DATA_TYPE : {
+				this.dataType = null;
+				break;
+			}
+			default : {
+				break;
+			}
+		}
 	}
 
 
@@ -243,7 +312,7 @@ public class AstNode implements Cloneable {
 	 * @return True if this node has the specified attribute, and false if don't have.
 	 */
 	public boolean hasAttribute(AttributeKey attributeKey) {
-		return this.attributeMap.containsKey(attributeKey);
+		return this.attributeValues[attributeKey.ordinal()] != null;
 	}
 
 
@@ -284,6 +353,31 @@ public class AstNode implements Cloneable {
 	}
 
 
+	/**
+	 * Replaces the child node at the specified index with the specified node.
+	 *
+	 * @param index The index of the child node to be replaced.
+	 * @param node The node to be added as a child instead of the replaced node.
+	 */
+	public void replaceChildNode(int index, AstNode node) {
+		AstNode replacedNode = this.childNodeList.set(index, node);
+		replacedNode.parentNode = null;
+		node.parentNode = this;
+		node.siblingIndex = index;
+	}
+
+
+	/**
+	 * Removes all child nodes.
+	 */
+	public void removeChildNodes() {
+		for (AstNode childNode: this.childNodeList) {
+			childNode.parentNode = null;
+		}
+		this.childNodeList.clear();
+	}
+
+
 	/**
 	 * Gets all child (children) nodes.
 	 *
@@ -294,6 +388,17 @@ public class AstNode implements Cloneable {
 	}
 
 
+	/**
+	 * Gets the child node at the specified index, without copying the list of children into an array.
+	 *
+	 * @param index The index of the child node.
+	 * @return The child node at the specified index.
+	 */
+	public AstNode getChildNode(int index) {
+		return this.childNodeList.get(index);
+	}
+
+
 	/**
 	 * Gets all child (children) nodes of the specified type.
 	 *
@@ -457,18 +562,99 @@ public class AstNode implements Cloneable {
 	 * @return The name of the data type.
 	 */
 	public String getDataTypeName() {
-		return this.attributeMap.get(AttributeKey.DATA_TYPE);
+		return this.attributeValues[AttributeKey.DATA_TYPE.ordinal()];
+	}
+
+
+	/**
+	 * Gets the data type which is set as {@link AttributeKey#DATA_TYPE DATA_TYPE} attribute,
+	 * as an element of {@link DataType DataType} enum.
+	 *
+	 * The data type is resolved from the name only once, and cached until the attribute is changed.
+	 *
+	 * @return The data type, or null if the attribute is not set or its value is not a name of any data type.
+	 */
+	public DataType getDataType() {
+		if (this.dataType == null) {
+			String dataTypeName = this.getDataTypeName();
+			if (dataTypeName == null || !DataTypeName.isDataTypeName(dataTypeName)) {
+				return null;
+			}
+			try {
+				this.dataType = DataTypeName.getDataTypeOf(dataTypeName);
+			} catch (VnanoException e) {
+				throw new VnanoFatalException(e);
+			}
+		}
+		return this.dataType;
 	}
 
 
 	/**
 	 * Gets the array-rank which is set as {@link AttributeKey#ARRAY_RANK RANK} attribute.
 	 *
+	 * The value is parsed from the string only once, and cached until the attribute is changed.
+	 *
 	 * @return The array rank.
 	 */
 	public int getArrayRank() {
-		String rankWord = this.attributeMap.get(AttributeKey.ARRAY_RANK);
-		return Integer.parseInt(rankWord);
+		if (this.arrayRank == UNPARSED_INT_ATTRIBUTE) {
+			String rankWord = this.attributeValues[AttributeKey.ARRAY_RANK.ordinal()];
+			this.arrayRank = Integer.parseInt(rankWord);
+		}
+		return this.arrayRank;
+	}
+
+
+	/**
+	 * Sets the array-rank as {@link AttributeKey#ARRAY_RANK RANK} attribute.
+	 *
+	 * @param arrayRank The array rank.
+	 */
+	public void setArrayRank(int arrayRank) {
+		this.setAttribute(AttributeKey.ARRAY_RANK, AstNode.intAttributeToString(arrayRank));
+		this.arrayRank = arrayRank;
+	}
+
+
+	/**
+	 * Gets the precedence of the operator which is set as {@link AttributeKey#OPERATOR_PRECEDENCE OPERATOR_PRECEDENCE} attribute.
+	 *
+	 * The value is parsed from the string only once, and cached until the attribute is changed.
+	 *
+	 * @return The precedence of the operator.
+	 */
+	public int getOperatorPrecedence() {
+		if (this.operatorPrecedence == UNPARSED_INT_ATTRIBUTE) {
+			String precedenceWord = this.attributeValues[AttributeKey.OPERATOR_PRECEDENCE.ordinal()];
+			this.operatorPrecedence = Integer.parseInt(precedenceWord);
+		}
+		return this.operatorPrecedence;
+	}
+
+
+	/**
+	 * Sets the precedence of the operator as {@link AttributeKey#OPERATOR_PRECEDENCE OPERATOR_PRECEDENCE} attribute.
+	 *
+	 * @param operatorPrecedence The precedence of the operator.
+	 */
+	public void setOperatorPrecedence(int operatorPrecedence) {
+		this.setAttribute(AttributeKey.OPERATOR_PRECEDENCE, AstNode.intAttributeToString(operatorPrecedence));
+		this.operatorPrecedence = operatorPrecedence;
+	}
+
+
+	/**
+	 * Converts the value of an int-type attribute to the string, without allocations for small values.
+	 *
+	 * @param value The value of the attribute.
+	 * @return The string representation of the value.
+	 */
+	private static String intAttributeToString(int value) {
+		if (0 <= value && value < SMALL_INT_STRINGS.length) {
+			return SMALL_INT_STRINGS[value];
+		}
+		return Integer.toString(value);
 	}
 
 
@@ -543,32 +729,27 @@ public class AstNode implements Cloneable {
 
 		// If children exist, go to the first child node.
 		if (this.hasChildNodes()) {
-			return this.getChildNodes()[0];
+			return this.childNodeList.get(0);
 		}
 
+		// Note that lists of siblings are accessed directly (without copying them into arrays) in the following,
+		// because the number of siblings may be very large (e.g.: children of the root node of a long script).
 		AstNode currentNode = this;
 		AstNode parent = currentNode.getParentNode();
-		AstNode[] siblings = parent.getChildNodes();
-
-		Set<AstNode.Type> closedNodeDetectionTypesSet = new HashSet<AstNode.Type>();
-		if (closedNodeDetectionTypes != null) {
-			for (AstNode.Type type: closedNodeDetectionTypes) {
-				closedNodeDetectionTypesSet.add(type);
-			}
-		}
+		List<AstNode> siblings = parent.childNodeList;
 
 		// If there are no children for this node, traverse other branches in the AST.
 		while (true) {
 
 			// Before go to the next (sibling or parent) node, add the current traversing node to the closedNodeStack,
 			// because traversing of its child nodes has finished (= the current traversing node has closed).
-			if (closedNodeStack != null && closedNodeDetectionTypesSet.contains(currentNode.getType())) {
+			if (closedNodeStack != null && AstNode.containsType(closedNodeDetectionTypes, currentNode.getType())) {
 				closedNodeStack.push(currentNode);
 			}
 
 			// If a sibling added after the current node, go to it.
-			if (currentNode.getSiblingIndex() < siblings.length-1) {
-				return siblings[currentNode.getSiblingIndex() + 1];
+			if (currentNode.getSiblingIndex() < siblings.size()-1) {
+				return siblings.get(currentNode.getSiblingIndex() + 1);
 			}
 
 			// If there is no sibling after the current node,
@@ -576,7 +757,7 @@ public class AstNode implements Cloneable {
 			if (parent.hasParentNode()) {
 				currentNode = parent;
 				parent = currentNode.getParentNode();
-				siblings = parent.getChildNodes();
+				siblings = parent.childNodeList;
 
 			// If there is no parent, the current node is the root node, so the traversal is completed.
 			// (See also: the implementation of isPreorderDftLastNode method)
@@ -587,6 +768,26 @@ public class AstNode implements Cloneable {
 	}
 
 
+	/**
+	 * Checks whether the specified type is contained in the array of types.
+	 *
+	 * @param types The array of types (may be null).
+	 * @param type The type to be checked.
+	 * @return True if the type is contained.
+	 */
+	private static boolean containsType(AstNode.Type[] types, AstNode.Type type) {
+		if (types == null) {
+			return false;
+		}
+		for (AstNode.Type element: types) {
+			if (element == type) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+
 	/**
 	 * Gets the first node in the order of the post-order depth-first traversal (DFT).
 	 *
@@ -599,7 +800,7 @@ public class AstNode implements Cloneable {
 		// Go to the first leaf node.
 		AstNode currentNode = this;
 		while (currentNode.hasChildNodes()) {
-			currentNode = currentNode.getChildNodes()[0];
+			currentNode = currentNode.childNodeList.get(0);
 		}
 		return currentNode;
 	}
@@ -620,15 +821,15 @@ public class AstNode implements Cloneable {
 		}
 
 		AstNode parent = this.getParentNode();
-		AstNode[] siblings = parent.getChildNodes();
+		List<AstNode> siblings = parent.childNodeList; // Not copied into an array, because it may be very long.
 
 		// If this node is the last child in siblings, go to the parent node.
-		if (siblings.length-1 == this.getSiblingIndex()) {
+		if (siblings.size()-1 == this.getSiblingIndex()) {
 			return parent;
 
 		// If there is a sibling node added after this node, go to its first leaf node.
 		} else {
-			return siblings[this.getSiblingIndex() + 1].getPostorderDftFirstNode();
+			return siblings.get(this.getSiblingIndex() + 1).getPostorderDftFirstNode();
 		}
 	}
 
@@ -671,12 +872,12 @@ public class AstNode implements Cloneable {
 
 		sb.append('<');
 		sb.append(this.type);
-		Set<Map.Entry<AttributeKey,String>> attibutes = this.attributeMap.entrySet();
-		for (Map.Entry<AttributeKey,String> attribute: attibutes) {
+		for (int orderIndex=0; orderIndex<this.attributeCount; orderIndex++) {
+			int keyIndex = this.attributeOrder[orderIndex];
 			sb.append(" ");
-			sb.append(attribute.getKey());
+			sb.append(ATTRIBUTE_KEYS[keyIndex]);
 			sb.append("=\"");
-			sb.append(attribute.getValue());
+			sb.append(this.attributeValues[keyIndex]);
 			sb.append("\"");
 		}
 
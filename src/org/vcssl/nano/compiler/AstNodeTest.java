@@ -5,6 +5,7 @@ import static org.junit.Assert.*;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.vcssl.nano.spec.DataType;
 
 
 public class AstNodeTest {
@@ -118,6 +119,33 @@ public class AstNodeTest {
 		assertEquals(3, childD.getSiblingIndex());
 	}
 
+	@Test
+	public void testReplaceRemoveChildNodes() {
+
+		// Prepare a parent node and its child nodes.
+		AstNode parent = new AstNode(AstNode.Type.BLOCK, 123, "Test.vnano");
+		AstNode childA = new AstNode(AstNode.Type.IF, 124, "Test.vnano");
+		AstNode childB = new AstNode(AstNode.Type.EXPRESSION, 125, "Test.vnano");
+		AstNode childC = new AstNode(AstNode.Type.BLOCK, 126, "Test.vnano");
+		parent.addChildNode(childA);
+		parent.addChildNode(childB);
+
+		// Replace the child node, and check the parent node and the sibling index of the replacing node.
+		parent.replaceChildNode(1, childC);
+		assertSame(childC, parent.getChildNode(1));
+		assertSame(parent, childC.getParentNode());
+		assertEquals(1, childC.getSiblingIndex());
+		assertFalse(childB.hasParentNode());
+
+		// Remove all child nodes, and add one of them again.
+		parent.removeChildNodes();
+		assertFalse(parent.hasChildNodes());
+		assertFalse(childA.hasParentNode());
+		parent.addChildNode(childC);
+		assertEquals(0, childC.getSiblingIndex());
+		assertSame(parent, childC.getParentNode());
+	}
+
 	@Test
 	public void testGetDepth() {
 
@@ -184,6 +212,52 @@ public class AstNodeTest {
 		assertEquals(3, node.getArrayRank());
 	}
 
+	@Test
+	public void testTypedAttributes() {
+		AstNode node = new AstNode(AstNode.Type.OPERATOR, 123, "Test.vnano");
+
+		// Values set by typed setters are readable as strings, and vice versa.
+		node.setArrayRank(2);
+		assertEquals("2", node.getAttribute(AttributeKey.ARRAY_RANK));
+		node.setAttribute(AttributeKey.ARRAY_RANK, "1");
+		assertEquals(1, node.getArrayRank());
+		node.setOperatorPrecedence(1000);
+		assertEquals("1000", node.getAttribute(AttributeKey.OPERATOR_PRECEDENCE));
+		node.setAttribute(AttributeKey.OPERATOR_PRECEDENCE, "5");
+		assertEquals(5, node.getOperatorPrecedence());
+
+		// Data types are resolved from names, including aliases.
+		assertNull(node.getDataType());
+		node.setAttribute(AttributeKey.DATA_TYPE, "double");
+		assertEquals(DataType.FLOAT64, node.getDataType());
+		node.setAttribute(AttributeKey.DATA_TYPE, "void");
+		assertEquals(DataType.VOID, node.getDataType());
+		node.removeAttribute(AttributeKey.DATA_TYPE);
+		assertNull(node.getDataType());
+		assertFalse(node.hasAttribute(AttributeKey.DATA_TYPE));
+
+		// Typed values are copied to clones.
+		AstNode cloneNode = node.clone();
+		assertEquals(1, cloneNode.getArrayRank());
+		cloneNode.setArrayRank(0);
+		assertEquals(1, node.getArrayRank());
+	}
+
+	@Test
+	public void testAttributeOrderInDump() {
+		AstNode node = new AstNode(AstNode.Type.LEAF, 123, "Test.vnano");
+		node.setAttribute(AttributeKey.LEAF_TYPE, "variableIdentifier");
+		node.setAttribute(AttributeKey.IDENTIFIER_VALUE, "x");
+		node.setArrayRank(0);
+
+		// Attributes are dumped in the order in which they have been set, and overwritten ones are moved to the last.
+		assertEquals("<LEAF LEAF_TYPE=\"variableIdentifier\" IDENTIFIER_VALUE=\"x\" ARRAY_RANK=\"0\" />", node.dump(false, "").trim());
+		node.setAttribute(AttributeKey.LEAF_TYPE, "literal");
+		assertEquals("<LEAF IDENTIFIER_VALUE=\"x\" ARRAY_RANK=\"0\" LEAF_TYPE=\"literal\" />", node.dump(false, "").trim());
+		node.removeAttribute(AttributeKey.IDENTIFIER_VALUE);
+		assertEquals("<LEAF ARRAY_RANK=\"0\" LEAF_TYPE=\"literal\" />", node.dump(false, "").trim());
+	}
+
 	@Test
 	public void testPreorderTraversal() {
 
@@ -7,12 +7,18 @@ package org.vcssl.nano.compiler;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.vcssl.nano.VnanoException;
 import org.vcssl.nano.VnanoFatalException;
 import org.vcssl.nano.interconnect.Interconnect;
+import org.vcssl.nano.interconnect.PhaseProfiler;
 import org.vcssl.nano.spec.DataTypeName;
 import org.vcssl.nano.spec.OptionKey;
 import org.vcssl.nano.spec.OptionValue;
@@ -27,10 +33,38 @@ import org.vcssl.nano.spec.OptionValue;
  */
 public class Compiler {
 
+	/**
+	 * The minimum total length (the number of chars) of scripts,
+	 * for which preprocessing, lexical analysis and parsing of scripts are performed in parallel.
+	 * Scripts shorter than it are processed serially, because the overhead of the parallelization exceeds the benefit.
+	 */
+	private static final long PARALLEL_ANALYSIS_THRESHOLD_LENGTH = 1L << 16;
+
+	/** The cache storing parsed ASTs of library scripts, or null if ASTs should not be cached. */
+	private final LibraryAstCache libraryAstCache;
+
+
 	/**
 	 * Create a new compiler.
 	 */
 	public Compiler() {
+		this.libraryAstCache = null;
+	}
+
+
+	/**
+	 * Create a new compiler reusing parsed ASTs of library scripts stored in the specified cache.
+	 *
+	 * Preprocessing, lexical analysis and parsing of library scripts are skipped when their ASTs are cached,
+	 * and ASTs of newly parsed library scripts are stored into the cache.
+	 * Semantic analysis and code generation are always performed for the whole of scripts,
+	 * because library scripts and the main script are analyzed in the same scope.
+	 * The cache is not used when the dumper is enabled, for dumping intermediate contents of all scripts.
+	 *
+	 * @param libraryAstCache The cache storing parsed ASTs of library scripts.
+	 */
+	public Compiler(LibraryAstCache libraryAstCache) {
+		this.libraryAstCache = libraryAstCache;
 	}
 
 
@@ -62,12 +96,40 @@ public class Compiler {
 		// It is useful for purposes calculating values of expressions.
 		boolean evalNumberAsFloat = (Boolean)optionMap.get(OptionKey.EVAL_INT_LITERAL_AS_FLOAT);
 
+		// Get the profiler to measure elapsed times and allocated memory of phases
+		// (it measures nothing if the performance monitor is disabled).
+		PhaseProfiler profiler = interconnect.getPhaseProfiler();
+		long phaseBeginTime;
+		long phaseBeginBytes;
+
 		// Get values of options to dump parsed/compiled contents for debugging.
 		boolean shouldDump = (Boolean)optionMap.get(OptionKey.DUMPER_ENABLED);
 		String dumpTarget = (String)optionMap.get(OptionKey.DUMPER_TARGET);
 		boolean dumpTargetIsAll = dumpTarget.equals(OptionValue.DUMPER_TARGET_ALL);
 		PrintStream dumpStream = (PrintStream)optionMap.get(OptionKey.DUMPER_STREAM);
 
+		// If the cache of ASTs of library scripts is available, parse only the main script and uncached library scripts.
+		// (Nothing is dumped in this case, so perform the semantic analysis and the code generation here simply.)
+		if (this.libraryAstCache != null && !shouldDump) {
+			AstNode parsedAstRootNode = this.parseWithLibraryAstCache(scripts, names, evalNumberAsFloat, profiler);
+
+			phaseBeginTime = profiler.getNanoTime();
+			phaseBeginBytes = profiler.getAllocatedBytes();
+			AstNode analyzedAstRootNode = new SemanticAnalyzer().analyze(parsedAstRootNode, interconnect);
+			profiler.record(PhaseProfiler.Phase.SEMANTIC_ANALYZER, phaseBeginTime, phaseBeginBytes);
+
+			phaseBeginTime = profiler.getNanoTime();
+			phaseBeginBytes = profiler.getAllocatedBytes();
+			AstNode optimizedAstRootNode = new ConstantFolder().fold(analyzedAstRootNode, interconnect);
+			profiler.record(PhaseProfiler.Phase.CONSTANT_FOLDER, phaseBeginTime, phaseBeginBytes);
+
+			phaseBeginTime = profiler.getNanoTime();
+			phaseBeginBytes = profiler.getAllocatedBytes();
+			String assemblyCode = new CodeGenerator().generate(optimizedAstRootNode);
+			profiler.record(PhaseProfiler.Phase.CODE_GENERATOR, phaseBeginTime, phaseBeginBytes);
+			return assemblyCode;
+		}
+
 
 		// Dump inputted scripts.
 		if (shouldDump && (dumpTargetIsAll || dumpTarget.equals(OptionValue.DUMPER_TARGET_INPUTTED_CODE)) ) {
@@ -75,33 +137,27 @@ public class Compiler {
 		}
 
 
-		// By preprocessor, remove comments, and replace line feeds to LF (0x0A).
-		String[] preprocessedScripts = new String[scriptLength];
+		// By preprocessor, remove comments, and replace line feeds to LF (0x0A),
+		// and by LexicalAnalyzer, split the script into tokens.
+		// (Scripts are independent of each other in these steps, so multiple large scripts are processed in parallel.)
+		// If EVAL_INT_LITERALS_AS_FLOAT option is enabled, data-types of all integer literals in the main script,
+		// passed as an argument of "executeScript(String script)" method of VnanoEngine, are replaced to "float".
+		int[] scriptIndices = new int[scriptLength];
 		for (int scriptIndex=0; scriptIndex<scriptLength; scriptIndex++) {
-			preprocessedScripts[scriptIndex] = new Preprocessor().preprocess(scripts[scriptIndex]);
+			scriptIndices[scriptIndex] = scriptIndex;
 		}
+		ScriptAnalysisTask analysisTask = new ScriptAnalysisTask(scripts, names, scriptIndices, evalNumberAsFloat, false, profiler);
+		this.analyzeScripts(analysisTask);
+		String[] preprocessedScripts = analysisTask.preprocessedScripts;
+		Token[][] tokens = analysisTask.tokens; // [ index of script ][ index of token ]
 
 		// Dump preprocessed scripts.
 		if (shouldDump && (dumpTargetIsAll || dumpTarget.equals(OptionValue.DUMPER_TARGET_PREPROCESSED_CODE)) ) {
 			this.dumpPreprocessedCode(preprocessedScripts, names, dumpTargetIsAll, dumpStream);
 		}
 
-
-		// By LexicalAnalyzer, split the script into tokens.
-		LexicalAnalyzer lexer = new LexicalAnalyzer();
-		Token[][] tokens = new Token[scriptLength][]; // [ index of script ][ index of token ]
-		for (int scriptIndex=0; scriptIndex<scriptLength; scriptIndex++) {
-			tokens[scriptIndex] = lexer.analyze(preprocessedScripts[scriptIndex], names[scriptIndex]);
-		}
-
-		// If EVAL_INT_LITERALS_AS_FLOAT option is enabled, replaces data-types of all integer literals to "float".
-		if (evalNumberAsFloat) {
-			tokens[scriptLength-1] = this.replaceDataTypeOfLiteralTokens(
-				tokens[scriptLength-1], DataTypeName.DEFAULT_INT, DataTypeName.DEFAULT_FLOAT
-			);
-			// where tokens[scriptLength-1] are tokens of the (main) script
-			// passes as an argument of "executeScript(String script)" method of VnanoEngine.
-		}
+		// Throw the exception if any error has been detected by LexicalAnalyzer.
+		analysisTask.throwFirstException();
 
 		// Marge tokens of all scripts.
 		// Why we haven't marge them before here is: to display correct cause information when any error is detected.
@@ -123,7 +179,10 @@ public class Compiler {
 
 
 		// By Parser, construct an AST from tokens.
+		phaseBeginTime = profiler.getNanoTime();
+		phaseBeginBytes = profiler.getAllocatedBytes();
 		AstNode parsedAstRootNode = new Parser().parse(unifiedTokens);
+		profiler.record(PhaseProfiler.Phase.PARSER, phaseBeginTime, phaseBeginBytes);
 
 		// Dump the parsed AST.
 		if (shouldDump && (dumpTargetIsAll || dumpTarget.equals(OptionValue.DUMPER_TARGET_PARSED_AST)) ) {
@@ -132,7 +191,10 @@ public class Compiler {
 
 
 		// By SemanticAnalyzer, analyze/supplement data-types and so on of nodes in the AST.
+		phaseBeginTime = profiler.getNanoTime();
+		phaseBeginBytes = profiler.getAllocatedBytes();
 		AstNode analyzedAstRootNode = new SemanticAnalyzer().analyze(parsedAstRootNode, interconnect);
+		profiler.record(PhaseProfiler.Phase.SEMANTIC_ANALYZER, phaseBeginTime, phaseBeginBytes);
 
 		// Dump the analyzed AST.
 		if (shouldDump && (dumpTargetIsAll || dumpTarget.equals(OptionValue.DUMPER_TARGET_ANALYZED_AST)) ) {
@@ -140,8 +202,23 @@ public class Compiler {
 		}
 
 
+		// By ConstantFolder, evaluate constant expressions and remove branches never executed in the AST.
+		phaseBeginTime = profiler.getNanoTime();
+		phaseBeginBytes = profiler.getAllocatedBytes();
+		AstNode optimizedAstRootNode = new ConstantFolder().fold(analyzedAstRootNode, interconnect);
+		profiler.record(PhaseProfiler.Phase.CONSTANT_FOLDER, phaseBeginTime, phaseBeginBytes);
+
+		// Dump the optimized AST.
+		if (shouldDump && (dumpTargetIsAll || dumpTarget.equals(OptionValue.DUMPER_TARGET_OPTIMIZED_AST)) ) {
+			this.dumpOptimizedAst(optimizedAstRootNode, dumpTargetIsAll, dumpStream);
+		}
+
+
 		// By CodeGenerator, generate the intermediate assembly code (VRIL assembly code) processable on the VM.
-		String assemblyCode = new CodeGenerator().generate(analyzedAstRootNode);
+		phaseBeginTime = profiler.getNanoTime();
+		phaseBeginBytes = profiler.getAllocatedBytes();
+		String assemblyCode = new CodeGenerator().generate(optimizedAstRootNode);
+		profiler.record(PhaseProfiler.Phase.CODE_GENERATOR, phaseBeginTime, phaseBeginBytes);
 
 		// Dump the VRIL assembly code.
 		if (shouldDump && (dumpTargetIsAll || dumpTarget.equals(OptionValue.DUMPER_TARGET_ASSEMBLY_CODE)) ) {
@@ -152,6 +229,266 @@ public class Compiler {
 	}
 
 
+	/**
+	 * Parses scripts to an AST, by reusing cached ASTs of library scripts.
+	 *
+	 * Each script is parsed independently, and top-level nodes of ASTs of all scripts are linked
+	 * to the root node of the returned AST in the same order as scripts.
+	 * The last script is regarded as the main script, which is always parsed and never cached.
+	 *
+	 * @param scripts Code of scripts to be parsed.
+	 * @param names Names of scripts.
+	 * @param evalNumberAsFloat The value of EVAL_INT_LITERAL_AS_FLOAT option.
+	 * @param profiler The profiler to measure phases of processing scripts.
+	 * @return The root node of the parsed AST of all scripts.
+	 * @throws VnanoException Thrown when a syntax error will be detected for the content of any script.
+	 */
+	private AstNode parseWithLibraryAstCache(String[] scripts, String[] names, boolean evalNumberAsFloat, PhaseProfiler profiler)
+			throws VnanoException {
+
+		int scriptLength = scripts.length;
+		int mainScriptIndex = scriptLength - 1;
+		AstNode[] scriptAstRootNodes = new AstNode[scriptLength];
+		Set<String> libraryScriptNames = new HashSet<String>();
+
+		// Reuse cached ASTs of library scripts of which contents have not been modified,
+		// and list indices of other scripts to be parsed.
+		int[] uncachedScriptIndices = new int[scriptLength];
+		int uncachedScriptLength = 0;
+		for (int scriptIndex=0; scriptIndex<scriptLength; scriptIndex++) {
+			boolean isLibrary = scriptIndex != mainScriptIndex;
+			if (isLibrary) {
+				libraryScriptNames.add(names[scriptIndex]);
+				scriptAstRootNodes[scriptIndex] = this.libraryAstCache.get(names[scriptIndex], scripts[scriptIndex]);
+				if (scriptAstRootNodes[scriptIndex] != null) {
+					continue;
+				}
+			}
+			uncachedScriptIndices[uncachedScriptLength] = scriptIndex;
+			uncachedScriptLength++;
+		}
+		uncachedScriptIndices = Arrays.copyOf(uncachedScriptIndices, uncachedScriptLength);
+
+		// Preprocess, tokenize and parse uncached scripts (in parallel if they are large).
+		// EVAL_INT_LITERAL_AS_FLOAT option is applied only to the main script, as in the normal compilation.
+		ScriptAnalysisTask analysisTask = new ScriptAnalysisTask(scripts, names, uncachedScriptIndices, evalNumberAsFloat, true, profiler);
+		this.analyzeScripts(analysisTask);
+		analysisTask.throwFirstException();
+
+		for (int scriptIndex: uncachedScriptIndices) {
+			scriptAstRootNodes[scriptIndex] = analysisTask.astRootNodes[scriptIndex];
+
+			// Cache the clone of the parsed AST, because the returned AST will be modified by the semantic analysis.
+			if (scriptIndex != mainScriptIndex) {
+				this.libraryAstCache.put(names[scriptIndex], scripts[scriptIndex], scriptAstRootNodes[scriptIndex].clone());
+			}
+		}
+
+		// Discard cached ASTs of library scripts which have been unregistered.
+		this.libraryAstCache.retain(libraryScriptNames);
+
+		// Link top-level nodes of all scripts to a root node.
+		// The file name and the line number of the root node are taken from the first token of all scripts, as in Parser.
+		AstNode rootNode = null;
+		for (AstNode scriptAstRootNode: scriptAstRootNodes) {
+			if (rootNode == null && scriptAstRootNode.getFileName() != null) {
+				rootNode = new AstNode(AstNode.Type.ROOT, scriptAstRootNode.getLineNumber(), scriptAstRootNode.getFileName());
+			}
+		}
+		if (rootNode == null) {
+			rootNode = new AstNode(AstNode.Type.ROOT, -1, null);
+		}
+		for (AstNode scriptAstRootNode: scriptAstRootNodes) {
+			rootNode.addChildNodes(scriptAstRootNode.getChildNodes());
+		}
+		rootNode.updateDepths();
+		return rootNode;
+	}
+
+
+	/**
+	 * Performs preprocessing, lexical analysis, and parsing (if required) of scripts.
+	 *
+	 * Scripts are processed in parallel on the common pool of the fork-join framework,
+	 * when multiple scripts are processed and the total length of them exceeds
+	 * {@link Compiler#PARALLEL_ANALYSIS_THRESHOLD_LENGTH PARALLEL_ANALYSIS_THRESHOLD_LENGTH}.
+	 * Otherwise, they are processed serially on the current thread.
+	 * Errors detected for scripts are not thrown by this method,
+	 * so call {@link ScriptAnalysisTask#throwFirstException()} after calling this method.
+	 *
+	 * @param analysisTask The task to process scripts, which stores results of processing.
+	 */
+	private void analyzeScripts(ScriptAnalysisTask analysisTask) {
+		int[] scriptIndices = analysisTask.scriptIndices;
+		long totalScriptLength = 0L;
+		for (int scriptIndex: scriptIndices) {
+			totalScriptLength += analysisTask.scripts[scriptIndex].length();
+		}
+
+		if (2 <= scriptIndices.length && PARALLEL_ANALYSIS_THRESHOLD_LENGTH <= totalScriptLength
+				&& 2 <= Runtime.getRuntime().availableProcessors()) {
+			ForkJoinPool.commonPool().invoke(analysisTask);
+		} else {
+			for (int scriptIndex: scriptIndices) {
+				analysisTask.analyze(scriptIndex);
+			}
+		}
+	}
+
+
+	/**
+	 * The task of the fork-join framework, to perform preprocessing, lexical analysis,
+	 * and parsing (if required) of scripts in parallel.
+	 *
+	 * The range of scripts is divided into halves recursively, and each script is processed independently.
+	 * Results and detected errors are stored into arrays shared by divided tasks,
+	 * of which indices are the same as indices of scripts.
+	 */
+	private final class ScriptAnalysisTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		/** Code of all scripts. */
+		private final String[] scripts;
+
+		/** Names of all scripts. */
+		private final String[] names;
+
+		/** Indices of scripts to be processed. */
+		private final int[] scriptIndices;
+
+		/** The value of EVAL_INT_LITERAL_AS_FLOAT option. */
+		private final boolean evalNumberAsFloat;
+
+		/** The profiler to measure phases of processing scripts. */
+		private final PhaseProfiler profiler;
+
+		/** Preprocessed scripts. */
+		private final String[] preprocessedScripts;
+
+		/** Tokens of scripts. */
+		private final Token[][] tokens;
+
+		/** Root nodes of parsed ASTs of scripts, or null if scripts should not be parsed. */
+		private final AstNode[] astRootNodes;
+
+		/** Exceptions thrown for scripts. */
+		private final VnanoException[] exceptions;
+
+		/** The index in "scriptIndices" of the first script to be processed by this task. */
+		private final int begin;
+
+		/** The index in "scriptIndices" next to the last script to be processed by this task. */
+		private final int end;
+
+		/**
+		 * Creates a new task to process the specified scripts.
+		 *
+		 * @param scripts Code of all scripts.
+		 * @param names Names of all scripts.
+		 * @param scriptIndices Indices of scripts to be processed.
+		 * @param evalNumberAsFloat The value of EVAL_INT_LITERAL_AS_FLOAT option.
+		 * @param parses Specify true for parsing scripts after lexical analysis.
+		 * @param profiler The profiler to measure phases of processing scripts.
+		 */
+		private ScriptAnalysisTask(String[] scripts, String[] names, int[] scriptIndices, boolean evalNumberAsFloat, boolean parses,
+				PhaseProfiler profiler) {
+			int scriptLength = scripts.length;
+			this.scripts = scripts;
+			this.names = names;
+			this.scriptIndices = scriptIndices;
+			this.evalNumberAsFloat = evalNumberAsFloat;
+			this.profiler = profiler;
+			this.preprocessedScripts = new String[scriptLength];
+			this.tokens = new Token[scriptLength][];
+			this.astRootNodes = parses ? new AstNode[scriptLength] : null;
+			this.exceptions = new VnanoException[scriptLength];
+			this.begin = 0;
+			this.end = scriptIndices.length;
+		}
+
+		/**
+		 * Creates a new task to process a part of scripts processed by the parent task.
+		 *
+		 * @param parentTask The parent task.
+		 * @param begin The index in "scriptIndices" of the first script to be processed.
+		 * @param end The index in "scriptIndices" next to the last script to be processed.
+		 */
+		private ScriptAnalysisTask(ScriptAnalysisTask parentTask, int begin, int end) {
+			this.scripts = parentTask.scripts;
+			this.names = parentTask.names;
+			this.scriptIndices = parentTask.scriptIndices;
+			this.evalNumberAsFloat = parentTask.evalNumberAsFloat;
+			this.profiler = parentTask.profiler;
+			this.preprocessedScripts = parentTask.preprocessedScripts;
+			this.tokens = parentTask.tokens;
+			this.astRootNodes = parentTask.astRootNodes;
+			this.exceptions = parentTask.exceptions;
+			this.begin = begin;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.end - this.begin == 1) {
+				this.analyze(this.scriptIndices[this.begin]);
+				return;
+			}
+			int middle = (this.begin + this.end) >>> 1;
+			invokeAll(new ScriptAnalysisTask(this, this.begin, middle), new ScriptAnalysisTask(this, middle, this.end));
+		}
+
+		/**
+		 * Performs preprocessing, lexical analysis, and parsing (if required) of the specified script.
+		 *
+		 * @param scriptIndex The index of the script.
+		 */
+		private void analyze(int scriptIndex) {
+			try {
+				long phaseBeginTime = this.profiler.getNanoTime();
+				long phaseBeginBytes = this.profiler.getAllocatedBytes();
+				this.preprocessedScripts[scriptIndex] = new Preprocessor().preprocess(this.scripts[scriptIndex]);
+				this.profiler.record(PhaseProfiler.Phase.PREPROCESSOR, phaseBeginTime, phaseBeginBytes);
+
+				phaseBeginTime = this.profiler.getNanoTime();
+				phaseBeginBytes = this.profiler.getAllocatedBytes();
+				Token[] scriptTokens = new LexicalAnalyzer().analyze(this.preprocessedScripts[scriptIndex], this.names[scriptIndex]);
+				this.profiler.record(PhaseProfiler.Phase.LEXICAL_ANALYZER, phaseBeginTime, phaseBeginBytes);
+
+				// EVAL_INT_LITERAL_AS_FLOAT option is applied only to the main script (the last script).
+				if (this.evalNumberAsFloat && scriptIndex == this.scripts.length - 1) {
+					scriptTokens = replaceDataTypeOfLiteralTokens(scriptTokens, DataTypeName.DEFAULT_INT, DataTypeName.DEFAULT_FLOAT);
+				}
+				this.tokens[scriptIndex] = scriptTokens;
+
+				if (this.astRootNodes != null) {
+					phaseBeginTime = this.profiler.getNanoTime();
+					phaseBeginBytes = this.profiler.getAllocatedBytes();
+					this.astRootNodes[scriptIndex] = new Parser().parse(scriptTokens);
+					this.profiler.record(PhaseProfiler.Phase.PARSER, phaseBeginTime, phaseBeginBytes);
+				}
+			} catch (VnanoException e) {
+				this.exceptions[scriptIndex] = e;
+			}
+		}
+
+		/**
+		 * Throws the exception thrown for the first script, if errors have been detected for any scripts.
+		 *
+		 * The thrown exception is the same as the one thrown when scripts are processed serially.
+		 *
+		 * @throws VnanoException Thrown if errors have been detected for any scripts.
+		 */
+		private void throwFirstException() throws VnanoException {
+			for (int scriptIndex: this.scriptIndices) {
+				if (this.exceptions[scriptIndex] != null) {
+					throw this.exceptions[scriptIndex];
+				}
+			}
+		}
+	}
+
+
 	private void dumpInputtedCode(
 			String[] inputtedCode, String[] scriptNames, boolean withHeader, PrintStream dumpStream) {
 
@@ -245,6 +582,24 @@ public class Compiler {
 			dumpStream.println("================================================================================");
 			dumpStream.println("= Analyzed AST");
 			dumpStream.println("= - Output of: org.vcssl.nano.compiler.SemanticAnalyzer");
+			dumpStream.println("= - Input  of: org.vcssl.nano.compiler.ConstantFolder");
+			dumpStream.println("================================================================================");
+		}
+
+		dumpStream.print(astRootNode.dump());
+
+		if (withHeader) {
+			dumpStream.println("");
+		}
+	}
+
+
+	private void dumpOptimizedAst(AstNode astRootNode, boolean withHeader, PrintStream dumpStream) {
+
+		if (withHeader) {
+			dumpStream.println("================================================================================");
+			dumpStream.println("= Optimized AST");
+			dumpStream.println("= - Output of: org.vcssl.nano.compiler.ConstantFolder");
 			dumpStream.println("= - Input  of: org.vcssl.nano.compiler.CodeGenerator");
 			dumpStream.println("================================================================================");
 		}
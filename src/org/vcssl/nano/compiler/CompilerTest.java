@@ -0,0 +1,80 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.compiler;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.interconnect.Interconnect;
+
+public class CompilerTest {
+
+	private static final int LIBRARY_LENGTH = 8;
+	private static final int FUNCTION_LENGTH_PER_LIBRARY = 200;
+	private static final String MAIN_SCRIPT_NAME = "Main.vnano";
+
+	@Test
+	public void testCompileLargeScripts() throws VnanoException {
+		Interconnect interconnect = new Interconnect();
+		String[] scripts = this.createLibraryScripts("lib0_f0(2.0) + lib7_f199(1.0);");
+		String[] names = this.createScriptNames();
+
+		// Large scripts are processed in parallel on multi-core processors,
+		// but the compiled code must be the same as the code of the serial processing, with/without the AST cache.
+		String code = new Compiler().compile(scripts, names, interconnect);
+		assertEquals(code, new Compiler(new LibraryAstCache()).compile(scripts, names, interconnect));
+		assertTrue(code.contains("_lib3_f100(float)"));
+	}
+
+	@Test
+	public void testSyntaxErrorsInLargeScripts() {
+		Interconnect interconnect = new Interconnect();
+		String[] scripts = this.createLibraryScripts("lib0_f0(2.0);");
+		String[] names = this.createScriptNames();
+
+		// The error of the first script must be reported, even if errors are detected in multiple scripts in parallel.
+		scripts[6] = scripts[6] + "float x = ;";
+		scripts[2] = scripts[2] + "float y = ;";
+		try {
+			new Compiler(new LibraryAstCache()).compile(scripts, names, interconnect);
+			fail("Expected exception has not been thrown");
+		} catch (VnanoException e) {
+			assertEquals("Library2.vnano", e.getFileName());
+		}
+		try {
+			new Compiler().compile(scripts, names, interconnect);
+			fail("Expected exception has not been thrown");
+		} catch (VnanoException e) {
+			assertEquals("Library2.vnano", e.getFileName());
+		}
+	}
+
+	private String[] createLibraryScripts(String mainScript) {
+		String[] scripts = new String[LIBRARY_LENGTH + 1];
+		for (int libraryIndex=0; libraryIndex<LIBRARY_LENGTH; libraryIndex++) {
+			StringBuilder builder = new StringBuilder();
+			for (int functionIndex=0; functionIndex<FUNCTION_LENGTH_PER_LIBRARY; functionIndex++) {
+				builder.append("// The function " + functionIndex + " of the library " + libraryIndex + ". \n");
+				builder.append("float lib" + libraryIndex + "_f" + functionIndex + "(float x) { \n");
+				builder.append("    return x * " + functionIndex + ".5 + x / 2.0; \n");
+				builder.append("} \n");
+			}
+			scripts[libraryIndex] = builder.toString();
+		}
+		scripts[LIBRARY_LENGTH] = mainScript;
+		return scripts;
+	}
+
+	private String[] createScriptNames() {
+		String[] names = new String[LIBRARY_LENGTH + 1];
+		for (int libraryIndex=0; libraryIndex<LIBRARY_LENGTH; libraryIndex++) {
+			names[libraryIndex] = "Library" + libraryIndex + ".vnano";
+		}
+		names[LIBRARY_LENGTH] = MAIN_SCRIPT_NAME;
+		return names;
+	}
+}
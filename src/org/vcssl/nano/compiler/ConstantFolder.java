@@ -0,0 +1,842 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.compiler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.interconnect.AbstractFunction;
+import org.vcssl.nano.interconnect.FunctionTable;
+import org.vcssl.nano.interconnect.Interconnect;
+import org.vcssl.nano.spec.DataType;
+import org.vcssl.nano.spec.DataTypeName;
+import org.vcssl.nano.spec.IdentifierSyntax;
+import org.vcssl.nano.spec.LiteralSyntax;
+import org.vcssl.nano.spec.ScriptWord;
+import org.vcssl.nano.vm.memory.DataContainer;
+
+
+/**
+ * The class performing the constant folding and the constant propagation to the semantic-analyzed AST,
+ * in the compiler of the Vnano.
+ *
+ * This class evaluates operators of which all operands are constants (literals and "const" variables
+ * initialized by constant values) at compile-time, and replaces them with literals of the evaluated values.
+ * Calls of pure external functions (see {@link org.vcssl.connect.PureFunction PureFunction}) with constant arguments
+ * are also evaluated at compile-time, by invoking the functions.
+ * Also, this class removes branches of "if" statements which are never executed, when their conditions are constants.
+ * As a result, instructions and immediate values for computing constants are not generated by {@link CodeGenerator}.
+ *
+ * Only scalar int, float, and bool values are folded.
+ * Operations which fail at runtime (for example, integer division by zero) are not folded,
+ * for reporting the error at runtime as same as the case that they are not folded.
+ */
+public class ConstantFolder {
+
+	/** The table of external functions, for evaluating calls of pure functions at compile-time. */
+	private FunctionTable externalFunctionTable = null;
+
+
+	/**
+	 * Create a new constant folder.
+	 */
+	public ConstantFolder() {
+	}
+
+
+	/**
+	 * Folds constants in the semantic-analyzed AST, and returns the new AST of which constants are folded.
+	 *
+	 * @param inputAst The root node of the semantic-analyzed AST.
+	 * @param interconnect The interconnect to which external functions are connected.
+	 * @return The root node of the constant-folded AST.
+	 */
+	public AstNode fold(AstNode inputAst, Interconnect interconnect) {
+		this.externalFunctionTable = interconnect.getExternalFunctionTable();
+		AstNode outputAst = inputAst.clone();
+		if (!outputAst.hasChildNodes()) {
+			return outputAst;
+		}
+
+		// The map storing literal nodes of values of "const" variables, with identifiers in assembly code as keys.
+		Map<String, AstNode> constantVariableValueMap = new HashMap<String, AstNode>();
+
+		this.foldStatements(outputAst, constantVariableValueMap);
+		outputAst.updateDepths();
+		return outputAst;
+	}
+
+
+	/**
+	 * Folds constants in statements in the specified block (or the root node),
+	 * and removes branches of "if" statements which are never executed.
+	 *
+	 * @param blockNode The node of the block (or the root node).
+	 * @param constantVariableValueMap The map storing literal nodes of values of "const" variables.
+	 */
+	private void foldStatements(AstNode blockNode, Map<String, AstNode> constantVariableValueMap) {
+
+		AstNode[] statementNodes = blockNode.getChildNodes();
+		int statementLength = statementNodes.length;
+		List<AstNode> foldedStatementList = new ArrayList<AstNode>(statementLength);
+		boolean statementsRemoved = false;
+
+		int statementIndex = 0;
+		while (statementIndex < statementLength) {
+			AstNode statementNode = statementNodes[statementIndex];
+
+			// Blocks: fold statements in them recursively.
+			if (statementNode.getType() == AstNode.Type.BLOCK) {
+				this.foldStatements(statementNode, constantVariableValueMap);
+				foldedStatementList.add(statementNode);
+				statementIndex++;
+				continue;
+			}
+
+			// Other statements: fold expressions in them.
+			this.foldExpressions(statementNode, constantVariableValueMap);
+
+			// Register values of "const" variables initialized by constant values, for propagating them.
+			if (statementNode.getType() == AstNode.Type.VARIABLE) {
+				this.registerConstantVariableValue(statementNode, constantVariableValueMap);
+			}
+
+			// "if" statements of which conditions are constants:
+			// remove the branch which is never executed, and also remove the "if" statement itself.
+			// (Note that "{...}" is always required after "if(...)" and "else", except for "else if".)
+			Boolean condition = statementNode.getType() == AstNode.Type.IF ? this.getConstantCondition(statementNode) : null;
+			if (condition != null) {
+				statementsRemoved = true;
+				int thenIndex = statementIndex + 1;
+				int elseIndex = thenIndex + 1;
+				boolean hasElse = elseIndex < statementLength && statementNodes[elseIndex].getType() == AstNode.Type.ELSE;
+
+				// If the condition is true, leave only the block to be executed, and skip the "else" statement.
+				if (condition) {
+					AstNode thenBlockNode = statementNodes[thenIndex];
+					this.foldStatements(thenBlockNode, constantVariableValueMap);
+					foldedStatementList.add(thenBlockNode);
+					statementIndex = hasElse ? this.getEndIndexOfStatement(statementNodes, elseIndex + 1) : elseIndex;
+
+				// If the condition is false and the "else" statement exists,
+				// skip to the statement after "else", which is a block or an "if" statement.
+				} else if (hasElse) {
+					statementIndex = elseIndex + 1;
+
+				// If the condition is false and the "else" statement does not exist, nothing will be executed.
+				// In this case, if this "if" statement follows an "else", the "else" is also unnecessary.
+				} else {
+					int lastIndex = foldedStatementList.size() - 1;
+					if (0 <= lastIndex && foldedStatementList.get(lastIndex).getType() == AstNode.Type.ELSE) {
+						foldedStatementList.remove(lastIndex);
+					}
+					statementIndex = elseIndex;
+				}
+				continue;
+			}
+
+			foldedStatementList.add(statementNode);
+			statementIndex++;
+		}
+
+		if (statementsRemoved) {
+			blockNode.removeChildNodes();
+			blockNode.addChildNodes(foldedStatementList.toArray(new AstNode[0]));
+		}
+	}
+
+
+	/**
+	 * Gets the index next to the end of the statement beginning at the specified index,
+	 * where the statement is a block, or an "if" statement (with "else" statements, if exist).
+	 *
+	 * @param statementNodes The array storing all statement nodes in the block.
+	 * @param beginIndex The index of the beginning of the statement.
+	 * @return The index next to the end of the statement.
+	 */
+	private int getEndIndexOfStatement(AstNode[] statementNodes, int beginIndex) {
+		if (statementNodes[beginIndex].getType() != AstNode.Type.IF) {
+			return beginIndex + 1;
+		}
+		int elseIndex = beginIndex + 2;
+		if (elseIndex < statementNodes.length && statementNodes[elseIndex].getType() == AstNode.Type.ELSE) {
+			return this.getEndIndexOfStatement(statementNodes, elseIndex + 1);
+		}
+		return elseIndex;
+	}
+
+
+	/**
+	 * Gets the value of the condition of the "if" statement if it is a constant, or returns null if it isn't.
+	 *
+	 * @param ifStatementNode The node of the "if" statement.
+	 * @return The value of the condition, or null if it isn't a constant.
+	 */
+	private Boolean getConstantCondition(AstNode ifStatementNode) {
+		AstNode conditionRootNode = ifStatementNode.getChildNode(0).getChildNode(0);
+		Object value = this.getLiteralValue(conditionRootNode);
+		return value instanceof Boolean ? (Boolean)value : null;
+	}
+
+
+	/**
+	 * Registers the value of the variable declared by the specified statement,
+	 * if the variable is a scalar "const" variable initialized by a literal.
+	 *
+	 * @param variableNode The node of the variable declaration statement.
+	 * @param constantVariableValueMap The map storing literal nodes of values of "const" variables.
+	 */
+	private void registerConstantVariableValue(AstNode variableNode, Map<String, AstNode> constantVariableValueMap) {
+
+		if (!variableNode.hasModifier(ScriptWord.CONST_MODIFIER)
+				|| variableNode.getArrayRank() != 0
+				|| !variableNode.hasAttribute(AttributeKey.IDENTIFIER_SERIAL_NUMBER)
+				|| !variableNode.hasChildNodes(AstNode.Type.EXPRESSION)) {
+			return;
+		}
+
+		// The initialization expression is "variable = value", so get the node of the value.
+		AstNode assignmentNode = variableNode.getChildNodes(AstNode.Type.EXPRESSION)[0].getChildNode(0);
+		AstNode valueNode = assignmentNode.getChildNode(1);
+		Object value = this.getLiteralValue(valueNode);
+		if (value == null) {
+			return;
+		}
+
+		// Convert the value to the data type of the variable (int to float, if the variable is a float variable).
+		DataType variableDataType = variableNode.getDataType();
+		if (variableDataType == DataType.FLOAT64 && value instanceof Long) {
+			value = (double)(Long)value;
+		}
+		if (variableDataType != this.getDataTypeOfValue(value)) {
+			return;
+		}
+
+		String identifier = IdentifierSyntax.getAssemblyIdentifierOf(variableNode);
+		constantVariableValueMap.put(identifier, this.createLiteralNode(value, variableNode));
+	}
+
+
+	/**
+	 * Folds constants in expressions in the specified statement.
+	 *
+	 * @param statementNode The node of the statement.
+	 * @param constantVariableValueMap The map storing literal nodes of values of "const" variables.
+	 */
+	private void foldExpressions(AstNode statementNode, Map<String, AstNode> constantVariableValueMap) {
+
+		// Traverse nodes by the post-order DFT, so operands are folded before the operator is folded.
+		// When the current node is replaced, the traversal continues from the replacing node,
+		// which has the same location (parent and sibling index) in the AST as the replaced node.
+		AstNode currentNode = statementNode.getPostorderDftFirstNode();
+		while (currentNode != statementNode) {
+			AstNode foldedNode = null;
+
+			if (currentNode.getType() == AstNode.Type.LEAF) {
+				foldedNode = this.propagateConstantVariableValue(currentNode, constantVariableValueMap);
+			} else if (currentNode.getType() == AstNode.Type.OPERATOR) {
+				foldedNode = this.foldOperator(currentNode);
+				if (foldedNode == null) {
+					this.convertLiteralOperands(currentNode);
+				}
+			}
+
+			if (foldedNode != null) {
+				currentNode.getParentNode().replaceChildNode(currentNode.getSiblingIndex(), foldedNode);
+				currentNode = foldedNode;
+			}
+			currentNode = currentNode.getPostorderDftNextNode();
+		}
+	}
+
+
+	/**
+	 * Creates the literal node of the value of the "const" variable referred by the specified identifier node,
+	 * if the value can be propagated to there.
+	 *
+	 * The value is propagated only to operands of operators evaluating values (arithmetic operators and so on),
+	 * right-hand sides of assignments, indices of subscripts, and arguments of pure external functions,
+	 * because a variable passed as an argument of other function calls may be referred as a reference.
+	 *
+	 * @param leafNode The leaf node, which may be an identifier of a "const" variable.
+	 * @param constantVariableValueMap The map storing literal nodes of values of "const" variables.
+	 * @return The created literal node, or null if the value can not be propagated.
+	 */
+	private AstNode propagateConstantVariableValue(AstNode leafNode, Map<String, AstNode> constantVariableValueMap) {
+		if (constantVariableValueMap.isEmpty()
+				|| leafNode.getAttribute(AttributeKey.LEAF_TYPE) != AttributeValue.VARIABLE_IDENTIFIER
+				|| !leafNode.hasAttribute(AttributeKey.IDENTIFIER_SERIAL_NUMBER)
+				|| leafNode.getArrayRank() != 0) {
+			return null;
+		}
+		AstNode valueNode = constantVariableValueMap.get(IdentifierSyntax.getAssemblyIdentifierOf(leafNode));
+		if (valueNode == null) {
+			return null;
+		}
+
+		AstNode parentNode = leafNode.getParentNode();
+		if (parentNode.getType() == AstNode.Type.OPERATOR) {
+			String executor = parentNode.getAttribute(AttributeKey.OPERATOR_EXECUTOR);
+			switch (executor) {
+				case AttributeValue.ARITHMETIC :
+				case AttributeValue.COMPARISON :
+				case AttributeValue.LOGICAL :
+				case AttributeValue.CAST : {
+					break;
+				}
+				case AttributeValue.ASSIGNMENT :
+				case AttributeValue.ARITHMETIC_COMPOUND_ASSIGNMENT :
+				case AttributeValue.SUBSCRIPT : {
+					if (leafNode.getSiblingIndex() == 0) {
+						return null;
+					}
+					break;
+				}
+				case AttributeValue.CALL : {
+					// The operand [0] is the identifier of the function, and arguments begin from the operand [1].
+					AbstractFunction function = this.getPureCalleeFunction(parentNode);
+					int argumentIndex = leafNode.getSiblingIndex() - 1;
+					if (function == null || argumentIndex < 0 || function.getParameterReferencenesses()[argumentIndex]) {
+						return null;
+					}
+					break;
+				}
+				default : {
+					return null;
+				}
+			}
+		} else if (parentNode.getType() != AstNode.Type.EXPRESSION) {
+			return null;
+		}
+
+		AstNode propagatedNode = new AstNode(AstNode.Type.LEAF, leafNode.getLineNumber(), leafNode.getFileName());
+		propagatedNode.setAttribute(AttributeKey.LEAF_TYPE, AttributeValue.LITERAL);
+		propagatedNode.setAttribute(AttributeKey.LITERAL_VALUE, valueNode.getAttribute(AttributeKey.LITERAL_VALUE));
+		propagatedNode.setAttribute(AttributeKey.DATA_TYPE, valueNode.getAttribute(AttributeKey.DATA_TYPE));
+		propagatedNode.setArrayRank(0);
+		propagatedNode.addModifier(ScriptWord.CONST_MODIFIER);
+		return propagatedNode;
+	}
+
+
+	/**
+	 * Evaluates the specified operator at compile-time and creates the node of the result,
+	 * if operands of the operator are constants.
+	 *
+	 * @param operatorNode The node of the operator.
+	 * @return The node of the result (a literal node, or an operand node of a short-circuit operator),
+	 *         or null if the operator can not be evaluated at compile-time.
+	 */
+	private AstNode foldOperator(AstNode operatorNode) {
+		if (operatorNode.getArrayRank() != 0) {
+			return null;
+		}
+
+		String executor = operatorNode.getAttribute(AttributeKey.OPERATOR_EXECUTOR);
+		String syntax = operatorNode.getAttribute(AttributeKey.OPERATOR_SYNTAX);
+		String symbol = operatorNode.getAttribute(AttributeKey.OPERATOR_SYMBOL);
+		AstNode[] operandNodes = operatorNode.getChildNodes();
+
+		// Short-circuit operators: they can be folded when the left operand is a constant,
+		// because the right operand is evaluated only when it determines the result.
+		if (executor == AttributeValue.LOGICAL && syntax == AttributeValue.BINARY) {
+			Object leftValue = this.getLiteralValue(operandNodes[0]);
+			if (!(leftValue instanceof Boolean)) {
+				return null;
+			}
+			boolean isAnd = symbol.equals(ScriptWord.SHORT_CIRCUIT_AND);
+			boolean left = (Boolean)leftValue;
+
+			// "false && x" is false, and "true || x" is true.
+			if (isAnd != left) {
+				return this.createLiteralNode(left, operatorNode);
+			}
+
+			// "true && x" and "false || x" are x.
+			return operandNodes[1];
+		}
+
+		// Calls of pure external functions: they can be evaluated by invoking the functions.
+		if (executor == AttributeValue.CALL) {
+			return this.foldPureFunctionCall(operatorNode);
+		}
+
+		// Other operators can be folded only when all operands are constants.
+		Object[] operandValues = new Object[operandNodes.length];
+		for (int operandIndex=0; operandIndex<operandNodes.length; operandIndex++) {
+			operandValues[operandIndex] = this.getLiteralValue(operandNodes[operandIndex]);
+			if (operandValues[operandIndex] == null) {
+				return null;
+			}
+		}
+
+		Object result = null;
+		switch (executor) {
+			case AttributeValue.ARITHMETIC : {
+				DataType executionDataType = this.getExecutionDataType(operatorNode);
+				if (syntax == AttributeValue.BINARY) {
+					result = this.foldArithmeticOperation(symbol, executionDataType, operandValues[0], operandValues[1]);
+				} else if (syntax == AttributeValue.PREFIX) {
+					result = this.foldSignOperation(symbol, executionDataType, operandValues[0]);
+				}
+				break;
+			}
+			case AttributeValue.COMPARISON : {
+				DataType executionDataType = this.getExecutionDataType(operatorNode);
+				result = this.foldComparisonOperation(symbol, executionDataType, operandValues[0], operandValues[1]);
+				break;
+			}
+			case AttributeValue.LOGICAL : {
+				if (symbol.equals(ScriptWord.NOT) && operandValues[0] instanceof Boolean) {
+					result = !(Boolean)operandValues[0];
+				}
+				break;
+			}
+			case AttributeValue.CAST : {
+				result = this.convertValue(operandValues[0], operatorNode.getDataType());
+				break;
+			}
+			default : {
+				break;
+			}
+		}
+
+		if (result == null || !this.isRepresentableAsLiteral(result)
+				|| this.getDataTypeOfValue(result) != operatorNode.getDataType()) {
+			return null;
+		}
+		return this.createLiteralNode(result, operatorNode);
+	}
+
+
+	/**
+	 * Gets the callee function of the specified function-call operator, if it is a pure external function
+	 * of which parameters are fixed scalars.
+	 *
+	 * @param callOperatorNode The node of the function-call operator.
+	 * @return The callee function, or null if it is not such function.
+	 */
+	private AbstractFunction getPureCalleeFunction(AstNode callOperatorNode) {
+		String scope = callOperatorNode.getAttribute(AttributeKey.SCOPE);
+		String signature = callOperatorNode.getAttribute(AttributeKey.CALLEE_SIGNATURE);
+		if (!AttributeValue.GLOBAL.equals(scope) || signature == null
+				|| !this.externalFunctionTable.hasFunctionWithSignature(signature)) {
+			return null;
+		}
+		AbstractFunction function = this.externalFunctionTable.getFunctionBySignature(signature);
+		if (!function.isPure() || function.isParameterCountArbitrary() || function.hasVariadicParameters()) {
+			return null;
+		}
+		int[] parameterArrayRanks = function.getParameterArrayRanks();
+		if (parameterArrayRanks.length != callOperatorNode.getChildNodes().length - 1) {
+			return null;
+		}
+		for (int parameterArrayRank: parameterArrayRanks) {
+			if (parameterArrayRank != 0) {
+				return null;
+			}
+		}
+		return function;
+	}
+
+
+	/**
+	 * Evaluates the call of a pure external function at compile-time by invoking the function,
+	 * if all arguments are constants of the same data types as parameters.
+	 *
+	 * @param callOperatorNode The node of the function-call operator.
+	 * @return The literal node of the return value, or null if the call can not be evaluated at compile-time.
+	 */
+	private AstNode foldPureFunctionCall(AstNode callOperatorNode) {
+		AbstractFunction function = this.getPureCalleeFunction(callOperatorNode);
+		if (function == null || !function.isCompileTimeEvaluatable()) {
+			return null;
+		}
+
+		// The operand [0] is the identifier of the function, and arguments begin from the operand [1].
+		AstNode[] operandNodes = callOperatorNode.getChildNodes();
+		String[] parameterDataTypeNames = function.getParameterDataTypeNames();
+		int argumentLength = parameterDataTypeNames.length;
+		DataContainer<?>[] argumentContainers = new DataContainer<?>[argumentLength];
+		for (int argumentIndex=0; argumentIndex<argumentLength; argumentIndex++) {
+			AstNode argumentNode = operandNodes[argumentIndex + 1];
+			Object argumentValue = this.getLiteralValue(argumentNode);
+			if (argumentValue == null || !parameterDataTypeNames[argumentIndex].equals(argumentNode.getDataTypeName())) {
+				return null;
+			}
+			argumentContainers[argumentIndex] = this.createScalarDataContainer(argumentValue);
+		}
+
+		// If the function failed, leave the call as it is, for reporting the error at runtime.
+		// (Unchecked exceptions are also caught here, because the plug-in has not been initialized for execution yet.)
+		DataContainer<Object> returnContainer = new DataContainer<Object>();
+		try {
+			function.invoke(returnContainer, argumentContainers);
+		} catch (VnanoException | RuntimeException e) {
+			return null;
+		}
+
+		Object result = null;
+		Object returnData = returnContainer.getArrayData();
+		if (returnContainer.getArrayRank() == DataContainer.ARRAY_RANK_OF_SCALAR) {
+			int offset = returnContainer.getArrayOffset();
+			if (returnData instanceof long[]) {
+				result = ((long[])returnData)[offset];
+			} else if (returnData instanceof double[]) {
+				result = ((double[])returnData)[offset];
+			} else if (returnData instanceof boolean[]) {
+				result = ((boolean[])returnData)[offset];
+			}
+		}
+		if (result == null || !this.isRepresentableAsLiteral(result)
+				|| this.getDataTypeOfValue(result) != callOperatorNode.getDataType()) {
+			return null;
+		}
+		return this.createLiteralNode(result, callOperatorNode);
+	}
+
+
+	/**
+	 * Creates a data container storing the specified scalar value, for passing it to a function.
+	 *
+	 * @param value The value (Long, Double, or Boolean).
+	 * @return The created data container.
+	 */
+	private DataContainer<?> createScalarDataContainer(Object value) {
+		DataContainer<Object> container = new DataContainer<Object>();
+		if (value instanceof Long) {
+			container.setInt64ScalarData((Long)value);
+		} else if (value instanceof Double) {
+			container.setFloat64ScalarData((Double)value);
+		} else {
+			container.setBoolScalarData((Boolean)value);
+		}
+		return container;
+	}
+
+
+	/**
+	 * Replaces int literal operands of the operator performed in float type with float literals,
+	 * for removing implicit cast operations of them at runtime.
+	 *
+	 * @param operatorNode The node of the operator which could not be folded.
+	 */
+	private void convertLiteralOperands(AstNode operatorNode) {
+		if (operatorNode.getArrayRank() != 0) {
+			return;
+		}
+
+		// Operands of arithmetic and comparison operators are casted to the data type of the operation,
+		// and right-hand sides of assignments are casted to the data type of the left-hand side.
+		String executor = operatorNode.getAttribute(AttributeKey.OPERATOR_EXECUTOR);
+		String syntax = operatorNode.getAttribute(AttributeKey.OPERATOR_SYNTAX);
+		DataType castedDataType = null;
+		int beginOperandIndex = 0;
+		if (executor == AttributeValue.ARITHMETIC || executor == AttributeValue.COMPARISON) {
+			castedDataType = this.getExecutionDataType(operatorNode);
+		} else if ( (executor == AttributeValue.ASSIGNMENT || executor == AttributeValue.ARITHMETIC_COMPOUND_ASSIGNMENT)
+				&& syntax == AttributeValue.BINARY) {
+			castedDataType = operatorNode.getChildNode(0).getDataType();
+			beginOperandIndex = 1;
+		}
+		if (castedDataType != DataType.FLOAT64) {
+			return;
+		}
+
+		int operandLength = operatorNode.getChildNodes().length;
+		for (int operandIndex=beginOperandIndex; operandIndex<operandLength; operandIndex++) {
+			AstNode operandNode = operatorNode.getChildNode(operandIndex);
+			Object value = this.getLiteralValue(operandNode);
+			if (value instanceof Long) {
+				operatorNode.replaceChildNode(operandIndex, this.createLiteralNode((double)(Long)value, operandNode));
+			}
+		}
+	}
+
+
+	/**
+	 * Evaluates an arithmetic operation at compile-time.
+	 *
+	 * @param symbol The symbol of the operator.
+	 * @param executionDataType The data type in which the operation is performed.
+	 * @param leftOperand The value of the left operand.
+	 * @param rightOperand The value of the right operand.
+	 * @return The result of the operation, or null if it can not be evaluated at compile-time.
+	 */
+	private Object foldArithmeticOperation(String symbol, DataType executionDataType, Object leftOperand, Object rightOperand) {
+		Object leftValue = this.convertValue(leftOperand, executionDataType);
+		Object rightValue = this.convertValue(rightOperand, executionDataType);
+
+		if (leftValue instanceof Long && rightValue instanceof Long) {
+			long left = (Long)leftValue;
+			long right = (Long)rightValue;
+			switch (symbol) {
+				case ScriptWord.PLUS_OR_ADDITION : return left + right;
+				case ScriptWord.MINUS_OR_SUBTRACTION : return left - right;
+				case ScriptWord.MULTIPLICATION : return left * right;
+
+				// Division by zero is not folded, for reporting the error at runtime.
+				case ScriptWord.DIVISION : return right == 0L ? null : left / right;
+				case ScriptWord.REMAINDER : return right == 0L ? null : left % right;
+				default : return null;
+			}
+		}
+		if (leftValue instanceof Double && rightValue instanceof Double) {
+			double left = (Double)leftValue;
+			double right = (Double)rightValue;
+			switch (symbol) {
+				case ScriptWord.PLUS_OR_ADDITION : return left + right;
+				case ScriptWord.MINUS_OR_SUBTRACTION : return left - right;
+				case ScriptWord.MULTIPLICATION : return left * right;
+				case ScriptWord.DIVISION : return left / right;
+				case ScriptWord.REMAINDER : return left % right;
+				default : return null;
+			}
+		}
+		return null;
+	}
+
+
+	/**
+	 * Evaluates a sign operation ("+" or "-" as a prefix operator) at compile-time.
+	 *
+	 * @param symbol The symbol of the operator.
+	 * @param executionDataType The data type in which the operation is performed.
+	 * @param operand The value of the operand.
+	 * @return The result of the operation, or null if it can not be evaluated at compile-time.
+	 */
+	private Object foldSignOperation(String symbol, DataType executionDataType, Object operand) {
+		Object value = this.convertValue(operand, executionDataType);
+		if (symbol.equals(ScriptWord.PLUS_OR_ADDITION)) {
+			return value;
+		} else if (!symbol.equals(ScriptWord.MINUS_OR_SUBTRACTION)) {
+			return null;
+		}
+		if (value instanceof Long) {
+			return -(Long)value;
+		} else if (value instanceof Double) {
+			return -(Double)value;
+		}
+		return null;
+	}
+
+
+	/**
+	 * Evaluates a comparison operation at compile-time.
+	 *
+	 * @param symbol The symbol of the operator.
+	 * @param executionDataType The data type in which the operation is performed.
+	 * @param leftOperand The value of the left operand.
+	 * @param rightOperand The value of the right operand.
+	 * @return The result of the operation, or null if it can not be evaluated at compile-time.
+	 */
+	private Object foldComparisonOperation(String symbol, DataType executionDataType, Object leftOperand, Object rightOperand) {
+		Object leftValue = this.convertValue(leftOperand, executionDataType);
+		Object rightValue = this.convertValue(rightOperand, executionDataType);
+
+		if (leftValue instanceof Boolean && rightValue instanceof Boolean) {
+			switch (symbol) {
+				case ScriptWord.EQUAL : return leftValue.equals(rightValue);
+				case ScriptWord.NOT_EQUAL : return !leftValue.equals(rightValue);
+				default : return null;
+			}
+		}
+
+		int comparison = 0;
+		if (leftValue instanceof Long && rightValue instanceof Long) {
+			comparison = Long.compare((Long)leftValue, (Long)rightValue);
+		} else if (leftValue instanceof Double && rightValue instanceof Double) {
+			double left = (Double)leftValue;
+			double right = (Double)rightValue;
+
+			// Use the operators for primitive types, not Double.compare, for the consistency with the runtime.
+			switch (symbol) {
+				case ScriptWord.EQUAL : return left == right;
+				case ScriptWord.NOT_EQUAL : return left != right;
+				case ScriptWord.GREATER_THAN : return left > right;
+				case ScriptWord.GREATER_EQUAL : return left >= right;
+				case ScriptWord.LESS_THAN : return left < right;
+				case ScriptWord.LESS_EQUAL : return left <= right;
+				default : return null;
+			}
+		} else {
+			return null;
+		}
+
+		switch (symbol) {
+			case ScriptWord.EQUAL : return comparison == 0;
+			case ScriptWord.NOT_EQUAL : return comparison != 0;
+			case ScriptWord.GREATER_THAN : return comparison > 0;
+			case ScriptWord.GREATER_EQUAL : return comparison >= 0;
+			case ScriptWord.LESS_THAN : return comparison < 0;
+			case ScriptWord.LESS_EQUAL : return comparison <= 0;
+			default : return null;
+		}
+	}
+
+
+	/**
+	 * Converts the value to the specified data type, in the same way as the cast at runtime.
+	 *
+	 * @param value The value to be converted.
+	 * @param dataType The data type to which the value is converted.
+	 * @return The converted value, or null if it is not supported.
+	 */
+	private Object convertValue(Object value, DataType dataType) {
+		if (dataType == null) {
+			return null;
+		}
+		switch (dataType) {
+			case INT64 : {
+				if (value instanceof Long) {
+					return value;
+				}
+				return value instanceof Double ? (Object)(long)(double)(Double)value : null;
+			}
+			case FLOAT64 : {
+				if (value instanceof Double) {
+					return value;
+				}
+				return value instanceof Long ? (Object)(double)(long)(Long)value : null;
+			}
+			case BOOL : {
+				return value instanceof Boolean ? value : null;
+			}
+			default : {
+				return null;
+			}
+		}
+	}
+
+
+	/**
+	 * Gets the data type of the value of the specified type of Java.
+	 *
+	 * @param value The value.
+	 * @return The data type of the value, or null if it is not supported.
+	 */
+	private DataType getDataTypeOfValue(Object value) {
+		if (value instanceof Long) {
+			return DataType.INT64;
+		} else if (value instanceof Double) {
+			return DataType.FLOAT64;
+		} else if (value instanceof Boolean) {
+			return DataType.BOOL;
+		} else {
+			return null;
+		}
+	}
+
+
+	/**
+	 * Gets the data type in which the operation of the specified operator is performed.
+	 *
+	 * @param operatorNode The node of the operator.
+	 * @return The data type in which the operation is performed, or null if it is not supported.
+	 */
+	private DataType getExecutionDataType(AstNode operatorNode) {
+		String executionDataTypeName = operatorNode.getAttribute(AttributeKey.OPERATOR_EXECUTION_DATA_TYPE);
+		if (executionDataTypeName == null || !DataTypeName.isDataTypeName(executionDataTypeName)) {
+			return null;
+		}
+		try {
+			return DataTypeName.getDataTypeOf(executionDataTypeName);
+		} catch (VnanoException e) {
+			return null;
+		}
+	}
+
+
+	/**
+	 * Checks whether the value can be written as a literal in the AST (and in the VRIL code).
+	 *
+	 * @param value The value to be checked.
+	 * @return Returns true if the value can be written as a literal.
+	 */
+	private boolean isRepresentableAsLiteral(Object value) {
+
+		// Infinity and NaN can not be written as literals.
+		if (value instanceof Double) {
+			double doubleValue = (Double)value;
+			return !Double.isInfinite(doubleValue) && !Double.isNaN(doubleValue);
+		}
+		return true;
+	}
+
+
+	/**
+	 * Gets the value of the specified node if it is a scalar literal of int, float, or bool type.
+	 *
+	 * @param node The node.
+	 * @return The value (Long, Double, or Boolean), or null if the node is not such literal.
+	 */
+	private Object getLiteralValue(AstNode node) {
+		if (node.getType() != AstNode.Type.LEAF
+				|| node.getAttribute(AttributeKey.LEAF_TYPE) != AttributeValue.LITERAL
+				|| node.getArrayRank() != 0) {
+			return null;
+		}
+		String literal = node.getAttribute(AttributeKey.LITERAL_VALUE);
+		DataType dataType = node.getDataType();
+		if (dataType == null) {
+			return null;
+		}
+		try {
+			switch (dataType) {
+				case INT64 : {
+					if (literal.startsWith(LiteralSyntax.INT_LITERAL_HEX_PREFIX)) {
+						return Long.parseLong(literal.substring(LiteralSyntax.INT_LITERAL_HEX_PREFIX.length()), 16);
+					} else if (literal.startsWith(LiteralSyntax.INT_LITERAL_OCT_PREFIX)) {
+						return Long.parseLong(literal.substring(LiteralSyntax.INT_LITERAL_OCT_PREFIX.length()), 8);
+					} else if (literal.startsWith(LiteralSyntax.INT_LITERAL_BIN_PREFIX)) {
+						return Long.parseLong(literal.substring(LiteralSyntax.INT_LITERAL_BIN_PREFIX.length()), 2);
+					} else {
+						return Long.parseLong(literal);
+					}
+				}
+				case FLOAT64 : {
+					return Double.parseDouble(literal);
+				}
+				case BOOL : {
+					if (literal.equals(LiteralSyntax.TRUE)) {
+						return Boolean.TRUE;
+					} else if (literal.equals(LiteralSyntax.FALSE)) {
+						return Boolean.FALSE;
+					}
+					return null;
+				}
+				default : {
+					return null;
+				}
+			}
+
+		// Literals which can not be parsed here are left as they are, and will be reported as errors later if they are invalid.
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+
+	/**
+	 * Creates a literal node of the specified value.
+	 *
+	 * @param value The value of the literal (Long, Double, or Boolean).
+	 * @param locationNode The node of which the line number and the file name are set to the created node.
+	 * @return The created literal node.
+	 */
+	private AstNode createLiteralNode(Object value, AstNode locationNode) {
+		AstNode literalNode = new AstNode(AstNode.Type.LEAF, locationNode.getLineNumber(), locationNode.getFileName());
+		literalNode.setAttribute(AttributeKey.LEAF_TYPE, AttributeValue.LITERAL);
+		literalNode.setAttribute(AttributeKey.LITERAL_VALUE, value.toString());
+		literalNode.setAttribute(AttributeKey.DATA_TYPE, DataTypeName.getDataTypeNameOf(this.getDataTypeOfValue(value)));
+		literalNode.setArrayRank(0);
+		literalNode.addModifier(ScriptWord.CONST_MODIFIER);
+		return literalNode;
+	}
+}
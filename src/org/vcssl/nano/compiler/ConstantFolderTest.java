@@ -0,0 +1,167 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.compiler;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.vcssl.connect.PureFunction;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.interconnect.Interconnect;
+
+public class ConstantFolderTest {
+
+	private static final String SCRIPT_NAME = "Test.vnano";
+
+	@Test
+	public void testFoldArithmeticOperations() throws VnanoException {
+		AstNode rootNode = this.fold("int a = 100 * 1000 + 2; int b = -(7 % 4) / 2; float c = 1.5 * 2 - 0.5;");
+		this.checkLiteral(this.getInitializerNode(rootNode, 0), "100002", "int");
+		this.checkLiteral(this.getInitializerNode(rootNode, 1), "-1", "int");
+		this.checkLiteral(this.getInitializerNode(rootNode, 2), "2.5", "float");
+	}
+
+	@Test
+	public void testFoldCastsAndComparisons() throws VnanoException {
+		AstNode rootNode = this.fold("int a = (int)(2.7) + 1; bool b = !(1 < 2) || 2.0 == 2; bool c = 3 >= 4;");
+		this.checkLiteral(this.getInitializerNode(rootNode, 0), "3", "int");
+		this.checkLiteral(this.getInitializerNode(rootNode, 1), "true", "bool");
+		this.checkLiteral(this.getInitializerNode(rootNode, 2), "false", "bool");
+	}
+
+	@Test
+	public void testOperationsNotFolded() throws VnanoException {
+
+		// Integer division by zero must be reported at runtime.
+		AstNode rootNode = this.fold("int a = 1 / 0; int b = 1 % 0; int x = 1; int c = x * 2;");
+		assertEquals(AstNode.Type.OPERATOR, this.getInitializerNode(rootNode, 0).getType());
+		assertEquals(AstNode.Type.OPERATOR, this.getInitializerNode(rootNode, 1).getType());
+		assertEquals(AstNode.Type.OPERATOR, this.getInitializerNode(rootNode, 3).getType());
+
+		// Infinity can not be written as a literal.
+		rootNode = this.fold("float a = 1.0 / 0.0;");
+		assertEquals(AstNode.Type.OPERATOR, this.getInitializerNode(rootNode, 0).getType());
+	}
+
+	@Test
+	public void testPropagateConstantVariables() throws VnanoException {
+		AstNode rootNode = this.fold("const int N = 10 * 10; const float K = 2; int x = 1; float a = N * K + x; x = N;");
+
+		// The int literal is converted to the float literal, for the float variable.
+		this.checkLiteral(this.getInitializerNode(rootNode, 1), "2.0", "float");
+
+		// "N * K" is folded, but "... + x" is not folded because x is not a "const" variable.
+		AstNode additionNode = this.getInitializerNode(rootNode, 3);
+		assertEquals(AstNode.Type.OPERATOR, additionNode.getType());
+		this.checkLiteral(additionNode.getChildNode(0), "200.0", "float");
+
+		// The value is propagated to the right-hand side of the assignment.
+		AstNode assignmentNode = rootNode.getChildNode(4).getChildNode(0);
+		this.checkLiteral(assignmentNode.getChildNode(1), "100", "int");
+		assertEquals(AttributeValue.VARIABLE_IDENTIFIER, assignmentNode.getChildNode(0).getAttribute(AttributeKey.LEAF_TYPE));
+	}
+
+	@Test
+	public void testShortCircuitOperators() throws VnanoException {
+		AstNode rootNode = this.fold("bool x = true; bool a = false && x; bool b = true || x; bool c = true && x; bool d = false || x;");
+		this.checkLiteral(this.getInitializerNode(rootNode, 1), "false", "bool");
+		this.checkLiteral(this.getInitializerNode(rootNode, 2), "true", "bool");
+		assertEquals("x", this.getInitializerNode(rootNode, 3).getAttribute(AttributeKey.IDENTIFIER_VALUE));
+		assertEquals("x", this.getInitializerNode(rootNode, 4).getAttribute(AttributeKey.IDENTIFIER_VALUE));
+	}
+
+	@Test
+	public void testRemoveBranchesOfConstantIfStatements() throws VnanoException {
+
+		// The true condition: only the block to be executed remains.
+		AstNode rootNode = this.fold("int x = 0; if (1 < 2) { x = 1; } else if (x == 0) { x = 2; } else { x = 3; }");
+		assertEquals(2, rootNode.getChildNodes().length);
+		assertEquals(AstNode.Type.BLOCK, rootNode.getChildNode(1).getType());
+		this.checkLiteral(rootNode.getChildNode(1).getChildNode(0).getChildNode(0).getChildNode(1), "1", "int");
+
+		// The false condition: the "else if" statement remains.
+		rootNode = this.fold("const bool DEBUG = false; int x = 0; if (DEBUG) { x = 1; } else if (x == 0) { x = 2; }");
+		assertEquals(4, rootNode.getChildNodes().length);
+		assertEquals(AstNode.Type.IF, rootNode.getChildNode(2).getType());
+		assertEquals(AstNode.Type.BLOCK, rootNode.getChildNode(3).getType());
+
+		// The false condition of "else if" without "else": the "else" of the outer "if" is also removed.
+		rootNode = this.fold("int x = 0; if (x == 0) { x = 1; } else if (false) { x = 2; }");
+		assertEquals(3, rootNode.getChildNodes().length);
+		assertEquals(AstNode.Type.IF, rootNode.getChildNode(1).getType());
+		assertEquals(AstNode.Type.BLOCK, rootNode.getChildNode(2).getType());
+	}
+
+	@Test
+	public void testGeneratedCode() throws VnanoException {
+		AstNode rootNode = this.fold("const int N = 100 * 1000; float f = 0.5; f = f * 2 + N;");
+		String code = new CodeGenerator().generate(rootNode);
+
+		// Neither instructions computing constants nor implicit casts of literals are generated.
+		assertFalse(code.contains("MUL\tint"));
+		assertFalse(code.contains("CAST"));
+		assertTrue(code.contains("~float:100000.0"));
+	}
+
+	@Test
+	public void testFoldPureFunctionCalls() throws VnanoException {
+		Interconnect interconnect = new Interconnect();
+		interconnect.connectPlugin("TestPlugin", new TestPlugin());
+		AstNode rootNode = this.fold(
+			"const float K = 2.0; float x = 1.0; float a = twice(K) + 1.0; float b = twice(x); float c = random(K); float d = twice(twice(0.5));",
+			interconnect
+		);
+
+		// The call of the pure function with the constant argument is evaluated, and the result is folded.
+		this.checkLiteral(this.getInitializerNode(rootNode, 2), "5.0", "float");
+		this.checkLiteral(this.getInitializerNode(rootNode, 5), "2.0", "float");
+
+		// Calls with non-constant arguments, and calls of impure functions, are not evaluated.
+		assertEquals(AstNode.Type.OPERATOR, this.getInitializerNode(rootNode, 3).getType());
+		AstNode impureCallNode = this.getInitializerNode(rootNode, 4);
+		assertEquals(AstNode.Type.OPERATOR, impureCallNode.getType());
+
+		// The value of the "const" variable is not propagated to the argument of the impure function.
+		assertEquals(AttributeValue.VARIABLE_IDENTIFIER, impureCallNode.getChildNode(1).getAttribute(AttributeKey.LEAF_TYPE));
+	}
+
+	public class TestPlugin {
+		@PureFunction
+		public double twice(double x) {
+			return x * 2.0;
+		}
+		public double random(double x) {
+			return Math.random() * x;
+		}
+	}
+
+	private AstNode fold(String script) throws VnanoException {
+		return this.fold(script, new Interconnect());
+	}
+
+	private AstNode fold(String script, Interconnect interconnect) throws VnanoException {
+		String preprocessedScript = new Preprocessor().preprocess(script);
+		Token[] tokens = new LexicalAnalyzer().analyze(preprocessedScript, SCRIPT_NAME);
+		AstNode parsedAstRootNode = new Parser().parse(tokens);
+		AstNode analyzedAstRootNode = new SemanticAnalyzer().analyze(parsedAstRootNode, interconnect);
+		return new ConstantFolder().fold(analyzedAstRootNode, interconnect);
+	}
+
+	// Gets the node of the initial value of the variable declared by the specified statement.
+	private AstNode getInitializerNode(AstNode rootNode, int statementIndex) {
+		AstNode variableNode = rootNode.getChildNode(statementIndex);
+		assertEquals(AstNode.Type.VARIABLE, variableNode.getType());
+		return variableNode.getChildNodes(AstNode.Type.EXPRESSION)[0].getChildNode(0).getChildNode(1);
+	}
+
+	private void checkLiteral(AstNode node, String expectedValue, String expectedDataTypeName) {
+		assertEquals(AstNode.Type.LEAF, node.getType());
+		assertEquals(AttributeValue.LITERAL, node.getAttribute(AttributeKey.LEAF_TYPE));
+		assertEquals(expectedValue, node.getAttribute(AttributeKey.LITERAL_VALUE));
+		assertEquals(expectedDataTypeName, node.getAttribute(AttributeKey.DATA_TYPE));
+		assertEquals(0, node.getArrayRank());
+	}
+}
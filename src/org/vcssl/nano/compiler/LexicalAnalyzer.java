@@ -10,6 +10,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.VnanoFatalException;
 import org.vcssl.nano.spec.DataTypeName;
 import org.vcssl.nano.spec.LiteralSyntax;
 import org.vcssl.nano.spec.OperatorPrecedence;
@@ -25,6 +26,77 @@ import org.vcssl.nano.spec.ScriptWord;
  */
 public class LexicalAnalyzer {
 
+	/** The class of chars which can be parts of word tokens. */
+	private static final byte CHAR_CLASS_WORD = 0;
+
+	/** The class of chars of numbers, which are beginnings of numeric literals when they are at heads of word tokens. */
+	private static final byte CHAR_CLASS_DIGIT = 1;
+
+	/** The class of chars of prefixes of exponent parts of float literals ("e" and "E"), which are also parts of word tokens. */
+	private static final byte CHAR_CLASS_EXPONENT_PREFIX = 2;
+
+	/** The class of chars of white spaces and tabs, which are skipped. */
+	private static final byte CHAR_CLASS_SPACE = 3;
+
+	/** The class of the line feed char, which is skipped with incrementing the line number. */
+	private static final byte CHAR_CLASS_LINE_FEED = 4;
+
+	/** The class of chars which terminate word tokens but are not skipped (CR and full-width spaces). */
+	private static final byte CHAR_CLASS_UNSKIPPED_SEPARATOR = 5;
+
+	/** The full-width space char, which is a token separator out of the range of {@link #CHAR_CLASS_TABLE}. */
+	private static final char FULL_WIDTH_SPACE = '\u3000';
+
+	/** The table to get the class of an ASCII char, where the index is the code of the char. */
+	private static final byte[] CHAR_CLASS_TABLE = new byte[128];
+
+	/** The root node of the trie of all symbols defined in {@link org.vcssl.nano.spec.ScriptWord#SYMBOL_SET}. */
+	private static final SymbolTrieNode SYMBOL_TRIE_ROOT = new SymbolTrieNode();
+
+	static {
+		for (char c='0'; c<='9'; c++) {
+			CHAR_CLASS_TABLE[c] = CHAR_CLASS_DIGIT;
+		}
+		for (String exponentPrefix: LiteralSyntax.FLOAT_LITERAL_EXPONENT_PREFIX.split("\\|")) {
+			CHAR_CLASS_TABLE[ exponentPrefix.charAt(0) ] = CHAR_CLASS_EXPONENT_PREFIX;
+		}
+		CHAR_CLASS_TABLE[' '] = CHAR_CLASS_SPACE;
+		CHAR_CLASS_TABLE['\t'] = CHAR_CLASS_SPACE;
+		CHAR_CLASS_TABLE['\n'] = CHAR_CLASS_LINE_FEED;
+		CHAR_CLASS_TABLE['\r'] = CHAR_CLASS_UNSKIPPED_SEPARATOR;
+
+		for (String symbol: ScriptWord.SYMBOL_SET) {
+			SymbolTrieNode node = SYMBOL_TRIE_ROOT;
+			for (char c: symbol.toCharArray()) {
+				if (SymbolTrieNode.CHILD_CAPACITY <= c) {
+					throw new VnanoFatalException("Non-ASCII symbol is not supported: " + symbol);
+				}
+				if (node.childNodes[c] == null) {
+					node.childNodes[c] = new SymbolTrieNode();
+				}
+				node = node.childNodes[c];
+			}
+			node.symbol = symbol;
+		}
+	}
+
+
+	/**
+	 * The class of a node of the trie of symbols, used for matching symbols without creating candidate strings.
+	 */
+	private static final class SymbolTrieNode {
+
+		/** The capacity of child nodes (symbols consist of ASCII chars). */
+		private static final int CHILD_CAPACITY = 128;
+
+		/** Child nodes, where the index is the code of the next char. */
+		private final SymbolTrieNode[] childNodes = new SymbolTrieNode[CHILD_CAPACITY];
+
+		/** The symbol ending at this node, or null if no symbol ends at this node. */
+		private String symbol = null;
+	}
+
+
 	/**
 	 * Create a new lexical analyzer.
 	 */
@@ -67,119 +139,87 @@ public class LexicalAnalyzer {
 	/**
 	 * Splits code of the script into tokens.
 	 *
+	 * This method scans characters only once, by classifying each character with {@link #CHAR_CLASS_TABLE}
+	 * and by matching symbols with the trie of symbols ({@link #SYMBOL_TRIE_ROOT}),
+	 * so no objects are allocated for each character (only contents of word tokens and tokens are allocated).
+	 *
 	 * @param script The script to be processed.
 	 * @param fileName The filename of the script to be processed.
 	 * @return Tokens.
 	 */
 	private Token[] tokenize(String script, String fileName) {
-
-		// The current implementation assumes the maximum character length of symbols (of operators and so on) is 3,
-		// where symbols are defined in ScriptWord.symbolSet.
-		// The above restriction is for reducing cost of looking-ahead chars.
-
 		ArrayList<Token> tokenList = new ArrayList<Token>();
 		char[] chars = script.toCharArray();
 		int length = chars.length;
 		int pointer = 0;
 		int lineNumber = 1;
 
-		// The buffer for constructing the content of a word token.
-		// (Chars will be pushed to it while the end of a token has not been detected.)
-		StringBuilder wordTokenBuilder = new StringBuilder();
-		String singleCharSymbol = null;
-		String doubleCharSymbol = null;
-		String tripleCharSymbol = null;
+		// The index of the beginning char of the word token currently read, or -1 if no word token is being read.
+		// (Chars of a word token are always contiguous, because any symbol or separator terminates the word token.)
+		int wordBegin = -1;
 		boolean isReadingNumericLiteral = false;
 
 		while(pointer < length) {
-
-			// Prepare candidate of a 1-char symbol token.
-			singleCharSymbol = Character.toString(chars[pointer]);
-
-			// Prepare candidate of a 2-char symbol token.
-			if (pointer<length-1) {
-				doubleCharSymbol = new String(new char[] {chars[pointer], chars[pointer+1]} );
-			} else {
-				doubleCharSymbol = null;
-			}
-
-			// Prepare candidate of a 3-char symbol token.
-			if (pointer<length-2) {
-				tripleCharSymbol = new String(new char[] {chars[pointer], chars[pointer+1], chars[pointer+2]} );
-			} else {
-				tripleCharSymbol = null;
-			}
+			char currentChar = chars[pointer];
+			byte charClass = currentChar < CHAR_CLASS_TABLE.length ? CHAR_CLASS_TABLE[currentChar]
+					: currentChar == FULL_WIDTH_SPACE ? CHAR_CLASS_UNSKIPPED_SEPARATOR : CHAR_CLASS_WORD;
 
 			// Symbol "+" or "-" in the exponent part of a numeric literal should not be handled as a symbol token.
-			if (0<pointer && isReadingNumericLiteral) {
-				if (Character.toString(chars[pointer-1]).matches(LiteralSyntax.FLOAT_LITERAL_EXPONENT_PREFIX)) {
-					singleCharSymbol = null;
+			// (Only 1-char symbols are disabled in the exponent part, as in the rule defined by SYMBOL_SET.)
+			boolean singleCharSymbolDisabled = isReadingNumericLiteral && 0 < pointer
+					&& chars[pointer-1] < CHAR_CLASS_TABLE.length
+					&& CHAR_CLASS_TABLE[ chars[pointer-1] ] == CHAR_CLASS_EXPONENT_PREFIX;
+
+			// Find the longest symbol beginning at the current char, by traversing the trie of symbols.
+			String symbol = null;
+			SymbolTrieNode node = SYMBOL_TRIE_ROOT;
+			for (int lookAheadIndex=pointer; lookAheadIndex<length; lookAheadIndex++) {
+				char lookAheadChar = chars[lookAheadIndex];
+				if (SymbolTrieNode.CHILD_CAPACITY <= lookAheadChar || (node = node.childNodes[lookAheadChar]) == null) {
+					break;
 				}
-			}
-
-			// When the next is symbol token or white space or other "token splitter" chars,
-			// create a word token from the content stored in the buffer.
-			if (Character.toString(chars[pointer]).matches(ScriptWord.TOKEN_SEPARATOR_REGEX)
-					|| ScriptWord.SYMBOL_SET.contains(singleCharSymbol)
-					|| ScriptWord.SYMBOL_SET.contains(doubleCharSymbol)
-					|| ScriptWord.SYMBOL_SET.contains(tripleCharSymbol) ) {
-
-				if (wordTokenBuilder.length() != 0) {
-					tokenList.add(new Token(
-						new String(wordTokenBuilder.toString()), lineNumber, fileName
-					));
-					wordTokenBuilder = new StringBuilder();
-					wordTokenBuilder.delete(0, wordTokenBuilder.length());
-					isReadingNumericLiteral = false;
+				if (node.symbol != null && !(singleCharSymbolDisabled && lookAheadIndex == pointer)) {
+					symbol = node.symbol;
 				}
 			}
 
-			// Important note:
-			// the following order of branches should be kept for satisfying "longest match" rule.
-
-			// When the next is a 3-char symbol, create a symbol token.
-			if (ScriptWord.SYMBOL_SET.contains(tripleCharSymbol)) {
-				tokenList.add(new Token(tripleCharSymbol, lineNumber, fileName));
-				pointer += 3; // 3 chars are looked-ahead.
-				continue;
+			// When the next is symbol token or white space or other "token splitter" chars,
+			// create a word token from the chars read until now.
+			if (wordBegin != -1 && (symbol != null || charClass == CHAR_CLASS_SPACE
+					|| charClass == CHAR_CLASS_LINE_FEED || charClass == CHAR_CLASS_UNSKIPPED_SEPARATOR)) {
 
-			// When the next is a 2-char symbol, create a symbol token.
-			} else if (ScriptWord.SYMBOL_SET.contains(doubleCharSymbol)) {
-				tokenList.add(new Token(doubleCharSymbol, lineNumber, fileName));
-				pointer += 2; // 2 chars are looked-ahead.
-				continue;
+				tokenList.add(new Token(new String(chars, wordBegin, pointer - wordBegin), lineNumber, fileName));
+				wordBegin = -1;
+				isReadingNumericLiteral = false;
+			}
 
-			// When the next is a 1-char symbol, create a symbol token.
-			} else if (ScriptWord.SYMBOL_SET.contains(singleCharSymbol)) {
-				tokenList.add(new Token(singleCharSymbol, lineNumber, fileName));
-				pointer += 1; // 1 char are looked-ahead.
-				continue;
+			// When the next is a symbol, create a symbol token (the longest one is matched).
+			if (symbol != null) {
+				tokenList.add(new Token(symbol, lineNumber, fileName));
+				pointer += symbol.length();
 
-			// When the next is a white space, line feed, or other "token splitter" char, don't create any token here.
-			} else if (chars[pointer]==' ' || chars[pointer]=='\n' || chars[pointer]=='\t') {
-				if (chars[pointer] == '\n') {
-					lineNumber++;
-				}
+			// When the next is a white space or a line feed, don't create any token here.
+			} else if (charClass == CHAR_CLASS_SPACE) {
+				pointer++;
+			} else if (charClass == CHAR_CLASS_LINE_FEED) {
+				lineNumber++;
 				pointer++;
-				continue;
 
-			// Other char is a part of a word token, so push it to the buffer.
+			// Other char is a part of a word token.
+			// (Note that separators other than the above are regarded as parts of the next word token, for compatibility.)
 			} else {
 				// A word token starts with a number is a numeric literal.
-				if (wordTokenBuilder.length() == 0 && Character.toString(chars[pointer]).matches("^[0-9]$")) {
-					isReadingNumericLiteral = true;
+				if (wordBegin == -1) {
+					wordBegin = pointer;
+					isReadingNumericLiteral = charClass == CHAR_CLASS_DIGIT;
 				}
-				wordTokenBuilder.append(chars[pointer]);
 				pointer++;
-				continue;
 			}
 		}
 
-		// Extract the last word token from the buffer, if exists.
-		if (wordTokenBuilder.length() != 0) {
-			tokenList.add(new Token(
-				new String(wordTokenBuilder.toString()), lineNumber, fileName
-			));
+		// Extract the last word token, if exists.
+		if (wordBegin != -1) {
+			tokenList.add(new Token(new String(chars, wordBegin, length - wordBegin), lineNumber, fileName));
 		}
 
 		Token[] tokens = tokenList.toArray(new Token[tokenList.size()]);
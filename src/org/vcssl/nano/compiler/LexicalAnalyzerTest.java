@@ -0,0 +1,88 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.compiler;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.spec.DataTypeName;
+
+public class LexicalAnalyzerTest {
+
+	private LexicalAnalyzer lexer;
+
+	@Before
+	public void setUp() throws Exception {
+		this.lexer = new LexicalAnalyzer();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		this.lexer = null;
+	}
+
+	@Test
+	public void testWordsAndSymbols() throws VnanoException {
+		Token[] tokens = this.lexer.analyze("int x = a*b + 1;", "Test.vnano");
+		this.assertTokenValues(tokens, "int", "x", "=", "a", "*", "b", "+", "1", ";");
+		assertEquals(Token.Type.DATA_TYPE, tokens[0].getType());
+		assertEquals(AttributeValue.VARIABLE_IDENTIFIER, tokens[1].getAttribute(AttributeKey.LEAF_TYPE));
+		assertEquals(Token.Type.OPERATOR, tokens[2].getType());
+		assertEquals(DataTypeName.DEFAULT_INT, tokens[7].getAttribute(AttributeKey.DATA_TYPE));
+		assertEquals(Token.Type.END_OF_STATEMENT, tokens[8].getType());
+	}
+
+	@Test
+	public void testLongestMatchOfSymbols() throws VnanoException {
+		Token[] tokens = this.lexer.analyze("a+++b; c-=d; x<=y!=z; a][b; p&&q||!r; f(int ...v);", "Test.vnano");
+		this.assertTokenValues(tokens,
+			"a", "++", "+", "b", ";",
+			"c", "-=", "d", ";",
+			"x", "<=", "y", "!=", "z", ";",
+			"a", "][", "b", ";",
+			"p", "&&", "q", "||", "!", "r", ";",
+			"f", "(", "int", "...", "v", ")", ";"
+		);
+	}
+
+	@Test
+	public void testExponentPartOfFloatLiteral() throws VnanoException {
+
+		// The sign in the exponent part of a numeric literal is not a symbol.
+		Token[] tokens = this.lexer.analyze("1.5e-3+x; 2.0E+4; e+1;", "Test.vnano");
+		this.assertTokenValues(tokens, "1.5e-3", "+", "x", ";", "2.0E+4", ";", "e", "+", "1", ";");
+		assertEquals(DataTypeName.DEFAULT_FLOAT, tokens[0].getAttribute(AttributeKey.DATA_TYPE));
+		assertEquals(DataTypeName.DEFAULT_FLOAT, tokens[4].getAttribute(AttributeKey.DATA_TYPE));
+	}
+
+	@Test
+	public void testLineNumbers() throws VnanoException {
+		Token[] tokens = this.lexer.analyze("a\n\tb\n\nc;", "Test.vnano");
+		this.assertTokenValues(tokens, "a", "b", "c", ";");
+		assertEquals(1, tokens[0].getLineNumber());
+		assertEquals(2, tokens[1].getLineNumber());
+		assertEquals(4, tokens[2].getLineNumber());
+		assertEquals(4, tokens[3].getLineNumber());
+		assertEquals("Test.vnano", tokens[3].getFileName());
+	}
+
+	@Test
+	public void testStringLiterals() throws VnanoException {
+		Token[] tokens = this.lexer.analyze("s = \"a + b;\" + \"c\";", "Test.vnano");
+		this.assertTokenValues(tokens, "s", "=", "\"a + b;\"", "+", "\"c\"", ";");
+		assertEquals(DataTypeName.STRING, tokens[2].getAttribute(AttributeKey.DATA_TYPE));
+	}
+
+	private void assertTokenValues(Token[] tokens, String... expectedValues) {
+		assertEquals(expectedValues.length, tokens.length);
+		for (int tokenIndex=0; tokenIndex<tokens.length; tokenIndex++) {
+			assertEquals(expectedValues[tokenIndex], tokens[tokenIndex].getValue());
+		}
+	}
+}
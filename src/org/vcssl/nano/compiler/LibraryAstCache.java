@@ -0,0 +1,150 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.compiler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * The class of the cache storing parsed ASTs of library scripts, for skipping
+ * preprocessing, lexical analysis and parsing of unchanged library scripts in later compilations.
+ *
+ * Each AST is cached for each name of the library script, with the content of the script from which the AST was parsed.
+ * A cached AST is reused only when the content of the library script is exactly the same as the cached one,
+ * so a modified library script is parsed again automatically.
+ * Parsed ASTs depend only on names and contents of scripts (not on options, plug-ins, and so on),
+ * so they are not required to be discarded when the state of the engine is changed.
+ *
+ * Cached ASTs are never modified, and clones of them are returned by {@link LibraryAstCache#get get} method,
+ * because ASTs are modified by {@link SemanticAnalyzer SemanticAnalyzer} in the compilation.
+ */
+public class LibraryAstCache {
+
+	/**
+	 * The class of an entry of the cache.
+	 */
+	private static final class Entry {
+
+		/** The content of the library script. */
+		private final String content;
+
+		/** The hash code of the content, for skipping the comparison of contents in most mismatching cases. */
+		private final int contentHashCode;
+
+		/** The root node of the AST parsed from the content. */
+		private final AstNode astRootNode;
+
+		/**
+		 * Create a new entry.
+		 *
+		 * @param content The content of the library script.
+		 * @param astRootNode The root node of the AST parsed from the content.
+		 */
+		private Entry(String content, AstNode astRootNode) {
+			this.content = content;
+			this.contentHashCode = content.hashCode();
+			this.astRootNode = astRootNode;
+		}
+	}
+
+	/** The map storing entries of the cache, with names of library scripts as keys. */
+	private final Map<String, Entry> entryMap = new HashMap<String, Entry>();
+
+	/** The counter of ASTs reused from this cache. */
+	private int hitCount = 0;
+
+	/** The counter of ASTs which have not been cached (or have been modified) when they are requested. */
+	private int missCount = 0;
+
+
+	/**
+	 * Create a new empty cache.
+	 */
+	public LibraryAstCache() {
+	}
+
+
+	/**
+	 * Gets the clone of the cached AST of the specified library script.
+	 *
+	 * @param name The name of the library script.
+	 * @param content The content of the library script.
+	 * @return The clone of the root node of the cached AST, or null if it is not cached (or the content has been modified).
+	 */
+	public synchronized AstNode get(String name, String content) {
+		Entry entry = this.entryMap.get(name);
+		if (entry == null || entry.contentHashCode != content.hashCode() || !entry.content.equals(content)) {
+			this.missCount++;
+			return null;
+		}
+		this.hitCount++;
+		return entry.astRootNode.clone();
+	}
+
+
+	/**
+	 * Caches the AST of the specified library script.
+	 * The AST must not be modified after it is cached, so cache the clone of it if it will be modified later.
+	 *
+	 * @param name The name of the library script.
+	 * @param content The content of the library script.
+	 * @param astRootNode The root node of the AST parsed from the content.
+	 */
+	public synchronized void put(String name, String content, AstNode astRootNode) {
+		this.entryMap.put(name, new Entry(content, astRootNode));
+	}
+
+
+	/**
+	 * Removes cached ASTs of library scripts other than the specified ones,
+	 * for discarding ASTs of unregistered library scripts.
+	 *
+	 * @param names The names of library scripts of which ASTs should be kept.
+	 */
+	public synchronized void retain(Set<String> names) {
+		this.entryMap.keySet().retainAll(names);
+	}
+
+
+	/**
+	 * Removes all cached ASTs.
+	 */
+	public synchronized void clear() {
+		this.entryMap.clear();
+	}
+
+
+	/**
+	 * Gets the number of cached ASTs.
+	 *
+	 * @return The number of cached ASTs.
+	 */
+	public synchronized int size() {
+		return this.entryMap.size();
+	}
+
+
+	/**
+	 * Gets the number of ASTs reused from this cache.
+	 *
+	 * @return The number of ASTs reused from this cache.
+	 */
+	public synchronized int getHitCount() {
+		return this.hitCount;
+	}
+
+
+	/**
+	 * Gets the number of ASTs which have not been cached (or have been modified) when they are requested.
+	 *
+	 * @return The number of ASTs which have not been cached.
+	 */
+	public synchronized int getMissCount() {
+		return this.missCount;
+	}
+}
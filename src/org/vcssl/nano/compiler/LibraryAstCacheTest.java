@@ -0,0 +1,131 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.compiler;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.interconnect.Interconnect;
+
+public class LibraryAstCacheTest {
+
+	private static final String LIBRARY_A_NAME = "LibraryA.vnano";
+	private static final String LIBRARY_A_CODE = "int square(int x) { return x * x; } \n int offset = 10;";
+	private static final String LIBRARY_B_NAME = "LibraryB.vnano";
+	private static final String LIBRARY_B_CODE = "// comment \n float half(float x) { return x / 2.0; }";
+	private static final String MAIN_SCRIPT_NAME = "Main.vnano";
+
+	private LibraryAstCache cache;
+
+	@Before
+	public void setUp() throws Exception {
+		this.cache = new LibraryAstCache();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		this.cache = null;
+	}
+
+	@Test
+	public void testGetAndPut() throws VnanoException {
+		assertNull(this.cache.get(LIBRARY_A_NAME, LIBRARY_A_CODE));
+
+		AstNode astRootNode = this.parse(LIBRARY_A_CODE, LIBRARY_A_NAME);
+		this.cache.put(LIBRARY_A_NAME, LIBRARY_A_CODE, astRootNode);
+		AstNode cachedAstRootNode = this.cache.get(LIBRARY_A_NAME, LIBRARY_A_CODE);
+		assertNotNull(cachedAstRootNode);
+		assertEquals(astRootNode.dump(), cachedAstRootNode.dump());
+
+		// The returned AST is a clone, so modifications of it must not affect the cached AST.
+		assertNotSame(astRootNode, cachedAstRootNode);
+		cachedAstRootNode.addChildNode(new AstNode(AstNode.Type.EMPTY, 1, LIBRARY_A_NAME));
+		assertEquals(astRootNode.dump(), this.cache.get(LIBRARY_A_NAME, LIBRARY_A_CODE).dump());
+
+		// The cached AST must not be reused for the modified content, or for the other name.
+		assertNull(this.cache.get(LIBRARY_A_NAME, LIBRARY_A_CODE + " int extra = 1;"));
+		assertNull(this.cache.get(LIBRARY_B_NAME, LIBRARY_A_CODE));
+
+		assertEquals(2, this.cache.getHitCount());
+		assertEquals(3, this.cache.getMissCount());
+	}
+
+	@Test
+	public void testRetainAndClear() throws VnanoException {
+		this.cache.put(LIBRARY_A_NAME, LIBRARY_A_CODE, this.parse(LIBRARY_A_CODE, LIBRARY_A_NAME));
+		this.cache.put(LIBRARY_B_NAME, LIBRARY_B_CODE, this.parse(LIBRARY_B_CODE, LIBRARY_B_NAME));
+		assertEquals(2, this.cache.size());
+
+		this.cache.retain(new HashSet<String>(Arrays.asList(LIBRARY_B_NAME)));
+		assertEquals(1, this.cache.size());
+		assertNull(this.cache.get(LIBRARY_A_NAME, LIBRARY_A_CODE));
+		assertNotNull(this.cache.get(LIBRARY_B_NAME, LIBRARY_B_CODE));
+
+		this.cache.clear();
+		assertEquals(0, this.cache.size());
+	}
+
+	@Test
+	public void testCompileWithCache() throws VnanoException {
+		Interconnect interconnect = new Interconnect();
+		String[] names = { LIBRARY_A_NAME, LIBRARY_B_NAME, MAIN_SCRIPT_NAME };
+		String[] scripts = { LIBRARY_A_CODE, LIBRARY_B_CODE, "square(3) + offset + half(5.0);" };
+		String expectedCode = new Compiler().compile(scripts, names, interconnect);
+
+		// The compiled code must be the same as the code compiled without the cache, before/after caching ASTs.
+		assertEquals(expectedCode, new Compiler(this.cache).compile(scripts, names, interconnect));
+		assertEquals(2, this.cache.size());
+		assertEquals(0, this.cache.getHitCount());
+		assertEquals(expectedCode, new Compiler(this.cache).compile(scripts, names, interconnect));
+		assertEquals(2, this.cache.getHitCount());
+
+		// Only the main script is parsed when it is changed.
+		scripts[2] = "square(offset);";
+		assertEquals(
+			new Compiler().compile(scripts, names, interconnect),
+			new Compiler(this.cache).compile(scripts, names, interconnect)
+		);
+		assertEquals(4, this.cache.getHitCount());
+
+		// The modified library script is parsed again.
+		scripts[0] = "int square(int x) { return x * x + 1; } \n int offset = 20;";
+		assertEquals(
+			new Compiler().compile(scripts, names, interconnect),
+			new Compiler(this.cache).compile(scripts, names, interconnect)
+		);
+		assertEquals(5, this.cache.getHitCount());
+		assertEquals(3, this.cache.getMissCount());
+	}
+
+	@Test
+	public void testSyntaxErrorInMainScriptWithCache() throws VnanoException {
+		Interconnect interconnect = new Interconnect();
+		String[] names = { LIBRARY_A_NAME, MAIN_SCRIPT_NAME };
+		String[] scripts = { LIBRARY_A_CODE, "square(2);" };
+		new Compiler(this.cache).compile(scripts, names, interconnect);
+
+		// The error must be reported with the name of the main script, even if the library is cached.
+		scripts[1] = "square(2)";
+		try {
+			new Compiler(this.cache).compile(scripts, names, interconnect);
+			fail("Expected exception has not been thrown");
+		} catch (VnanoException e) {
+			assertEquals(MAIN_SCRIPT_NAME, e.getFileName());
+		}
+	}
+
+	private AstNode parse(String script, String name) throws VnanoException {
+		String preprocessedScript = new Preprocessor().preprocess(script);
+		Token[] tokens = new LexicalAnalyzer().analyze(preprocessedScript, name);
+		return new Parser().parse(tokens);
+	}
+}
@@ -422,7 +422,7 @@ public class Parser {
 		}
 
 		// Return the result depending on the precedence/associativity of the operator at the top of the stack.
-		int stackedOperatorPrecedence = Integer.parseInt(stack.peek().getAttribute(AttributeKey.OPERATOR_PRECEDENCE));
+		int stackedOperatorPrecedence = stack.peek().getOperatorPrecedence();
 		String stackedOperatorAssociativity = stack.peek().getAttribute(AttributeKey.OPERATOR_ASSOCIATIVITY);
 		return this.shouldAddRightOperand(stackedOperatorAssociativity, stackedOperatorPrecedence, nextOperatorPrecedence);
 	}
@@ -599,7 +599,7 @@ public class Parser {
 		}
 
 		// Set aboves to the node.
-		variableNode.setAttribute(AttributeKey.ARRAY_RANK, Integer.toString(arrayRank));
+		variableNode.setArrayRank(arrayRank);
 		if (arrayLengthNode != null) {
 			arrayRank = arrayLengthNode.getChildNodes(AstNode.Type.EXPRESSION).length;
 			variableNode.addChildNode(arrayLengthNode);
@@ -881,7 +881,7 @@ public class Parser {
 		AstNode node = new AstNode(AstNode.Type.FUNCTION, lineNumber, fileName);
 		node.setAttribute(AttributeKey.IDENTIFIER_VALUE, identifierToken.getValue());
 		node.setAttribute(AttributeKey.DATA_TYPE, dataTypeToken.getValue());
-		node.setAttribute(AttributeKey.ARRAY_RANK, Integer.toString(rank));
+		node.setArrayRank(rank);
 		for (AstNode argNode: argumentNodeList) {
 			node.addChildNode(argNode);
 		}
@@ -1117,7 +1117,7 @@ public class Parser {
 		operatorNode.setAttribute(AttributeKey.OPERATOR_SYNTAX, token.getAttribute(AttributeKey.OPERATOR_SYNTAX));
 		operatorNode.setAttribute(AttributeKey.OPERATOR_EXECUTOR, token.getAttribute(AttributeKey.OPERATOR_EXECUTOR));
 		operatorNode.setAttribute(AttributeKey.OPERATOR_SYMBOL, token.getValue());
-		operatorNode.setAttribute(AttributeKey.OPERATOR_PRECEDENCE, Integer.toString(token.getPrecedence()));
+		operatorNode.setOperatorPrecedence(token.getPrecedence());
 
 		// Some kinds of operator tokens have data-type / array-ranks (e.g.: cast operators).
 		// Copy attributes of them for such operators.
@@ -1187,7 +1187,7 @@ public class Parser {
 	 */
 	private void pushLid(Deque<AstNode> stack) {
 		AstNode stackLid = new AstNode(AstNode.Type.STACK_LID, 0, "");
-		stackLid.setAttribute(AttributeKey.OPERATOR_PRECEDENCE, Integer.toString(OperatorPrecedence.LEAST_PRIOR));
+		stackLid.setOperatorPrecedence(OperatorPrecedence.LEAST_PRIOR);
 		stack.push(stackLid);
 	}
 
@@ -1208,7 +1208,7 @@ public class Parser {
 	 */
 	private void pushLid(Deque<AstNode> stack, String marker) {
 		AstNode stackLid = new AstNode(AstNode.Type.STACK_LID, 0, "");
-		stackLid.setAttribute(AttributeKey.OPERATOR_PRECEDENCE, Integer.toString(OperatorPrecedence.LEAST_PRIOR));
+		stackLid.setOperatorPrecedence(OperatorPrecedence.LEAST_PRIOR);
 		stackLid.setAttribute(AttributeKey.LID_MARKER, marker);
 		stack.push(stackLid);
 	}
@@ -316,7 +316,7 @@ public class SemanticAnalyzer {
 				}
 
 				// Set information of the variable, to the node referencing the variable.
-				currentNode.setAttribute(AttributeKey.ARRAY_RANK, Integer.toString(variable.getArrayRank()));
+				currentNode.setArrayRank(variable.getArrayRank());
 				currentNode.setAttribute(AttributeKey.DATA_TYPE, variable.getDataTypeName());
 				if (variable.isConstant()) {
 					currentNode.addModifier(ScriptWord.CONST_MODIFIER);
@@ -471,7 +471,7 @@ public class SemanticAnalyzer {
 			if (currentNode.getType() == AstNode.Type.LEAF
 					&& currentNode.getAttribute(AttributeKey.LEAF_TYPE).equals(AttributeValue.LITERAL)) {
 
-				currentNode.setAttribute(AttributeKey.ARRAY_RANK, "0");   // In the current specification of Vnano, array literals are not supported.
+				currentNode.setArrayRank(0);   // In the current specification of Vnano, array literals are not supported.
 				currentNode.addModifier(ScriptWord.CONST_MODIFIER); // Values of literals must not be modified in programs, so set them as constants.
 
 				// Here data-types of literals have already been determined,
@@ -730,7 +730,7 @@ public class SemanticAnalyzer {
 					currentNode.setAttribute(AttributeKey.OPERATOR_EXECUTION_DATA_TYPE, operationDataType);
 				}
 				if (rank != -1) {
-					currentNode.setAttribute(AttributeKey.ARRAY_RANK, Integer.toString(rank));
+					currentNode.setArrayRank(rank);
 				}
 			}
 
@@ -802,7 +802,7 @@ public class SemanticAnalyzer {
 			AstNode argNode = argNodes[paramIndex+1];
 
 			// If the function hasn't any parameter: Error
-			if (argNode.getAttribute(AttributeKey.DATA_TYPE).equals(DataTypeName.VOID)) {
+			if (argNode.getDataType() == DataType.VOID) {
 
 				// Get the function name for displaying it in the error message.
 				String argFunctionName = null; // "null" will not be displayed in the error message.
@@ -865,7 +865,7 @@ public class SemanticAnalyzer {
 
 				// Copy some attributes from the call operator node to the identifier node.
 				currentNode.setAttribute(AttributeKey.DATA_TYPE, callOperatorNode.getAttribute(AttributeKey.DATA_TYPE));
-				currentNode.setAttribute(AttributeKey.ARRAY_RANK, callOperatorNode.getAttribute(AttributeKey.ARRAY_RANK));
+				currentNode.setArrayRank(callOperatorNode.getArrayRank());
 			}
 
 			currentNode = currentNode.getPostorderDftNextNode();
@@ -889,7 +889,7 @@ public class SemanticAnalyzer {
 			if(currentNode.getType() == AstNode.Type.EXPRESSION) {
 				AstNode[] inputNodes = currentNode.getChildNodes();
 				currentNode.setAttribute(AttributeKey.DATA_TYPE, inputNodes[0].getDataTypeName());
-				currentNode.setAttribute(AttributeKey.ARRAY_RANK, Integer.toString(inputNodes[0].getArrayRank()));
+				currentNode.setArrayRank(inputNodes[0].getArrayRank());
 			}
 			currentNode = currentNode.getPostorderDftNextNode();
 		}
@@ -1553,8 +1553,8 @@ public class SemanticAnalyzer {
 			if (currentNode.getType() == AstNode.Type.FUNCTION) {
 				currentFunctionReturType = currentNode.getDataTypeName();
 				currentFunctionReturnRank = currentNode.getArrayRank();
-				AstNode[] siblingNodes = currentNode.getParentNode().getChildNodes();   // Sibling nodes (containing the current node)
-				currentFunctionBlock = siblingNodes[ currentNode.getSiblingIndex()+1 ]; // The next sibling node of the current node
+				AstNode parentNode = currentNode.getParentNode();
+				currentFunctionBlock = parentNode.getChildNode( currentNode.getSiblingIndex()+1 ); // The next sibling node of the current node
 				inFunction = true;
 			}
 
@@ -225,6 +225,30 @@ public abstract class AbstractFunction {
 	public abstract boolean isReturnArrayRankArbitrary();
 
 
+	/**
+	 * Gets whether this function is a pure function,
+	 * which always returns the same value for the same arguments, and has no side effects.
+	 *
+	 * Calls of pure functions may be evaluated at compile-time (when all arguments are constants),
+	 * or may be moved/reduced by optimizations.
+	 * For details, see {@link org.vcssl.connect.PureFunction PureFunction} annotation.
+	 *
+	 * @return Returns true if this function is a pure function.
+	 */
+	public abstract boolean isPure();
+
+
+	/**
+	 * Gets whether calls of this function can be evaluated at compile-time, when all arguments are constants.
+	 *
+	 * Scripts are compiled before plug-ins are initialized (activated) for executing them,
+	 * so this method returns true only for pure functions which can be invoked safely without the initialization.
+	 *
+	 * @return Returns true if calls of this function can be evaluated at compile-time.
+	 */
+	public abstract boolean isCompileTimeEvaluatable();
+
+
 	/**
 	 * Checks this function is invokable without problems which are detectable before invoking.
 	 *
@@ -26,6 +26,7 @@ import org.vcssl.connect.MethodToXfci1Adapter;
 import org.vcssl.connect.PermissionAuthorizerConnectorInterface1;
 import org.vcssl.nano.spec.ErrorType;
 import org.vcssl.nano.spec.IdentifierSyntax;
+import org.vcssl.nano.spec.OptionKey;
 import org.vcssl.nano.spec.OptionValue;
 import org.vcssl.nano.spec.SpecialBindingKey;
 import org.vcssl.nano.vm.VirtualMachineObjectCode;
@@ -48,6 +49,9 @@ import org.vcssl.nano.VnanoFatalException;
  */
 public class Interconnect {
 
+	/** The profiler measuring nothing, provided when the performance monitor is disabled. */
+	private static final PhaseProfiler DISABLED_PHASE_PROFILER = new PhaseProfiler(false);
+
 	/** The table storing information of external functions. */
 	private FunctionTable externalFunctionTable = null;
 
@@ -90,6 +94,9 @@ public class Interconnect {
 	/** Stores "import paths" of namespaces provided by plug-ins, which can be specified as values of "import" declarations. */
 	private Set<String> pluginImportPathSet;
 
+	/** The profiler measuring processing phases of the compiler, the assembler, and the accelerator. */
+	private PhaseProfiler phaseProfiler;
+
 
 	/**
 	 * Creates a blank interconnect to which nothing are connected.
@@ -104,6 +111,7 @@ public class Interconnect {
 		this.libraryFilePathContentMap = new LinkedHashMap<String, String>();
 		this.libraryImportPathSet = new HashSet<String>();
 		this.pluginImportPathSet = new HashSet<String>();
+		this.phaseProfiler = new PhaseProfiler(true);
 
 
 		// Create an option map and set default values, and reflect to the engine connector.
@@ -124,6 +132,48 @@ public class Interconnect {
 	}
 
 
+	/**
+	 * Creates an interconnect sharing all contents with the specified interconnect, excluding the external variable table.
+	 *
+	 * @param source The interconnect of which contents will be shared.
+	 * @param externalVariableTable The external variable table of the created interconnect.
+	 */
+	private Interconnect(Interconnect source, VariableTable externalVariableTable) {
+		this.externalFunctionTable = source.externalFunctionTable;
+		this.externalVariableTable = externalVariableTable;
+		this.engineConnector = source.engineConnector;
+		this.permissionAuthorizer = source.permissionAuthorizer;
+		this.xnci1PluginList = source.xnci1PluginList;
+		this.xfci1PluginList = source.xfci1PluginList;
+		this.xvci1PluginList = source.xvci1PluginList;
+		this.optionMap = source.optionMap;
+		this.permissionMap = source.permissionMap;
+		this.libraryFilePathContentMap = source.libraryFilePathContentMap;
+		this.mainScriptName = source.mainScriptName;
+		this.mainScriptContent = source.mainScriptContent;
+		this.libraryImportPathSet = source.libraryImportPathSet;
+		this.pluginImportPathSet = source.pluginImportPathSet;
+		this.phaseProfiler = source.phaseProfiler;
+	}
+
+
+	/**
+	 * Creates a new interconnect which shares connected plug-ins, options, permissions, and scripts with this interconnect,
+	 * but has the specified external variable table.
+	 *
+	 * This method is used for executing scripts accessing additional variables
+	 * (e.g.: columns of inputs of batch executions) without modifying the state of this interconnect.
+	 * The created interconnect must not be used for connecting/disconnecting plug-ins,
+	 * and for activating/deactivating plug-ins.
+	 *
+	 * @param externalVariableTable The external variable table of the created interconnect.
+	 * @return The created interconnect.
+	 */
+	public Interconnect createVariableTableReplacedInstance(VariableTable externalVariableTable) {
+		return new Interconnect(this, externalVariableTable);
+	}
+
+
 	/**
 	 * Turns to the active state on which scripts are executable, with initializing all connected plug-ins.
 	 */
@@ -177,6 +227,23 @@ public class Interconnect {
 	}
 
 
+	/**
+	 * Gets the profiler measuring processing phases of the compiler, the assembler, and the accelerator.
+	 *
+	 * When PERFORMANCE_MONITOR_ENABLED option is disabled, this method returns a profiler measuring nothing,
+	 * so call this method once at the beginning of processing, and use the returned profiler during the processing.
+	 *
+	 * @return The profiler.
+	 */
+	public PhaseProfiler getPhaseProfiler() {
+		if ((Boolean)this.optionMap.get(OptionKey.PERFORMANCE_MONITOR_ENABLED)) {
+			return this.phaseProfiler;
+		} else {
+			return DISABLED_PHASE_PROFILER;
+		}
+	}
+
+
 	/**
 	 * Sets permissions, by a Map (permission map) storing names and values of permission items you want to set.
 	 *
@@ -342,6 +342,34 @@ public final class InternalFunction extends AbstractFunction {
 	}
 
 
+	/**
+	 * Gets whether this function is a pure function,
+	 * which always returns the same value for the same arguments, and has no side effects.
+	 *
+	 * Internal functions are not regarded as pure functions,
+	 * because they may access to variables declared at the global level of scripts.
+	 *
+	 * @return Always returns false.
+	 */
+	@Override
+	public final boolean isPure() {
+		return false;
+	}
+
+
+	/**
+	 * Gets whether calls of this function can be evaluated at compile-time, when all arguments are constants.
+	 *
+	 * Internal functions are not pure functions, so they are not evaluated at compile-time.
+	 *
+	 * @return Always returns false.
+	 */
+	@Override
+	public final boolean isCompileTimeEvaluatable() {
+		return false;
+	}
+
+
 	/**
 	 * Checks this function is invokable without problems which are detectable before invoking.
 	 *
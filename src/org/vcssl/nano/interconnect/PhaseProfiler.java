@@ -0,0 +1,262 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.interconnect;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.vcssl.nano.spec.PerformanceKey;
+
+
+/**
+ * The class to measure the elapsed time and the allocated memory of each processing phase
+ * of the compiler, the assembler, and the accelerator.
+ *
+ * Measured values of all phases are accumulated from when the instance of this class was created,
+ * and provided as values of the performance map of {@link org.vcssl.nano.VnanoEngine VnanoEngine}.
+ * Each phase is measured on the thread processing it, so phases processed on multiple threads
+ * (e.g.: lexical analysis of multiple large scripts, or preparation for the accelerator in the background)
+ * are summed up over threads.
+ *
+ * The allocated memory is measured by the extended API of the JVM ("com.sun.management.ThreadMXBean"),
+ * so it is available only on JVMs supporting it.
+ */
+public class PhaseProfiler {
+
+	/**
+	 * The enum representing processing phases measured by {@link PhaseProfiler}.
+	 */
+	public static enum Phase {
+
+		/** The phase of {@link org.vcssl.nano.compiler.Preprocessor}. */
+		PREPROCESSOR("Preprocessor",
+				PerformanceKey.PREPROCESSOR_TOTAL_NANOSECONDS_LONG_VALUE,
+				PerformanceKey.PREPROCESSOR_TOTAL_ALLOCATED_BYTES_LONG_VALUE),
+
+		/** The phase of {@link org.vcssl.nano.compiler.LexicalAnalyzer}. */
+		LEXICAL_ANALYZER("LexicalAnalyzer",
+				PerformanceKey.LEXICAL_ANALYZER_TOTAL_NANOSECONDS_LONG_VALUE,
+				PerformanceKey.LEXICAL_ANALYZER_TOTAL_ALLOCATED_BYTES_LONG_VALUE),
+
+		/** The phase of {@link org.vcssl.nano.compiler.Parser}. */
+		PARSER("Parser",
+				PerformanceKey.PARSER_TOTAL_NANOSECONDS_LONG_VALUE,
+				PerformanceKey.PARSER_TOTAL_ALLOCATED_BYTES_LONG_VALUE),
+
+		/** The phase of {@link org.vcssl.nano.compiler.SemanticAnalyzer}. */
+		SEMANTIC_ANALYZER("SemanticAnalyzer",
+				PerformanceKey.SEMANTIC_ANALYZER_TOTAL_NANOSECONDS_LONG_VALUE,
+				PerformanceKey.SEMANTIC_ANALYZER_TOTAL_ALLOCATED_BYTES_LONG_VALUE),
+
+		/** The phase of {@link org.vcssl.nano.compiler.ConstantFolder}. */
+		CONSTANT_FOLDER("ConstantFolder",
+				PerformanceKey.CONSTANT_FOLDER_TOTAL_NANOSECONDS_LONG_VALUE,
+				PerformanceKey.CONSTANT_FOLDER_TOTAL_ALLOCATED_BYTES_LONG_VALUE),
+
+		/** The phase of {@link org.vcssl.nano.compiler.CodeGenerator}. */
+		CODE_GENERATOR("CodeGenerator",
+				PerformanceKey.CODE_GENERATOR_TOTAL_NANOSECONDS_LONG_VALUE,
+				PerformanceKey.CODE_GENERATOR_TOTAL_ALLOCATED_BYTES_LONG_VALUE),
+
+		/** The phase of {@link org.vcssl.nano.vm.assembler.Assembler}. */
+		ASSEMBLER("Assembler",
+				PerformanceKey.ASSEMBLER_TOTAL_NANOSECONDS_LONG_VALUE,
+				PerformanceKey.ASSEMBLER_TOTAL_ALLOCATED_BYTES_LONG_VALUE),
+
+		/** The phase of "allocate" method of {@link org.vcssl.nano.vm.accelerator.AcceleratorDataManagementUnit}. */
+		ACCELERATOR_DATA_MANAGEMENT("AcceleratorDataManagementUnit.allocate",
+				PerformanceKey.ACCELERATOR_DATA_MANAGEMENT_TOTAL_NANOSECONDS_LONG_VALUE,
+				PerformanceKey.ACCELERATOR_DATA_MANAGEMENT_TOTAL_ALLOCATED_BYTES_LONG_VALUE),
+
+		/** The phase of "preDispatch" method of {@link org.vcssl.nano.vm.accelerator.AcceleratorDispatchUnit}. */
+		ACCELERATOR_PRE_DISPATCH("AcceleratorDispatchUnit.preDispatch",
+				PerformanceKey.ACCELERATOR_PRE_DISPATCH_TOTAL_NANOSECONDS_LONG_VALUE,
+				PerformanceKey.ACCELERATOR_PRE_DISPATCH_TOTAL_ALLOCATED_BYTES_LONG_VALUE),
+
+		/** The phase of "optimize" method of {@link org.vcssl.nano.vm.accelerator.AcceleratorOptimizationUnit}. */
+		ACCELERATOR_OPTIMIZATION("AcceleratorOptimizationUnit.optimize",
+				PerformanceKey.ACCELERATOR_OPTIMIZATION_TOTAL_NANOSECONDS_LONG_VALUE,
+				PerformanceKey.ACCELERATOR_OPTIMIZATION_TOTAL_ALLOCATED_BYTES_LONG_VALUE),
+
+		/** The phase of "dispatch" method of {@link org.vcssl.nano.vm.accelerator.AcceleratorDispatchUnit}. */
+		ACCELERATOR_DISPATCH("AcceleratorDispatchUnit.dispatch",
+				PerformanceKey.ACCELERATOR_DISPATCH_TOTAL_NANOSECONDS_LONG_VALUE,
+				PerformanceKey.ACCELERATOR_DISPATCH_TOTAL_ALLOCATED_BYTES_LONG_VALUE);
+
+		/** The name of the component processing this phase, used for printing measured values. */
+		private final String componentName;
+
+		/** The key of the performance map for the total elapsed time of this phase. */
+		private final String elapsedTimeKey;
+
+		/** The key of the performance map for the total allocated memory of this phase. */
+		private final String allocatedBytesKey;
+
+		private Phase(String componentName, String elapsedTimeKey, String allocatedBytesKey) {
+			this.componentName = componentName;
+			this.elapsedTimeKey = elapsedTimeKey;
+			this.allocatedBytesKey = allocatedBytesKey;
+		}
+
+		/**
+		 * Gets the name of the component processing this phase (e.g.: "Parser").
+		 *
+		 * @return The name of the component.
+		 */
+		public String getComponentName() {
+			return this.componentName;
+		}
+
+		/**
+		 * Gets the key of the performance map for the total elapsed time [ns] of this phase.
+		 *
+		 * @return The key of the performance map.
+		 */
+		public String getElapsedTimeKey() {
+			return this.elapsedTimeKey;
+		}
+
+		/**
+		 * Gets the key of the performance map for the total allocated memory [bytes] of this phase.
+		 *
+		 * @return The key of the performance map.
+		 */
+		public String getAllocatedBytesKey() {
+			return this.allocatedBytesKey;
+		}
+	}
+
+
+	/** The MXBean of the JVM to measure the allocated memory of each thread, or null if it is unavailable. */
+	private static final Object THREAD_MX_BEAN;
+
+	/** The "getThreadAllocatedBytes(long)" method of {@link PhaseProfiler#THREAD_MX_BEAN}, or null if it is unavailable. */
+	private static final Method GET_THREAD_ALLOCATED_BYTES_METHOD;
+
+	static {
+		Object threadMXBean = null;
+		Method getThreadAllocatedBytesMethod = null;
+
+		// The method is provided by the extended API of HotSpot-based JVMs, so get it via reflection if it is available.
+		try {
+			threadMXBean = ManagementFactory.getThreadMXBean();
+			Class<?> extendedThreadMXBeanClass = Class.forName("com.sun.management.ThreadMXBean");
+			if (extendedThreadMXBeanClass.isInstance(threadMXBean)) {
+				Method isSupportedMethod = extendedThreadMXBeanClass.getMethod("isThreadAllocatedMemorySupported");
+				Method isEnabledMethod = extendedThreadMXBeanClass.getMethod("isThreadAllocatedMemoryEnabled");
+				if ((Boolean)isSupportedMethod.invoke(threadMXBean) && (Boolean)isEnabledMethod.invoke(threadMXBean)) {
+					getThreadAllocatedBytesMethod = extendedThreadMXBeanClass.getMethod("getThreadAllocatedBytes", long.class);
+				}
+			}
+		} catch (Exception | LinkageError e) {
+			getThreadAllocatedBytesMethod = null;
+		}
+		THREAD_MX_BEAN = threadMXBean;
+		GET_THREAD_ALLOCATED_BYTES_METHOD = getThreadAllocatedBytesMethod;
+	}
+
+
+	/** The flag representing whether measurements are enabled. */
+	private final boolean enabled;
+
+	/** Total elapsed times [ns] of phases, of which indices are ordinals of phases. */
+	private final AtomicLongArray totalNanoTimes;
+
+	/** Total allocated memory [bytes] of phases, of which indices are ordinals of phases. */
+	private final AtomicLongArray totalAllocatedBytes;
+
+
+	/**
+	 * Creates a new profiler.
+	 *
+	 * @param enabled Specify false to create a profiler measuring nothing, for skipping measurements.
+	 */
+	public PhaseProfiler(boolean enabled) {
+		this.enabled = enabled;
+		this.totalNanoTimes = new AtomicLongArray(Phase.values().length);
+		this.totalAllocatedBytes = new AtomicLongArray(Phase.values().length);
+	}
+
+
+	/**
+	 * Gets the current value of the timer, for passing to {@link PhaseProfiler#record(Phase, long, long) record} method
+	 * at the end of the phase.
+	 *
+	 * @return The current value of the timer [ns], or 0 if this profiler is disabled.
+	 */
+	public long getNanoTime() {
+		return this.enabled ? System.nanoTime() : 0L;
+	}
+
+
+	/**
+	 * Gets the total size of memory allocated by the current thread, for passing to
+	 * {@link PhaseProfiler#record(Phase, long, long) record} method at the end of the phase.
+	 *
+	 * @return The total size [bytes] of allocated memory, or 0 if it is unavailable or this profiler is disabled.
+	 */
+	public long getAllocatedBytes() {
+		if (!this.enabled || GET_THREAD_ALLOCATED_BYTES_METHOD == null) {
+			return 0L;
+		}
+		try {
+			return (Long)GET_THREAD_ALLOCATED_BYTES_METHOD.invoke(THREAD_MX_BEAN, Thread.currentThread().getId());
+		} catch (Exception e) {
+			return 0L;
+		}
+	}
+
+
+	/**
+	 * Adds the elapsed time and the allocated memory of the phase, which has ended on the current thread, to total values.
+	 *
+	 * @param phase The phase which has ended.
+	 * @param beginNanoTime The value of {@link PhaseProfiler#getNanoTime()} at the beginning of the phase.
+	 * @param beginAllocatedBytes The value of {@link PhaseProfiler#getAllocatedBytes()} at the beginning of the phase.
+	 */
+	public void record(Phase phase, long beginNanoTime, long beginAllocatedBytes) {
+		if (!this.enabled) {
+			return;
+		}
+		this.totalNanoTimes.addAndGet(phase.ordinal(), System.nanoTime() - beginNanoTime);
+		if (GET_THREAD_ALLOCATED_BYTES_METHOD != null) {
+			this.totalAllocatedBytes.addAndGet(phase.ordinal(), this.getAllocatedBytes() - beginAllocatedBytes);
+		}
+	}
+
+
+	/**
+	 * Gets the total elapsed time of the specified phase.
+	 *
+	 * @param phase The phase.
+	 * @return The total elapsed time [ns].
+	 */
+	public long getTotalNanoTime(Phase phase) {
+		return this.totalNanoTimes.get(phase.ordinal());
+	}
+
+
+	/**
+	 * Gets the total allocated memory of the specified phase.
+	 *
+	 * @param phase The phase.
+	 * @return The total allocated memory [bytes].
+	 */
+	public long getTotalAllocatedBytes(Phase phase) {
+		return this.totalAllocatedBytes.get(phase.ordinal());
+	}
+
+
+	/**
+	 * Checks whether the allocated memory of each phase is measurable on the current JVM.
+	 *
+	 * @return Returns true if the allocated memory is measurable.
+	 */
+	public static boolean isAllocatedBytesMeasurable() {
+		return GET_THREAD_ALLOCATED_BYTES_METHOD != null;
+	}
+}
@@ -14,6 +14,8 @@ import org.vcssl.connect.BoolScalarDataAccessorInterface1;
 import org.vcssl.connect.ConnectorException;
 import org.vcssl.connect.EngineConnectorInterface1;
 import org.vcssl.connect.ExternalFunctionConnectorInterface1;
+import org.vcssl.connect.MethodToXfci1Adapter;
+import org.vcssl.connect.PureFunction;
 
 import org.vcssl.nano.VnanoFatalException;
 import org.vcssl.nano.VnanoException;
@@ -403,6 +405,41 @@ public final class Xfci1ToFunctionAdapter extends AbstractFunction {
 	}
 
 
+	/**
+	 * Gets whether this function is a pure function,
+	 * which always returns the same value for the same arguments, and has no side effects.
+	 *
+	 * The function is regarded as pure if the class of the XFCI1 plug-in is annotated by
+	 * {@link org.vcssl.connect.PureFunction PureFunction},
+	 * or the plug-in is a {@link org.vcssl.connect.MethodToXfci1Adapter MethodToXfci1Adapter} of a pure method.
+	 *
+	 * @return Returns true if this function is a pure function.
+	 */
+	@Override
+	public final boolean isPure() {
+		if (this.xfciPlugin instanceof MethodToXfci1Adapter) {
+			return ((MethodToXfci1Adapter)this.xfciPlugin).isPure();
+		}
+		return this.xfciPlugin.getClass().isAnnotationPresent(PureFunction.class);
+	}
+
+
+	/**
+	 * Gets whether calls of this function can be evaluated at compile-time, when all arguments are constants.
+	 *
+	 * Only pure methods connected through {@link org.vcssl.connect.MethodToXfci1Adapter MethodToXfci1Adapter}
+	 * are evaluated at compile-time, because they don't depend on initialization procedures of the plug-in.
+	 * Pure XFCI1 plug-ins are not evaluated at compile-time, because scripts are compiled
+	 * before their initializeForConnection/initializeForExecution methods are called.
+	 *
+	 * @return Returns true if calls of this function can be evaluated at compile-time.
+	 */
+	@Override
+	public final boolean isCompileTimeEvaluatable() {
+		return this.xfciPlugin instanceof MethodToXfci1Adapter && this.isPure();
+	}
+
+
 	/**
 	 * Checks this function is invokable without problems which are detectable before invoking.
 	 *
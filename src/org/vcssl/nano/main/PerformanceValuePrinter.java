@@ -16,6 +16,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 
 import org.vcssl.nano.VnanoEngine;
+import org.vcssl.nano.interconnect.PhaseProfiler;
 import org.vcssl.nano.spec.OperationCode;
 import org.vcssl.nano.spec.PerformanceKey;
 import org.vcssl.nano.vm.VirtualMachine;
@@ -59,6 +60,9 @@ public class PerformanceValuePrinter implements Runnable {
 	/** The flag representing whether the instruction executed frequency should be printed. */
 	private boolean printsInstructionFrequency = false;
 
+	/** The flag representing whether elapsed times and allocated memory of phases should be printed after the execution. */
+	private boolean printsPhasePerformance = false;
+
 	/** The flag representing whether we should continue to measure performance. Set false when quit to measure/print. */
 	private volatile boolean continuable = true;
 
@@ -111,6 +115,19 @@ public class PerformanceValuePrinter implements Runnable {
 	}
 
 
+	/**
+	 * Sets whether elapsed times and allocated memory of phases of the compiler, the assembler, and the accelerator
+	 * should be printed when measuring/printing performances is terminated.
+	 *
+	 * They are printed only for the VnanoEngine, not for the VirtualMachine.
+	 *
+	 * @param printsPhasePerformance Specify true to print elapsed times and allocated memory of phases.
+	 */
+	public void setPrintsPhasePerformance(boolean printsPhasePerformance) {
+		this.printsPhasePerformance = printsPhasePerformance;
+	}
+
+
 	/**
 	 * Terminates measuring/printing performances.
 	 */
@@ -211,7 +228,11 @@ public class PerformanceValuePrinter implements Runnable {
 			loopCount++;
 
 			// When the processed cycles has reached to the printing interval cycles, print results and reset counters.
-			if (loopCount == PROC_CNT_GETS_PER_SEC) {
+			boolean printsPeriodically = this.printsVmSpeed || this.printsRamUsage || this.printsInstructionFrequency;
+			if (loopCount == PROC_CNT_GETS_PER_SEC && !printsPeriodically) {
+				this.procIpsSum = 0.0;
+				loopCount = 0;
+			} else if (loopCount == PROC_CNT_GETS_PER_SEC) {
 				System.out.println("================================================================================");
 				String timestamp = new Timestamp(System.currentTimeMillis()).toString();
 				System.out.println("= Performance Monitor (" + timestamp + ")");
@@ -243,6 +264,16 @@ public class PerformanceValuePrinter implements Runnable {
 				System.out.println("================================================================================");
 			}
 		}
+
+		// Print elapsed times and allocated memory of phases, which have been measured until the execution completed.
+		if (this.printsPhasePerformance && this.vnanoEngine != null && this.vnanoEngine.hasPerformanceMap()) {
+			Map<String, Object> performanceMap = this.vnanoEngine.getPerformanceMap();
+			System.out.println("================================================================================");
+			String timestamp = new Timestamp(System.currentTimeMillis()).toString();
+			System.out.println("= Phase Performance (" + timestamp + ")");
+			System.out.print(this.formatPhasePerformance(performanceMap));
+			System.out.println("================================================================================");
+		}
 	}
 
 	// Format the value of the VM drive speed to be printed.
@@ -283,6 +314,46 @@ public class PerformanceValuePrinter implements Runnable {
 		return formattedValue;
 	}
 
+	// Format the value of the elapsed time to be printed.
+	private String formatNanoTime(long nanoTime) {
+		DecimalFormat formatter = new DecimalFormat("0.000");
+		String formattedValue = formatter.format(nanoTime * 1.0E-6) + " ms";
+		return formattedValue;
+	}
+
+	/**
+	 * Format elapsed times and allocated memory of phases to be printed.
+	 *
+	 * @param performanceMap The performance map in which measured values of phases are stored.
+	 */
+	private String formatPhasePerformance(Map<String, Object> performanceMap) {
+		StringBuilder builder = new StringBuilder();
+		String eol = System.getProperty("line.separator");
+
+		for (PhaseProfiler.Phase phase: PhaseProfiler.Phase.values()) {
+			if (!performanceMap.containsKey(phase.getElapsedTimeKey())) {
+				continue;
+			}
+
+			// Align lengths of component names to be printed, by appending spaces to end of them.
+			// The length of the longest name is 38 chars (AcceleratorDataManagementUnit.allocate), so align to the 38 chars.
+			String componentName = String.format("%-38s", phase.getComponentName());
+
+			String elapsedTime = this.formatNanoTime((long)performanceMap.get(phase.getElapsedTimeKey()));
+			elapsedTime = String.format("%12s", elapsedTime); // Align the length of chars.
+			builder.append("    - " + componentName + " : " + elapsedTime);
+
+			// The allocated memory is not stored if it is not measurable on the current JVM.
+			if (performanceMap.containsKey(phase.getAllocatedBytesKey())) {
+				String allocatedBytes = this.formatRamBytes((long)performanceMap.get(phase.getAllocatedBytesKey()));
+				allocatedBytes = String.format("%10s", allocatedBytes); // Align the length of chars.
+				builder.append("   (" + allocatedBytes + " allocated)");
+			}
+			builder.append(eol);
+		}
+		return builder.toString();
+	}
+
 	/**
 	 * Format the instruction execution frequencies to be printed.
 	 *
@@ -129,6 +129,7 @@ public final class VnanoCommandLineApplication {
 		System.out.println("        token            : Tokens generated by the lexical analyzer.");
 		System.out.println("        parsedAst        : Abstract Syntax Tree (AST) generated by the parser.");
 		System.out.println("        analyzedAst      : Information-appended AST generated by the semantic analyzer.");
+		System.out.println("        optimizedAst     : AST of which constant expressions are evaluated by the constant folder.");
 		System.out.println("        assemblyCode     : Virtual assembly code written in the VRIL, generated by the code generator.");
 		System.out.println("        objectCode       : Virtual object code running on the VM, generated by the assembler.");
 		System.out.println("        acceleratorCode  : Optimized instruction code running on the VM when the accelerator is enabled.");
@@ -228,6 +229,8 @@ public final class VnanoCommandLineApplication {
 		System.out.println("        speed            : VM drive speed (Number of executed instructions per second).");
 		System.out.println("        ram              : Memory usage.");
 		System.out.println("        instructionFreq  : Frequencies of that each instruction is being executed at periodic sampling moments.");
+		System.out.println("        phase            : Elapsed time and allocated memory of each phase of the compiler, the assembler,");
+		System.out.println("                           and the accelerator (printed when the execution has completed).");
 		System.out.println("        all (default)    : All of the above performance monitoring targets.");
 		System.out.println("");
 		System.out.println("    e.g.");
@@ -419,6 +422,7 @@ public final class VnanoCommandLineApplication {
 		System.out.println("        token            : コードから、字句解析器によって分割されたトークン列");
 		System.out.println("        parsedAst        : 構文解析器で生成された直後の抽象構文木（AST）");
 		System.out.println("        analyzedAst      : 意味解析器によって、型情報などが補完された抽象構文木（AST）");
+		System.out.println("        optimizedAst     : 定数畳み込みによって、定数式が評価済みの値に置き換えられた抽象構文木（AST）");
 		System.out.println("        assemblyCode     : コード生成器で生成された、VRILで記述された仮想的なアセンブリコード");
 		System.out.println("        objectCode       : アセンブラで生成された、仮想マシン（VM）上で実行可能なオブジェクトコード");
 		System.out.println("        acceleratorCode  : 最適化された命令列（アクセラレーター有効時のみ使用可能）");
@@ -514,6 +518,7 @@ public final class VnanoCommandLineApplication {
 		System.out.println("        speed            : 仮想（VM）マシンの動作速度（秒間あたり命令実行数）");
 		System.out.println("        ram              : メモリー使用量");
 		System.out.println("        instructionFreq  : 各命令種類ごとの実行頻度（サンプリングにより計測）");
+		System.out.println("        phase            : コンパイラ/アセンブラ/アクセラレータの各処理段階の所要時間とメモリ確保量（実行完了時に表示）");
 		System.out.println("        all (default)    : 上記の全て");
 		System.out.println("");
 		System.out.println("    使用例");
@@ -732,6 +737,9 @@ public final class VnanoCommandLineApplication {
 	/** Represents the "analyzedAst" dump target. */
 	private static final String DUMP_TARGET_ANALYZED_AST = "analyzedAst";
 
+	/** Represents the "optimizedAst" dump target. */
+	private static final String DUMP_TARGET_OPTIMIZED_AST = "optimizedAst";
+
 	/** Represents the "assemblyCode" dump target. */
 	private static final String DUMP_TARGET_ASSEMBLY_CODE = "assemblyCode";
 
@@ -758,6 +766,7 @@ public final class VnanoCommandLineApplication {
 		DUMP_TARGET_COMMANDOPT_ENGINEOPT_MAP.put(DUMP_TARGET_TOKEN, OptionValue.DUMPER_TARGET_TOKEN);
 		DUMP_TARGET_COMMANDOPT_ENGINEOPT_MAP.put(DUMP_TARGET_PARSED_AST, OptionValue.DUMPER_TARGET_PARSED_AST);
 		DUMP_TARGET_COMMANDOPT_ENGINEOPT_MAP.put(DUMP_TARGET_ANALYZED_AST, OptionValue.DUMPER_TARGET_ANALYZED_AST);
+		DUMP_TARGET_COMMANDOPT_ENGINEOPT_MAP.put(DUMP_TARGET_OPTIMIZED_AST, OptionValue.DUMPER_TARGET_OPTIMIZED_AST);
 		DUMP_TARGET_COMMANDOPT_ENGINEOPT_MAP.put(DUMP_TARGET_ASSEMBLY_CODE, OptionValue.DUMPER_TARGET_ASSEMBLY_CODE);
 		DUMP_TARGET_COMMANDOPT_ENGINEOPT_MAP.put(DUMP_TARGET_OBJECT_CODE, OptionValue.DUMPER_TARGET_OBJECT_CODE);
 		DUMP_TARGET_COMMANDOPT_ENGINEOPT_MAP.put(DUMP_TARGET_ACCELERATOR_CODE, OptionValue.DUMPER_TARGET_ACCELERATOR_CODE);
@@ -779,6 +788,9 @@ public final class VnanoCommandLineApplication {
 	/** Represents the "instructionFreq" perf target. */
 	private static final String PERF_TARGET_INSTRUCTION_FREQ = "instructionFreq";
 
+	/** Represents the "phase" perf target. */
+	private static final String PERF_TARGET_PHASE = "phase";
+
 	/** Represents the "all" perf target. */
 	private static final String PERF_TARGET_ALL = "all";
 
@@ -791,6 +803,7 @@ public final class VnanoCommandLineApplication {
 		PERF_TARGET_SET.add(PERF_TARGET_SPEED);
 		PERF_TARGET_SET.add(PERF_TARGET_RAM);
 		PERF_TARGET_SET.add(PERF_TARGET_INSTRUCTION_FREQ);
+		PERF_TARGET_SET.add(PERF_TARGET_PHASE);
 		PERF_TARGET_SET.add(PERF_TARGET_ALL);
 	}
 
@@ -1601,9 +1614,11 @@ public final class VnanoCommandLineApplication {
 			boolean printsVmSpeed = this.perfTarget.equals(PERF_TARGET_ALL) || this.perfTarget.equals(PERF_TARGET_SPEED);
 			boolean printsRamUsage = this.perfTarget.equals(PERF_TARGET_ALL) || this.perfTarget.equals(PERF_TARGET_RAM);
 			boolean printsInstructionFreq = this.perfTarget.equals(PERF_TARGET_ALL) || this.perfTarget.equals(PERF_TARGET_INSTRUCTION_FREQ);
+			boolean printsPhasePerformance = this.perfTarget.equals(PERF_TARGET_ALL) || this.perfTarget.equals(PERF_TARGET_PHASE);
 			perfValuePrinter = new PerformanceValuePrinter(
 				engine, printsVmSpeed, printsRamUsage, printsInstructionFreq // そろそろ setter にしたほうが
 			);
+			perfValuePrinter.setPrintsPhasePerformance(printsPhasePerformance);
 			Thread perfValuePrintThread = new Thread(perfValuePrinter);
 			perfValuePrintThread.start();
 		}
@@ -201,6 +201,13 @@ public class ErrorMessage {
 			case INVALID_DEPENDENCY_DECLARATION_LOCATION: return "import/include宣言が、想定外の場所にあります。正しくは、スクリプトの先頭付近（ヘッダ領域）に書く必要があります。";
 			case DECLARED_DEPENDENCY_IS_NOT_AVAILABLE: return "このスクリプトは「 " + words[0] + " 」の機能群を使用しますが、それを提供するライブラリ/プラグインが読み込まれていません。ライブラリ/プラグインの読み込み設定を確認してください。";
 			case INVALID_REEXECUTION_REQUEST: return "まだ一度もスクリプトを実行していない状態で、reexecuteLastAssemblyCode メソッドによる再実行が要求されました。";
+			case COMPILED_SCRIPT_OF_ANOTHER_ENGINE: return "別のエンジンでコンパイルされたスクリプトの実行が要求されました。コンパイル済みスクリプトは、それをコンパイルしたエンジンでのみ実行できます。";
+			case ENGINE_NOT_BORROWED_FROM_POOL: return "エンジンプールから借りていない（または既に返却された）エンジンの返却が要求されました。";
+			case ENGINE_POOL_IS_CLOSED: return "既にクローズされたエンジンプールから、エンジンを借りようとしました。";
+			case INVALID_OBJECT_CODE_FORMAT: return "読み込まれたバイナリ形式のVMオブジェクトコードの内容が不正です（ファイルが破損している可能性があります）。";
+			case OBJECT_CODE_VERSION_MISMATCH: return "読み込まれたバイナリ形式のVMオブジェクトコードは、異なるバージョンのエンジン（" + words[0] + "）で生成されたため、このエンジン（" + words[1] + "）では使用できません。";
+			case BATCH_RESULT_IS_NOT_SCALAR: return "バッチ実行されたスクリプトの評価値が、スカラではありません（バッチ実行では、スカラの評価値のみをサポートしています）。";
+			case UNSUPPORTED_EXPRESSION_RESULT_TYPE: return "式の評価値のデータ型（" + words[0] + "）は、この評価方法ではサポートされていません（サポートされている型: " + words[1] + "）。";
 			case UNEXPECTED_ACCELERATOR_CRASH : return "予期しないVMエラー (命令アドレス: " + words[0] + ", 再配置後命令アドレス: " + words[1] + ")";
 			case UNEXPECTED_PROCESSOR_CRASH : return "予期しないVMエラー（命令アドレス: " + words[0] + ")";
 			case UNEXPECTED : return "予期しないエラー";
@@ -334,6 +341,13 @@ public class ErrorMessage {
 			case INVALID_DEPENDENCY_DECLARATION_LOCATION: return "The location of the \"import\" / \"include\" declaration is incorrect. It should be described at the near the top (header section) of the script.";
 			case DECLARED_DEPENDENCY_IS_NOT_AVAILABLE: return "This script requires features of \"" + words[0] + "\", but no library or plug-in providing them is not loaded. Check the settings to load libraries/plug-ins.";
 			case INVALID_REEXECUTION_REQUEST: return "The re-execution of the last executed code has been requested (by reexecuteLastAssemblyCode method), but this engine has no executed code yet.";
+			case COMPILED_SCRIPT_OF_ANOTHER_ENGINE: return "The execution of the script compiled by another engine has been requested. A compiled script can be executed only on the engine which compiled it.";
+			case ENGINE_NOT_BORROWED_FROM_POOL: return "The return of the engine which has not been borrowed from the engine pool (or has already been returned) has been requested.";
+			case ENGINE_POOL_IS_CLOSED: return "An engine has been requested to be borrowed from the engine pool which has already been closed.";
+			case INVALID_OBJECT_CODE_FORMAT: return "The content of the loaded VM object code in the binary format is invalid (the file may be broken).";
+			case OBJECT_CODE_VERSION_MISMATCH: return "The loaded VM object code in the binary format can not be used on this engine (" + words[1] + "), because it has been generated by the engine of the different version (" + words[0] + ").";
+			case BATCH_RESULT_IS_NOT_SCALAR: return "The evaluated value of the script executed in batch mode is not a scalar (only scalar evaluated values are supported in batch mode).";
+			case UNSUPPORTED_EXPRESSION_RESULT_TYPE: return "The data type of the evaluated value of the expression (" + words[0] + ") is not supported by this way of the evaluation (supported types: " + words[1] + ").";
 			case UNEXPECTED_ACCELERATOR_CRASH : return "Unexpected VM Error (instruction-addr: " + words[0] + ", reordered-instruction-addr: " + words[1] + ")";
 			case UNEXPECTED_PROCESSOR_CRASH : return "Unexpected VM Error (instruction-addr: " + words[0] + ")";
 			case UNEXPECTED : return "Unexpected Error";
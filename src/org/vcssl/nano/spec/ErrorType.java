@@ -122,6 +122,13 @@ public enum ErrorType {
 	INVALID_DEPENDENCY_DECLARATION_LOCATION,
 	DECLARED_DEPENDENCY_IS_NOT_AVAILABLE,
 	INVALID_REEXECUTION_REQUEST,
+	COMPILED_SCRIPT_OF_ANOTHER_ENGINE,
+	ENGINE_NOT_BORROWED_FROM_POOL,
+	ENGINE_POOL_IS_CLOSED,
+	INVALID_OBJECT_CODE_FORMAT,
+	OBJECT_CODE_VERSION_MISMATCH,
+	BATCH_RESULT_IS_NOT_SCALAR,
+	UNSUPPORTED_EXPRESSION_RESULT_TYPE,
 	UNEXPECTED_ACCELERATOR_CRASH,
 	UNEXPECTED_PROCESSOR_CRASH,
 	UNEXPECTED,
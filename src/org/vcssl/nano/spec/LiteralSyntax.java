@@ -7,6 +7,7 @@ package org.vcssl.nano.spec;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.regex.Pattern;
 
 import org.vcssl.nano.VnanoFatalException;
 import org.vcssl.nano.VnanoException;
@@ -117,6 +118,18 @@ public class LiteralSyntax {
 	protected static final String BOOL_LITERAL_REGEX = "^" + TRUE + "|" + FALSE + "$";
 
 
+	/** The compiled pattern of {@link LiteralSyntax#INT_LITERAL_REGEX}, for avoiding compilations of the regex for each token. */
+	private static final Pattern INT_LITERAL_PATTERN = Pattern.compile(INT_LITERAL_REGEX);
+
+
+	/** The compiled pattern of {@link LiteralSyntax#FLOAT_LITERAL_REGEX}, for avoiding compilations of the regex for each token. */
+	private static final Pattern FLOAT_LITERAL_PATTERN = Pattern.compile(FLOAT_LITERAL_REGEX);
+
+
+	/** The compiled pattern of {@link LiteralSyntax#BOOL_LITERAL_REGEX}, for avoiding compilations of the regex for each token. */
+	private static final Pattern BOOL_LITERAL_PATTERN = Pattern.compile(BOOL_LITERAL_REGEX);
+
+
 	/** The prefix character of escape sequences in string literals. */
 	private static final char STEING_LITERAL_ESCAPE = '\\';
 
@@ -136,12 +149,7 @@ public class LiteralSyntax {
 	 * @return The check result ("true" if it can be interpreted as the literal).
 	 */
 	public static final boolean isValidLiteral(String token) {
-		try {
-			getDataTypeNameOfLiteral(token);
-			return true;
-		} catch (VnanoFatalException e) {
-			return false;
-		}
+		return detectDataTypeNameOfLiteral(token) != null;
 	}
 
 
@@ -153,28 +161,51 @@ public class LiteralSyntax {
 	 * @throws VnanoFatalException Thrown when the specified literal could not be interpreted.
 	 */
 	public static final String getDataTypeNameOfLiteral(String literal) throws VnanoFatalException {
+		String dataTypeName = detectDataTypeNameOfLiteral(literal);
+		if (dataTypeName == null) {
+			throw new VnanoFatalException("Invalid literal: " + literal);
+		}
+		return dataTypeName;
+	}
+
+
+	/**
+	 * Determines the data type of the specified literal and returns its name, or returns null if it is not a literal.
+	 *
+	 * This method is separated from {@link LiteralSyntax#getDataTypeNameOfLiteral getDataTypeNameOfLiteral}
+	 * for checking many tokens (most of them are not literals) without throwing exceptions.
+	 *
+	 * @param literal The literal for which get the name of the data type.
+	 * @return The name of the data type of the literal, or null if the specified token could not be interpreted as a literal.
+	 */
+	private static final String detectDataTypeNameOfLiteral(String literal) {
 
 		int literalLength = literal.length();
+		char firstChar = literal.charAt(0);
+
+		// Int/float literals always begin with a number or a floating point,
+		// so skip matchings of regexes for other tokens (identifiers and so on).
+		boolean isNumericLiteralCandidate = ('0' <= firstChar && firstChar <= '9') || firstChar == '.';
 
-		if (literal.matches(INT_LITERAL_REGEX)) {
+		if (isNumericLiteralCandidate && INT_LITERAL_PATTERN.matcher(literal).matches()) {
 			return DataTypeName.DEFAULT_INT;
 		}
 
-		if (literal.matches(FLOAT_LITERAL_REGEX)) {
+		if (isNumericLiteralCandidate && FLOAT_LITERAL_PATTERN.matcher(literal).matches()) {
 			return DataTypeName.DEFAULT_FLOAT;
 		}
 
-		if (literal.matches(BOOL_LITERAL_REGEX)) {
+		if (BOOL_LITERAL_PATTERN.matcher(literal).matches()) {
 			return DataTypeName.BOOL;
 		}
 
-		if (literal.charAt(0) == STRING_LITERAL_QUOT
+		if (firstChar == STRING_LITERAL_QUOT
 				&& literal.charAt(literalLength-1) == STRING_LITERAL_QUOT
 				&& literal.length()>=2) {
 			return DataTypeName.STRING;
 		}
 
-		throw new VnanoFatalException("Invalid literal: " + literal);
+		return null;
 	}
 
 
@@ -5,6 +5,7 @@ import static org.junit.Assert.*;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.vcssl.nano.VnanoFatalException;
 
 public class LiteralSyntaxTest {
 
@@ -101,4 +102,35 @@ public class LiteralSyntaxTest {
 		assertFalse("".matches(LiteralSyntax.BOOL_LITERAL_REGEX));
 		assertFalse(" ".matches(LiteralSyntax.BOOL_LITERAL_REGEX));
 	}
+
+	@Test
+	public void testGetDataTypeNameOfLiteral() {
+		assertEquals(DataTypeName.DEFAULT_INT, LiteralSyntax.getDataTypeNameOfLiteral("123"));
+		assertEquals(DataTypeName.DEFAULT_INT, LiteralSyntax.getDataTypeNameOfLiteral("0x1F"));
+		assertEquals(DataTypeName.DEFAULT_FLOAT, LiteralSyntax.getDataTypeNameOfLiteral("1.5e-3"));
+		assertEquals(DataTypeName.DEFAULT_FLOAT, LiteralSyntax.getDataTypeNameOfLiteral(".5"));
+		assertEquals(DataTypeName.BOOL, LiteralSyntax.getDataTypeNameOfLiteral("true"));
+		assertEquals(DataTypeName.STRING, LiteralSyntax.getDataTypeNameOfLiteral("\"abc\""));
+		try {
+			LiteralSyntax.getDataTypeNameOfLiteral("abc");
+			fail("Expected exception has not been thrown");
+		} catch (VnanoFatalException e) {
+			// Expected to be thrown
+		}
+	}
+
+	@Test
+	public void testIsValidLiteral() {
+		assertTrue(LiteralSyntax.isValidLiteral("123L"));
+		assertTrue(LiteralSyntax.isValidLiteral("2.5f"));
+		assertTrue(LiteralSyntax.isValidLiteral("false"));
+		assertTrue(LiteralSyntax.isValidLiteral("\"1\""));
+
+		// Identifiers and so on are not literals.
+		assertFalse(LiteralSyntax.isValidLiteral("abc"));
+		assertFalse(LiteralSyntax.isValidLiteral("e10"));
+		assertFalse(LiteralSyntax.isValidLiteral("TRUE"));
+		assertFalse(LiteralSyntax.isValidLiteral("1abc"));
+		assertFalse(LiteralSyntax.isValidLiteral("\""));
+	}
 }
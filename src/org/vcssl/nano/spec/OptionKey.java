@@ -81,6 +81,84 @@ public class OptionKey {
 	public static final String ACCELERATOR_OPTIMIZATION_LEVEL = "ACCELERATOR_OPTIMIZATION_LEVEL";
 
 
+	/**
+	 * Specify the number of executions of the same code on the processor (the interpreter),
+	 * before switching to the {@link org.vcssl.nano.vm.accelerator.Accelerator Accelerator}.
+	 *
+	 * The accelerator requires some preparation costs (analysis, optimization, and so on) before running the code,
+	 * so it may be slower than the processor for a script which is executed only once or a few times.
+	 * When the value of this option is positive, the code is executed on the processor at first,
+	 * and switched to the accelerator when it has been executed the specified number of times (when it becomes "hot").
+	 * The number of executions is counted for each compiled code (cached script, compiled script, and so on).
+	 * This option works only when {@link OptionKey#ACCELERATOR_ENABLED ACCELERATOR_ENABLED} option is enabled.
+	 *
+	 * The value of this option is "Integer" type. Specify 0 (default) to use the accelerator from the first execution.
+	 */
+	public static final String ACCELERATOR_TIER_UP_THRESHOLD = "ACCELERATOR_TIER_UP_THRESHOLD";
+
+
+	/**
+	 * An option to prepare the accelerator on a background thread,
+	 * when the code is switched from the processor to the accelerator
+	 * (see {@link OptionKey#ACCELERATOR_TIER_UP_THRESHOLD ACCELERATOR_TIER_UP_THRESHOLD} option).
+	 *
+	 * When this option is enabled, the code continues to be executed on the processor while the accelerator is being prepared,
+	 * and is switched to the accelerator at the first execution after the preparation has completed.
+	 * Otherwise, the accelerator is prepared at the beginning of the execution just after the code becomes "hot".
+	 *
+	 * The value of this option is "Boolean" type. Specify "Boolean.TRUE" to enable this option.
+	 */
+	public static final String ACCELERATOR_TIER_UP_IN_BACKGROUND = "ACCELERATOR_TIER_UP_IN_BACKGROUND";
+
+
+	/**
+	 * An option to reuse virtual registers in the VM object code,
+	 * of which lifetimes have already ended, for reducing the number of registers (and data containers of them).
+	 *
+	 * When this option is enabled, the assembler re-assigns addresses of registers
+	 * storing temporary values of expressions, based on the liveness of them in each straight-line block of code.
+	 * It reduces the memory usage of large scripts, but some optimizations in
+	 * {@link org.vcssl.nano.vm.accelerator.Accelerator Accelerator} are not applied to reused registers,
+	 * because they require that each register is written only once.
+	 *
+	 * The value of this option is "Boolean" type. Specify "Boolean.TRUE" to enable this option.
+	 */
+	public static final String REGISTER_REUSE_ENABLED = "REGISTER_REUSE_ENABLED";
+
+
+	/**
+	 * Specify the maximum number of compiled scripts cached in the engine.
+	 *
+	 * When a script is executed, the engine caches the compiled code and resources for running it
+	 * (the memory, the execution nodes of the accelerator, and so on),
+	 * and re-uses them when the same script is executed again, for skipping the compilation and so on.
+	 * If the number of cached scripts exceeds the value of this option,
+	 * the least recently executed script is removed from the cache.
+	 * Note that, all cached scripts are removed when options, permissions, plug-ins or library scripts are changed,
+	 * because the cached resources depend on them.
+	 *
+	 * The value of this option is "Integer" type. Specify 0 to disable the caching.
+	 */
+	public static final String COMPILED_SCRIPT_CACHE_SIZE = "COMPILED_SCRIPT_CACHE_SIZE";
+
+
+	/**
+	 * Specify the path of the directory in which compiled scripts are stored as files,
+	 * for skipping compilations of the same scripts on every launch of the application.
+	 *
+	 * When the value of this option is not empty, the engine computes the hash value of a script
+	 * (with library scripts, some options, and signatures of external functions/variables),
+	 * and loads the compiled code from the file named by the hash value in the directory, if it exists.
+	 * Otherwise, the engine compiles the script, and stores the compiled code to the file.
+	 * Files written by the engine of a different version are ignored and overwritten.
+	 * Note that, contents of the dumper (see {@link OptionKey#DUMPER_ENABLED DUMPER_ENABLED} option)
+	 * about the compilation are not output when the compiled code is loaded from the file.
+	 *
+	 * The value of this option is "String" type. Specify an empty string (default) to disable this feature.
+	 */
+	public static final String COMPILED_SCRIPT_CACHE_DIRECTORY = "COMPILED_SCRIPT_CACHE_DIRECTORY";
+
+
 	/**
 	 * An option to enable/disable the feature for terminating a running script.
 	 *
@@ -64,6 +64,14 @@ public final class OptionValue {
 	public static final String DUMPER_TARGET_ANALYZED_AST = "ANALYZED_AST";
 
 
+	/**
+	 * (A value of {@link OptionKey#DUMPER_TARGET DUMPER_TARGET} option)
+	 *
+	 * Dump the optimized AST, which is the output of the {@link org.vcssl.nano.compiler.ConstantFolder}.
+	 */
+	public static final String DUMPER_TARGET_OPTIMIZED_AST = "OPTIMIZED_AST";
+
+
 	/**
 	 * (A value of {@link OptionKey#DUMPER_TARGET DUMPER_TARGET} option)
 	 *
@@ -129,7 +137,8 @@ public final class OptionValue {
 	 * (A value of {@link OptionKey#ACCELERATOR_OPTIMIZATION_LEVEL ACCELERATOR_OPTIMIZATION_LEVEL} option)
 	 *
 	 * The optimization level to reduce overhead processing costs by replacing operands/instructions in code,
-	 * by removing unnecessary instructions, and by fusing multiple instructions into a instruction.
+	 * by removing unnecessary instructions, by moving loop-invariant operations out of loops,
+	 * and by fusing multiple instructions into a instruction.
 	 */
 	public static final int ACCELERATOR_OPTIMIZATION_LEVEL_2 = 2;
 
@@ -143,12 +152,21 @@ public final class OptionValue {
 	public static final int ACCELERATOR_OPTIMIZATION_LEVEL_3 = 3;
 
 
+	/**
+	 * (A value of {@link OptionKey#ACCELERATOR_OPTIMIZATION_LEVEL ACCELERATOR_OPTIMIZATION_LEVEL} option)
+	 *
+	 * The optimization level to enable optimizations based on analyses of values flowing between instructions,
+	 * such as eliminations of common subexpressions (reusing results of the same operations computed previously), and so on.
+	 */
+	public static final int ACCELERATOR_OPTIMIZATION_LEVEL_4 = 4;
+
+
 	/**
 	 * (A value of {@link OptionKey#ACCELERATOR_OPTIMIZATION_LEVEL ACCELERATOR_OPTIMIZATION_LEVEL} option)
 	 *
 	 * The maximum optimization level currently supported.
 	 */
-	public static final int ACCELERATOR_OPTIMIZATION_LEVEL_MAX = ACCELERATOR_OPTIMIZATION_LEVEL_3;
+	public static final int ACCELERATOR_OPTIMIZATION_LEVEL_MAX = ACCELERATOR_OPTIMIZATION_LEVEL_4;
 
 
 	/**
@@ -156,7 +174,27 @@ public final class OptionValue {
 	 *
 	 * The default optimization level.
 	 */
-	public static final int ACCELERATOR_OPTIMIZATION_LEVEL_DEFAULT = ACCELERATOR_OPTIMIZATION_LEVEL_3;
+	public static final int ACCELERATOR_OPTIMIZATION_LEVEL_DEFAULT = ACCELERATOR_OPTIMIZATION_LEVEL_4;
+
+
+	/**
+	 * The default value of {@link OptionKey#ACCELERATOR_TIER_UP_THRESHOLD ACCELERATOR_TIER_UP_THRESHOLD} option
+	 * (0, which uses the accelerator from the first execution).
+	 */
+	public static final int ACCELERATOR_TIER_UP_THRESHOLD_DEFAULT = 0;
+
+
+	/**
+	 * The default value of {@link OptionKey#COMPILED_SCRIPT_CACHE_SIZE COMPILED_SCRIPT_CACHE_SIZE} option.
+	 */
+	public static final int COMPILED_SCRIPT_CACHE_SIZE_DEFAULT = 1;
+
+
+	/**
+	 * The default value of {@link OptionKey#COMPILED_SCRIPT_CACHE_DIRECTORY COMPILED_SCRIPT_CACHE_DIRECTORY} option
+	 * (empty, which disables the feature).
+	 */
+	public static final String COMPILED_SCRIPT_CACHE_DIRECTORY_DEFAULT = "";
 
 
 	/** A map contains default values of the option map. */
@@ -168,6 +206,11 @@ public final class OptionValue {
 		DEFAULT_VALUE_MAP.put(OptionKey.LOCALE, Locale.getDefault());
 		DEFAULT_VALUE_MAP.put(OptionKey.ACCELERATOR_ENABLED, Boolean.TRUE);
 		DEFAULT_VALUE_MAP.put(OptionKey.ACCELERATOR_OPTIMIZATION_LEVEL, ACCELERATOR_OPTIMIZATION_LEVEL_DEFAULT);
+		DEFAULT_VALUE_MAP.put(OptionKey.ACCELERATOR_TIER_UP_THRESHOLD, ACCELERATOR_TIER_UP_THRESHOLD_DEFAULT);
+		DEFAULT_VALUE_MAP.put(OptionKey.ACCELERATOR_TIER_UP_IN_BACKGROUND, Boolean.FALSE);
+		DEFAULT_VALUE_MAP.put(OptionKey.REGISTER_REUSE_ENABLED, Boolean.FALSE);
+		DEFAULT_VALUE_MAP.put(OptionKey.COMPILED_SCRIPT_CACHE_SIZE, COMPILED_SCRIPT_CACHE_SIZE_DEFAULT);
+		DEFAULT_VALUE_MAP.put(OptionKey.COMPILED_SCRIPT_CACHE_DIRECTORY, COMPILED_SCRIPT_CACHE_DIRECTORY_DEFAULT);
 		DEFAULT_VALUE_MAP.put(OptionKey.TERMINATOR_ENABLED, Boolean.FALSE);
 		DEFAULT_VALUE_MAP.put(OptionKey.PERFORMANCE_MONITOR_ENABLED, Boolean.FALSE);
 		DEFAULT_VALUE_MAP.put(OptionKey.DUMPER_ENABLED, Boolean.FALSE);
@@ -275,6 +318,11 @@ public final class OptionValue {
 		checkValueOf(OptionKey.EVAL_ONLY_EXPRESSION, optionMap, Boolean.class);
 		checkValueOf(OptionKey.LOCALE, optionMap, Locale.class);
 		checkValueOf(OptionKey.ACCELERATOR_ENABLED, optionMap, Boolean.class);
+		checkValueOf(OptionKey.ACCELERATOR_TIER_UP_THRESHOLD, optionMap, Integer.class);
+		checkValueOf(OptionKey.ACCELERATOR_TIER_UP_IN_BACKGROUND, optionMap, Boolean.class);
+		checkValueOf(OptionKey.REGISTER_REUSE_ENABLED, optionMap, Boolean.class);
+		checkValueOf(OptionKey.COMPILED_SCRIPT_CACHE_SIZE, optionMap, Integer.class);
+		checkValueOf(OptionKey.COMPILED_SCRIPT_CACHE_DIRECTORY, optionMap, String.class);
 		checkValueOf(OptionKey.TERMINATOR_ENABLED, optionMap, Boolean.class);
 		checkValueOf(OptionKey.PERFORMANCE_MONITOR_ENABLED, optionMap, Boolean.class);
 		checkValueOf(OptionKey.DUMPER_ENABLED, optionMap, Boolean.class);
@@ -291,6 +339,22 @@ public final class OptionValue {
 		checkValueOf(OptionKey.STDIN_STREAM, optionMap, InputStream.class);
 		checkValueOf(OptionKey.STDOUT_STREAM, optionMap, PrintStream.class);
 		checkValueOf(OptionKey.STDERR_STREAM, optionMap, PrintStream.class);
+
+		int tierUpThreshold = (Integer)optionMap.get(OptionKey.ACCELERATOR_TIER_UP_THRESHOLD);
+		if (tierUpThreshold < 0) {
+			throw new VnanoException(
+				ErrorType.INVALID_OPTION_VALUE_CONTENT,
+				new String[] { OptionKey.ACCELERATOR_TIER_UP_THRESHOLD, Integer.toString(tierUpThreshold) }
+			);
+		}
+
+		int compiledScriptCacheSize = (Integer)optionMap.get(OptionKey.COMPILED_SCRIPT_CACHE_SIZE);
+		if (compiledScriptCacheSize < 0) {
+			throw new VnanoException(
+				ErrorType.INVALID_OPTION_VALUE_CONTENT,
+				new String[] { OptionKey.COMPILED_SCRIPT_CACHE_SIZE, Integer.toString(compiledScriptCacheSize) }
+			);
+		}
 	}
 
 
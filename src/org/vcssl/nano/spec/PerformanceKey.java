@@ -38,4 +38,360 @@ public class PerformanceKey {
 	 */
 	public static final String CURRENTLY_EXECUTED_OPERATION_CODE = "CURRENTLY_EXECUTED_OPERATION_CODE";
 
+
+	/**
+	 * The number of executions of scripts which have been performed by using cached compiled code,
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Integer" type.
+	 * For the capacity of the cache, see {@link OptionKey#COMPILED_SCRIPT_CACHE_SIZE COMPILED_SCRIPT_CACHE_SIZE} option.
+	 */
+	public static final String COMPILED_SCRIPT_CACHE_HIT_COUNT_INT_VALUE = "COMPILED_SCRIPT_CACHE_HIT_COUNT_INT_VALUE";
+
+
+	/**
+	 * The number of executions of scripts which have required compilations because no cached compiled code was found,
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Integer" type.
+	 */
+	public static final String COMPILED_SCRIPT_CACHE_MISS_COUNT_INT_VALUE = "COMPILED_SCRIPT_CACHE_MISS_COUNT_INT_VALUE";
+
+
+	/**
+	 * The number of cached compiled scripts which have been removed from the cache to stay within its capacity,
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Integer" type.
+	 * Note that, clearings of the cache caused by changes of options, plug-ins, and so on, are not counted.
+	 */
+	public static final String COMPILED_SCRIPT_CACHE_EVICTION_COUNT_INT_VALUE = "COMPILED_SCRIPT_CACHE_EVICTION_COUNT_INT_VALUE";
+
+
+	/**
+	 * The number of executions of code which have been performed on the processor (the interpreter)
+	 * before switching to the accelerator, from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Integer" type.
+	 * For details, see {@link OptionKey#ACCELERATOR_TIER_UP_THRESHOLD ACCELERATOR_TIER_UP_THRESHOLD} option.
+	 */
+	public static final String ACCELERATOR_TIER_UP_COLD_EXECUTION_COUNT_INT_VALUE = "ACCELERATOR_TIER_UP_COLD_EXECUTION_COUNT_INT_VALUE";
+
+
+	/**
+	 * The number of switchings of code from the processor (the interpreter) to the accelerator,
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Integer" type.
+	 * A switching is counted when the code is executed on the accelerator for the first time.
+	 * For details, see {@link OptionKey#ACCELERATOR_TIER_UP_THRESHOLD ACCELERATOR_TIER_UP_THRESHOLD} option.
+	 */
+	public static final String ACCELERATOR_TIER_UP_COUNT_INT_VALUE = "ACCELERATOR_TIER_UP_COUNT_INT_VALUE";
+
+
+	/**
+	 * The total number of requests of data arrays to the pool of data in the VM,
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * Data arrays are requested when ALLOC instructions allocate arrays of which sizes are changed.
+	 */
+	public static final String DATA_POOL_ARRAY_REQUEST_COUNT_LONG_VALUE = "DATA_POOL_ARRAY_REQUEST_COUNT_LONG_VALUE";
+
+
+	/**
+	 * The total number of requests of data arrays satisfied by arrays reused from the pool of data in the VM,
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * Arrays are returned to the pool by FREE instructions, and when resources of executed scripts are discarded
+	 * (e.g.: when they are removed from the cache of compiled scripts).
+	 */
+	public static final String DATA_POOL_ARRAY_HIT_COUNT_LONG_VALUE = "DATA_POOL_ARRAY_HIT_COUNT_LONG_VALUE";
+
+
+	/**
+	 * The ratio of the number of requests of data arrays satisfied by reused arrays, to the number of all requests of them.
+	 *
+	 * The measured value of this monitoring item is "Double" type, and its range is from 0.0 to 1.0.
+	 * This item is not provided until any data array is requested.
+	 */
+	public static final String DATA_POOL_ARRAY_HIT_RATIO_DOUBLE_VALUE = "DATA_POOL_ARRAY_HIT_RATIO_DOUBLE_VALUE";
+
+
+	/**
+	 * The total number of requests of data containers to the pool of data in the VM,
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * Data containers are requested for all addresses of local variables and registers, for each fresh execution of a script.
+	 */
+	public static final String DATA_POOL_CONTAINER_REQUEST_COUNT_LONG_VALUE = "DATA_POOL_CONTAINER_REQUEST_COUNT_LONG_VALUE";
+
+
+	/**
+	 * The total number of requests of data containers satisfied by containers reused from the pool of data in the VM,
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 */
+	public static final String DATA_POOL_CONTAINER_HIT_COUNT_LONG_VALUE = "DATA_POOL_CONTAINER_HIT_COUNT_LONG_VALUE";
+
+
+	/**
+	 * The ratio of the number of requests of data containers satisfied by reused containers, to the number of all requests of them.
+	 *
+	 * The measured value of this monitoring item is "Double" type, and its range is from 0.0 to 1.0.
+	 * This item is not provided until any data container is requested.
+	 */
+	public static final String DATA_POOL_CONTAINER_HIT_RATIO_DOUBLE_VALUE = "DATA_POOL_CONTAINER_HIT_RATIO_DOUBLE_VALUE";
+
+	/**
+	 * The total time [ns] elapsed for preprocessing scripts by {@link org.vcssl.nano.compiler.Preprocessor},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * When multiple large scripts are processed in parallel, times elapsed on all threads are summed up.
+	 */
+	public static final String PREPROCESSOR_TOTAL_NANOSECONDS_LONG_VALUE = "PREPROCESSOR_TOTAL_NANOSECONDS_LONG_VALUE";
+
+	/**
+	 * The total size [bytes] of memory allocated for preprocessing scripts by {@link org.vcssl.nano.compiler.Preprocessor},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * This item is not provided on JVMs which can not measure the allocated memory of each thread.
+	 */
+	public static final String PREPROCESSOR_TOTAL_ALLOCATED_BYTES_LONG_VALUE = "PREPROCESSOR_TOTAL_ALLOCATED_BYTES_LONG_VALUE";
+
+	/**
+	 * The total time [ns] elapsed for tokenizing scripts by {@link org.vcssl.nano.compiler.LexicalAnalyzer},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * When multiple large scripts are processed in parallel, times elapsed on all threads are summed up.
+	 */
+	public static final String LEXICAL_ANALYZER_TOTAL_NANOSECONDS_LONG_VALUE = "LEXICAL_ANALYZER_TOTAL_NANOSECONDS_LONG_VALUE";
+
+	/**
+	 * The total size [bytes] of memory allocated for tokenizing scripts by {@link org.vcssl.nano.compiler.LexicalAnalyzer},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * This item is not provided on JVMs which can not measure the allocated memory of each thread.
+	 */
+	public static final String LEXICAL_ANALYZER_TOTAL_ALLOCATED_BYTES_LONG_VALUE = "LEXICAL_ANALYZER_TOTAL_ALLOCATED_BYTES_LONG_VALUE";
+
+	/**
+	 * The total time [ns] elapsed for parsing tokens to ASTs by {@link org.vcssl.nano.compiler.Parser},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * When multiple large scripts are processed in parallel, times elapsed on all threads are summed up.
+	 */
+	public static final String PARSER_TOTAL_NANOSECONDS_LONG_VALUE = "PARSER_TOTAL_NANOSECONDS_LONG_VALUE";
+
+	/**
+	 * The total size [bytes] of memory allocated for parsing tokens to ASTs by {@link org.vcssl.nano.compiler.Parser},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * This item is not provided on JVMs which can not measure the allocated memory of each thread.
+	 */
+	public static final String PARSER_TOTAL_ALLOCATED_BYTES_LONG_VALUE = "PARSER_TOTAL_ALLOCATED_BYTES_LONG_VALUE";
+
+	/**
+	 * The total time [ns] elapsed for analyzing ASTs by {@link org.vcssl.nano.compiler.SemanticAnalyzer},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 */
+	public static final String SEMANTIC_ANALYZER_TOTAL_NANOSECONDS_LONG_VALUE = "SEMANTIC_ANALYZER_TOTAL_NANOSECONDS_LONG_VALUE";
+
+	/**
+	 * The total size [bytes] of memory allocated for analyzing ASTs by {@link org.vcssl.nano.compiler.SemanticAnalyzer},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * This item is not provided on JVMs which can not measure the allocated memory of each thread.
+	 */
+	public static final String SEMANTIC_ANALYZER_TOTAL_ALLOCATED_BYTES_LONG_VALUE = "SEMANTIC_ANALYZER_TOTAL_ALLOCATED_BYTES_LONG_VALUE";
+
+	/**
+	 * The total time [ns] elapsed for folding constant expressions in ASTs by {@link org.vcssl.nano.compiler.ConstantFolder},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 */
+	public static final String CONSTANT_FOLDER_TOTAL_NANOSECONDS_LONG_VALUE = "CONSTANT_FOLDER_TOTAL_NANOSECONDS_LONG_VALUE";
+
+	/**
+	 * The total size [bytes] of memory allocated for folding constant expressions in ASTs by {@link org.vcssl.nano.compiler.ConstantFolder},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * This item is not provided on JVMs which can not measure the allocated memory of each thread.
+	 */
+	public static final String CONSTANT_FOLDER_TOTAL_ALLOCATED_BYTES_LONG_VALUE = "CONSTANT_FOLDER_TOTAL_ALLOCATED_BYTES_LONG_VALUE";
+
+	/**
+	 * The total time [ns] elapsed for generating VRIL code from ASTs by {@link org.vcssl.nano.compiler.CodeGenerator},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 */
+	public static final String CODE_GENERATOR_TOTAL_NANOSECONDS_LONG_VALUE = "CODE_GENERATOR_TOTAL_NANOSECONDS_LONG_VALUE";
+
+	/**
+	 * The total size [bytes] of memory allocated for generating VRIL code from ASTs by {@link org.vcssl.nano.compiler.CodeGenerator},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * This item is not provided on JVMs which can not measure the allocated memory of each thread.
+	 */
+	public static final String CODE_GENERATOR_TOTAL_ALLOCATED_BYTES_LONG_VALUE = "CODE_GENERATOR_TOTAL_ALLOCATED_BYTES_LONG_VALUE";
+
+	/**
+	 * The total time [ns] elapsed for assembling VRIL code to VM object code by {@link org.vcssl.nano.vm.assembler.Assembler},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 */
+	public static final String ASSEMBLER_TOTAL_NANOSECONDS_LONG_VALUE = "ASSEMBLER_TOTAL_NANOSECONDS_LONG_VALUE";
+
+	/**
+	 * The total size [bytes] of memory allocated for assembling VRIL code to VM object code by {@link org.vcssl.nano.vm.assembler.Assembler},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * This item is not provided on JVMs which can not measure the allocated memory of each thread.
+	 */
+	public static final String ASSEMBLER_TOTAL_ALLOCATED_BYTES_LONG_VALUE = "ASSEMBLER_TOTAL_ALLOCATED_BYTES_LONG_VALUE";
+
+	/**
+	 * The total time [ns] elapsed for analyzing data for the accelerator by "allocate" method of {@link org.vcssl.nano.vm.accelerator.AcceleratorDataManagementUnit},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 */
+	public static final String ACCELERATOR_DATA_MANAGEMENT_TOTAL_NANOSECONDS_LONG_VALUE = "ACCELERATOR_DATA_MANAGEMENT_TOTAL_NANOSECONDS_LONG_VALUE";
+
+	/**
+	 * The total size [bytes] of memory allocated for analyzing data for the accelerator by "allocate" method of {@link org.vcssl.nano.vm.accelerator.AcceleratorDataManagementUnit},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * This item is not provided on JVMs which can not measure the allocated memory of each thread.
+	 */
+	public static final String ACCELERATOR_DATA_MANAGEMENT_TOTAL_ALLOCATED_BYTES_LONG_VALUE = "ACCELERATOR_DATA_MANAGEMENT_TOTAL_ALLOCATED_BYTES_LONG_VALUE";
+
+	/**
+	 * The total time [ns] elapsed for assigning instructions to execution units of the accelerator tentatively by "preDispatch" method of {@link org.vcssl.nano.vm.accelerator.AcceleratorDispatchUnit},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 */
+	public static final String ACCELERATOR_PRE_DISPATCH_TOTAL_NANOSECONDS_LONG_VALUE = "ACCELERATOR_PRE_DISPATCH_TOTAL_NANOSECONDS_LONG_VALUE";
+
+	/**
+	 * The total size [bytes] of memory allocated for assigning instructions to execution units of the accelerator tentatively by "preDispatch" method of {@link org.vcssl.nano.vm.accelerator.AcceleratorDispatchUnit},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * This item is not provided on JVMs which can not measure the allocated memory of each thread.
+	 */
+	public static final String ACCELERATOR_PRE_DISPATCH_TOTAL_ALLOCATED_BYTES_LONG_VALUE = "ACCELERATOR_PRE_DISPATCH_TOTAL_ALLOCATED_BYTES_LONG_VALUE";
+
+	/**
+	 * The total time [ns] elapsed for optimizing instructions for the accelerator by "optimize" method of {@link org.vcssl.nano.vm.accelerator.AcceleratorOptimizationUnit},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 */
+	public static final String ACCELERATOR_OPTIMIZATION_TOTAL_NANOSECONDS_LONG_VALUE = "ACCELERATOR_OPTIMIZATION_TOTAL_NANOSECONDS_LONG_VALUE";
+
+	/**
+	 * The total size [bytes] of memory allocated for optimizing instructions for the accelerator by "optimize" method of {@link org.vcssl.nano.vm.accelerator.AcceleratorOptimizationUnit},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * This item is not provided on JVMs which can not measure the allocated memory of each thread.
+	 */
+	public static final String ACCELERATOR_OPTIMIZATION_TOTAL_ALLOCATED_BYTES_LONG_VALUE = "ACCELERATOR_OPTIMIZATION_TOTAL_ALLOCATED_BYTES_LONG_VALUE";
+
+	/**
+	 * The total time [ns] elapsed for generating execution nodes of the accelerator by "dispatch" method of {@link org.vcssl.nano.vm.accelerator.AcceleratorDispatchUnit},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 */
+	public static final String ACCELERATOR_DISPATCH_TOTAL_NANOSECONDS_LONG_VALUE = "ACCELERATOR_DISPATCH_TOTAL_NANOSECONDS_LONG_VALUE";
+
+	/**
+	 * The total size [bytes] of memory allocated for generating execution nodes of the accelerator by "dispatch" method of {@link org.vcssl.nano.vm.accelerator.AcceleratorDispatchUnit},
+	 * from when the monitoring target engine was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * This item is not provided on JVMs which can not measure the allocated memory of each thread.
+	 */
+	public static final String ACCELERATOR_DISPATCH_TOTAL_ALLOCATED_BYTES_LONG_VALUE = "ACCELERATOR_DISPATCH_TOTAL_ALLOCATED_BYTES_LONG_VALUE";
+
+
+	/**
+	 * The number of engines held by the monitoring target engine pool.
+	 *
+	 * The measured value of this monitoring item is "Integer" type.
+	 * This item is provided by {@link org.vcssl.nano.VnanoEnginePool#getPerformanceMap()}.
+	 */
+	public static final String ENGINE_POOL_SIZE_INT_VALUE = "ENGINE_POOL_SIZE_INT_VALUE";
+
+
+	/**
+	 * The number of engines which are currently borrowed from the monitoring target engine pool.
+	 *
+	 * The measured value of this monitoring item is "Integer" type.
+	 * This item is provided by {@link org.vcssl.nano.VnanoEnginePool#getPerformanceMap()}.
+	 */
+	public static final String ENGINE_POOL_BORROWED_ENGINE_COUNT_INT_VALUE = "ENGINE_POOL_BORROWED_ENGINE_COUNT_INT_VALUE";
+
+
+	/**
+	 * The ratio of the number of currently borrowed engines to the number of all engines in the monitoring target engine pool.
+	 *
+	 * The measured value of this monitoring item is "Double" type, and its range is from 0.0 to 1.0.
+	 * This item is provided by {@link org.vcssl.nano.VnanoEnginePool#getPerformanceMap()}.
+	 */
+	public static final String ENGINE_POOL_UTILIZATION_RATIO_DOUBLE_VALUE = "ENGINE_POOL_UTILIZATION_RATIO_DOUBLE_VALUE";
+
+
+	/**
+	 * The total number of engines which have been borrowed from the monitoring target engine pool,
+	 * from when the pool was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * This item is provided by {@link org.vcssl.nano.VnanoEnginePool#getPerformanceMap()}.
+	 */
+	public static final String ENGINE_POOL_BORROW_COUNT_LONG_VALUE = "ENGINE_POOL_BORROW_COUNT_LONG_VALUE";
+
+
+	/**
+	 * The total time [ns] for which borrowers have waited for engines to be available in the monitoring target engine pool,
+	 * from when the pool was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * The average wait time can be calculated by dividing this value by the value of
+	 * {@link PerformanceKey#ENGINE_POOL_BORROW_COUNT_LONG_VALUE ENGINE_POOL_BORROW_COUNT_LONG_VALUE}.
+	 * This item is provided by {@link org.vcssl.nano.VnanoEnginePool#getPerformanceMap()}.
+	 */
+	public static final String ENGINE_POOL_TOTAL_WAIT_NANOSECONDS_LONG_VALUE = "ENGINE_POOL_TOTAL_WAIT_NANOSECONDS_LONG_VALUE";
+
+
+	/**
+	 * The maximum time [ns] for which a borrower has waited for an engine to be available in the monitoring target engine pool,
+	 * from when the pool was instantiated.
+	 *
+	 * The measured value of this monitoring item is "Long" type.
+	 * This item is provided by {@link org.vcssl.nano.VnanoEnginePool#getPerformanceMap()}.
+	 */
+	public static final String ENGINE_POOL_MAX_WAIT_NANOSECONDS_LONG_VALUE = "ENGINE_POOL_MAX_WAIT_NANOSECONDS_LONG_VALUE";
 }
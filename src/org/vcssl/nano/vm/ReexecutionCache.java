@@ -6,9 +6,11 @@
 package org.vcssl.nano.vm;
 
 import org.vcssl.nano.interconnect.DataConverter;
+import org.vcssl.nano.vm.accelerator.Accelerator;
 import org.vcssl.nano.vm.memory.DataContainer;
 import org.vcssl.nano.vm.memory.Memory;
 import org.vcssl.nano.vm.processor.Instruction;
+import org.vcssl.nano.vm.processor.Processor;
 
 /**
  * The container class for storing resources generated for executing the last code,
@@ -19,9 +21,15 @@ public class ReexecutionCache {
 	/** The VM object code executed last time (call "last code" in this class). */
 	private volatile VirtualMachineObjectCode lastObjectCode;
 
+	/** The instructions of the last code, extracted when it was executed. */
+	private volatile Instruction[] lastInstructions = null;
+
 	/** The memory instance allocated for running the last code. */
 	private volatile Memory memory = null;
 
+	/** The resources (decoded operands and so on) generated by the processor for running the last code on the memory. */
+	private volatile Processor.ReprocessingCache processorReprocessingCache = null;
+
 	/** The container of the return value of the last code. */
 	private volatile DataContainer<?> resultDataContainer = null;
 
@@ -31,6 +39,24 @@ public class ReexecutionCache {
 	/** The flag representing whether the accelerator is enabled. */
 	private boolean acceleratorEnabled = false;
 
+	/** The resources (execution nodes and so on) generated by the accelerator for running the last code. */
+	private volatile Accelerator.ReprocessingCache acceleratorReprocessingCache = null;
+
+	/** The number of executions on the processor before switching to the accelerator (0 if the code is not executed in tiers). */
+	private int acceleratorTierUpThreshold = 0;
+
+	/** The flag representing whether the accelerator is prepared on a background thread when switching to it. */
+	private boolean acceleratorTierUpInBackground = false;
+
+	/** The number of executions of the last code performed on the processor before switching to the accelerator. */
+	private int coldExecutionCount = 0;
+
+	/** The flag representing whether the preparation of the accelerator has been requested to a background thread. */
+	private volatile boolean acceleratorPreparationRequested = false;
+
+	/** The resources prepared by the accelerator on a background thread, which will be used from the next execution. */
+	private volatile Accelerator.ReprocessingCache preparedAcceleratorReprocessingCache = null;
+
 
 	/**
 	 * Create an empty instance storing nothing.
@@ -58,6 +84,26 @@ public class ReexecutionCache {
 	}
 
 
+	/**
+	 * Sets the instructions of the last code, extracted when it was executed.
+	 *
+	 * @param lastInstructions The instructions of the last code.
+	 */
+	public void setLastInstructions(Instruction[] lastInstructions) {
+		this.lastInstructions = lastInstructions;
+	}
+
+	/**
+	 * Gets the instructions of the last code, extracted when it was executed.
+	 * Re-executions use this array, instead of extracting instructions from the last code again.
+	 *
+	 * @return The instructions of the last code.
+	 */
+	public Instruction[] getLastInstructions() {
+		return this.lastInstructions;
+	}
+
+
 	/**
 	 * Sets the memory instance allocated for running the last code.
 	 *
@@ -77,6 +123,26 @@ public class ReexecutionCache {
 	}
 
 
+	/**
+	 * Sets the resources (decoded operands and so on) generated by the processor for running the last code on the memory.
+	 * They are valid only while the same memory instance is used, so reset this when the memory is rebuilt or released.
+	 *
+	 * @param processorReprocessingCache The resources generated by the processor.
+	 */
+	public void setProcessorReprocessingCache(Processor.ReprocessingCache processorReprocessingCache) {
+		this.processorReprocessingCache = processorReprocessingCache;
+	}
+
+	/**
+	 * Gets the resources (decoded operands and so on) generated by the processor for running the last code on the memory.
+	 *
+	 * @return The resources generated by the processor (or null if the code is not executed on the processor).
+	 */
+	public Processor.ReprocessingCache getProcessorReprocessingCache() {
+		return this.processorReprocessingCache;
+	}
+
+
 	/**
 	 * Sets the resources for converting the return value of the last code.
 	 *
@@ -133,4 +199,111 @@ public class ReexecutionCache {
 	public boolean isAcceleratorEnabled() {
 		return this.acceleratorEnabled;
 	}
+
+
+	/**
+	 * Sets the resources (execution nodes and so on) generated by the accelerator for running the last code.
+	 *
+	 * @param acceleratorReprocessingCache The resources generated by the accelerator.
+	 */
+	public void setAcceleratorReprocessingCache(Accelerator.ReprocessingCache acceleratorReprocessingCache) {
+		this.acceleratorReprocessingCache = acceleratorReprocessingCache;
+	}
+
+	/**
+	 * Gets the resources (execution nodes and so on) generated by the accelerator for running the last code.
+	 *
+	 * @return The resources generated by the accelerator (or null if the accelerator is disabled).
+	 */
+	public Accelerator.ReprocessingCache getAcceleratorReprocessingCache() {
+		return this.acceleratorReprocessingCache;
+	}
+
+
+	/**
+	 * Sets the settings for switching the last code from the processor to the accelerator.
+	 *
+	 * @param threshold The number of executions on the processor before switching to the accelerator (0 if not switched).
+	 * @param inBackground Specify true if the accelerator is prepared on a background thread.
+	 */
+	public void setAcceleratorTierUpSettings(int threshold, boolean inBackground) {
+		this.acceleratorTierUpThreshold = threshold;
+		this.acceleratorTierUpInBackground = inBackground;
+	}
+
+	/**
+	 * Gets the number of executions on the processor before switching to the accelerator.
+	 *
+	 * @return The number of executions before switching (0 if the code is not executed in tiers).
+	 */
+	public int getAcceleratorTierUpThreshold() {
+		return this.acceleratorTierUpThreshold;
+	}
+
+	/**
+	 * Checks whether the accelerator is prepared on a background thread when switching to it.
+	 *
+	 * @return Returns true if the accelerator is prepared on a background thread.
+	 */
+	public boolean isAcceleratorTierUpInBackground() {
+		return this.acceleratorTierUpInBackground;
+	}
+
+
+	/**
+	 * Increments the number of executions of the last code performed on the processor before switching to the accelerator.
+	 *
+	 * @return The incremented number of executions.
+	 */
+	public int incrementColdExecutionCount() {
+		this.coldExecutionCount++;
+		return this.coldExecutionCount;
+	}
+
+	/**
+	 * Gets the number of executions of the last code performed on the processor before switching to the accelerator.
+	 *
+	 * @return The number of executions on the processor.
+	 */
+	public int getColdExecutionCount() {
+		return this.coldExecutionCount;
+	}
+
+
+	/**
+	 * Sets whether the preparation of the accelerator has been requested to a background thread.
+	 *
+	 * @param requested Specify true if the preparation has been requested.
+	 */
+	public void setAcceleratorPreparationRequested(boolean requested) {
+		this.acceleratorPreparationRequested = requested;
+	}
+
+	/**
+	 * Checks whether the preparation of the accelerator has been requested to a background thread.
+	 *
+	 * @return Returns true if the preparation has been requested.
+	 */
+	public boolean isAcceleratorPreparationRequested() {
+		return this.acceleratorPreparationRequested;
+	}
+
+
+	/**
+	 * Sets the resources prepared by the accelerator on a background thread, which will be used from the next execution.
+	 *
+	 * @param preparedCache The resources prepared by the accelerator.
+	 */
+	public void setPreparedAcceleratorReprocessingCache(Accelerator.ReprocessingCache preparedCache) {
+		this.preparedAcceleratorReprocessingCache = preparedCache;
+	}
+
+	/**
+	 * Gets the resources prepared by the accelerator on a background thread, which will be used from the next execution.
+	 *
+	 * @return The resources prepared by the accelerator (or null if they have not been prepared yet).
+	 */
+	public Accelerator.ReprocessingCache getPreparedAcceleratorReprocessingCache() {
+		return this.preparedAcceleratorReprocessingCache;
+	}
 }
@@ -7,11 +7,16 @@ package org.vcssl.nano.vm;
 
 import java.io.PrintStream;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.vcssl.nano.VnanoException;
 import org.vcssl.nano.VnanoFatalException;
 import org.vcssl.nano.interconnect.DataConverter;
 import org.vcssl.nano.interconnect.Interconnect;
+import org.vcssl.nano.interconnect.PhaseProfiler;
+import org.vcssl.nano.interconnect.VariableTable;
 import org.vcssl.nano.spec.ErrorType;
 import org.vcssl.nano.spec.OptionKey;
 import org.vcssl.nano.spec.OptionValue;
@@ -19,6 +24,7 @@ import org.vcssl.nano.spec.OperationCode;
 import org.vcssl.nano.vm.accelerator.Accelerator;
 import org.vcssl.nano.vm.assembler.Assembler;
 import org.vcssl.nano.vm.memory.DataContainer;
+import org.vcssl.nano.vm.memory.DataContainerPool;
 import org.vcssl.nano.vm.memory.Memory;
 import org.vcssl.nano.vm.processor.Instruction;
 import org.vcssl.nano.vm.processor.Processor;
@@ -42,7 +48,7 @@ public class VirtualMachine {
 	private Accelerator accelerator = null;
 
 	/** Stores the generated resources for the last execution, to accelerate the re-executions of the same code. */
-	private ReexecutionCache reexecutionCache = null;
+	private volatile ReexecutionCache reexecutionCache = null;
 
 	/**
 	 * The counter for counting the number of executed instructions.
@@ -56,6 +62,18 @@ public class VirtualMachine {
 	/** The counter for counting the number of instructions executed by the accelerator. */
 	private int acceleratorLastProcCount;
 
+	/** The counter for counting the number of executions performed on the processor before switching to the accelerator. */
+	private final AtomicInteger coldExecutionCount = new AtomicInteger();
+
+	/** The counter for counting the number of switchings from the processor to the accelerator. */
+	private final AtomicInteger acceleratorTierUpCount = new AtomicInteger();
+
+	/** The executor on which the accelerator is prepared in background, or null if it is not set. */
+	private volatile Executor tierUpExecutor = null;
+
+	/** The pool of data-containers and data arrays, shared by memories of all executions on this VM. */
+	private final DataContainerPool dataContainerPool = new DataContainerPool();
+
 
 	/**
 	 * Create a new VM.
@@ -83,13 +101,30 @@ public class VirtualMachine {
 	public Object executeAssemblyCode(String assemblyCode, Interconnect interconnect)
 			throws VnanoException {
 
+		VirtualMachineObjectCode vmObjectCode = this.assemble(assemblyCode, interconnect);
+		return this.executeObjectCode(vmObjectCode, interconnect);
+	}
+
+
+	/**
+	 * Converts virtual assembly code written in VRIL (VRIL code) to the VM object code,
+	 * which can be executed by {@link VirtualMachine#executeObjectCode(VirtualMachineObjectCode, Interconnect)} method.
+	 *
+	 * @param assemblyCode Virtual assembly code written in VRIL (VRIL code) to be converted.
+	 * @param interconnect The interconnect to which external functions/variables are connected.
+	 * @return The VM object code.
+	 *
+	 * @throws VnanoException Thrown when any error is detected in the VRIL code.
+	 */
+	public VirtualMachineObjectCode assemble(String assemblyCode, Interconnect interconnect)
+			throws VnanoException {
+
 		// Extract some option values.
-		boolean acceleratorEnabled, shouldDump, dumpTargetIsAll;
+		boolean shouldDump, dumpTargetIsAll;
 		String dumpTarget;
 		PrintStream dumpStream = null;
 		synchronized (this) {
 			Map<String, Object> optionMap = interconnect.getOptionMap();
-			acceleratorEnabled = (Boolean)optionMap.get(OptionKey.ACCELERATOR_ENABLED);
 			shouldDump = (Boolean)optionMap.get(OptionKey.DUMPER_ENABLED);
 			dumpTarget = (String)optionMap.get(OptionKey.DUMPER_TARGET);
 			dumpTargetIsAll = dumpTarget.equals(OptionValue.DUMPER_TARGET_ALL);
@@ -97,8 +132,12 @@ public class VirtualMachine {
 		}
 
 		// Convert the VRIL assembly code to the VM object code, which can run on the Processor/Accelerator directly.
+		PhaseProfiler profiler = interconnect.getPhaseProfiler();
+		long phaseBeginTime = profiler.getNanoTime();
+		long phaseBeginBytes = profiler.getAllocatedBytes();
 		Assembler assembler = new Assembler();
 		VirtualMachineObjectCode vmObjectCode = assembler.assemble(assemblyCode, interconnect);
+		profiler.record(PhaseProfiler.Phase.ASSEMBLER, phaseBeginTime, phaseBeginBytes);
 
 		// Dump the VM object code.
 		if (shouldDump && (dumpTargetIsAll || dumpTarget.equals(OptionValue.DUMPER_TARGET_OBJECT_CODE)) ) {
@@ -116,27 +155,60 @@ public class VirtualMachine {
 			}
 		}
 
-		// Allocate memory for the execution, and load data of external variables.
-		Memory memory = new Memory();
-		memory.allocate(vmObjectCode, interconnect.getExternalVariableTable());
+		return vmObjectCode;
+	}
 
-		// Execute the VM object code.
-		Instruction[] instructions = vmObjectCode.getInstructions();
-		if (acceleratorEnabled) {
-			this.accelerator.process(instructions, memory, interconnect, this.processor);
-		} else {
-			this.processor.process(instructions, memory, interconnect);
-		}
+
+	/**
+	 * Executes the VM object code, converted from VRIL code by
+	 * {@link VirtualMachine#assemble(String, Interconnect)} method.
+	 *
+	 * @param vmObjectCode The VM object code to be executed.
+	 * @param interconnect The interconnect to which external functions/variables are connected.
+	 * @return
+	 *   The value specified by {@link org.vcssl.nano.spec.OperationCode#END END} instruction at the end of VRIL code.
+	 *   If no value is specified, returns null.
+	 *
+	 * @throws VnanoException Thrown when a runtime error is occurred.
+	 */
+	public Object executeObjectCode(VirtualMachineObjectCode vmObjectCode, Interconnect interconnect)
+			throws VnanoException {
+
+		ReexecutionCache cache = new ReexecutionCache();
+		Object returnValue = this.executeObjectCode(vmObjectCode, interconnect, cache);
+		this.reexecutionCache = cache;
+		return returnValue;
+	}
+
+
+	/**
+	 * Executes the VM object code, and stores the resources generated for the execution to the specified cache.
+	 *
+	 * The VM object code is only read by this method, so it can be shared between multiple executions
+	 * running in parallel on multiple threads.
+	 * On the other hand, the memory and other resources depending on it are generated for each execution,
+	 * and stored into the specified cache, which can be used for re-executing the code by
+	 * {@link VirtualMachine#reexecute(ReexecutionCache, Interconnect)} method.
+	 *
+	 * @param vmObjectCode The VM object code to be executed.
+	 * @param interconnect The interconnect to which external functions/variables are connected.
+	 * @param cache The empty cache to which the resources generated for the execution will be stored.
+	 * @return
+	 *   The value specified by {@link org.vcssl.nano.spec.OperationCode#END END} instruction at the end of VRIL code.
+	 *   If no value is specified, returns null.
+	 *
+	 * @throws VnanoException Thrown when a runtime error is occurred.
+	 */
+	public Object executeObjectCode(VirtualMachineObjectCode vmObjectCode, Interconnect interconnect, ReexecutionCache cache)
+			throws VnanoException {
+
+		// Allocate memory for the execution, load data of external variables, and execute the VM object code.
+		this.processObjectCode(vmObjectCode, interconnect, interconnect.getExternalVariableTable(), cache);
+		Memory memory = cache.getMemory();
 
 		// Write back data of external variables from the memory (may had been modified by the executed VM object code).
 		interconnect.writebackExternalVariables(memory, vmObjectCode); // vmObjectCode has the table of variable names and memory addresses
 
-		// Caches some resources to accelerate re-executions of the same code.
-		this.reexecutionCache = new ReexecutionCache();
-		this.reexecutionCache.setLastObjectCode(vmObjectCode);
-		this.reexecutionCache.setMemory(memory);
-		this.reexecutionCache.setAcceleratorEnabled(acceleratorEnabled);
-
 		// Convert the data-type of the result value (from the internal data-type to the external one), and return it.
 		Object returnValue = null;
 		if (memory.hasResultDataContainer()) {
@@ -145,12 +217,187 @@ public class VirtualMachine {
 				resultDataContainer.getDataType(), resultDataContainer.getArrayRank()
 			);
 			returnValue = converter.convertToExternalObject(resultDataContainer);
-			this.reexecutionCache.setResultDataResources(resultDataContainer, converter);
+			cache.setResultDataResources(resultDataContainer, converter);
 		}
 		return returnValue;
 	}
 
 
+	/**
+	 * Executes the VM object code on a newly allocated memory, of which GLOBAL partition refers
+	 * data containers of variables in the specified table,
+	 * and stores the resources generated for the execution to the specified cache.
+	 *
+	 * Unlike {@link VirtualMachine#executeObjectCode(VirtualMachineObjectCode, Interconnect, ReexecutionCache)} method,
+	 * this method neither writes back data of external variables, nor converts the result value to the external data-type.
+	 * The updated data of variables and the result value can be read directly from the memory stored in the cache.
+	 * The code can be re-executed on the same memory by {@link VirtualMachine#reprocess(ReexecutionCache, Interconnect)} method.
+	 *
+	 * @param vmObjectCode The VM object code to be executed.
+	 * @param interconnect The interconnect to which external functions are connected.
+	 * @param globalVariableTable The table of the global (external) variables referred from the code.
+	 * @param cache The empty cache to which the resources generated for the execution will be stored.
+	 * @throws VnanoException Thrown when a runtime error is occurred.
+	 */
+	public void processObjectCode(VirtualMachineObjectCode vmObjectCode, Interconnect interconnect,
+			VariableTable globalVariableTable, ReexecutionCache cache) throws VnanoException {
+
+		// Extract some option values.
+		boolean acceleratorEnabled;
+		int tierUpThreshold;
+		boolean tierUpInBackground;
+		synchronized (this) {
+			Map<String, Object> optionMap = interconnect.getOptionMap();
+			acceleratorEnabled = (Boolean)optionMap.get(OptionKey.ACCELERATOR_ENABLED);
+			tierUpThreshold = (Integer)optionMap.get(OptionKey.ACCELERATOR_TIER_UP_THRESHOLD);
+			tierUpInBackground = (Boolean)optionMap.get(OptionKey.ACCELERATOR_TIER_UP_IN_BACKGROUND);
+		}
+
+		// If the tier-up threshold is specified, execute the code on the processor at first,
+		// and switch to the accelerator when the code has been executed the specified number of times.
+		boolean executedInTiers = acceleratorEnabled && 0 < tierUpThreshold;
+
+		// Allocate memory for the execution, and load data of global variables.
+		Memory memory = new Memory(this.dataContainerPool);
+		memory.allocate(vmObjectCode, globalVariableTable);
+
+		// Execute the VM object code.
+		Instruction[] instructions = vmObjectCode.getInstructions();
+		Accelerator.ReprocessingCache acceleratorReprocessingCache = null;
+		Processor.ReprocessingCache processorReprocessingCache = null;
+		if (acceleratorEnabled && !executedInTiers) {
+			acceleratorReprocessingCache = this.accelerator.process(instructions, memory, interconnect, this.processor);
+		} else {
+			processorReprocessingCache = this.processor.prepare(instructions, memory);
+			this.processor.reprocess(instructions, memory, interconnect, processorReprocessingCache);
+		}
+
+		// Caches some resources to accelerate re-executions of the same code.
+		cache.setLastObjectCode(vmObjectCode);
+		cache.setLastInstructions(instructions);
+		cache.setMemory(memory);
+		cache.setProcessorReprocessingCache(processorReprocessingCache);
+		cache.setAcceleratorEnabled(acceleratorEnabled && !executedInTiers);
+		cache.setAcceleratorReprocessingCache(acceleratorReprocessingCache);
+		cache.setAcceleratorTierUpSettings(executedInTiers ? tierUpThreshold : 0, tierUpInBackground);
+		if (executedInTiers) {
+			this.countColdExecution(cache, interconnect);
+		}
+	}
+
+
+	/**
+	 * Re-executes the code of which resources are stored in the specified cache,
+	 * on the cached memory as it is.
+	 *
+	 * This method neither reloads data of external variables to the memory before the execution,
+	 * nor writes back them after the execution, nor converts the result value.
+	 * Hence, to change inputs of the code, modify data in the data containers stored in the GLOBAL partition of the memory
+	 * (without replacing their instances) before calling this method.
+	 *
+	 * If the code is executed in tiers (see {@link OptionKey#ACCELERATOR_TIER_UP_THRESHOLD ACCELERATOR_TIER_UP_THRESHOLD} option),
+	 * this method switches the code from the processor to the accelerator when the code has become "hot".
+	 *
+	 * @param cache The cache storing resources generated for executing the code.
+	 * @param interconnect The interconnect to which external functions are connected.
+	 * @throws VnanoException Thrown when a runtime error is occurred.
+	 */
+	public void reprocess(ReexecutionCache cache, Interconnect interconnect) throws VnanoException {
+		Instruction[] instructions = cache.getLastInstructions();
+		Memory memory = cache.getMemory();
+		if (cache.isAcceleratorEnabled()) {
+			this.accelerator.reprocess(instructions, memory, interconnect, this.processor, cache.getAcceleratorReprocessingCache());
+			return;
+		}
+
+		// The case that the code is not executed in tiers, or the accelerator is disabled.
+		int tierUpThreshold = cache.getAcceleratorTierUpThreshold();
+		Processor.ReprocessingCache processorReprocessingCache = cache.getProcessorReprocessingCache();
+		if (tierUpThreshold == 0) {
+			this.processor.reprocess(instructions, memory, interconnect, processorReprocessingCache);
+			return;
+		}
+
+		// If the accelerator has been prepared on a background thread, switch to it.
+		Accelerator.ReprocessingCache preparedCache = cache.getPreparedAcceleratorReprocessingCache();
+		if (preparedCache != null) {
+			cache.setPreparedAcceleratorReprocessingCache(null);
+			cache.setAcceleratorReprocessingCache(preparedCache);
+			cache.setProcessorReprocessingCache(null);
+			cache.setAcceleratorEnabled(true);
+			this.acceleratorTierUpCount.incrementAndGet();
+			this.accelerator.reprocess(instructions, memory, interconnect, this.processor, preparedCache);
+			return;
+		}
+
+		// If the code has become "hot", prepare the accelerator and switch to it,
+		// unless it is being prepared on a background thread.
+		if (tierUpThreshold <= cache.getColdExecutionCount() && !cache.isAcceleratorPreparationRequested()) {
+			Accelerator.ReprocessingCache acceleratorReprocessingCache
+					= this.accelerator.process(instructions, memory, interconnect, this.processor);
+			cache.setAcceleratorReprocessingCache(acceleratorReprocessingCache);
+			cache.setProcessorReprocessingCache(null);
+			cache.setAcceleratorEnabled(true);
+			this.acceleratorTierUpCount.incrementAndGet();
+			return;
+		}
+
+		// Otherwise, the code is still "cold", so execute it on the processor.
+		this.processor.reprocess(instructions, memory, interconnect, processorReprocessingCache);
+		this.countColdExecution(cache, interconnect);
+	}
+
+
+	/**
+	 * Counts an execution of the code performed on the processor before switching to the accelerator,
+	 * and requests the preparation of the accelerator to the background executor
+	 * if the code has become "hot" and the preparation in background is enabled.
+	 *
+	 * @param cache The cache storing resources generated for executing the code.
+	 * @param interconnect The interconnect to which external functions are connected.
+	 */
+	private void countColdExecution(final ReexecutionCache cache, final Interconnect interconnect) {
+		this.coldExecutionCount.incrementAndGet();
+		int coldExecutionCount = cache.incrementColdExecutionCount();
+
+		// When the background executor is not set, the accelerator will be prepared at the beginning of the next execution.
+		Executor executor = this.tierUpExecutor;
+		if (executor == null || !cache.isAcceleratorTierUpInBackground()
+				|| coldExecutionCount < cache.getAcceleratorTierUpThreshold() || cache.isAcceleratorPreparationRequested()) {
+			return;
+		}
+
+		// The code may be executed on the processor while the accelerator is being prepared,
+		// but the preparation only reads data types and array-ranks of data in the memory, which are not changed by executions.
+		cache.setAcceleratorPreparationRequested(true);
+		final Instruction[] instructions = cache.getLastInstructions();
+		final Memory memory = cache.getMemory();
+		final Accelerator accelerator = this.accelerator;
+		final Processor processor = this.processor;
+		try {
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						cache.setPreparedAcceleratorReprocessingCache(
+							accelerator.prepare(instructions, memory, interconnect, processor)
+						);
+
+					// If the preparation failed, the code continues to be executed on the processor.
+					// (The same error will be detected when the code is executed without tiers.)
+					} catch (Exception e) {
+						return;
+					}
+				}
+			});
+
+		// If the executor rejected the task, prepare the accelerator at the beginning of the next execution.
+		} catch (RejectedExecutionException e) {
+			cache.setAcceleratorPreparationRequested(false);
+		}
+	}
+
+
 	/**
 	 * Re-executes the assembly code, which was executed by executeAssemblyCode() method last time.
 	 *
@@ -165,36 +412,68 @@ public class VirtualMachine {
 		if (this.reexecutionCache == null) {
 			throw new VnanoException(ErrorType.INVALID_REEXECUTION_REQUEST);
 		}
+		return this.reexecute(this.reexecutionCache, interconnect);
+	}
 
-		// Extract the cached last code, and the cached memory instance for running the code.
-		VirtualMachineObjectCode lastObjectCode = this.reexecutionCache.getLastObjectCode();
-		Instruction[] instructions = lastObjectCode.getInstructions();
-		Memory memory = this.reexecutionCache.getMemory();
+
+	/**
+	 * Re-executes the code of which resources are stored in the specified cache.
+	 *
+	 * The cache can be gotten by {@link VirtualMachine#getLastReexecutionCache()} method
+	 * just after when the code is executed by executeAssemblyCode() method,
+	 * or can be filled by {@link VirtualMachine#executeObjectCode(VirtualMachineObjectCode, Interconnect, ReexecutionCache)}.
+	 * By holding multiple caches on the caller side, we can re-execute multiple code alternately with less overheads.
+	 * Also, multiple caches generated for the same code can be re-executed in parallel on multiple threads.
+	 * However, the same cache must not be used by multiple executions at the same time,
+	 * because the memory stored in it is shared between them.
+	 *
+	 * @param cache The cache storing resources generated for executing the code.
+	 * @param interconnect The interconnect to which external functions/variables are connected.
+	 * @return
+	 *   The value specified by {@link org.vcssl.nano.spec.OperationCode#END END} instruction at the end of VRIL code.
+	 *   If no value is specified, returns null.
+	 *
+	 * @throws VnanoException Thrown when a runtime error is occurred.
+	 */
+	public Object reexecute(ReexecutionCache cache, Interconnect interconnect) throws VnanoException {
+
+		// Extract the cached code, and the cached memory instance for running the code.
+		VirtualMachineObjectCode lastObjectCode = cache.getLastObjectCode();
+		Memory memory = cache.getMemory();
 
 		// Reload the (may be updated) values of external variables to GLOBAL partition of the memory.
 		memory.updateGlobalPartitionData(lastObjectCode, interconnect.getExternalVariableTable());
 
-		// Execute the last code.
-		if (this.reexecutionCache.isAcceleratorEnabled()) {
-			this.accelerator.reprocess(instructions, memory, interconnect, this.processor);
-		} else {
-			this.processor.process(instructions, memory, interconnect);
-		}
+		// Execute the cached code.
+		this.reprocess(cache, interconnect);
 
 		// Write back data of external variables from the memory (may had been modified by the executed VM object code).
 		interconnect.writebackExternalVariables(memory, lastObjectCode); // lastObjectCode has the table of variable names and memory addresses
 
 		// Convert the data-type of the result value (from the internal data-type to the external one), and return it.
 		Object returnValue = null;
-		if (this.reexecutionCache.hasResultDataResources()) {
-			DataContainer<?> resultDataContainer = this.reexecutionCache.getResultDataContainer();
-			DataConverter converter = this.reexecutionCache.getResultDataConverter();
+		if (cache.hasResultDataResources()) {
+			DataContainer<?> resultDataContainer = cache.getResultDataContainer();
+			DataConverter converter = cache.getResultDataConverter();
 			returnValue = converter.convertToExternalObject(resultDataContainer);
 		}
 		return returnValue;
 	}
 
 
+	/**
+	 * Gets the cache storing resources generated for executing the code by executeAssemblyCode() method last time.
+	 *
+	 * The returned cache can be passed to {@link VirtualMachine#reexecute(ReexecutionCache, Interconnect)} method,
+	 * for re-executing the code with less overheads.
+	 *
+	 * @return The cache of the last executed code (or null if no code has been executed yet).
+	 */
+	public ReexecutionCache getLastReexecutionCache() {
+		return this.reexecutionCache;
+	}
+
+
 	/**
 	 * Terminates the currently running code after when the processing of the current instruction ends,
 	 * without processing remained instructions after it in code.
@@ -245,6 +524,79 @@ public class VirtualMachine {
 	}
 
 
+	/**
+	 * Sets the executor on which the accelerator is prepared in background,
+	 * when {@link OptionKey#ACCELERATOR_TIER_UP_IN_BACKGROUND ACCELERATOR_TIER_UP_IN_BACKGROUND} option is enabled.
+	 *
+	 * If no executor is set, the accelerator is prepared at the beginning of the execution
+	 * just after the code has become "hot", regardless of the option.
+	 *
+	 * @param executor The executor on which the accelerator is prepared in background.
+	 */
+	public void setTierUpExecutor(Executor executor) {
+		this.tierUpExecutor = executor;
+	}
+
+
+	/**
+	 * Returns data-containers and data arrays in the memory stored in the specified cache to the pool of this VM,
+	 * for reusing them in later executions.
+	 *
+	 * This method must be called only when the cache will never be used again,
+	 * e.g.: when it is evicted from the cache of executed scripts.
+	 * If the accelerator is being prepared for the cache in background, the memory is not released,
+	 * because it is still read by the preparation.
+	 *
+	 * @param cache The cache storing resources of the execution, which will never be used again.
+	 */
+	public void releaseMemory(ReexecutionCache cache) {
+		Memory memory = cache.getMemory();
+		if (memory == null) {
+			return;
+		}
+		if (cache.isAcceleratorPreparationRequested()
+				&& cache.getPreparedAcceleratorReprocessingCache() == null && !cache.isAcceleratorEnabled()) {
+			return;
+		}
+		cache.setMemory(null);
+		cache.setProcessorReprocessingCache(null);
+		cache.setResultDataResources(null, null);
+		memory.release();
+	}
+
+
+	/**
+	 * Gets the pool of data-containers and data arrays, shared by memories of all executions on this VM.
+	 *
+	 * @return The pool of data-containers and data arrays.
+	 */
+	public DataContainerPool getDataContainerPool() {
+		return this.dataContainerPool;
+	}
+
+
+	/**
+	 * Gets the total number of executions performed on the processor before switching to the accelerator,
+	 * from when this VM was instantiated.
+	 *
+	 * @return The total number of executions performed on the processor before switching to the accelerator.
+	 */
+	public int getColdExecutionCountIntValue() {
+		return this.coldExecutionCount.get();
+	}
+
+
+	/**
+	 * Gets the total number of switchings of code from the processor to the accelerator,
+	 * from when this VM was instantiated.
+	 *
+	 * @return The total number of switchings from the processor to the accelerator.
+	 */
+	public int getAcceleratorTierUpCountIntValue() {
+		return this.acceleratorTierUpCount.get();
+	}
+
+
 	/**
 	 * Returns the total number of processed instructions from when this VM was instantiated.
 	 *
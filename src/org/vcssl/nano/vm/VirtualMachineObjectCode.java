@@ -7,8 +7,10 @@ package org.vcssl.nano.vm;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.vcssl.nano.vm.memory.Memory;
 import org.vcssl.nano.vm.memory.DataContainer;
@@ -78,6 +80,24 @@ public class VirtualMachineObjectCode implements Cloneable {
 	/** The Map mapping the address of each label to its identifier. */
 	private Map<Integer, String> labelAddressIdentifierMap = null;
 
+	/** The set of addresses of registers, for looking up registers quickly. */
+	private Set<Integer> registerAddressSet = null;
+
+	/** The Map mapping the immediate value literal of each constant value to its address. */
+	private Map<String, Integer> constantDataImmediateValueAddressMap = null;
+
+	/** The Map mapping the identifier of each local (internal) variable to its address. */
+	private Map<String, Integer> localVariableIdentifierAddressMap = null;
+
+	/** The Map mapping the identifier of each global (external) variable to its address. */
+	private Map<String, Integer> globalVariableIdentifierAddressMap = null;
+
+	/** The Map mapping the identifier of each function to its address. */
+	private Map<String, Integer> functionIdentifierAddressMap = null;
+
+	/** The Map mapping the identifier of each label to its address. */
+	private Map<String, Integer> labelIdentifierAddressMap = null;
+
 	/** The address of the evaluation result value of this code, if exist. */
 	private int evalValueAddress = -1;
 
@@ -108,6 +128,13 @@ public class VirtualMachineObjectCode implements Cloneable {
 		this.globalVariableAddressIdentifierMap = new HashMap<Integer, String>();
 		this.functionAddressIdentifierMap = new HashMap<Integer, String>();
 		this.labelAddressIdentifierMap = new HashMap<Integer, String>();
+
+		this.registerAddressSet = new HashSet<Integer>();
+		this.constantDataImmediateValueAddressMap = new HashMap<String, Integer>();
+		this.localVariableIdentifierAddressMap = new HashMap<String, Integer>();
+		this.globalVariableIdentifierAddressMap = new HashMap<String, Integer>();
+		this.functionIdentifierAddressMap = new HashMap<String, Integer>();
+		this.labelIdentifierAddressMap = new HashMap<String, Integer>();
 	}
 
 
@@ -193,6 +220,93 @@ public class VirtualMachineObjectCode implements Cloneable {
 		return this.functionIdentifierList.toArray(new String[0]);
 	}
 
+	/**
+	 * Gets identifiers of all labels.
+	 *
+	 * @return Identifiers of all labels.
+	 */
+	public String[] getLabelAssemblyIdentifiers() {
+		return this.labelIdentifierList.toArray(new String[0]);
+	}
+
+	/**
+	 * Gets identifiers of all local variables.
+	 *
+	 * @return Identifiers of all local variables.
+	 */
+	public String[] getLocalAssemblyIdentifiers() {
+		return this.localVariableIdentifierList.toArray(new String[0]);
+	}
+
+	/**
+	 * Gets addresses of all registers.
+	 *
+	 * @return Addresses of all registers.
+	 */
+	public int[] getRegisterAddresses() {
+		return this.toIntArray(this.registerAddressList);
+	}
+
+	/**
+	 * Gets addresses of all constant values.
+	 *
+	 * @return Addresses of all constant values.
+	 */
+	public int[] getConstantDataAddresses() {
+		return this.toIntArray(this.constantDataAddressList);
+	}
+
+	/**
+	 * Gets addresses of all local variables.
+	 *
+	 * @return Addresses of all local variables.
+	 */
+	public int[] getLocalVariableAddresses() {
+		return this.toIntArray(this.localVariableAddressList);
+	}
+
+	/**
+	 * Gets addresses of all global variables.
+	 *
+	 * @return Addresses of all global variables.
+	 */
+	public int[] getGlobalVariableAddresses() {
+		return this.toIntArray(this.globalVariableAddressList);
+	}
+
+	/**
+	 * Gets addresses of all functions.
+	 *
+	 * @return Addresses of all functions.
+	 */
+	public int[] getFunctionAddresses() {
+		return this.toIntArray(this.functionAddressList);
+	}
+
+	/**
+	 * Gets addresses of all labels.
+	 *
+	 * @return Addresses of all labels.
+	 */
+	public int[] getLabelAddresses() {
+		return this.toIntArray(this.labelAddressList);
+	}
+
+	/**
+	 * Converts the specified list of addresses to an array.
+	 *
+	 * @param addressList The list of addresses.
+	 * @return The array of addresses.
+	 */
+	private int[] toIntArray(List<Integer> addressList) {
+		int size = addressList.size();
+		int[] addresses = new int[size];
+		for (int i=0; i<size; i++) {
+			addresses[i] = addressList.get(i);
+		}
+		return addresses;
+	}
+
 
 	/**
 	 * Add a new register to the register list of this code.
@@ -201,6 +315,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 	 */
 	public void addRegister(int address) {
 		this.registerAddressList.add(address);
+		this.registerAddressSet.add(address);
 	}
 
 	/**
@@ -216,6 +331,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 		this.constantDataAddressList.add(address);
 		this.constantDataAddressImmediateValueMap.put(address, immediateValue);
 		this.constantDataAddressContainerMap.put(address, container);
+		this.constantDataImmediateValueAddressMap.putIfAbsent(immediateValue, address);
 	}
 
 	/**
@@ -228,6 +344,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 		this.localVariableIdentifierList.add(uniqueIdentifier);
 		this.localVariableAddressList.add(address);
 		this.localVariableAddressIdentifierMap.put(address, uniqueIdentifier);
+		this.localVariableIdentifierAddressMap.putIfAbsent(uniqueIdentifier, address);
 	}
 
 	/**
@@ -240,6 +357,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 		this.globalVariableIdentifierList.add(uniqueIdentifier);
 		this.globalVariableAddressList.add(address);
 		this.globalVariableAddressIdentifierMap.put(address, uniqueIdentifier);
+		this.globalVariableIdentifierAddressMap.putIfAbsent(uniqueIdentifier, address);
 	}
 
 	/**
@@ -252,6 +370,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 		this.functionIdentifierList.add(uniqueIdentifier);
 		this.functionAddressList.add(address);
 		this.functionAddressIdentifierMap.put(address, uniqueIdentifier);
+		this.functionIdentifierAddressMap.putIfAbsent(uniqueIdentifier, address);
 	}
 
 	/**
@@ -264,6 +383,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 		this.labelIdentifierList.add(uniqueIdentifier);
 		this.labelAddressList.add(address);
 		this.labelAddressIdentifierMap.put(address, uniqueIdentifier);
+		this.labelIdentifierAddressMap.putIfAbsent(uniqueIdentifier, address);
 	}
 
 	/**
@@ -282,8 +402,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 	 * @return The address (LOCAL partition) of the local variable.
 	 */
 	public int getLocalVariableAddress(String uniqueIdentifier) {
-		int index = this.localVariableIdentifierList.indexOf(uniqueIdentifier);
-		return this.localVariableAddressList.get(index);
+		return this.localVariableIdentifierAddressMap.get(uniqueIdentifier);
 	}
 
 	/**
@@ -293,8 +412,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 	 * @return The address (GLOBAL partition) of the local variable.
 	 */
 	public int getGlobalVariableAddress(String uniqueIdentifier) {
-		int index = this.globalVariableIdentifierList.indexOf(uniqueIdentifier);
-		return this.globalVariableAddressList.get(index);
+		return this.globalVariableIdentifierAddressMap.get(uniqueIdentifier);
 	}
 
 	/**
@@ -304,8 +422,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 	 * @return The address (CONSTANT partition) of the constant data.
 	 */
 	public int getConstantDataAddress(String immediateValue) {
-		int index = this.constantDataImmediateValueList.indexOf(immediateValue);
-		return this.constantDataAddressList.get(index);
+		return this.constantDataImmediateValueAddressMap.get(immediateValue);
 	}
 
 	/**
@@ -315,8 +432,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 	 * @return The instruction address of the label.
 	 */
 	public int getLabelAddress(String uniqueIdentifier) {
-		int index = this.labelIdentifierList.indexOf(uniqueIdentifier);
-		return this.labelAddressList.get(index);
+		return this.labelIdentifierAddressMap.get(uniqueIdentifier);
 	}
 
 	/**
@@ -326,8 +442,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 	 * @return The address of the function.
 	 */
 	public int getFunctionAddress(String uniqueIdentifier) {
-		int index = this.functionIdentifierList.indexOf(uniqueIdentifier);
-		return this.functionAddressList.get(index);
+		return this.functionIdentifierAddressMap.get(uniqueIdentifier);
 	}
 
 
@@ -378,7 +493,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 	 * @return Returns true if the register corresponding with the specified address is registered.
 	 */
 	public boolean containsRegister(int address) {
-		return this.registerAddressList.contains(address);
+		return this.registerAddressSet.contains(address);
 	}
 
 	/**
@@ -388,7 +503,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 	 * @return Returns true if the constant data corresponding with the specified address is registered.
 	 */
 	public boolean containsConstantData(String immediateValue) {
-		return this.constantDataImmediateValueList.contains(immediateValue);
+		return this.constantDataImmediateValueAddressMap.containsKey(immediateValue);
 	}
 
 	/**
@@ -398,7 +513,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 	 * @return Returns true if the global variable corresponding with the specified address is registered.
 	 */
 	public boolean containsGlobalVariable(String uniqueIdentifier) {
-		return this.globalVariableIdentifierList.contains(uniqueIdentifier);
+		return this.globalVariableIdentifierAddressMap.containsKey(uniqueIdentifier);
 	}
 
 	/**
@@ -408,7 +523,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 	 * @return Returns true if the local variable corresponding with the specified address is registered.
 	 */
 	public boolean containsLocalVariable(String uniqueIdentifier) {
-		return this.localVariableIdentifierList.contains(uniqueIdentifier);
+		return this.localVariableIdentifierAddressMap.containsKey(uniqueIdentifier);
 	}
 
 	/**
@@ -418,7 +533,7 @@ public class VirtualMachineObjectCode implements Cloneable {
 	 * @return Returns true if the function corresponding with the specified address is registered.
 	 */
 	public boolean containsFunction(String uniqueIdentifier) {
-		return this.functionIdentifierList.contains(uniqueIdentifier);
+		return this.functionIdentifierAddressMap.containsKey(uniqueIdentifier);
 	}
 
 
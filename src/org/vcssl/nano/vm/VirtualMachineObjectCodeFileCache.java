@@ -0,0 +1,184 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.vm;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.VnanoFatalException;
+import org.vcssl.nano.interconnect.AbstractFunction;
+import org.vcssl.nano.interconnect.AbstractVariable;
+import org.vcssl.nano.interconnect.Interconnect;
+import org.vcssl.nano.spec.EngineInformation;
+import org.vcssl.nano.spec.IdentifierSyntax;
+import org.vcssl.nano.spec.OptionKey;
+
+
+/**
+ * The class of an on-disk cache of VM object code compiled from scripts,
+ * for skipping compilations and assemblies of the same scripts on every launch of the application.
+ *
+ * Each VM object code is stored in a file in the cache directory, in the binary format of
+ * {@link VirtualMachineObjectCodeSerializer VirtualMachineObjectCodeSerializer}.
+ * The name of the file is the hash value (SHA-256) of all contents on which the compiled code depends:
+ * the version of the engine, contents and names of the main script and library scripts,
+ * options affecting the compilation, and signatures of external functions/variables.
+ *
+ * This cache is an optimization, so any failure in reading/writing files is not reported.
+ * When a file is missing, broken, or written by the engine of a different version,
+ * the script is simply compiled again, and the file is overwritten by the new one.
+ */
+public class VirtualMachineObjectCodeFileCache {
+
+	/** The extension of files storing VM object code. */
+	private static final String FILE_EXTENSION = ".vnoc";
+
+	/** The directory in which files of VM object code are stored. */
+	private final File directory;
+
+	/** The serializer to write/load VM object code to/from files. */
+	private final VirtualMachineObjectCodeSerializer serializer = new VirtualMachineObjectCodeSerializer();
+
+
+	/**
+	 * Create a new cache storing files in the specified directory.
+	 *
+	 * @param directory The directory in which files of VM object code will be stored.
+	 */
+	public VirtualMachineObjectCodeFileCache(File directory) {
+		if (directory == null) {
+			throw new NullPointerException();
+		}
+		this.directory = directory;
+	}
+
+
+	/**
+	 * Computes the key (hash value) of the VM object code compiled from the specified scripts,
+	 * under the current state of the interconnect (options, external functions/variables).
+	 *
+	 * @param scriptContents The contents of the main script and library scripts.
+	 * @param scriptPaths The names (or paths) of the main script and library scripts.
+	 * @param interconnect The interconnect to which external functions/variables are connected.
+	 * @return The key of the VM object code.
+	 */
+	public String computeKey(String[] scriptContents, String[] scriptPaths, Interconnect interconnect) {
+		MessageDigest digest = null;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new VnanoFatalException("SHA-256 is not available on this platform", e);
+		}
+
+		// The version of the engine, and options affecting the compilation.
+		this.updateDigest(digest, EngineInformation.ENGINE_VERSION);
+		Map<String, Object> optionMap = interconnect.getOptionMap();
+		this.updateDigest(digest, String.valueOf(optionMap.get(OptionKey.EVAL_INT_LITERAL_AS_FLOAT)));
+		this.updateDigest(digest, String.valueOf(optionMap.get(OptionKey.EVAL_ONLY_FLOAT)));
+		this.updateDigest(digest, String.valueOf(optionMap.get(OptionKey.EVAL_ONLY_EXPRESSION)));
+		this.updateDigest(digest, String.valueOf(optionMap.get(OptionKey.REGISTER_REUSE_ENABLED)));
+
+		// Names and contents of scripts.
+		for (int scriptIndex=0; scriptIndex<scriptContents.length; scriptIndex++) {
+			this.updateDigest(digest, scriptPaths[scriptIndex]);
+			this.updateDigest(digest, scriptContents[scriptIndex]);
+		}
+
+		// Signatures of external functions/variables, in order of their indices referred from the compiled code.
+		for (AbstractFunction function: interconnect.getExternalFunctionTable().getFunctions()) {
+			this.updateDigest(digest, IdentifierSyntax.getSignatureOf(function));
+		}
+		for (AbstractVariable variable: interconnect.getExternalVariableTable().getVariables()) {
+			this.updateDigest(digest, IdentifierSyntax.getAssemblyIdentifierOf(variable));
+			this.updateDigest(digest, variable.getDataTypeName() + "[" + variable.getArrayRank() + "]" + variable.isConstant());
+		}
+
+		StringBuilder keyBuilder = new StringBuilder();
+		for (byte hashByte: digest.digest()) {
+			keyBuilder.append(String.format("%02x", hashByte & 0xFF));
+		}
+		return keyBuilder.toString();
+	}
+
+
+	/**
+	 * Loads the VM object code corresponding with the specified key from the file in the cache directory.
+	 *
+	 * @param key The key of the VM object code, computed by
+	 *     {@link VirtualMachineObjectCodeFileCache#computeKey(String[], String[], Interconnect) computeKey(...)} method.
+	 * @return The loaded VM object code (or null if the file is missing, broken, or written by a different version).
+	 */
+	public VirtualMachineObjectCode load(String key) {
+		File file = new File(this.directory, key + FILE_EXTENSION);
+		if (!file.isFile()) {
+			return null;
+		}
+		try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+			return this.serializer.load(inputStream);
+		} catch (VnanoException | IOException e) {
+			return null;
+		}
+	}
+
+
+	/**
+	 * Stores the VM object code into the file corresponding with the specified key, in the cache directory.
+	 *
+	 * The content is written to a temporary file at first, and then it is moved to the target file,
+	 * so other processes never load incompletely written files.
+	 *
+	 * @param key The key of the VM object code, computed by
+	 *     {@link VirtualMachineObjectCodeFileCache#computeKey(String[], String[], Interconnect) computeKey(...)} method.
+	 * @param objectCode The VM object code to be stored.
+	 */
+	public void store(String key, VirtualMachineObjectCode objectCode) {
+		File file = new File(this.directory, key + FILE_EXTENSION);
+		File temporaryFile = null;
+		try {
+			Files.createDirectories(this.directory.toPath());
+			temporaryFile = File.createTempFile(key, ".tmp", this.directory);
+			try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(temporaryFile.toPath()))) {
+				this.serializer.write(objectCode, outputStream);
+			}
+			try {
+				Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			if (temporaryFile != null) {
+				temporaryFile.delete();
+			}
+		}
+	}
+
+
+	/**
+	 * Updates the digest by the specified string, with the length of it as the prefix
+	 * (to distinguish e.g.: ["ab", "c"] from ["a", "bc"]).
+	 *
+	 * @param digest The digest to be updated.
+	 * @param value The string to be digested.
+	 */
+	private void updateDigest(MessageDigest digest, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		int length = bytes.length;
+		digest.update(new byte[] { (byte)(length >>> 24), (byte)(length >>> 16), (byte)(length >>> 8), (byte)length });
+		digest.update(bytes);
+	}
+}
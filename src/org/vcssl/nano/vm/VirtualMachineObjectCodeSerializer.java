@@ -0,0 +1,427 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.vm;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.VnanoFatalException;
+import org.vcssl.nano.spec.DataType;
+import org.vcssl.nano.spec.EngineInformation;
+import org.vcssl.nano.spec.ErrorType;
+import org.vcssl.nano.spec.OperationCode;
+import org.vcssl.nano.vm.memory.DataContainer;
+import org.vcssl.nano.vm.memory.Memory;
+import org.vcssl.nano.vm.processor.Instruction;
+
+
+/**
+ * The class to write/load {@link VirtualMachineObjectCode VirtualMachineObjectCode} (VM object code)
+ * to/from a compact binary format, for skipping compilations and assemblies of scripts
+ * (e.g.: by storing compiled scripts into files, and loading them at the startup of the application).
+ *
+ * The binary format consists of the following sections, in this order:
+ * the header (magic number, the version of this format, and the version of the engine),
+ * the address of the evaluated value, instructions, registers, constant data (immediate values and data),
+ * local variables, global variables, functions, and labels.
+ *
+ * Operation codes, data types, and memory partitions are written as ordinals of their enum elements,
+ * so the binary code can be loaded only by the engine of the same version.
+ * The loader checks the version in the header, and throws an exception if it does not match with
+ * {@link org.vcssl.nano.spec.EngineInformation#ENGINE_VERSION EngineInformation.ENGINE_VERSION}.
+ *
+ * Please note that, the VM object code refers external functions/variables by their indices
+ * in the tables of the interconnect, so the loaded code must be executed
+ * with the same plug-ins and library scripts as when it was compiled.
+ */
+public class VirtualMachineObjectCodeSerializer {
+
+	/** The magic number at the head of the binary format ("VNOC" in ASCII). */
+	private static final int MAGIC_NUMBER = 0x564E4F43;
+
+	/** The version of the binary format. Increment it when the format is changed. */
+	private static final int FORMAT_VERSION = 1;
+
+
+	/**
+	 * Create a new serializer.
+	 */
+	public VirtualMachineObjectCodeSerializer() {
+	}
+
+
+	/**
+	 * Writes the specified VM object code to the stream in the binary format.
+	 *
+	 * @param objectCode The VM object code to be written.
+	 * @param outputStream The stream to which the binary code will be written.
+	 * @throws IOException Thrown when any error has occurred in writing to the stream.
+	 */
+	public void write(VirtualMachineObjectCode objectCode, OutputStream outputStream) throws IOException {
+		DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+
+		// Header:
+		dataOutputStream.writeInt(MAGIC_NUMBER);
+		dataOutputStream.writeInt(FORMAT_VERSION);
+		this.writeString(dataOutputStream, EngineInformation.ENGINE_VERSION);
+
+		// The address of the evaluated value:
+		dataOutputStream.writeInt(objectCode.getEvalValueAddress());
+
+		// Instructions:
+		Instruction[] instructions = objectCode.getInstructions();
+		dataOutputStream.writeInt(instructions.length);
+		for (Instruction instruction: instructions) {
+			this.writeInstruction(dataOutputStream, instruction);
+		}
+
+		// Registers:
+		this.writeIntArray(dataOutputStream, objectCode.getRegisterAddresses());
+
+		// Constant data:
+		int[] constantAddresses = objectCode.getConstantDataAddresses();
+		String[] constantImmediateValues = objectCode.getConstantImmediateValues();
+		DataContainer<?>[] constantContainers = objectCode.getConstantDataContainers();
+		dataOutputStream.writeInt(constantAddresses.length);
+		for (int constantIndex=0; constantIndex<constantAddresses.length; constantIndex++) {
+			dataOutputStream.writeInt(constantAddresses[constantIndex]);
+			this.writeString(dataOutputStream, constantImmediateValues[constantIndex]);
+			this.writeScalarDataContainer(dataOutputStream, constantContainers[constantIndex]);
+		}
+
+		// Local variables, global variables, functions, and labels:
+		this.writeStringArray(dataOutputStream, objectCode.getLocalAssemblyIdentifiers());
+		this.writeIntArray(dataOutputStream, objectCode.getLocalVariableAddresses());
+		this.writeStringArray(dataOutputStream, objectCode.getGlobalAssemblyIdentifiers());
+		this.writeIntArray(dataOutputStream, objectCode.getGlobalVariableAddresses());
+		this.writeStringArray(dataOutputStream, objectCode.getFunctionAssemblyIdentifiers());
+		this.writeIntArray(dataOutputStream, objectCode.getFunctionAddresses());
+		this.writeStringArray(dataOutputStream, objectCode.getLabelAssemblyIdentifiers());
+		this.writeIntArray(dataOutputStream, objectCode.getLabelAddresses());
+
+		dataOutputStream.flush();
+	}
+
+
+	/**
+	 * Loads a VM object code from the stream in the binary format.
+	 *
+	 * @param inputStream The stream from which the binary code will be loaded.
+	 * @return The loaded VM object code.
+	 * @throws VnanoException
+	 *     Thrown when the binary code has been written by the engine of the different version,
+	 *     or the content of the binary code is broken.
+	 * @throws IOException Thrown when any error has occurred in reading from the stream.
+	 */
+	public VirtualMachineObjectCode load(InputStream inputStream) throws VnanoException, IOException {
+		DataInputStream dataInputStream = new DataInputStream(inputStream);
+		try {
+
+			// Header:
+			if (dataInputStream.readInt() != MAGIC_NUMBER) {
+				throw new VnanoException(ErrorType.INVALID_OBJECT_CODE_FORMAT);
+			}
+			int formatVersion = dataInputStream.readInt();
+			String engineVersion = this.readString(dataInputStream);
+			if (formatVersion != FORMAT_VERSION || !engineVersion.equals(EngineInformation.ENGINE_VERSION)) {
+				throw new VnanoException(
+					ErrorType.OBJECT_CODE_VERSION_MISMATCH, new String[] { engineVersion, EngineInformation.ENGINE_VERSION }
+				);
+			}
+
+			VirtualMachineObjectCode objectCode = new VirtualMachineObjectCode();
+
+			// The address of the evaluated value:
+			objectCode.setEvalValueAddress(dataInputStream.readInt());
+
+			// Instructions:
+			int instructionLength = dataInputStream.readInt();
+			for (int instructionIndex=0; instructionIndex<instructionLength; instructionIndex++) {
+				objectCode.addInstruction(this.readInstruction(dataInputStream));
+			}
+
+			// Registers:
+			for (int registerAddress: this.readIntArray(dataInputStream)) {
+				objectCode.addRegister(registerAddress);
+			}
+
+			// Constant data:
+			int constantLength = dataInputStream.readInt();
+			for (int constantIndex=0; constantIndex<constantLength; constantIndex++) {
+				int address = dataInputStream.readInt();
+				String immediateValue = this.readString(dataInputStream);
+				DataContainer<?> container = this.readScalarDataContainer(dataInputStream);
+				objectCode.addConstantData(immediateValue, container, address);
+			}
+
+			// Local variables, global variables, functions, and labels:
+			String[] localIdentifiers = this.readStringArray(dataInputStream);
+			int[] localAddresses = this.readIntArray(dataInputStream);
+			String[] globalIdentifiers = this.readStringArray(dataInputStream);
+			int[] globalAddresses = this.readIntArray(dataInputStream);
+			String[] functionIdentifiers = this.readStringArray(dataInputStream);
+			int[] functionAddresses = this.readIntArray(dataInputStream);
+			String[] labelIdentifiers = this.readStringArray(dataInputStream);
+			int[] labelAddresses = this.readIntArray(dataInputStream);
+			if (localIdentifiers.length != localAddresses.length || globalIdentifiers.length != globalAddresses.length
+					|| functionIdentifiers.length != functionAddresses.length || labelIdentifiers.length != labelAddresses.length) {
+				throw new VnanoException(ErrorType.INVALID_OBJECT_CODE_FORMAT);
+			}
+			for (int i=0; i<localIdentifiers.length; i++) {
+				objectCode.addLocalVariable(localIdentifiers[i], localAddresses[i]);
+			}
+			for (int i=0; i<globalIdentifiers.length; i++) {
+				objectCode.addGlobalVariable(globalIdentifiers[i], globalAddresses[i]);
+			}
+			for (int i=0; i<functionIdentifiers.length; i++) {
+				objectCode.addFunction(functionIdentifiers[i], functionAddresses[i]);
+			}
+			for (int i=0; i<labelIdentifiers.length; i++) {
+				objectCode.addLabel(labelIdentifiers[i], labelAddresses[i]);
+			}
+
+			return objectCode;
+
+		// If the binary code has ended unexpectedly, or contains invalid ordinals/lengths, it is broken.
+		} catch (EOFException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+			throw new VnanoException(ErrorType.INVALID_OBJECT_CODE_FORMAT, e);
+		}
+	}
+
+
+	/**
+	 * Writes an instruction to the stream.
+	 *
+	 * @param dataOutputStream The stream to which the instruction will be written.
+	 * @param instruction The instruction to be written.
+	 * @throws IOException Thrown when any error has occurred in writing to the stream.
+	 */
+	private void writeInstruction(DataOutputStream dataOutputStream, Instruction instruction) throws IOException {
+		if (instruction.hasExtention()) {
+			throw new VnanoFatalException("Instructions having extensions can not be serialized: " + instruction);
+		}
+		dataOutputStream.writeShort(instruction.getOperationCode().ordinal());
+
+		DataType[] dataTypes = instruction.getDataTypes();
+		dataOutputStream.writeByte(dataTypes.length);
+		for (DataType dataType: dataTypes) {
+			dataOutputStream.writeByte(dataType.ordinal());
+		}
+
+		Memory.Partition[] operandPartitions = instruction.getOperandPartitions();
+		int[] operandAddresses = instruction.getOperandAddresses();
+		dataOutputStream.writeShort(operandAddresses.length);
+		for (int operandIndex=0; operandIndex<operandAddresses.length; operandIndex++) {
+			dataOutputStream.writeByte(operandPartitions[operandIndex].ordinal());
+			dataOutputStream.writeInt(operandAddresses[operandIndex]);
+		}
+
+		dataOutputStream.writeByte(instruction.getMetaPartition().ordinal());
+		dataOutputStream.writeInt(instruction.getMetaAddress());
+	}
+
+
+	/**
+	 * Reads an instruction from the stream.
+	 *
+	 * @param dataInputStream The stream from which the instruction will be read.
+	 * @return The read instruction.
+	 * @throws IOException Thrown when any error has occurred in reading from the stream.
+	 */
+	private Instruction readInstruction(DataInputStream dataInputStream) throws IOException {
+		OperationCode operationCode = OperationCode.values()[ dataInputStream.readShort() ];
+
+		int dataTypeLength = dataInputStream.readByte();
+		DataType[] dataTypes = new DataType[dataTypeLength];
+		for (int dataTypeIndex=0; dataTypeIndex<dataTypeLength; dataTypeIndex++) {
+			dataTypes[dataTypeIndex] = DataType.values()[ dataInputStream.readByte() ];
+		}
+
+		int operandLength = dataInputStream.readShort();
+		Memory.Partition[] operandPartitions = new Memory.Partition[operandLength];
+		int[] operandAddresses = new int[operandLength];
+		for (int operandIndex=0; operandIndex<operandLength; operandIndex++) {
+			operandPartitions[operandIndex] = Memory.Partition.values()[ dataInputStream.readByte() ];
+			operandAddresses[operandIndex] = dataInputStream.readInt();
+		}
+
+		Memory.Partition metaPartition = Memory.Partition.values()[ dataInputStream.readByte() ];
+		int metaAddress = dataInputStream.readInt();
+
+		return new Instruction(operationCode, dataTypes, operandPartitions, operandAddresses, metaPartition, metaAddress);
+	}
+
+
+	/**
+	 * Writes a data container storing a scalar value (e.g.: an immediate value) to the stream.
+	 *
+	 * @param dataOutputStream The stream to which the data container will be written.
+	 * @param container The data container to be written.
+	 * @throws IOException Thrown when any error has occurred in writing to the stream.
+	 */
+	private void writeScalarDataContainer(DataOutputStream dataOutputStream, DataContainer<?> container) throws IOException {
+		DataType dataType = container.getDataType();
+		dataOutputStream.writeByte(dataType.ordinal());
+		switch (dataType) {
+			case INT64 : {
+				dataOutputStream.writeLong(container.getInt64ScalarData());
+				return;
+			}
+			case FLOAT64 : {
+				dataOutputStream.writeDouble(container.getFloat64ScalarData());
+				return;
+			}
+			case BOOL : {
+				dataOutputStream.writeBoolean(container.getBoolScalarData());
+				return;
+			}
+			case STRING : {
+				this.writeString(dataOutputStream, container.getStringScalarData());
+				return;
+			}
+			default : {
+				throw new VnanoFatalException("Unexpected data type of a constant data: " + dataType);
+			}
+		}
+	}
+
+
+	/**
+	 * Reads a data container storing a scalar value (e.g.: an immediate value) from the stream.
+	 *
+	 * @param dataInputStream The stream from which the data container will be read.
+	 * @return The read data container.
+	 * @throws VnanoException Thrown when the data type of the data container is invalid.
+	 * @throws IOException Thrown when any error has occurred in reading from the stream.
+	 */
+	private DataContainer<?> readScalarDataContainer(DataInputStream dataInputStream) throws VnanoException, IOException {
+		DataType dataType = DataType.values()[ dataInputStream.readByte() ];
+		switch (dataType) {
+			case INT64 : {
+				DataContainer<long[]> container = new DataContainer<long[]>();
+				container.setInt64ScalarData(dataInputStream.readLong());
+				return container;
+			}
+			case FLOAT64 : {
+				DataContainer<double[]> container = new DataContainer<double[]>();
+				container.setFloat64ScalarData(dataInputStream.readDouble());
+				return container;
+			}
+			case BOOL : {
+				DataContainer<boolean[]> container = new DataContainer<boolean[]>();
+				container.setBoolScalarData(dataInputStream.readBoolean());
+				return container;
+			}
+			case STRING : {
+				DataContainer<String[]> container = new DataContainer<String[]>();
+				container.setStringScalarData(this.readString(dataInputStream));
+				return container;
+			}
+			default : {
+				throw new VnanoException(ErrorType.INVALID_OBJECT_CODE_FORMAT);
+			}
+		}
+	}
+
+
+	/**
+	 * Writes a string to the stream, in UTF-8 with the length as the prefix.
+	 * (Unlike DataOutputStream.writeUTF, this method supports strings longer than 65535 bytes.)
+	 *
+	 * @param dataOutputStream The stream to which the string will be written.
+	 * @param string The string to be written.
+	 * @throws IOException Thrown when any error has occurred in writing to the stream.
+	 */
+	private void writeString(DataOutputStream dataOutputStream, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		dataOutputStream.writeInt(bytes.length);
+		dataOutputStream.write(bytes);
+	}
+
+
+	/**
+	 * Reads a string written by {@link VirtualMachineObjectCodeSerializer#writeString(DataOutputStream, String)}.
+	 *
+	 * @param dataInputStream The stream from which the string will be read.
+	 * @return The read string.
+	 * @throws IOException Thrown when any error has occurred in reading from the stream.
+	 */
+	private String readString(DataInputStream dataInputStream) throws IOException {
+		byte[] bytes = new byte[ dataInputStream.readInt() ];
+		dataInputStream.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+
+	/**
+	 * Writes an array of strings to the stream, with the length as the prefix.
+	 *
+	 * @param dataOutputStream The stream to which the array will be written.
+	 * @param strings The array to be written.
+	 * @throws IOException Thrown when any error has occurred in writing to the stream.
+	 */
+	private void writeStringArray(DataOutputStream dataOutputStream, String[] strings) throws IOException {
+		dataOutputStream.writeInt(strings.length);
+		for (String string: strings) {
+			this.writeString(dataOutputStream, string);
+		}
+	}
+
+
+	/**
+	 * Reads an array of strings written by
+	 * {@link VirtualMachineObjectCodeSerializer#writeStringArray(DataOutputStream, String[])}.
+	 *
+	 * @param dataInputStream The stream from which the array will be read.
+	 * @return The read array.
+	 * @throws IOException Thrown when any error has occurred in reading from the stream.
+	 */
+	private String[] readStringArray(DataInputStream dataInputStream) throws IOException {
+		String[] strings = new String[ dataInputStream.readInt() ];
+		for (int i=0; i<strings.length; i++) {
+			strings[i] = this.readString(dataInputStream);
+		}
+		return strings;
+	}
+
+
+	/**
+	 * Writes an array of integers to the stream, with the length as the prefix.
+	 *
+	 * @param dataOutputStream The stream to which the array will be written.
+	 * @param values The array to be written.
+	 * @throws IOException Thrown when any error has occurred in writing to the stream.
+	 */
+	private void writeIntArray(DataOutputStream dataOutputStream, int[] values) throws IOException {
+		dataOutputStream.writeInt(values.length);
+		for (int value: values) {
+			dataOutputStream.writeInt(value);
+		}
+	}
+
+
+	/**
+	 * Reads an array of integers written by
+	 * {@link VirtualMachineObjectCodeSerializer#writeIntArray(DataOutputStream, int[])}.
+	 *
+	 * @param dataInputStream The stream from which the array will be read.
+	 * @return The read array.
+	 * @throws IOException Thrown when any error has occurred in reading from the stream.
+	 */
+	private int[] readIntArray(DataInputStream dataInputStream) throws IOException {
+		int[] values = new int[ dataInputStream.readInt() ];
+		for (int i=0; i<values.length; i++) {
+			values[i] = dataInputStream.readInt();
+		}
+		return values;
+	}
+}
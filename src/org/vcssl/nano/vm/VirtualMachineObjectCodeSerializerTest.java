@@ -0,0 +1,126 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.vm;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.spec.DataType;
+import org.vcssl.nano.spec.ErrorType;
+import org.vcssl.nano.spec.OperationCode;
+import org.vcssl.nano.vm.memory.DataContainer;
+import org.vcssl.nano.vm.memory.Memory;
+import org.vcssl.nano.vm.processor.Instruction;
+
+/**
+ * The test of VirtualMachineObjectCodeSerializer class.
+ */
+public class VirtualMachineObjectCodeSerializerTest {
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	private VirtualMachineObjectCode createObjectCode() {
+		VirtualMachineObjectCode objectCode = new VirtualMachineObjectCode();
+
+		DataContainer<String[]> metaContainer = new DataContainer<String[]>();
+		metaContainer.setStringScalarData("line=1, file=main script");
+		objectCode.addConstantData("~string:\"line=1, file=main script\"", metaContainer, 0);
+
+		DataContainer<long[]> intContainer = new DataContainer<long[]>();
+		intContainer.setInt64ScalarData(123L);
+		objectCode.addConstantData("~int:123", intContainer, 1);
+
+		DataContainer<double[]> floatContainer = new DataContainer<double[]>();
+		floatContainer.setFloat64ScalarData(1.25);
+		objectCode.addConstantData("~float:1.25", floatContainer, 2);
+
+		DataContainer<boolean[]> boolContainer = new DataContainer<boolean[]>();
+		boolContainer.setBoolScalarData(true);
+		objectCode.addConstantData("~bool:true", boolContainer, 3);
+
+		objectCode.addRegister(0);
+		objectCode.addRegister(1);
+		objectCode.addLocalVariable("_a@0", 0);
+		objectCode.addGlobalVariable("_x", 0);
+		objectCode.addFunction("_f(int)", 5);
+		objectCode.addLabel("&LABEL0", 3);
+
+		objectCode.addInstruction(new Instruction(
+			OperationCode.ADD, new DataType[] { DataType.INT64 },
+			new Memory.Partition[] { Memory.Partition.REGISTER, Memory.Partition.LOCAL, Memory.Partition.CONSTANT },
+			new int[] { 0, 0, 1 },
+			Memory.Partition.CONSTANT, 0
+		));
+		objectCode.addInstruction(new Instruction(
+			OperationCode.CAST, new DataType[] { DataType.FLOAT64, DataType.INT64 },
+			new Memory.Partition[] { Memory.Partition.REGISTER, Memory.Partition.REGISTER },
+			new int[] { 1, 0 },
+			Memory.Partition.CONSTANT, 0
+		));
+		objectCode.setEvalValueAddress(1);
+		return objectCode;
+	}
+
+	@Test
+	public void testWriteAndLoad() throws VnanoException, IOException {
+		VirtualMachineObjectCode objectCode = this.createObjectCode();
+		VirtualMachineObjectCodeSerializer serializer = new VirtualMachineObjectCodeSerializer();
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		serializer.write(objectCode, outputStream);
+		VirtualMachineObjectCode loadedObjectCode = serializer.load(new ByteArrayInputStream(outputStream.toByteArray()));
+
+		assertEquals(objectCode.dump(), loadedObjectCode.dump());
+		assertEquals(objectCode.getEvalValueAddress(), loadedObjectCode.getEvalValueAddress());
+		assertEquals(objectCode.getInstructions().length, loadedObjectCode.getInstructions().length);
+
+		DataContainer<?>[] loadedContainers = loadedObjectCode.getConstantDataContainers();
+		assertEquals("line=1, file=main script", loadedContainers[0].getStringScalarData());
+		assertEquals(123L, loadedContainers[1].getInt64ScalarData());
+		assertEquals(1.25, loadedContainers[2].getFloat64ScalarData(), 0.0);
+		assertEquals(true, loadedContainers[3].getBoolScalarData());
+	}
+
+	@Test
+	public void testLoadBrokenCode() throws IOException {
+		VirtualMachineObjectCodeSerializer serializer = new VirtualMachineObjectCodeSerializer();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		serializer.write(this.createObjectCode(), outputStream);
+		byte[] bytes = outputStream.toByteArray();
+
+		// Truncated code.
+		byte[] truncatedBytes = new byte[ bytes.length / 2 ];
+		System.arraycopy(bytes, 0, truncatedBytes, 0, truncatedBytes.length);
+		try {
+			serializer.load(new ByteArrayInputStream(truncatedBytes));
+			fail("Expected exception did not occurred");
+		} catch (VnanoException e) {
+			assertEquals(ErrorType.INVALID_OBJECT_CODE_FORMAT, e.getErrorType());
+		}
+
+		// Code having a different version (the version number is stored just after the magic number and the format version).
+		bytes[ 4 + 4 + 4 ] = (byte)'0';
+		try {
+			serializer.load(new ByteArrayInputStream(bytes));
+			fail("Expected exception did not occurred");
+		} catch (VnanoException e) {
+			assertEquals(ErrorType.OBJECT_CODE_VERSION_MISMATCH, e.getErrorType());
+		}
+	}
+}
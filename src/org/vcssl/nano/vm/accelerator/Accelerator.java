@@ -12,13 +12,16 @@ import java.util.List;
 import java.util.Map;
 
 import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.VnanoFatalException;
 import org.vcssl.nano.interconnect.Interconnect;
+import org.vcssl.nano.interconnect.PhaseProfiler;
 import org.vcssl.nano.spec.ErrorType;
 import org.vcssl.nano.spec.MetaInformationSyntax;
 import org.vcssl.nano.spec.OperationCode;
 import org.vcssl.nano.spec.OptionKey;
 import org.vcssl.nano.spec.OptionValue;
 import org.vcssl.nano.vm.memory.Memory;
+import org.vcssl.nano.vm.processor.CallFrameUnit;
 import org.vcssl.nano.vm.processor.Instruction;
 import org.vcssl.nano.vm.processor.Processor;
 
@@ -31,27 +34,46 @@ public class Accelerator {
 	/**
 	 * The container class for caching some resources,
 	 * to reduce overheads when this accelerator processes the same code repetitively.
+	 *
+	 * An instance of this class is bound to the code and the memory used when it was created,
+	 * so it must be passed to {@link Accelerator#reprocess(Instruction[], Memory, Interconnect, Processor, ReprocessingCache)}
+	 * only with the same code and the same memory.
+	 * Also, the same instance must not be used by multiple threads at the same time,
+	 * because the execution nodes in it have caches of data in the memory.
+	 * For processing the same code in parallel, process it with independent memory instances,
+	 * for generating an independent instance of this class for each thread.
 	 */
-	private class ReprocessingCache {
+	public static final class ReprocessingCache {
 
 		/** Stores the execution nodes created for the last processed code. */
-		public volatile AcceleratorExecutionNode[] lastExecutionNodes;
+		private volatile AcceleratorExecutionNode[] lastExecutionNodes;
 
 		/** Stores the data management unit created for the last processed code. */
-		public volatile AcceleratorDataManagementUnit lastDataManager;
+		private volatile AcceleratorDataManagementUnit lastDataManager;
+
+		/** Stores the internal function control unit created for the last processed code. */
+		private volatile InternalFunctionControlUnit lastInternalFunctionControlUnit;
 
 		/** Stores the value of "RUNNING_ENABLED" option of when the last code was processed. */
-		public volatile boolean lastRunningEnabled;
+		private volatile boolean lastRunningEnabled;
 
 		/** Stores the value of "TERMINATOR_ENABLED" option of when the last code was processed. */
-		public volatile boolean lastTerminatorEnabled;
+		private volatile boolean lastTerminatorEnabled;
 
 		/** Stores the value of "PERFORMANCE_MONITOR_ENABLED" option of when the last code was processed. */
-		public volatile boolean lastPerformanceMonitorEnabled;
+		private volatile boolean lastPerformanceMonitorEnabled;
+
+		/**
+		 * Create an empty instance storing nothing.
+		 * (Instances of this class are created only by the Accelerator.)
+		 */
+		private ReprocessingCache() {
+		}
 	}
 
 	/** Stores some cached resources, to reduce overheads when this accelerator processes the same code repetitively. */
-	private ReprocessingCache reprocessingCache = null;
+	private volatile ReprocessingCache reprocessingCache = null;
+
 
 	/**
 	 * The flag representing whether the process should continue.
@@ -117,10 +139,81 @@ public class Accelerator {
 	 * @param memory The memory to which data I/O will be performed.
 	 * @param interconnect The interconnect having the external function plug-ins which may be called by the instructions.
 	 * @param processor The processor for processing some instructions unsupported by this accelerator.
+	 * @return
+	 *   The cached resources (execution nodes and so on) generated for processing the instructions,
+	 *   which can be passed to
+	 *   {@link Accelerator#reprocess(Instruction[], Memory, Interconnect, Processor, ReprocessingCache) reprocess(...)} method
+	 *   for re-processing the same instructions with the same memory.
 	 * @throws VnanoException Thrown when any normal run-time error has been occurred (errors of cast, array indexing, and so on).
 	 * @throws VnanoFatalException Thrown when any abnormal error (might be a bug of the VM or the compiler) occurred.
 	 */
-	public void process(Instruction[] instructions, Memory memory, Interconnect interconnect, Processor processor)
+	public ReprocessingCache process(Instruction[] instructions, Memory memory, Interconnect interconnect, Processor processor)
+			throws VnanoException {
+
+		// 命令列を解析・最適化して演算実行ノード列を生成し、再処理用のキャッシュとして取得
+		ReprocessingCache cache = this.prepare(instructions, memory, interconnect, processor);
+		this.reprocessingCache = cache;
+
+		// オプションでコード実行が無効化されていた場合はここで終了
+		if (!cache.lastRunningEnabled) {
+			return cache;
+		}
+
+		// ダンプ関連のオプション値を読み込む
+		boolean shouldDump, dumpTargetIsAll;
+		PrintStream dumpStream = null;
+		synchronized (this) {
+			Map<String, Object> optionMap = interconnect.getOptionMap();
+			shouldDump = (Boolean)optionMap.get(OptionKey.DUMPER_ENABLED);
+			dumpTargetIsAll = ((String)optionMap.get(OptionKey.DUMPER_TARGET)).equals(OptionValue.DUMPER_TARGET_ALL);
+			dumpStream = (PrintStream)optionMap.get(OptionKey.DUMPER_STREAM);
+		}
+
+		// ダンプ内容に実行開始点を表す区切りを入れる
+		if (shouldDump && dumpTargetIsAll) {
+			dumpStream.println("================================================================================");
+			dumpStream.println("= Run");
+			dumpStream.println("================================================================================");
+		}
+
+		 // Executes the chain of AcceleratorExecutionNode instances.
+		 // This corresponds the processing of the list of the instructions, on a Processor.
+		this.executeNodes(
+			cache.lastExecutionNodes, cache.lastDataManager, memory,
+			cache.lastRunningEnabled, cache.lastTerminatorEnabled, cache.lastPerformanceMonitorEnabled
+		);
+
+		// ダンプ内容に実行終了点を表す区切りを入れる
+		if (shouldDump && dumpTargetIsAll) {
+			dumpStream.println("");
+			dumpStream.println("================================================================================");
+			dumpStream.println("= End");
+			dumpStream.println("================================================================================");
+		}
+
+		return cache;
+	}
+
+
+	/**
+	 * Prepares resources (execution nodes and so on) for processing the list of instructions, without processing them.
+	 *
+	 * The returned cache can be passed to
+	 * {@link Accelerator#reprocess(Instruction[], Memory, Interconnect, Processor, ReprocessingCache) reprocess(...)} method
+	 * for processing the instructions with the same memory.
+	 * This method only reads data types and array-ranks of data in the memory, which are not changed by processing the code,
+	 * and does not modify the state of this accelerator.
+	 * Hence, it can be called on a background thread while the same code is being processed on the same memory by the processor.
+	 *
+	 * @param instructions The list of the instructions to be processed.
+	 * @param memory The memory to which data I/O will be performed.
+	 * @param interconnect The interconnect having the external function plug-ins which may be called by the instructions.
+	 * @param processor The processor for processing some instructions unsupported by this accelerator.
+	 * @return The resources generated for processing the instructions.
+	 * @throws VnanoException Thrown when any error has been detected for connections with external functions.
+	 * @throws VnanoFatalException Thrown when any abnormal error (might be a bug of the VM or the compiler) occurred.
+	 */
+	public ReprocessingCache prepare(Instruction[] instructions, Memory memory, Interconnect interconnect, Processor processor)
 			throws VnanoException {
 
 		// 必要なオプション値を読み込む
@@ -140,10 +233,20 @@ public class Accelerator {
 			optimizationLevel = (Integer)optionMap.get(OptionKey.ACCELERATOR_OPTIMIZATION_LEVEL); // 最適化レベル
 		}
 
+		// 各段階の所要時間とメモリ確保量を計測するプロファイラを取得（性能計測が無効な場合は何も計測しない）
+		PhaseProfiler profiler = interconnect.getPhaseProfiler();
+		long phaseBeginTime = profiler.getNanoTime();
+		long phaseBeginBytes = profiler.getAllocatedBytes();
+
+		// 再帰呼び出しされ得る関数を検出し、そのフレーム（ローカル変数やレジスタのデータ）を退避/復元するユニットを生成
+		// (フレームに含まれるデータはキャッシュできず、また再帰関数は引数の直接転送の最適化の対象外となるため、以下の解析より前に行う)
+		CallFrameUnit callFrameUnit = new CallFrameUnit(instructions, memory);
+
 		// スカラ判定やキャッシュ可能性判断などの高速化用データ解析を実行
 		// (命令列に操作を加える前に、最初に済ませる必要がある)
 		AcceleratorDataManagementUnit dataManager = new AcceleratorDataManagementUnit();
-		dataManager.allocate(instructions, memory, interconnect, optimizationLevel);
+		dataManager.allocate(instructions, memory, interconnect, callFrameUnit, optimizationLevel);
+		profiler.record(PhaseProfiler.Phase.ACCELERATOR_DATA_MANAGEMENT, phaseBeginTime, phaseBeginBytes);
 
 		// 命令列を、Accelerator用に継承された型の命令列に変換
 		List<AcceleratorInstruction> acceleratorInstructionList = new ArrayList<AcceleratorInstruction>();
@@ -154,16 +257,25 @@ public class Accelerator {
 
 		// 各命令がどの演算ユニットへ割り当てるべきかを解析し、結果を各命令に設定したものを取得
 		//（その情報は最適化のステージ内でも参照されるので、最適化前に一度済ませておく必要がある）
+		phaseBeginTime = profiler.getNanoTime();
+		phaseBeginBytes = profiler.getAllocatedBytes();
 		AcceleratorDispatchUnit dispatcher = new AcceleratorDispatchUnit();
 		acceleratorInstructions = dispatcher.preDispatch(acceleratorInstructions, memory, dataManager);
+		profiler.record(PhaseProfiler.Phase.ACCELERATOR_PRE_DISPATCH, phaseBeginTime, phaseBeginBytes);
 
 		// 命令の並び替えや削除、インライン展開などを行って、命令列を最適化する
 		// (複数命令の一括処理化は、最適化というよりも演算ユニット割り当てによる効率化なので、ここではなく後のスケジューラが行う)
+		phaseBeginTime = profiler.getNanoTime();
+		phaseBeginBytes = profiler.getAllocatedBytes();
 		AcceleratorOptimizationUnit optimizer = new AcceleratorOptimizationUnit();
-		acceleratorInstructions = optimizer.optimize(acceleratorInstructions, memory, dataManager, optimizationLevel);
+		acceleratorInstructions = optimizer.optimize(acceleratorInstructions, memory, interconnect, dataManager, callFrameUnit, optimizationLevel);
+		profiler.record(PhaseProfiler.Phase.ACCELERATOR_OPTIMIZATION, phaseBeginTime, phaseBeginBytes);
 
 		// 最適化で生成された命令等があるため、もう一度演算ユニット割り当てを解析
+		phaseBeginTime = profiler.getNanoTime();
+		phaseBeginBytes = profiler.getAllocatedBytes();
 		acceleratorInstructions = dispatcher.preDispatch(acceleratorInstructions, memory, dataManager);
+		profiler.record(PhaseProfiler.Phase.ACCELERATOR_PRE_DISPATCH, phaseBeginTime, phaseBeginBytes);
 
 		// 変換後の命令列をダンプ
 		if (shouldDump && (dumpTargetIsAll || dumpTarget.equals(OptionValue.DUMPER_TARGET_ACCELERATOR_CODE)) ) {
@@ -179,6 +291,17 @@ public class Accelerator {
 				int unreorderedAddr = acceleratorInstructions[i].getUnreorderedAddress();
 				dumpStream.println("[" + i + "] <- [" + unreorderedAddr + "]\t" + acceleratorInstructions[i]);
 			}
+
+			// 共通部分式の除去で削られた命令があれば、その数と命令を、削られる前のアドレスと共にダンプ
+			AcceleratorInstruction[] eliminatedInstructions = optimizer.getEliminatedInstructions();
+			if (eliminatedInstructions.length != 0) {
+				dumpStream.println("");
+				dumpStream.println("# Instructions removed by common subexpression elimination: " + eliminatedInstructions.length);
+				for (AcceleratorInstruction eliminatedInstruction: eliminatedInstructions) {
+					int unreorderedAddr = eliminatedInstruction.getUnreorderedAddress();
+					dumpStream.println("[-] <- [" + unreorderedAddr + "]\t" + eliminatedInstruction);
+				}
+			}
 			if (dumpTargetIsAll) {
 				dumpStream.println("");
 			}
@@ -188,16 +311,19 @@ public class Accelerator {
 		BypassUnit bypassUnit = new BypassUnit(processor, memory, interconnect);
 
 		// コールスタックやアドレスなどを統合的に管理しつつ、内部関数関連の命令を実行する、内部関数制御ユニットを生成
-		InternalFunctionControlUnit internalFunctionControlUnit = new InternalFunctionControlUnit();
+		InternalFunctionControlUnit internalFunctionControlUnit = new InternalFunctionControlUnit(callFrameUnit);
 
 		// 外部関数の呼び出しを低オーバーヘッドで行う、外部関数制御ユニットを生成
 		ExternalFunctionControlUnit externalFunctionControlUnit = new ExternalFunctionControlUnit(interconnect);
 
 		// 命令列をアクセラレータ内の演算器に割り当てて演算実行ノード列を生成
+		phaseBeginTime = profiler.getNanoTime();
+		phaseBeginBytes = profiler.getAllocatedBytes();
 		AcceleratorExecutionNode[] nodes = dispatcher.dispatch(
 			processor, memory, interconnect, acceleratorInstructions, dataManager, bypassUnit,
 			internalFunctionControlUnit, externalFunctionControlUnit
 		);
+		profiler.record(PhaseProfiler.Phase.ACCELERATOR_DISPATCH, phaseBeginTime, phaseBeginBytes);
 
 		// 演算実行ノード列をダンプ
 		if (shouldDump && (dumpTargetIsAll || dumpTarget.equals(OptionValue.DUMPER_TARGET_ACCELERATOR_STATE)) ) {
@@ -223,37 +349,15 @@ public class Accelerator {
 		dataManager.getCacheSynchronizers(Memory.Partition.CONSTANT).synchronizeFromMemoryToCache();
 		dataManager.getCacheSynchronizers(Memory.Partition.GLOBAL).synchronizeFromMemoryToCache();
 
-		// オプションでコード実行が無効化されていた場合はここで終了
-		if (!shouldRun) {
-			return;
-		}
-
-		// ダンプ内容に実行開始点を表す区切りを入れる
-		if (shouldDump && dumpTargetIsAll) {
-			dumpStream.println("================================================================================");
-			dumpStream.println("= Run");
-			dumpStream.println("================================================================================");
-		}
-
-		 // Executes the chain of AcceleratorExecutionNode instances.
-		 // This corresponds the processing of the list of the instructions, on a Processor.
-		this.executeNodes(nodes, dataManager, memory, shouldRun, terminatable, monitorable);
-
-		// ダンプ内容に実行終了点を表す区切りを入れる
-		if (shouldDump && dumpTargetIsAll) {
-			dumpStream.println("");
-			dumpStream.println("================================================================================");
-			dumpStream.println("= End");
-			dumpStream.println("================================================================================");
-		}
-
 		// Caches some resources, to reduce overheads when this accelerator processes the same code repetitively.
-		this.reprocessingCache = new ReprocessingCache();
-		this.reprocessingCache.lastExecutionNodes = nodes;
-		this.reprocessingCache.lastDataManager = dataManager;
-		this.reprocessingCache.lastRunningEnabled = shouldRun;
-		this.reprocessingCache.lastTerminatorEnabled = terminatable;
-		this.reprocessingCache.lastPerformanceMonitorEnabled = monitorable;
+		ReprocessingCache cache = new ReprocessingCache();
+		cache.lastExecutionNodes = nodes;
+		cache.lastDataManager = dataManager;
+		cache.lastInternalFunctionControlUnit = internalFunctionControlUnit;
+		cache.lastRunningEnabled = shouldRun;
+		cache.lastTerminatorEnabled = terminatable;
+		cache.lastPerformanceMonitorEnabled = monitorable;
+		return cache;
 	}
 
 
@@ -270,16 +374,41 @@ public class Accelerator {
 	public void reprocess(Instruction[] instructions, Memory memory, Interconnect interconnect, Processor processor)
 			throws VnanoException {
 
+		this.reprocess(instructions, memory, interconnect, processor, this.reprocessingCache);
+	}
+
+
+	/**
+	 * Re-processes the instructions processed when the specified cache was created.
+	 *
+	 * @param instructions The list of the instructions to be processed.
+	 * @param memory The memory to which data I/O will be performed (must be the same instance used when the cache was created).
+	 * @param interconnect The interconnect having the external function plug-ins which may be called by the instructions.
+	 * @param processor The processor for processing some instructions unsupported by this accelerator.
+	 * @param cache The cached resources, created by the processing of the same instructions.
+	 * @throws VnanoException Thrown when any normal run-time error has been occurred (errors of cast, array indexing, and so on).
+	 * @throws VnanoFatalException Thrown when any abnormal error (might be a bug of the VM or the compiler) occurred.
+	 */
+	public void reprocess(Instruction[] instructions, Memory memory, Interconnect interconnect, Processor processor,
+			ReprocessingCache cache) throws VnanoException {
+
+		if (cache == null) {
+			throw new VnanoFatalException("No cached resources for re-processing the instructions.");
+		}
+
 		// Extract cached resources of the last execution.
-		AcceleratorExecutionNode[] nodes = this.reprocessingCache.lastExecutionNodes;
-		AcceleratorDataManagementUnit dataManager = this.reprocessingCache.lastDataManager;
-		boolean shouldRun = this.reprocessingCache.lastRunningEnabled;
-		boolean terminatable = this.reprocessingCache.lastTerminatorEnabled;
-		boolean monitorable = this.reprocessingCache.lastPerformanceMonitorEnabled;
+		AcceleratorExecutionNode[] nodes = cache.lastExecutionNodes;
+		AcceleratorDataManagementUnit dataManager = cache.lastDataManager;
+		boolean shouldRun = cache.lastRunningEnabled;
+		boolean terminatable = cache.lastTerminatorEnabled;
+		boolean monitorable = cache.lastPerformanceMonitorEnabled;
 		if (!shouldRun) {
 			return;
 		}
 
+		// Reset states of function calls (they might remain if the last execution has been interrupted by an error).
+		cache.lastInternalFunctionControlUnit.reset();
+
 		// Load data from the memory to the execution caches.
 		dataManager.getCacheSynchronizers(Memory.Partition.CONSTANT).synchronizeFromMemoryToCache();
 		dataManager.getCacheSynchronizers(Memory.Partition.GLOBAL).synchronizeFromMemoryToCache();
@@ -349,6 +478,10 @@ public class Accelerator {
 				}
 			}
 
+			// Write back cached values of global variables to the memory,
+			// because the memory will be read after the execution (e.g.: for updating values of external variables).
+			dataManager.getCacheSynchronizers(Memory.Partition.GLOBAL).synchronizeFromCacheToMemory();
+
 		} catch (Exception e) {
 
 			// 命令のメタ情報から、スクリプト内で命令に対応する箇所のファイル名や行番号を抽出
@@ -18,6 +18,7 @@ import org.vcssl.nano.spec.DataType;
 import org.vcssl.nano.spec.OperationCode;
 import org.vcssl.nano.vm.memory.DataContainer;
 import org.vcssl.nano.vm.memory.Memory;
+import org.vcssl.nano.vm.processor.CallFrameUnit;
 import org.vcssl.nano.vm.processor.Instruction;
 
 public final class AcceleratorDataManagementUnit {
@@ -97,13 +98,14 @@ public final class AcceleratorDataManagementUnit {
 
 	public void allocate(
 			Instruction[] instructions, Memory memory, Interconnect interconnect,
-			int optimizationLevel) {
+			CallFrameUnit callFrameUnit, int optimizationLevel) {
 
 		this.initializeFields(memory);
 		this.analyzeInternalFunctionInformation(instructions, memory);
 		this.detectScalarFromMemory(memory, Memory.Partition.CONSTANT);
 		this.detectScalarFromMemory(memory, Memory.Partition.GLOBAL);
 		this.detectScalarFromInstructions(instructions, memory, interconnect);
+		this.disableFrameDataCaches(callFrameUnit);
 
 		// 最適化レベルが特定値以下)なら、キャッシュを使わないように無効化する
 		if (optimizationLevel <= AcceleratorOptimizationUnit.OPT_LEVEL_CACHE_DISABLED) {
@@ -176,6 +178,26 @@ public final class AcceleratorDataManagementUnit {
 	}
 
 
+	// 再帰関数のフレームに含まれるデータ（ローカル変数やレジスタ）に対するキャッシュを無効化する
+	// (再帰呼び出し時にはデータコンテナの中身がフレーム単位で退避/復元されるが、キャッシュの値はそれに追従できないため)
+	private void disableFrameDataCaches(CallFrameUnit callFrameUnit) {
+		if (!callFrameUnit.hasRecursiveFunctions()) {
+			return;
+		}
+		Memory.Partition[] framePartitions = { Memory.Partition.LOCAL, Memory.Partition.REGISTER };
+		for (Memory.Partition partition: framePartitions) {
+			int partitionOrdinal = partition.ordinal();
+			int partitionSize = this.cachingEnabled[partitionOrdinal].length;
+			for (int address=0; address<partitionSize; address++) {
+				if (callFrameUnit.isFrameData(partition, address)) {
+					this.caches[partitionOrdinal][address] = null;
+					this.cachingEnabled[partitionOrdinal][address] = false;
+				}
+			}
+		}
+	}
+
+
 	// 定数領域やグローバル領域など、メモリ上にデータが確保済みのものについて、
 	// メモリを読みながらスカラかどうか等の性質判定を行い、スカラに対してはキャッシュ確保を行う。
 	// （定数値のキャッシュへの書き込みは後でSynchronizerで行う）
@@ -527,19 +549,20 @@ public final class AcceleratorDataManagementUnit {
 			return referencenessList;
 		}
 
+		// 引数はスタックから末尾のものから順に POP されるので、リストの先頭側に追加していく
 		int instructionLength = instructions.length;
 		for (int instAddr=functionAddress; instAddr<instructionLength; instAddr++) {
 			switch(instructions[instAddr].getOperationCode()) {
 				case POP :
 				case MOVPOP : {
-					referencenessList.add(Boolean.FALSE);
+					referencenessList.add(0, Boolean.FALSE);
 					if (referencenessList.size() == numberOfArgs) {
 						return referencenessList;
 					}
 					break;
 				}
 				case REFPOP : {
-					referencenessList.add(Boolean.TRUE);
+					referencenessList.add(0, Boolean.TRUE);
 					if (referencenessList.size() == numberOfArgs) {
 						return referencenessList;
 					}
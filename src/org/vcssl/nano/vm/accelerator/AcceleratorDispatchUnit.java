@@ -17,6 +17,7 @@ import org.vcssl.nano.spec.ErrorType;
 import org.vcssl.nano.spec.MetaInformationSyntax;
 import org.vcssl.nano.spec.OperationCode;
 import org.vcssl.nano.vm.memory.DataContainer;
+import org.vcssl.nano.vm.memory.DataContainerPool;
 import org.vcssl.nano.vm.memory.Memory;
 import org.vcssl.nano.vm.processor.Processor;
 
@@ -80,7 +81,7 @@ public class AcceleratorDispatchUnit {
 				AcceleratorExecutionNode currentNode = null;
 				currentNode = this.dispatchToAcceleratorExecutionUnit(
 					instruction, operandContainers, operandCaches, operandCachingEnabled, operandScalar, operandConstant,
-					bypassUnit, internalFunctionControlUnit, externalFunctionControlUnit,
+					bypassUnit, internalFunctionControlUnit, externalFunctionControlUnit, memory.getDataContainerPool(),
 					nextNode
 				);
 
@@ -217,7 +218,8 @@ public class AcceleratorDispatchUnit {
 			AcceleratorInstruction instruction, DataContainer<?>[] operandContainers,
 			ScalarCache[] operandCaches, boolean[] operandCachingEnabled, boolean[] operandScalar, boolean[] operandConstant,
 			BypassUnit bypassUnit, InternalFunctionControlUnit internalFunctionControlUnit,
-			ExternalFunctionControlUnit externalFunctionControlUnit, AcceleratorExecutionNode nextNode) {
+			ExternalFunctionControlUnit externalFunctionControlUnit, DataContainerPool dataContainerPool,
+			AcceleratorExecutionNode nextNode) {
 
 		// 演算器タイプを取得
 		AcceleratorExecutionType accelType = instruction.getAccelerationType();
@@ -225,17 +227,17 @@ public class AcceleratorDispatchUnit {
 
 			// メモリ確保
 			case I64_ALLOC : {
-				return new Int64MemoryAllocationUnit().generateNode(
+				return new Int64MemoryAllocationUnit(dataContainerPool).generateNode(
 					instruction, operandContainers, operandCaches, operandCachingEnabled, operandScalar, operandConstant, nextNode
 				);
 			}
 			case F64_ALLOC : {
-				return new Float64MemoryAllocationUnit().generateNode(
+				return new Float64MemoryAllocationUnit(dataContainerPool).generateNode(
 					instruction, operandContainers, operandCaches, operandCachingEnabled, operandScalar, operandConstant, nextNode
 				);
 			}
 			case B_ALLOC : {
-				return new BoolMemoryAllocationUnit().generateNode(
+				return new BoolMemoryAllocationUnit(dataContainerPool).generateNode(
 					instruction, operandContainers, operandCaches, operandCachingEnabled, operandScalar, operandConstant, nextNode
 				);
 			}
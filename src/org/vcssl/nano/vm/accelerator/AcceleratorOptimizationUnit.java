@@ -10,17 +10,21 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.vcssl.nano.VnanoFatalException;
+import org.vcssl.nano.interconnect.AbstractFunction;
+import org.vcssl.nano.interconnect.Interconnect;
 import org.vcssl.nano.spec.DataType;
 import org.vcssl.nano.spec.OperationCode;
 import org.vcssl.nano.spec.OptionValue;
 import org.vcssl.nano.vm.memory.DataContainer;
 import org.vcssl.nano.vm.memory.Memory;
+import org.vcssl.nano.vm.processor.CallFrameUnit;
 import org.vcssl.nano.vm.processor.Instruction;
 
 public class AcceleratorOptimizationUnit {
@@ -41,6 +45,9 @@ public class AcceleratorOptimizationUnit {
 	// 関数のインライン展開など、コードの基本構造そのものの改変を伴う最適化レベル： レベル3。
 	protected static final int OPT_LEVEL_STRUCTURE_TUNED = OptionValue.ACCELERATOR_OPTIMIZATION_LEVEL_3;
 
+	// 共通部分式の除去など、命令間の値の同一性の解析に基づいて冗長な演算を削る最適化レベル： レベル4。
+	protected static final int OPT_LEVEL_REDUNDANCY_ELIMINATED = OptionValue.ACCELERATOR_OPTIMIZATION_LEVEL_4;
+
 
 	// List 内の null 要素を removeAll する際に渡す (removeAllの引数は Collection インスタンスであるべきなので素の null は渡せない)
 	private static final List<Object> LIST_OF_NULL = Arrays.asList((Object)null);
@@ -60,6 +67,9 @@ public class AcceleratorOptimizationUnit {
 	private boolean registerReferenceMaybeLinked[];
 	private Map<Integer, InternalFunctionInfo> functionInfoMap;
 	private Set<Integer> unnecessaryRegisterSet;
+	private Interconnect interconnect;
+	private CallFrameUnit callFrameUnit;
+	private List<AcceleratorInstruction> eliminatedInstructionList;
 
 	// 演算結果格納レジスタからのMOV命令でのコピーを削る最適化を、適用してもよい命令の集合
 	// (算術演算命令などは可能、ELEM命令などのメモリー関連命令では不可能)
@@ -88,6 +98,31 @@ public class AcceleratorOptimizationUnit {
 		movReducableOpcodeSet.add(OperationCode.MOVELM); // MOVELMは要素の単純コピーなのでその直後にMOVするのは削っても安全（REFELMは無理）
 	}
 
+	// ループ不変な場合にループの外へ移動してもよい命令の集合
+	// (副作用が無く、オペランドの値が同じなら常に同じ結果になるもの。
+	//  ただし整数の除算・剰余はゼロ除算で例外が発生し得るので、移動可否は isLoopInvariantInstruction 内でデータ型も見て判断する)
+	private static final HashSet<OperationCode> loopHoistableOpcodeSet = new HashSet<OperationCode>();
+	static {
+		loopHoistableOpcodeSet.add(OperationCode.ADD);
+		loopHoistableOpcodeSet.add(OperationCode.SUB);
+		loopHoistableOpcodeSet.add(OperationCode.MUL);
+		loopHoistableOpcodeSet.add(OperationCode.DIV);
+		loopHoistableOpcodeSet.add(OperationCode.REM);
+		loopHoistableOpcodeSet.add(OperationCode.NEG);
+
+		loopHoistableOpcodeSet.add(OperationCode.EQ);
+		loopHoistableOpcodeSet.add(OperationCode.NEQ);
+		loopHoistableOpcodeSet.add(OperationCode.GT);
+		loopHoistableOpcodeSet.add(OperationCode.LT);
+		loopHoistableOpcodeSet.add(OperationCode.GEQ);
+		loopHoistableOpcodeSet.add(OperationCode.LEQ);
+
+		loopHoistableOpcodeSet.add(OperationCode.ANDM);
+		loopHoistableOpcodeSet.add(OperationCode.ORM);
+		loopHoistableOpcodeSet.add(OperationCode.NOT);
+		loopHoistableOpcodeSet.add(OperationCode.CAST);
+	}
+
 	private class InternalFunctionInfo {
 		private int functionAddress = -1; // 関数の先頭アドレス
 		private int bodyBeginAddress = -1; // 引数取り出し部やENDPRM命令を除いた、関数内部処理の先頭アドレス
@@ -245,8 +280,8 @@ public class AcceleratorOptimizationUnit {
 
 
 	public AcceleratorInstruction[] optimize(
-			AcceleratorInstruction[] instructions, Memory memory, AcceleratorDataManagementUnit dataManager,
-			int optimizationLevel) {
+			AcceleratorInstruction[] instructions, Memory memory, Interconnect interconnect,
+			AcceleratorDataManagementUnit dataManager, CallFrameUnit callFrameUnit, int optimizationLevel) {
 
 		// ※ 注意：
 		//    現在の Accelerator の実装では、データの cacheability を変えるような最適化を行ってはならない。
@@ -261,6 +296,9 @@ public class AcceleratorOptimizationUnit {
 			this.acceleratorInstructionList.add( instruction.clone() );
 		}
 		this.unnecessaryRegisterSet = new HashSet<Integer>();
+		this.interconnect = interconnect;
+		this.callFrameUnit = callFrameUnit;
+		this.eliminatedInstructionList = new ArrayList<AcceleratorInstruction>();
 
 		// 内部関数の最適化情報を抽出する（実際にCALLされているもののみ）
 		this.extractInternalFunctionInfo(memory);
@@ -277,6 +315,7 @@ public class AcceleratorOptimizationUnit {
 
 			// 内部関数呼び出しでの、スタックを介する引数の受け渡しを、呼び出し前に実引数から仮引数に直接代入するようにする
 			// (命令アドレスがずれるため、this.functionInfoMap のbodyBegin/bodyEnd値も書き換わる)
+			// (再帰関数は、呼び出し時にフレームを退避した後で引数を受け取る必要があるため、対象外としてスタック経由のまま残す)
 			this.modifyCodeToTransferArgumentsDirectly(memory);
 
 			// CALL命令の直後（アセンブル後はLABEL命令が置かれている）の箇所に、RETURNED命令(※)を生成して置き換える
@@ -329,6 +368,12 @@ public class AcceleratorOptimizationUnit {
 			// 演算命令の結果を直後にMOVしている箇所のオペランドを並び替え、不要になったMOV命令を削る
 			this.reduceMovInstructionsCopyingOperationResults(dataManager);
 
+			// 直前に同じオペランドで同じ演算を行った結果がレジスタに残っている命令を削り、その結果のレジスタを再利用する（共通部分式の除去）
+			// (上のMOV削りより前に行うと、結果を変数に直接格納できる箇所で、レジスタからのMOVが残ってしまうため、その後に行う)
+			if (OPT_LEVEL_REDUNDANCY_ELIMINATED <= optimizationLevel) {
+				this.eliminateCommonSubexpressions(memory, dataManager);
+			}
+
 			// 上記のMOV削りによって使用されなくなったレジスタの確保処理を削る（そのレジスタはもうコード上で登場しなくなるはず）
 			this.removeAllocInstructionsToUnusedRegisters();
 
@@ -341,6 +386,10 @@ public class AcceleratorOptimizationUnit {
 			this.generateAddressReorderingMap();
 			this.resolveReorderedLabelAddress(memory);
 
+			// ループ内で値が変化しない演算命令を、ループの外（ループ先頭の直前）に移動する
+			// (分岐先の解決済みアドレスを使ってループを検出するため、上の補正の後に行う。補正はメソッド内で移動の度に行われる)
+			this.hoistLoopInvariantInstructions(memory, dataManager);
+
 			// 連続する算術スカラ演算命令2個を融合させて1個の拡張命令に置き換える
 			this.fuseArithmeticInstructions( // Float64 Cached-Scalar Arithmetic
 				AcceleratorExecutionType.F64CS_ARITHMETIC, AcceleratorExecutionType.F64CS_DUAL_ARITHMETIC
@@ -384,6 +433,12 @@ public class AcceleratorOptimizationUnit {
 	}
 
 
+	// 最後の optimize の実行において、共通部分式の除去によって削られた命令を返す（ダンプ用）
+	public AcceleratorInstruction[] getEliminatedInstructions() {
+		return this.eliminatedInstructionList.toArray(new AcceleratorInstruction[0]);
+	}
+
+
 	// コード内での内部関数（実際に呼ばれているもののみ）をスキャンし、
 	// 最適化用に有用な情報を調べて、関数アドレスをキーとするマップにまとめて返す
 	private void extractInternalFunctionInfo(Memory memory) {
@@ -557,8 +612,8 @@ public class AcceleratorOptimizationUnit {
 		for (int instructionIndex=0; instructionIndex<instructionLength; instructionIndex++) {
 			AcceleratorInstruction instruction = this.acceleratorInstructionList.get(instructionIndex);
 
-			// 内部関数呼び出し部
-			if (instruction.getOperationCode() == OperationCode.CALL) {
+			// 内部関数呼び出し部（再帰関数の呼び出しは除く）
+			if (instruction.getOperationCode() == OperationCode.CALL && !this.isRecursiveFunctionCall(instruction, memory)) {
 
 				Memory.Partition[] opParts = instruction.getOperandPartitions();
 				int[] opAddrs = instruction.getOperandAddresses();
@@ -676,6 +731,9 @@ public class AcceleratorOptimizationUnit {
 			InternalFunctionInfo functionInfo = functionInfoEntry.getValue();
 			int functionAddress = functionInfoEntry.getKey();
 			int functionBodyAddress = functionInfo.getBodyBeginAddress();
+			if (this.callFrameUnit.isRecursiveFunction(functionAddress)) {
+				continue; // 再帰関数は引数をスタックから受け取るので、取り出し部を残す
+			}
 			for (int i=functionAddress+1; i<functionBodyAddress; i++) { // 始点が +1 なのは、元の着地点そのものを消すと他の最適化でのリオーダリング後の飛び先解決時に困るから
 				modifiedInstructionList.set(i, null);
 			}
@@ -691,6 +749,16 @@ public class AcceleratorOptimizationUnit {
 	}
 
 
+	// 再帰呼び出しされ得る内部関数を呼び出すCALL命令なら true を返す
+	private boolean isRecursiveFunctionCall(AcceleratorInstruction instruction, Memory memory) {
+		DataContainer<?> functionAddrContainer = memory.getDataContainer(
+			instruction.getOperandPartitions()[1], instruction.getOperandAddresses()[1]
+		);
+		int calleeFunctionAddress = (int)( (long[])(functionAddrContainer.getArrayData()) )[0];
+		return this.callFrameUnit.isRecursiveFunction(calleeFunctionAddress);
+	}
+
+
 	// インライン化できそうな＆した方が良さそうな内部関数呼び出しをインライン化する
 	private void expandFunctionCodeInline(Memory memory) {
 		int instructionLength = this.acceleratorInstructionList.size();
@@ -799,8 +867,17 @@ public class AcceleratorOptimizationUnit {
 				modifiedInstructionList.add(expandedInstruction);
 			}
 
-			// RET命令で戻り値が指定されなかった場合（void関数）は、展開後は何もする必要が無いので、次の CALL 命令へ
+			// RET命令で戻り値が指定されなかった場合（void関数）は、CALL命令の直後のRETURNED拡張命令を参照渡しの場合のみコピーし、
+			// 空の戻り値をスタックから取り出して捨てるPOP命令は（展開後は何も積まれないので）読み飛ばして、次の CALL 命令へ
 			if (!functionInfo.hasRetValue()) {
+				instructionIndex++;
+				if (functionInfo.hasReferenceParameters()) {
+					modifiedInstructionList.add( this.acceleratorInstructionList.get(instructionIndex).clone() );
+				}
+				if (instructionIndex + 1 < instructionLength
+						&& this.acceleratorInstructionList.get(instructionIndex + 1).getOperationCode() == OperationCode.POP) {
+					instructionIndex++;
+				}
 				continue;
 			}
 
@@ -1213,6 +1290,542 @@ public class AcceleratorOptimizationUnit {
 	}
 
 
+	// ループ内で値が変化しない（ループ不変な）演算命令を、ループの外に移動する
+	// (例えば for 文の中で毎回 scale * offset を計算しているような場合、その乗算をループ開始前に1回だけ行うようにする。)
+	//
+	// ループは、コードジェネレータが for/while 文に対して生成する、先頭のLABEL命令と、そこへ戻る後方分岐（JMP/JMPN）命令の組で検出する。
+	// 移動先はループ先頭のLABEL命令の直前なので、移動した命令はループに入る際に1回だけ実行され、後方分岐で戻る際には実行されない。
+	// ループ内の条件分岐の中にある命令も移動され得るが、副作用も例外も無いスカラ演算しか移動しないため、結果は変わらない。
+	// 外部関数の呼び出し（CALLX）は、プラグイン側で純粋関数と宣言されている場合のみ、同様に移動対象になる。
+	//
+	// 内側のループから順に処理されるよう、後方分岐命令の位置が前にあるループから順に処理する
+	// (内側のループから外に出された命令は、次に外側のループを処理する際に、さらに外へ移動され得る)。
+	private void hoistLoopInvariantInstructions(Memory memory, AcceleratorDataManagementUnit dataManager) {
+		int registerLength = memory.getSize(Memory.Partition.REGISTER);
+		int localLength = memory.getSize(Memory.Partition.LOCAL);
+
+		// 参照リンクによって、別名経由で書き換えられる可能性があるローカル変数を検出
+		boolean[] localReferenceMaybeLinked = this.detectLocalVariableReferenceLinks(memory);
+
+		// 命令列の移動はループ内でのみ行われ、ループの末尾（後方分岐命令）の位置は変わらないので、そのまま先頭から辿ればよい
+		for (int endIndex=0; endIndex<this.acceleratorInstructionList.size(); endIndex++) {
+			AcceleratorInstruction endInstruction = this.acceleratorInstructionList.get(endIndex);
+			OperationCode endOpcode = endInstruction.getOperationCode();
+
+			// 後方分岐命令でなければ、ループの末尾ではないのでスキップ
+			if (endOpcode != OperationCode.JMP && endOpcode != OperationCode.JMPN) {
+				continue;
+			}
+			int beginIndex = endInstruction.getReorderedLabelAddress();
+			if (endIndex <= beginIndex) {
+				continue;
+			}
+
+			// ループの外から、ループ先頭のLABEL命令やループ内に飛び込んでくる分岐がある場合は、
+			// 移動した命令を経由せずにループが実行され得るのでスキップ（コードジェネレータの for/while 文ではそうならないが念のため）
+			if (this.isBranchedFromOutside(beginIndex, endIndex)) {
+				continue;
+			}
+
+			// ループ内で書き込まれるレジスタとローカル変数、およびループ内に内部関数の呼び出しがあるかどうかを調べる
+			boolean[] registerWrittenInLoop = new boolean[registerLength];
+			boolean[] localWrittenInLoop = new boolean[localLength];
+			boolean callContained = false;
+			for (int instructionIndex=beginIndex; instructionIndex<=endIndex; instructionIndex++) {
+				AcceleratorInstruction instruction = this.acceleratorInstructionList.get(instructionIndex);
+				OperationCode opcode = instruction.getOperationCode();
+				Memory.Partition[] partitions = instruction.getOperandPartitions();
+				int[] addresses = instruction.getOperandAddresses();
+
+				// 内部関数の処理内では、スクリプトのグローバル階層に宣言された変数（LOCALパーティションにある）も書き換えられ得る
+				if (opcode == OperationCode.CALL) {
+					callContained = true;
+				}
+
+				// 命令の仕様上、書き込み先は必ずオペランド[0]だが、
+				// 外部関数には引数が参照渡しされ、内容を書き換えられる場合があるので、CALLX の実引数（[2]以降）も書き込み先と見なす
+				// (ただし、純粋関数と宣言されている外部関数は、引数を書き換えないので除外)。
+				// RETURNED などの拡張命令も、参照渡しの引数をオペランドに持つので同様（全オペランドを書き込み先と見なす）。
+				int writtenOperandEnd = 1;
+				if ( (opcode == OperationCode.CALLX && !this.isPureExternalFunctionCall(instruction, memory)) || opcode == OperationCode.EX) {
+					writtenOperandEnd = partitions.length;
+				}
+				for (int operandIndex=0; operandIndex<writtenOperandEnd; operandIndex++) {
+					if (partitions[operandIndex] == Memory.Partition.REGISTER) {
+						registerWrittenInLoop[ addresses[operandIndex] ] = true;
+					} else if (partitions[operandIndex] == Memory.Partition.LOCAL) {
+						localWrittenInLoop[ addresses[operandIndex] ] = true;
+					}
+				}
+			}
+
+			// ループ内の命令を先頭から辿り、ループ不変な命令を移動対象として抜き出す
+			// (移動した命令の書き込み先レジスタは、ループ内では書き換えられなくなるので、それを読む後続の命令も移動対象になり得る)
+			List<AcceleratorInstruction> hoistedInstructionList = new ArrayList<AcceleratorInstruction>();
+			boolean[] registerReadInLoop = new boolean[registerLength];
+			for (int instructionIndex=beginIndex+1; instructionIndex<endIndex; instructionIndex++) {
+				AcceleratorInstruction instruction = this.acceleratorInstructionList.get(instructionIndex);
+
+				if (this.isLoopInvariantInstruction(instruction, memory, dataManager,
+						registerWrittenInLoop, registerReadInLoop, localWrittenInLoop, localReferenceMaybeLinked, callContained)) {
+
+					hoistedInstructionList.add(instruction);
+					this.acceleratorInstructionList.set(instructionIndex, null);
+
+					// 書き込み先レジスタは、コード全体で書き込み箇所が1つだけのものに限定しているので、もうループ内では書き換えられない
+					registerWrittenInLoop[ instruction.getOperandAddresses()[0] ] = false;
+					continue;
+				}
+
+				// ループ内でこれ以降に書き込まれるレジスタが、ここまでに読まれていないかを判定するため、読み込み箇所を控える
+				if (this.isDataReadingOperationCode(instruction.getOperationCode())) {
+					Memory.Partition[] partitions = instruction.getOperandPartitions();
+					int[] addresses = instruction.getOperandAddresses();
+					for (int operandIndex=1; operandIndex<partitions.length; operandIndex++) {
+						if (partitions[operandIndex] == Memory.Partition.REGISTER) {
+							registerReadInLoop[ addresses[operandIndex] ] = true;
+						}
+					}
+				}
+			}
+			if (hoistedInstructionList.size() == 0) {
+				continue;
+			}
+
+			// 抜き出した命令を、ループ先頭のLABEL命令の直前に（元の順序のまま）置き、抜き出した位置の null を詰める
+			this.acceleratorInstructionList.addAll(beginIndex, hoistedInstructionList);
+			this.acceleratorInstructionList.removeAll(LIST_OF_NULL);
+
+			// 命令の移動でラベルのアドレスがずれた分を補正（後続のループの検出に必要）
+			this.updateReorderedAddresses();
+			this.generateAddressReorderingMap();
+			this.resolveReorderedLabelAddress(memory);
+		}
+	}
+
+
+	// ループ不変で、ループの外に移動してもよい命令なら true を返す
+	private boolean isLoopInvariantInstruction(AcceleratorInstruction instruction, Memory memory, AcceleratorDataManagementUnit dataManager,
+			boolean[] registerWrittenInLoop, boolean[] registerReadInLoop, boolean[] localWrittenInLoop,
+			boolean[] localReferenceMaybeLinked, boolean callContained) {
+
+		OperationCode opcode = instruction.getOperationCode();
+		if (instruction.isFused()) {
+			return false;
+		}
+
+		// 外部関数の呼び出しは、純粋関数と宣言されているもののみ、他の演算と同様に移動対象になり得る
+		// (オペランド[1]は関数アドレスの定数で、[2]以降が実引数なので、以降のオペランドの判定はそのままでよい)
+		if (!loopHoistableOpcodeSet.contains(opcode)
+				&& !(opcode == OperationCode.CALLX && this.isPureExternalFunctionCall(instruction, memory))) {
+			return false;
+		}
+
+		// 対象はスカラの整数・浮動小数点数・論理値の演算のみ（文字列の CAST などは失敗し得るので除外）
+		// また、整数の除算・剰余はゼロ除算で例外が発生し得るので、実行されない分岐内から移動すると結果が変わるため除外
+		for (DataType dataType: instruction.getDataTypes()) {
+			if (dataType != DataType.INT64 && dataType != DataType.FLOAT64 && dataType != DataType.BOOL) {
+				return false;
+			}
+			if (dataType == DataType.INT64 && (opcode == OperationCode.DIV || opcode == OperationCode.REM)) {
+				return false;
+			}
+		}
+
+		Memory.Partition[] partitions = instruction.getOperandPartitions();
+		int[] addresses = instruction.getOperandAddresses();
+
+		// 書き込み先は、コード全体で書き込み箇所が1つだけのスカラのレジスタで、参照リンクされておらず、
+		// ループ内のこの命令より前の箇所で読まれていないものに限る（前の周回の値を読んでいる場合があるため）
+		if (partitions[0] != Memory.Partition.REGISTER || !dataManager.isScalar(partitions[0], addresses[0])) {
+			return false;
+		}
+		int writingRegisterAddress = addresses[0];
+		if (this.registerWrittenPointCount[writingRegisterAddress] != 1
+				|| this.registerReferenceMaybeLinked[writingRegisterAddress]
+				|| this.unnecessaryRegisterSet.contains(writingRegisterAddress)
+				|| registerReadInLoop[writingRegisterAddress]) {
+			return false;
+		}
+
+		// 入力オペランドが全て、ループ内で値が変化しないスカラである事を確認
+		for (int operandIndex=1; operandIndex<partitions.length; operandIndex++) {
+			Memory.Partition partition = partitions[operandIndex];
+			int address = addresses[operandIndex];
+			if (!dataManager.isScalar(partition, address)) {
+				return false;
+			}
+			switch (partition) {
+				case CONSTANT : {
+					continue;
+				}
+				case REGISTER : {
+					if (registerWrittenInLoop[address] || this.registerReferenceMaybeLinked[address]) {
+						return false;
+					}
+					continue;
+				}
+				case LOCAL : {
+					if (callContained || localWrittenInLoop[address] || localReferenceMaybeLinked[address]) {
+						return false;
+					}
+					continue;
+				}
+				// GLOBALパーティションの外部変数は、外部関数の呼び出しやホスト側アプリケーションによって書き換えられ得るので、
+				// ループ内で書き込む命令が無くてもループ不変とは見なさない
+				default : {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+
+	// CALLX 命令で呼び出している外部関数が、純粋関数（同じ引数に対して常に同じ値を返し、副作用を持たない）なら true を返す
+	// (純粋かどうかはプラグイン側で宣言される。org.vcssl.connect.PureFunction アノテーション参照)
+	private boolean isPureExternalFunctionCall(AcceleratorInstruction instruction, Memory memory) {
+
+		// 外部関数アドレスを元に、インターコネクトから外部関数を取得
+		int functionAddress = this.getExternalFunctionAddress(instruction, memory);
+		AbstractFunction function = this.interconnect.getExternalFunctionTable().getFunctionByIndex(functionAddress);
+		return function.isPure();
+	}
+
+
+	// CALLX 命令のオペランド[1]から、呼び出している外部関数のアドレスを読んで返す
+	// (関数アドレスの定数は呼び出し箇所ごとに別々のアドレスに置かれるので、同じ関数の呼び出しかどうかはこの値で判定する必要がある)
+	private int getExternalFunctionAddress(AcceleratorInstruction instruction, Memory memory) {
+		DataContainer<?> functionAddressContainer = memory.getDataContainer(
+			instruction.getOperandPartitions()[1], instruction.getOperandAddresses()[1]
+		);
+		Object functionAddressData = functionAddressContainer.getArrayData();
+		if (!(functionAddressData instanceof long[])) {
+			throw new VnanoFatalException("Non-integer function address operand detected.");
+		}
+		return (int)( ((long[])functionAddressData)[ functionAddressContainer.getArrayOffset() ] );
+	}
+
+
+	// 命令列の beginIndex 番目から endIndex 番目までの範囲の外から、範囲内に飛び込む分岐命令があれば true を返す
+	private boolean isBranchedFromOutside(int beginIndex, int endIndex) {
+		int instructionLength = this.acceleratorInstructionList.size();
+		for (int instructionIndex=0; instructionIndex<instructionLength; instructionIndex++) {
+			if (beginIndex <= instructionIndex && instructionIndex <= endIndex) {
+				continue;
+			}
+			AcceleratorInstruction instruction = this.acceleratorInstructionList.get(instructionIndex);
+			OperationCode opcode = instruction.getOperationCode();
+			if (opcode == OperationCode.JMP || opcode == OperationCode.JMPN || opcode == OperationCode.CALL) {
+				int labelAddress = instruction.getReorderedLabelAddress();
+				if (beginIndex <= labelAddress && labelAddress <= endIndex) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+
+	// 参照リンクされている可能性があるローカル変数を検出し、アドレスをインデックスとする配列で、該当するものを true にして返す
+	// (参照リンクされた変数は、別名の変数への書き込みによって値が変わり得る。
+	//  detectRegisterReferenceLinks のレジスタに対する判定と同様だが、関数の引数については、参照渡しの仮引数側が REFPOP や
+	//  REF（引数の直接転送後）で検出され、実引数側は、関数の呼び出し中にしか書き換えられないので CALL を含むかどうかで別途判定する)
+	private boolean[] detectLocalVariableReferenceLinks(Memory memory) {
+		boolean[] localReferenceMaybeLinked = new boolean[ memory.getSize(Memory.Partition.LOCAL) ];
+		for (AcceleratorInstruction instruction: this.acceleratorInstructionList) {
+			OperationCode opcode = instruction.getOperationCode();
+			Memory.Partition[] partitions = instruction.getOperandPartitions();
+			int[] addresses = instruction.getOperandAddresses();
+
+			// 内部関数に渡している実引数は、引数の直接転送が行われなかった場合には、
+			// 関数側で REFPOP によって仮引数に参照リンクされる可能性があるので、[2]以降（実引数）を含める
+			int linkedOperandBegin = 0;
+			int linkedOperandEnd = 0;
+			if (opcode == OperationCode.REF || opcode == OperationCode.REFELM) {
+				linkedOperandEnd = 2;
+			} else if (opcode == OperationCode.REFPOP) {
+				linkedOperandEnd = 1;
+			} else if (opcode == OperationCode.CALL) {
+				linkedOperandBegin = 2;
+				linkedOperandEnd = partitions.length;
+			}
+			for (int operandIndex=linkedOperandBegin; operandIndex<linkedOperandEnd; operandIndex++) {
+				if (partitions[operandIndex] == Memory.Partition.LOCAL) {
+					localReferenceMaybeLinked[ addresses[operandIndex] ] = true;
+				}
+			}
+		}
+		return localReferenceMaybeLinked;
+	}
+
+
+	// 同じオペランドに対する同じ演算の結果が、既に別のレジスタに格納されている命令を削り、
+	// 削った命令の結果を読んでいる箇所を、既存の結果のレジスタを読むように置き換える（共通部分式の除去）
+	// (例えば a[i]*b[i] + a[i]*c[i] における a[i] の MOVELM や、連続する文の中の x*x の MUL など)。
+	//
+	// 基本ブロック（分岐の着地点や分岐命令、関数呼び出しなどで区切られる、途中で制御が出入りしない命令列）内で、
+	// 各命令のオペコード・データ型・入力オペランドをキーとして、結果が格納されているレジスタを控えておき、
+	// 入力オペランドのどれかに書き込みがあった時点で、そのキーは無効にする。
+	//
+	// 結果を格納するレジスタは、コード全体で書き込み箇所が1つだけの、参照リンクされていないスカラに限定しているので、
+	// 削った命令の結果と、再利用するレジスタの値は、(削った命令の位置より後では) 常に一致する。
+	private void eliminateCommonSubexpressions(Memory memory, AcceleratorDataManagementUnit dataManager) {
+		int registerLength = memory.getSize(Memory.Partition.REGISTER);
+
+		// 参照リンクによって、別名経由で書き換えられる可能性があるローカル変数を検出
+		boolean[] localReferenceMaybeLinked = this.detectLocalVariableReferenceLinks(memory);
+
+		// 非純粋な外部関数や拡張命令（RETURNED など）のオペランドに渡されるレジスタは、参照渡しで書き換えられ得るので検出しておく
+		boolean[] registerPassedByReference = new boolean[registerLength];
+		for (AcceleratorInstruction instruction: this.acceleratorInstructionList) {
+			OperationCode opcode = instruction.getOperationCode();
+			if (opcode == OperationCode.EX
+					|| (opcode == OperationCode.CALLX && !this.isPureExternalFunctionCall(instruction, memory))) {
+				Memory.Partition[] partitions = instruction.getOperandPartitions();
+				int[] addresses = instruction.getOperandAddresses();
+				for (int operandIndex=0; operandIndex<partitions.length; operandIndex++) {
+					if (partitions[operandIndex] == Memory.Partition.REGISTER) {
+						registerPassedByReference[ addresses[operandIndex] ] = true;
+					}
+				}
+			}
+		}
+
+		// 演算のキーから、その演算結果を格納している命令へのマップ（基本ブロックの境界でクリアする）
+		Map<String, AcceleratorInstruction> availableInstructionMap = new HashMap<String, AcceleratorInstruction>();
+
+		// 削った命令の書き込み先レジスタを、代わりに読むべきレジスタに対応付ける配列（置き換えない場合は -1）
+		int[] replacingRegisterAddresses = new int[registerLength];
+		Arrays.fill(replacingRegisterAddresses, -1);
+
+		// コード上でここまでに読まれたレジスタ（削る命令の書き込み先が、それより前で読まれていないかの判定用）
+		boolean[] registerReadBefore = new boolean[registerLength];
+
+		int instructionLength = this.acceleratorInstructionList.size();
+		for (int instructionIndex=0; instructionIndex<instructionLength; instructionIndex++) {
+			AcceleratorInstruction instruction = this.acceleratorInstructionList.get(instructionIndex);
+			OperationCode opcode = instruction.getOperationCode();
+
+			// 削った命令の結果を読んでいる入力オペランドを、同じ値を格納している既存のレジスタに置き換える
+			instruction = this.replaceInputRegisters(instruction, replacingRegisterAddresses);
+			this.acceleratorInstructionList.set(instructionIndex, instruction);
+			Memory.Partition[] partitions = instruction.getOperandPartitions();
+			int[] addresses = instruction.getOperandAddresses();
+
+			// 分岐の着地点や分岐命令、関数の呼び出し・復帰、引数を参照渡しで書き換え得る命令などの位置では、控えている演算を全て無効にする
+			if (opcode == OperationCode.LABEL || opcode == OperationCode.JMP || opcode == OperationCode.JMPN
+					|| opcode == OperationCode.CALL || opcode == OperationCode.RET
+					|| opcode == OperationCode.ENDFUN || opcode == OperationCode.END || opcode == OperationCode.EX
+					|| (opcode == OperationCode.CALLX && !this.isPureExternalFunctionCall(instruction, memory))) {
+
+				availableInstructionMap.clear();
+				this.markReadRegisters(instruction, registerReadBefore);
+				continue;
+			}
+
+			if (this.isCommonSubexpressionCandidate(instruction, memory, dataManager, registerPassedByReference)) {
+				String key = this.generateOperationKey(instruction, memory);
+				AcceleratorInstruction availableInstruction = availableInstructionMap.get(key);
+				int writingRegisterAddress = addresses[0];
+
+				// 同じ演算の結果が既に他のレジスタにあり、そのレジスタと書き込み先のキャッシュ可能性が一致していれば、この命令を削る
+				// (書き込み先が、この命令より前の箇所で読まれている場合は、削ると値が変わり得るので除外)
+				if (availableInstruction != null && !registerReadBefore[writingRegisterAddress]) {
+					int availableRegisterAddress = availableInstruction.getOperandAddresses()[0];
+					if (dataManager.isCachingEnabled(Memory.Partition.REGISTER, availableRegisterAddress)
+							== dataManager.isCachingEnabled(Memory.Partition.REGISTER, writingRegisterAddress)) {
+
+						replacingRegisterAddresses[writingRegisterAddress] = availableRegisterAddress;
+
+						// レジスタの読み書き箇所の数を、置き換え後の状態に合わせて更新
+						this.registerReadPointCount[availableRegisterAddress] += this.registerReadPointCount[writingRegisterAddress];
+						this.registerReadPointCount[writingRegisterAddress] = 0;
+						this.registerWrittenPointCount[writingRegisterAddress] = 0;
+						for (int operandIndex=1; operandIndex<partitions.length; operandIndex++) {
+							if (partitions[operandIndex] == Memory.Partition.REGISTER) {
+								this.registerReadPointCount[ addresses[operandIndex] ]--;
+							}
+						}
+
+						// 削った命令の書き込み先レジスタはもうどこからも読み書きされないので、削除登録しておく（後で別の最適化で削る）
+						this.unnecessaryRegisterSet.add(writingRegisterAddress);
+						this.eliminatedInstructionList.add(instruction);
+						this.acceleratorInstructionList.set(instructionIndex, null);
+						continue;
+					}
+				}
+
+				// 書き込み先は、コード全体で書き込み箇所が1つだけのレジスタなので、入力オペランドの無効化判定は不要
+				this.markReadRegisters(instruction, registerReadBefore);
+				if (availableInstruction == null) {
+					availableInstructionMap.put(key, instruction);
+				}
+				continue;
+			}
+
+			// 書き込み先（オペランド[0]）を入力オペランドに持つ演算を無効にする
+			// (ALLOC系命令も、確保し直しによって値が変わり得るので、書き込みと同様に扱う)
+			this.markReadRegisters(instruction, registerReadBefore);
+			if (partitions.length != 0) {
+				this.invalidateAvailableInstructions(availableInstructionMap, partitions[0], addresses[0], localReferenceMaybeLinked);
+			}
+		}
+
+		// 命令を削除した位置の null を詰める
+		this.acceleratorInstructionList.removeAll(LIST_OF_NULL);
+	}
+
+
+	// 共通部分式の除去において、同じ演算の結果を再利用する（および削る）対象になり得る命令なら true を返す
+	private boolean isCommonSubexpressionCandidate(AcceleratorInstruction instruction, Memory memory,
+			AcceleratorDataManagementUnit dataManager, boolean[] registerPassedByReference) {
+
+		OperationCode opcode = instruction.getOperationCode();
+		if (instruction.isFused()) {
+			return false;
+		}
+
+		// 対象は副作用が無く、オペランドの値が同じなら常に同じ結果になる命令で、
+		// ループ不変式の移動対象と同じ演算命令と、配列要素の単純コピー（MOVELM）、および純粋関数と宣言されている外部関数の呼び出し
+		// (整数の除算・剰余のゼロ除算や、MOVELM の範囲外アクセスは、削られる側よりも先に再利用される側で必ず検出されるので、対象に含めてよい)
+		if (!loopHoistableOpcodeSet.contains(opcode) && opcode != OperationCode.MOVELM
+				&& !(opcode == OperationCode.CALLX && this.isPureExternalFunctionCall(instruction, memory))) {
+			return false;
+		}
+		for (DataType dataType: instruction.getDataTypes()) {
+			if (dataType != DataType.INT64 && dataType != DataType.FLOAT64 && dataType != DataType.BOOL) {
+				return false;
+			}
+		}
+
+		Memory.Partition[] partitions = instruction.getOperandPartitions();
+		int[] addresses = instruction.getOperandAddresses();
+
+		// 書き込み先は、コード全体で書き込み箇所が1つだけのスカラのレジスタで、参照リンクされておらず、
+		// 参照渡しで書き換えられる可能性も無いものに限る
+		if (partitions[0] != Memory.Partition.REGISTER || !dataManager.isScalar(partitions[0], addresses[0])) {
+			return false;
+		}
+		int writingRegisterAddress = addresses[0];
+		if (this.registerWrittenPointCount[writingRegisterAddress] != 1
+				|| this.registerReferenceMaybeLinked[writingRegisterAddress]
+				|| this.unnecessaryRegisterSet.contains(writingRegisterAddress)
+				|| registerPassedByReference[writingRegisterAddress]) {
+			return false;
+		}
+
+		// 入力オペランドは、定数、参照リンクされていないレジスタ、およびローカル変数のみ
+		// (GLOBALパーティションの外部変数は、ループ不変式の移動と同様に対象外。
+		//  また、MOVELM の[1]は要素を読む配列なので、スカラでなくてもよい)
+		for (int operandIndex=1; operandIndex<partitions.length; operandIndex++) {
+			Memory.Partition partition = partitions[operandIndex];
+			int address = addresses[operandIndex];
+			if (!(opcode == OperationCode.MOVELM && operandIndex == 1) && !dataManager.isScalar(partition, address)) {
+				return false;
+			}
+			if (partition == Memory.Partition.REGISTER) {
+				if (address == writingRegisterAddress || this.registerReferenceMaybeLinked[address]) {
+					return false;
+				}
+			} else if (partition != Memory.Partition.CONSTANT && partition != Memory.Partition.LOCAL) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	// 共通部分式の除去において、同じ演算かどうかを判定するための、オペコード・データ型・入力オペランドから成るキーを生成する
+	private String generateOperationKey(AcceleratorInstruction instruction, Memory memory) {
+		StringBuilder builder = new StringBuilder();
+		builder.append(instruction.getOperationCode());
+		for (DataType dataType: instruction.getDataTypes()) {
+			builder.append(':');
+			builder.append(dataType);
+		}
+		Memory.Partition[] partitions = instruction.getOperandPartitions();
+		int[] addresses = instruction.getOperandAddresses();
+		for (int operandIndex=1; operandIndex<partitions.length; operandIndex++) {
+			builder.append(' ');
+
+			// CALLX の関数アドレスの定数は、定数のアドレスではなく関数アドレスの値で区別する
+			if (instruction.getOperationCode() == OperationCode.CALLX && operandIndex == 1) {
+				builder.append('F');
+				builder.append(this.getExternalFunctionAddress(instruction, memory));
+				continue;
+			}
+			builder.append(partitions[operandIndex].toString().charAt(0));
+			builder.append(addresses[operandIndex]);
+		}
+		return builder.toString();
+	}
+
+
+	// 指定された書き込み先を入力オペランドに持つ演算を、共通部分式の除去で控えている演算のマップから削除する
+	// (書き込み先が参照リンクされている可能性がある場合は、別名経由で書き換えられ得るので、参照リンクされ得るローカル変数を読む演算も全て削除)
+	private void invalidateAvailableInstructions(Map<String, AcceleratorInstruction> availableInstructionMap,
+			Memory.Partition writtenPartition, int writtenAddress, boolean[] localReferenceMaybeLinked) {
+
+		boolean writtenByReference =
+			(writtenPartition == Memory.Partition.REGISTER && this.registerReferenceMaybeLinked[writtenAddress])
+			|| (writtenPartition == Memory.Partition.LOCAL && localReferenceMaybeLinked[writtenAddress]);
+
+		Iterator<AcceleratorInstruction> availableInstructionIterator = availableInstructionMap.values().iterator();
+		while (availableInstructionIterator.hasNext()) {
+			AcceleratorInstruction availableInstruction = availableInstructionIterator.next();
+			Memory.Partition[] partitions = availableInstruction.getOperandPartitions();
+			int[] addresses = availableInstruction.getOperandAddresses();
+			for (int operandIndex=1; operandIndex<partitions.length; operandIndex++) {
+				boolean written = partitions[operandIndex] == writtenPartition && addresses[operandIndex] == writtenAddress;
+				boolean linked = partitions[operandIndex] == Memory.Partition.LOCAL && localReferenceMaybeLinked[ addresses[operandIndex] ];
+				if (written || (writtenByReference && linked)) {
+					availableInstructionIterator.remove();
+					break;
+				}
+			}
+		}
+	}
+
+
+	// 命令の入力オペランドのうち、置き換え先が登録されているレジスタを置き換えた命令を返す（置き換えるものが無ければ元の命令を返す）
+	private AcceleratorInstruction replaceInputRegisters(AcceleratorInstruction instruction, int[] replacingRegisterAddresses) {
+		Memory.Partition[] partitions = instruction.getOperandPartitions();
+		int[] addresses = instruction.getOperandAddresses();
+		int[] replacedAddresses = null;
+		for (int operandIndex=1; operandIndex<partitions.length; operandIndex++) {
+			if (partitions[operandIndex] == Memory.Partition.REGISTER && replacingRegisterAddresses[ addresses[operandIndex] ] != -1) {
+				if (replacedAddresses == null) {
+					replacedAddresses = new int[addresses.length];
+					System.arraycopy(addresses, 0, replacedAddresses, 0, addresses.length);
+				}
+				replacedAddresses[operandIndex] = replacingRegisterAddresses[ addresses[operandIndex] ];
+			}
+		}
+		if (replacedAddresses == null) {
+			return instruction;
+		}
+		Memory.Partition[] replacedPartitions = new Memory.Partition[partitions.length];
+		System.arraycopy(partitions, 0, replacedPartitions, 0, partitions.length);
+		return new AcceleratorInstruction(instruction, replacedPartitions, replacedAddresses);
+	}
+
+
+	// 命令が読み込むレジスタを、指定された配列でマークする
+	private void markReadRegisters(AcceleratorInstruction instruction, boolean[] registerRead) {
+		if (!this.isDataReadingOperationCode(instruction.getOperationCode())) {
+			return;
+		}
+		Memory.Partition[] partitions = instruction.getOperandPartitions();
+		int[] addresses = instruction.getOperandAddresses();
+		for (int operandIndex=1; operandIndex<partitions.length; operandIndex++) {
+			if (partitions[operandIndex] == Memory.Partition.REGISTER) {
+				registerRead[ addresses[operandIndex] ] = true;
+			}
+		}
+	}
+
+
 	// どこからも値を読まれていないレジスタへのMOV命令を削る
 	// (コードジェネレータの実装簡易化のために、値が実際に使われるかどうかに関わらず、とりあえずレジスタに置いておくようなケースがある。
 	//  典型例としては後置インクリメント/デクリメント演算子で、それらは式中での値が加減算前のものであるべきなので、
@@ -9,10 +9,18 @@ import org.vcssl.nano.VnanoFatalException;
 import org.vcssl.nano.spec.DataType;
 import org.vcssl.nano.spec.OperationCode;
 import org.vcssl.nano.vm.memory.DataContainer;
+import org.vcssl.nano.vm.memory.DataContainerPool;
 import org.vcssl.nano.vm.processor.ExecutionUnit;
 
 public class BoolMemoryAllocationUnit extends AcceleratorExecutionUnit {
 
+	// 配列の確保に用いるデータのプール（ null の場合は常に新規に確保する ）
+	private final DataContainerPool dataContainerPool;
+
+	public BoolMemoryAllocationUnit(DataContainerPool dataContainerPool) {
+		this.dataContainerPool = dataContainerPool;
+	}
+
 	@Override
 	public AcceleratorExecutionNode generateNode(
 			AcceleratorInstruction instruction, DataContainer<?>[] operandContainers,
@@ -123,7 +131,7 @@ public class BoolMemoryAllocationUnit extends AcceleratorExecutionUnit {
 			}
 
 			// メモリ確保が必要なので、確保してデータコンテナに持たせる
-			new ExecutionUnit().allocVector(DataType.BOOL, this.targetContainer, this.lengthsContainers);
+			new ExecutionUnit(dataContainerPool).allocVector(DataType.BOOL, this.targetContainer, this.lengthsContainers);
 
 			return this.nextNode;
 		}
@@ -143,7 +151,7 @@ public class BoolMemoryAllocationUnit extends AcceleratorExecutionUnit {
 		}
 
 		public final AcceleratorExecutionNode execute() {
-			new ExecutionUnit().allocSameLengths(DataType.BOOL, this.targetContainer, this.sameLengthContainer);
+			new ExecutionUnit(dataContainerPool).allocSameLengths(DataType.BOOL, this.targetContainer, this.sameLengthContainer);
 			return this.nextNode;
 		}
 	}
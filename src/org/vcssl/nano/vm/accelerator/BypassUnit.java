@@ -54,6 +54,21 @@ public class BypassUnit extends AcceleratorExecutionUnit {
 				);
 			}
 
+			// 評価値を格納する終了命令
+			case END : {
+
+				// 評価値の格納先は Processor での処理と同じくオペランドのコンテナそのものなので、
+				// 実行毎にオペランドをメモリから読み込まず、生成時に解決済みのコンテナを直接格納する（繰り返し実行時のアロケーション回避のため）
+				if (operandLength == 2) {
+					CacheSynchronizer synchronizer = new GeneralScalarCacheSynchronizer(operandContainers, operandCaches, operandCachingEnabled);
+					return new ResultStoringEndNode(operandContainers[1], this.memory, synchronizer, nextNode);
+				}
+				CacheSynchronizer synchronizer = new GeneralScalarCacheSynchronizer(operandContainers, operandCaches, operandCachingEnabled);
+				return new ProcessorCallNode(
+					instruction, this.memory, this.interconnect, this.processor, synchronizer, synchronizer, nextNode
+				);
+			}
+
 			// メモリ確保系以外の命令
 			default : {
 				CacheSynchronizer synchronizer = new GeneralScalarCacheSynchronizer(operandContainers, operandCaches, operandCachingEnabled);
@@ -106,6 +121,29 @@ public class BypassUnit extends AcceleratorExecutionUnit {
 	}
 
 
+	private final class ResultStoringEndNode extends AcceleratorExecutionNode {
+		private final DataContainer<?> resultContainer;
+		private final Memory memory;
+		private final CacheSynchronizer synchronizer;
+
+		public ResultStoringEndNode(DataContainer<?> resultContainer, Memory memory,
+				CacheSynchronizer synchronizer, AcceleratorExecutionNode nextNode) {
+
+			super(nextNode, 1);
+			this.resultContainer = resultContainer;
+			this.memory = memory;
+			this.synchronizer = synchronizer;
+		}
+
+		@Override
+		public final AcceleratorExecutionNode execute() {
+			this.synchronizer.synchronizeFromCacheToMemory();
+			this.memory.setResultDataContainer(this.resultContainer);
+			return this.nextNode;
+		}
+	}
+
+
 	// （暫定案）ExternalFunctionCallNode を追加する場合はここ
 
 }
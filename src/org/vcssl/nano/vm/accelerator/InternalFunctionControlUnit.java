@@ -5,14 +5,12 @@
 
 package org.vcssl.nano.vm.accelerator;
 
-import java.util.Arrays;
-
-import org.vcssl.nano.VnanoException;
 import org.vcssl.nano.VnanoFatalException;
 import org.vcssl.nano.spec.DataType;
-import org.vcssl.nano.spec.ErrorType;
 import org.vcssl.nano.spec.OperationCode;
 import org.vcssl.nano.vm.memory.DataContainer;
+import org.vcssl.nano.vm.memory.Memory;
+import org.vcssl.nano.vm.processor.CallFrameUnit;
 import org.vcssl.nano.vm.processor.ExecutionUnit;
 import org.vcssl.nano.vm.processor.Instruction;
 
@@ -45,22 +43,24 @@ public class InternalFunctionControlUnit extends AcceleratorExecutionUnit {
 	/** 全命令（順序は最適化による再配置済み）に対応するノードを格納する配列です。関数からのリターン時に参照します。 */
 	private AcceleratorExecutionNode[] allNodes;
 
-	/** 関数先頭の命令アドレスをインデックスとして、関数が実行中に、対応する要素の値が true になるテーブルです。 */
-	private boolean[] functionRunningFlags;
+	/** 再帰呼び出しされ得る関数のフレーム（ローカル変数やレジスタのデータ）の退避/復元を行うユニットです。 */
+	private final CallFrameUnit callFrameUnit;
 
 
 	/**
 	 * デフォルトの要素数のスタック領域（可変）を持つインスタンスを生成します。
+	 *
+	 * @param callFrameUnit 再帰呼び出しされ得る関数のフレームを管理するユニット
 	 */
-	public InternalFunctionControlUnit () {
+	public InternalFunctionControlUnit (CallFrameUnit callFrameUnit) {
 		this.addressStack = new int[ this.addressStackLength ];
 		this.dataStack = new DataContainer<?>[ this.dataStackLength ];
+		this.callFrameUnit = callFrameUnit;
 	}
 
 
 	/**
 	 * 全命令（順序は最適化による再配置済み）に対応するノードを設定します。
-	 * 設定したノードに対応できるように、関数実行判定テーブルなどのリソースも初期化されます。
 	 *
 	 * 関数からのリターン時には、スタック上に動的に積まれた命令アドレスに戻る必要があるため、
 	 * 実行時にこのメソッドで設定されたノード配列を参照し、該当するノードに処理が戻ります。
@@ -69,8 +69,17 @@ public class InternalFunctionControlUnit extends AcceleratorExecutionUnit {
 	 */
 	public void setNodes(AcceleratorExecutionNode[] allNodes) {
 		this.allNodes = allNodes;
-		this.functionRunningFlags = new boolean[ allNodes.length ];
-		Arrays.fill(functionRunningFlags, false);
+	}
+
+
+	/**
+	 * スタックやフレームの状態を初期化し、コードを先頭から実行できる状態にします。
+	 * （前回の実行がエラーで中断された場合には、関数の実行途中の状態が残っているため、実行開始時に呼び出す必要があります。）
+	 */
+	public void reset() {
+		this.addressStackPointer = 0;
+		this.dataStackPointer = 0;
+		this.callFrameUnit.reset();
 	}
 
 
@@ -98,7 +107,7 @@ public class InternalFunctionControlUnit extends AcceleratorExecutionUnit {
 	private void expandDataStack() {
 
 		// 現在のスタックの中身を仮の配列に退避
-		int[] stock = new int[ this.dataStackLength ];
+		DataContainer<?>[] stock = new DataContainer<?>[ this.dataStackLength ];
 		System.arraycopy(this.dataStack, 0, stock, 0, this.dataStackLength);
 
 		// スタックの要素数を倍に拡張
@@ -122,14 +131,20 @@ public class InternalFunctionControlUnit extends AcceleratorExecutionUnit {
 		switch (opcode) {
 			case CALL : {
 				int reorderedAddressOfThisInstruction = instruction.getReorderedAddress();
-				int reorderdFunctionAddress = instruction.getReorderedLabelAddress();
-				return new CallNode(
-					operandContainers, synchronizer, reorderedAddressOfThisInstruction, reorderdFunctionAddress, nextNode
-				);
+				CallFrameUnit.FramePool framePool = this.getFramePool(operandContainers);
+				if (framePool != null) {
+					return new RecursiveCallNode(
+						instruction, operandContainers, synchronizer, framePool, reorderedAddressOfThisInstruction, nextNode
+					);
+				}
+				return new CallNode(operandContainers, synchronizer, reorderedAddressOfThisInstruction, nextNode);
 			}
 			case RET : {
-				int reorderdFunctionAddress = instruction.getReorderedLabelAddress();
-				return new ReturnNode(operandContainers, synchronizer, reorderdFunctionAddress, nextNode);
+				CallFrameUnit.FramePool framePool = this.getFramePool(operandContainers);
+				if (framePool != null) {
+					return new RecursiveReturnNode(instruction, operandContainers, synchronizer, framePool, nextNode);
+				}
+				return new ReturnNode(operandContainers, synchronizer, nextNode);
 			}
 			case ALLOCP : {
 				return new AllocpNode(operandContainers, dataType, nextNode);
@@ -160,6 +175,13 @@ public class InternalFunctionControlUnit extends AcceleratorExecutionUnit {
 		}
 	}
 
+	// CALL/RET命令のオペランドから関数アドレス（最適化による再配置前のもの）を読み、その関数のフレームプールを返す
+	// (再帰呼び出しされない関数の場合は null を返す)
+	private CallFrameUnit.FramePool getFramePool(DataContainer<?>[] operandContainers) {
+		int functionAddress = (int)( (long[])operandContainers[1].getArrayData() )[0];
+		return this.callFrameUnit.getFramePool(functionAddress);
+	}
+
 	private AcceleratorExecutionNode generateMovpopNode(
 			Instruction instruction, DataContainer<?>[] operandContainers,
 			ScalarCache[] operandCaches, boolean[] operandCachingEnabled, boolean[] operandScalar,
@@ -217,17 +239,15 @@ public class InternalFunctionControlUnit extends AcceleratorExecutionUnit {
 		private final DataContainer<?>[] operandContainers;
 		private final CacheSynchronizer synchronizer;
 		private AcceleratorExecutionNode functionHeadNode;
-		private int functionAddress;
 		private int returnAddress;
 
 		public CallNode(DataContainer<?>[] operandContainers, CacheSynchronizer synchronizer,
-				int reorderedAddressOfThisInstruction, int functionAddress, AcceleratorExecutionNode nextNode) {
+				int reorderedAddressOfThisInstruction, AcceleratorExecutionNode nextNode) {
 
 			super(nextNode, 1);
 			this.synchronizer = synchronizer;
 			this.operandContainers = operandContainers;
 			this.returnAddress = reorderedAddressOfThisInstruction + 1;
-			this.functionAddress = functionAddress;
 		}
 
 		@Override
@@ -241,15 +261,9 @@ public class InternalFunctionControlUnit extends AcceleratorExecutionUnit {
 		}
 
 		@Override
-		public final AcceleratorExecutionNode execute() throws VnanoException {
+		public final AcceleratorExecutionNode execute() {
 			this.synchronizer.synchronizeFromCacheToMemory();
 
-			// このスクリプトエンジンでは再帰呼び出しをサポートしていないため、関数が既に実行中ならエラーとし、そうでなければマークする
-			if (InternalFunctionControlUnit.this.functionRunningFlags[this.functionAddress]) {
-				throw new VnanoException(ErrorType.RECURSIVE_FUNCTION_CALL);
-			}
-			InternalFunctionControlUnit.this.functionRunningFlags[this.functionAddress] = true;
-
 			// 戻り先地点の命令アドレスを、アドレススタックに積む
 			if (InternalFunctionControlUnit.this.addressStackLength <= InternalFunctionControlUnit.this.addressStackPointer) {
 				InternalFunctionControlUnit.this.expandAddressStack();
@@ -276,10 +290,9 @@ public class InternalFunctionControlUnit extends AcceleratorExecutionUnit {
 	private final class ReturnNode extends AcceleratorExecutionNode {
 		private final DataContainer<?> returnValueContainer;
 		private final CacheSynchronizer synchronizer;
-		private int functionAddress;
 
 		public ReturnNode(DataContainer<?>[] operandContainers, CacheSynchronizer synchronizer,
-				int reorderedAddressOfFunction, AcceleratorExecutionNode nextNode) {
+				AcceleratorExecutionNode nextNode) {
 
 			super(nextNode, 1);
 			this.synchronizer = synchronizer;
@@ -292,8 +305,6 @@ public class InternalFunctionControlUnit extends AcceleratorExecutionUnit {
 			} else {
 				this.returnValueContainer = new DataContainer<Void>();
 			}
-
-			this.functionAddress = reorderedAddressOfFunction;
 		}
 
 
@@ -317,8 +328,130 @@ public class InternalFunctionControlUnit extends AcceleratorExecutionUnit {
 			InternalFunctionControlUnit.this.dataStack[ InternalFunctionControlUnit.this.dataStackPointer ] = this.returnValueContainer;
 			InternalFunctionControlUnit.this.dataStackPointer++;
 
-			// 再帰呼び出し検出用のマークを解除する
-			InternalFunctionControlUnit.this.functionRunningFlags[this.functionAddress] = false;
+			// 戻り先地点のノードを返す
+			return InternalFunctionControlUnit.this.allNodes[returnedPointAddress];
+		}
+	}
+
+
+	// 再帰呼び出しされ得る関数を呼び出す CALL 命令のノード
+	// (関数が既に実行中なら、そのフレームを退避してから引数を積む)
+	private final class RecursiveCallNode extends AcceleratorExecutionNode {
+		private final DataContainer<?>[] operandContainers;
+		private final CacheSynchronizer synchronizer;
+		private final CallFrameUnit.FramePool framePool;
+		private final int[] operandSlotIndices;
+		private AcceleratorExecutionNode functionHeadNode;
+		private int returnAddress;
+
+		public RecursiveCallNode(AcceleratorInstruction instruction, DataContainer<?>[] operandContainers,
+				CacheSynchronizer synchronizer, CallFrameUnit.FramePool framePool,
+				int reorderedAddressOfThisInstruction, AcceleratorExecutionNode nextNode) {
+
+			super(nextNode, 1);
+			this.synchronizer = synchronizer;
+			this.operandContainers = operandContainers;
+			this.framePool = framePool;
+			this.returnAddress = reorderedAddressOfThisInstruction + 1;
+
+			// 各オペランドの、フレーム内でのインデックスを控えておく（フレームに含まれないものは -1）
+			Memory.Partition[] operandPartitions = instruction.getOperandPartitions();
+			int[] operandAddresses = instruction.getOperandAddresses();
+			this.operandSlotIndices = new int[operandContainers.length];
+			for (int i=0; i<operandContainers.length; i++) {
+				this.operandSlotIndices[i] = framePool.getSlotIndex(operandPartitions[i], operandAddresses[i]);
+			}
+		}
+
+		@Override
+		public final void setLaundingPointNodes(AcceleratorExecutionNode ... nodes) {
+			this.functionHeadNode = nodes[0];
+		}
+
+		@Override
+		public AcceleratorExecutionNode[] getLaundingPointNodes() {
+			return new AcceleratorExecutionNode[] { this.functionHeadNode };
+		}
+
+		@Override
+		public final AcceleratorExecutionNode execute() {
+			this.synchronizer.synchronizeFromCacheToMemory();
+
+			// 関数が既に実行中なら、そのフレームを退避する
+			this.framePool.enter();
+
+			// 戻り先地点の命令アドレスを、アドレススタックに積む
+			if (InternalFunctionControlUnit.this.addressStackLength <= InternalFunctionControlUnit.this.addressStackPointer) {
+				InternalFunctionControlUnit.this.expandAddressStack();
+			}
+			InternalFunctionControlUnit.this.addressStack[ InternalFunctionControlUnit.this.addressStackPointer ] = this.returnAddress;
+			InternalFunctionControlUnit.this.addressStackPointer++;
+
+			// 引数をデータスタックに積む（退避したフレーム内のデータは、退避先のデータコンテナを積む）
+			int operandLength = this.operandContainers.length;
+			while (InternalFunctionControlUnit.this.dataStackLength <= InternalFunctionControlUnit.this.dataStackPointer + operandLength) {
+				InternalFunctionControlUnit.this.expandDataStack();
+			}
+			for (int i=2; i<operandLength; i++) { // [0]はプレースホルダ、[1]は飛び先ラベルアドレス、なので[2]からが引数
+				InternalFunctionControlUnit.this.dataStack[ InternalFunctionControlUnit.this.dataStackPointer ] =
+						this.framePool.getArgumentContainer(this.operandContainers[i], this.operandSlotIndices[i]);
+				InternalFunctionControlUnit.this.dataStackPointer++;
+			}
+
+			// 関数の先頭の命令に飛ぶ
+			return this.functionHeadNode;
+		}
+	}
+
+
+	// 再帰呼び出しされ得る関数から戻る RET 命令のノード
+	// (再帰呼び出しから戻る場合は、呼び出し元のフレームを復元する)
+	private final class RecursiveReturnNode extends AcceleratorExecutionNode {
+		private final DataContainer<?> returnValueContainer;
+		private final int returnValueSlotIndex;
+		private final CacheSynchronizer synchronizer;
+		private final CallFrameUnit.FramePool framePool;
+
+		public RecursiveReturnNode(AcceleratorInstruction instruction, DataContainer<?>[] operandContainers,
+				CacheSynchronizer synchronizer, CallFrameUnit.FramePool framePool, AcceleratorExecutionNode nextNode) {
+
+			super(nextNode, 1);
+			this.synchronizer = synchronizer;
+			this.framePool = framePool;
+
+			// 戻り値のデータコンテナと、そのフレーム内でのインデックスを保持しておく
+			if (2 < operandContainers.length) {
+				this.returnValueContainer = operandContainers[2]; // オペランド[0]はプレースホルダ、[1]は関数アドレスなので、[2]が戻り値
+				this.returnValueSlotIndex = framePool.getSlotIndex(
+					instruction.getOperandPartitions()[2], instruction.getOperandAddresses()[2]
+				);
+
+			// 戻り値が無い場合でも、戻り値がある場合とスタックの積み下ろしを同じ順序に統一するため、戻る時に積む空のデータコンテナを用意
+			} else {
+				this.returnValueContainer = new DataContainer<Void>();
+				this.returnValueSlotIndex = -1;
+			}
+		}
+
+		@Override
+		public final void setLaundingPointNodes(AcceleratorExecutionNode ... nodes) {
+		}
+
+		@Override
+		public final AcceleratorExecutionNode execute() {
+			this.synchronizer.synchronizeFromCacheToMemory();
+
+			// 戻り先地点の命令アドレスを、アドレススタックから取り出す
+			--InternalFunctionControlUnit.this.addressStackPointer;
+			int returnedPointAddress = InternalFunctionControlUnit.this.addressStack[ InternalFunctionControlUnit.this.addressStackPointer ];
+
+			// 再帰呼び出しから戻る場合は呼び出し元のフレームを復元し、戻り値を格納しているデータコンテナをデータスタックに積む
+			if (InternalFunctionControlUnit.this.dataStackLength <= InternalFunctionControlUnit.this.dataStackPointer) {
+				InternalFunctionControlUnit.this.expandDataStack();
+			}
+			InternalFunctionControlUnit.this.dataStack[ InternalFunctionControlUnit.this.dataStackPointer ] =
+					this.framePool.leave(this.returnValueContainer, this.returnValueSlotIndex);
+			InternalFunctionControlUnit.this.dataStackPointer++;
 
 			// 戻り先地点のノードを返す
 			return InternalFunctionControlUnit.this.allNodes[returnedPointAddress];
@@ -5,6 +5,9 @@
 
 package org.vcssl.nano.vm.assembler;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.vcssl.nano.VnanoFatalException;
 import org.vcssl.nano.VnanoException;
 import org.vcssl.nano.interconnect.AbstractFunction;
@@ -18,6 +21,7 @@ import org.vcssl.nano.spec.DataTypeName;
 import org.vcssl.nano.spec.ErrorType;
 import org.vcssl.nano.spec.LiteralSyntax;
 import org.vcssl.nano.spec.OperationCode;
+import org.vcssl.nano.spec.OptionKey;
 import org.vcssl.nano.vm.VirtualMachineObjectCode;
 import org.vcssl.nano.vm.memory.Memory;
 import org.vcssl.nano.vm.memory.DataContainer;
@@ -45,6 +49,11 @@ public class Assembler {
 	 * Convert the VRIL assembly code to the instance of
 	 * {@link org.vcssl.nano.vm.VirtualMachineObjectCode VirtualMachineObjectCode}(VM object code).
 	 *
+	 * The code is tokenized only once at first, and then the following steps
+	 * (re-assignment of registers if {@link OptionKey#REGISTER_REUSE_ENABLED REGISTER_REUSE_ENABLED} option is enabled,
+	 *  processing of directives, generation of instructions) are performed on the tokenized lines,
+	 * without re-splitting/re-building of the text of the code.
+	 *
 	 * @param assemblyCode The VRIL assembly code to be converted.
 	 * @param Intterconnect The interconnect having external variables/functions referred from the VRIL assembly code.
 	 * @return The generated VM object code.
@@ -52,46 +61,35 @@ public class Assembler {
 	 */
 	public VirtualMachineObjectCode assemble(String assemblyCode, Interconnect interconnect) throws VnanoException {
 
-		// Replace all string literals in the code to the numberized literal: "1", "2", ...
-		String[] stringLiteralExtractResult = LiteralSyntax.extractStringLiterals(assemblyCode);
-		assemblyCode = stringLiteralExtractResult[0]; // [0] 番に置き換え済みコードが格納されている（1番以降はリテラル内容）
+		// Split the code into lines (instructions and directives), and split each line into words.
+		List<String[]> lines = this.tokenize(assemblyCode);
 
-		// Put LABEL instructions at locations of labels and CALL instructions, for making optimization easy.
-		assemblyCode = this.appendLabelInstructions(assemblyCode);
+		// Re-assign addresses of registers for reusing them, if it is enabled by the option.
+		Object registerReuseEnabled = interconnect.getOptionMap().get(OptionKey.REGISTER_REUSE_ENABLED);
+		if (registerReuseEnabled != null && registerReuseEnabled.equals(Boolean.TRUE)) {
+			new RegisterAllocator().allocate(lines);
+		}
 
 		// Get variable/function tables from the interconnect.
 		VariableTable globalVariableTable = interconnect.getExternalVariableTable();
 		FunctionTable functionTable = interconnect.getExternalFunctionTable();
 
-		VirtualMachineObjectCode vmObjectCode = this.preprocessDirectives(assemblyCode, globalVariableTable, functionTable);
+		VirtualMachineObjectCode vmObjectCode = this.preprocessDirectives(lines, globalVariableTable, functionTable);
 		int registerMaxAddress = 0;
 
 		int constantAddress = 0;
 
-		String[] lines = assemblyCode.split(AssemblyWord.INSTRUCTION_SEPARATOR_REGEX);
-		int lineLength = lines.length;
-
 		int metaAddress = -1;
 
 		String sourceFileName = "(none)";
 		int sourceLineNumber = -1;
 
-		for (int i=0; i<lineLength; i++) {
+		for (String[] words: lines) {
 
-			String line = lines[i].trim();
-			if (line.length() == 0) {
-				continue;
-			}
-
-			String[] words = line.split(AssemblyWord.WORD_SEPARATOR_REGEX);
 			int wordLength = words.length;
 
 			// Meta directive: generate constant data storing the meta information.
-			if (line.startsWith(AssemblyWord.META_DIRECTIVE)) {
-
-				// Recover the content of the string literal from the numberized literal.
-				int stringLiteralIndex = LiteralSyntax.getIndexOfNumberedStringLiteral(words[1].trim());
-				String originalStringLiteral = stringLiteralExtractResult[ stringLiteralIndex ];
+			if (words[0].equals(AssemblyWord.META_DIRECTIVE)) {
 
 				// Store the content of the string literal to a data container,
 				// and register it as a constant data to the vmObjectCode.
@@ -99,14 +97,21 @@ public class Assembler {
 					= Character.toString(AssemblyWord.IMMEDIATE_OPERAND_PREFIX)
 					+ DataTypeName.getDataTypeNameOf(DataType.STRING)
 					+ AssemblyWord.VALUE_SEPARATOR
-					+ originalStringLiteral;
+					+ words[1];
 				DataContainer<?> dataContainer = this.parseImmediateValue(metaImmediateValue);
 				vmObjectCode.addConstantData(metaImmediateValue, dataContainer, constantAddress);
 				metaAddress = constantAddress;
 				constantAddress++;
 				continue;
 
-			} else if (line.startsWith(Character.toString(AssemblyWord.DIRECTIVE_PREFIX))) {
+			// Label directive: put a LABEL instruction at the location of the label, for making optimization easy.
+			// (As same as a NOP instructions, a LABEL instruction does nothing when it is executed,
+			//  but it makes optimization easy, by making it explicit that processing flow may jumps to there.)
+			} else if (words[0].equals(AssemblyWord.LABEL_DIRECTIVE)) {
+				vmObjectCode.addInstruction(this.createLabelInstruction(metaAddress));
+				continue;
+
+			} else if (words[0].charAt(0) == AssemblyWord.DIRECTIVE_PREFIX) {
 				continue;
 			}
 
@@ -136,25 +141,23 @@ public class Assembler {
 
 				// Data operands begin with the 2nd word.
 				int wordIndex = operandIndex + 2;
-				String word = words[wordIndex].trim();
+				String word = words[wordIndex];
 
 				// The head character represents the kind of operand (register, variable identifier, immediate value, ...).
 				char prefix = word.charAt(0);
 
 				if (prefix == AssemblyWord.IMMEDIATE_OPERAND_PREFIX) {
+
+						// String-type immediate value: decode escape sequences in the content of the string literal.
+						if (this.getDataTypeOfImmediateValueLiteral(word) == DataType.STRING) {
+							String literalValue = this.getValuePartOfImmediateValueLiteral(word);
+							literalValue = LiteralSyntax.decodeEscapeSequences(literalValue);
+							word = this.replaceImmediateValue(word, literalValue);
+						}
+
 						if (vmObjectCode.containsConstantData(word)) {
 							operandAddresses[operandIndex] = vmObjectCode.getConstantDataAddress(word);
 						} else {
-
-							// String-type immediate value: recover the content of the string literal from the numberized literal.
-							if (this.getDataTypeOfImmediateValueLiteral(word) == DataType.STRING) {
-								String literalValue = this.getValuePartOfImmediateValueLiteral(word);
-								int stringLiteralIndex = LiteralSyntax.getIndexOfNumberedStringLiteral(literalValue);
-								literalValue = stringLiteralExtractResult[stringLiteralIndex];
-								literalValue = LiteralSyntax.decodeEscapeSequences(literalValue);
-								word = this.replaceImmediateValue(word, literalValue);
-							}
-
 							operandAddresses[operandIndex] = constantAddress;
 							DataContainer<?> dataContainer = this.parseImmediateValue(word);
 							vmObjectCode.addConstantData(word, dataContainer, constantAddress);
@@ -239,6 +242,12 @@ public class Assembler {
 					Memory.Partition.CONSTANT, metaAddress
 				)
 			);
+
+			// Put a LABEL instruction just after a CALL instruction,
+			// because processing flow jumps to there when it when it has returned from the callee function.
+			if (operationCode == OperationCode.CALL) {
+				vmObjectCode.addInstruction(this.createLabelInstruction(metaAddress));
+			}
 		}
 
 		return vmObjectCode;
@@ -246,60 +255,96 @@ public class Assembler {
 
 
 	/**
-	 * Append LABEL instructions at locations of labels and CALL instructions in the specified code.
+	 * Splits the VRIL assembly code into lines (instructions and directives),
+	 * and splits each line into words.
 	 *
-	 * As same as a NOP instructions, a LABEL instruction does nothing when it is executed,
-	 * but it makes optimization easy, by making it explicit that processing flow may jumps to there.
+	 * String literals are read as single words including double-quotations at both ends,
+	 * so separators in string literals are not regarded as separators.
+	 * Escape sequences in string literals are not decoded by this method.
+	 * Empty lines are not contained in the returned list.
 	 *
 	 * @param assemblyCode The VRIL assembly code.
-	 * @return The VRIL assembly code to which LABEL instructions have been appended.
+	 * @return The list of lines, each of which is an array of words.
+	 * @throws VnanoException Thrown when an unclosed string literal has been detected.
 	 */
-	private String appendLabelInstructions(String assemblyCode) {
-
-		StringBuilder codeBuilder = new StringBuilder();
-
-		String[] lines = assemblyCode.split(AssemblyWord.INSTRUCTION_SEPARATOR_REGEX);
-		int lineLength = lines.length;
-
-		for (int lineIndex=0; lineIndex<lineLength; lineIndex++) {
-
-			String line = lines[lineIndex];
-			codeBuilder.append(line);
-			codeBuilder.append(AssemblyWord.INSTRUCTION_SEPARATOR);
-
-			line = line.trim();
-			String labelCode
-				= AssemblyWord.LINE_SEPARATOR
-				+ AssemblyWord.WORD_SEPARATOR
-				+ OperationCode.LABEL.name()
-				+ AssemblyWord.WORD_SEPARATOR
-				+ DataTypeName.VOID
-				+ AssemblyWord.WORD_SEPARATOR
-				+ AssemblyWord.PLACEHOLDER_OPERAND_PREFIX
-				+ AssemblyWord.INSTRUCTION_SEPARATOR
-				;
-
-			// An empty line:
-			if (line.length() == 0) {
+	private List<String[]> tokenize(String assemblyCode) throws VnanoException {
+		List<String[]> lines = new ArrayList<String[]>();
+		List<String> words = new ArrayList<String>();
+
+		char instructionSeparator = AssemblyWord.INSTRUCTION_SEPARATOR.charAt(0);
+		char literalQuot = LiteralSyntax.STRING_LITERAL_QUOT;
+		char literalEscape = '\\';
+
+		int codeLength = assemblyCode.length();
+		int wordBegin = -1;               // The index of the beginning char of the current word, or -1 if out of words.
+		boolean inLiteral = false;        // Whether the current char is located in a string literal.
+		boolean previousIsEscapeChar = false;
+
+		for (int charIndex=0; charIndex<codeLength; charIndex++) {
+			char c = assemblyCode.charAt(charIndex);
+
+			// Chars in a string literal are parts of the current word, regardless of whether they are separators.
+			if (inLiteral) {
+				if (c == literalQuot && !previousIsEscapeChar) {
+					inLiteral = false;
+				}
+				previousIsEscapeChar = (c == literalEscape && !previousIsEscapeChar);
 				continue;
 			}
 
-			// Put a LABEL instruction at the label directive.
-			if (line.startsWith(AssemblyWord.LABEL_DIRECTIVE)) {
-				codeBuilder.append(labelCode);
+			// Separators of words (spaces, tabs, line-feeds, and so on) and lines:
+			if (c <= ' ' || c == instructionSeparator) {
+				if (wordBegin != -1) {
+					words.add(assemblyCode.substring(wordBegin, charIndex));
+					wordBegin = -1;
+				}
+				if (c == instructionSeparator && !words.isEmpty()) {
+					lines.add(words.toArray(new String[words.size()]));
+					words.clear();
+				}
 				continue;
 			}
 
-			String[] words = line.split(AssemblyWord.WORD_SEPARATOR_REGEX);
-			String operationCode = words[0];
-
-			// Put a LABEL instruction just after a CALL instruction,
-			// because processing flow jumps to there when it when it has returned from the callee function.
-			if (operationCode.equals(OperationCode.CALL.name())) {
-				codeBuilder.append(labelCode);
+			// Other chars are parts of the current word, and a quotation begins a string literal.
+			if (wordBegin == -1) {
+				wordBegin = charIndex;
+			}
+			if (c == literalQuot) {
+				inLiteral = true;
+				previousIsEscapeChar = false;
 			}
 		}
-		return codeBuilder.toString();
+
+		if (inLiteral) {
+			throw new VnanoException(ErrorType.STRING_LITERAL_IS_NOT_CLOSED);
+		}
+
+		// The last line which is not terminated by the separator.
+		if (wordBegin != -1) {
+			words.add(assemblyCode.substring(wordBegin, codeLength));
+		}
+		if (!words.isEmpty()) {
+			lines.add(words.toArray(new String[words.size()]));
+		}
+		return lines;
+	}
+
+
+	/**
+	 * Creates a LABEL instruction, which is put at locations of labels and CALL instructions.
+	 *
+	 * As same as a NOP instructions, a LABEL instruction does nothing when it is executed,
+	 * but it makes optimization easy, by making it explicit that processing flow may jumps to there.
+	 *
+	 * @param metaAddress The address of the meta information of the location.
+	 * @return The created LABEL instruction.
+	 */
+	private Instruction createLabelInstruction(int metaAddress) {
+		return new Instruction(
+			OperationCode.LABEL, new DataType[] { DataType.VOID },
+			new Memory.Partition[] { Memory.Partition.NONE }, new int[] { 0 },
+			Memory.Partition.CONSTANT, metaAddress
+		);
 	}
 
 
@@ -430,60 +475,50 @@ public class Assembler {
 	 * Note that, the returned VM object code is incomplete,
 	 *  so it is necessary to append information (instructions and so on) in the latter steps.
 	 *
-	 * @param assemblyCode The VRIL assembly code.
+	 * @param lines The tokenized lines of the VRIL assembly code.
 	 * @return The VM object code having information of variables/functions/labels, declared by directives in the VRIL assembly code.
 	 */
-	private VirtualMachineObjectCode preprocessDirectives(String assemblyCode, VariableTable globalVariableTable, FunctionTable functionTable) {
+	private VirtualMachineObjectCode preprocessDirectives(List<String[]> lines, VariableTable globalVariableTable, FunctionTable functionTable) {
 
 		VirtualMachineObjectCode vmObjectCode = new VirtualMachineObjectCode();
 
 		int localAddress = 0;
 
-		String[] lines = assemblyCode.split(AssemblyWord.INSTRUCTION_SEPARATOR_REGEX);
-		int lineLength = lines.length;
-
 		int instructionIndex = 0;
 
-		for (int lineIndex=0; lineIndex<lineLength; lineIndex++) {
-
-			String line = lines[lineIndex].trim();
-			if (line.length() == 0) {
-				continue;
-			}
-			String[] words = line.split(AssemblyWord.WORD_SEPARATOR_REGEX);
+		for (String[] words: lines) {
+			String headWord = words[0];
 
 			// Local variable directive:
-			if (line.startsWith(AssemblyWord.LOCAL_VARIABLE_DIRECTIVE)) {
+			if (headWord.equals(AssemblyWord.LOCAL_VARIABLE_DIRECTIVE)) {
 				String identifier = words[1];
 				vmObjectCode.addLocalVariable(identifier, localAddress);
 				localAddress++;
-			}
 
 			// Global variable directive:
-			if (line.startsWith(AssemblyWord.GLOBAL_VARIABLE_DIRECTIVE)) {
+			} else if (headWord.equals(AssemblyWord.GLOBAL_VARIABLE_DIRECTIVE)) {
 				String identifier = words[1];
 				AbstractVariable variable = globalVariableTable.getVariableByAssemblyIdentifier(identifier);
 				int globalAddress = globalVariableTable.getIndexOf(variable);
 				vmObjectCode.addGlobalVariable(identifier, globalAddress);
-			}
 
 			// Function directive:
-			if (line.startsWith(AssemblyWord.GLOBAL_FUNCTION_DIRECTIVE)) {
+			} else if (headWord.equals(AssemblyWord.GLOBAL_FUNCTION_DIRECTIVE)) {
 				String identifier = words[1];
 				String signature = identifier.substring(1, identifier.length()); // Remove the first char because it is a prefix.
 				AbstractFunction function = functionTable.getFunctionBySignature(signature);
 				int functionAddress = functionTable.getIndexOf(function);
 				vmObjectCode.addFunction(identifier, functionAddress);
-			}
 
-			// Label directive:
-			if (line.startsWith(AssemblyWord.LABEL_DIRECTIVE)) {
+			// Label directive: the label refers to the LABEL instruction which will be put at there.
+			} else if (headWord.equals(AssemblyWord.LABEL_DIRECTIVE)) {
 				String identifier = words[1];
 				vmObjectCode.addLabel(identifier, instructionIndex);
-			}
-
-			if (!line.startsWith(Character.toString(AssemblyWord.DIRECTIVE_PREFIX))) {
 				instructionIndex++;
+
+			// Instructions: a LABEL instruction will be put just after a CALL instruction.
+			} else if (headWord.charAt(0) != AssemblyWord.DIRECTIVE_PREFIX) {
+				instructionIndex += headWord.equals(OperationCode.CALL.name()) ? 2 : 1;
 			}
 		}
 		return vmObjectCode;
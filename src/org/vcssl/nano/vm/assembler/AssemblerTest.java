@@ -0,0 +1,92 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.vm.assembler;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.interconnect.Interconnect;
+import org.vcssl.nano.spec.ErrorType;
+import org.vcssl.nano.spec.OperationCode;
+import org.vcssl.nano.vm.VirtualMachineObjectCode;
+import org.vcssl.nano.vm.memory.DataContainer;
+import org.vcssl.nano.vm.memory.Memory;
+import org.vcssl.nano.vm.processor.Instruction;
+
+/**
+ * The test of Assembler class.
+ */
+public class AssemblerTest {
+
+	private Interconnect interconnect;
+
+	@Before
+	public void setUp() throws Exception {
+		this.interconnect = new Interconnect();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		this.interconnect = null;
+	}
+
+	@Test
+	public void testStringLiteralsContainingSeparators() throws VnanoException {
+		String code
+			= "#META\t\"line=1, file=main; script\";\n"
+			+ "#LOCAL_VARIABLE\t_s@0;\n"
+			+ "\tALLOC\tstring\t_s@0;\n"
+			+ "\tMOV\tstring\t_s@0\t~string:\"a;b c\\\"d\";\n"
+			+ "\tMOV\tstring\t_s@0\t~string:\"a;b c\\\"d\";\n";
+
+		VirtualMachineObjectCode objectCode = new Assembler().assemble(code, this.interconnect);
+		Instruction[] instructions = objectCode.getInstructions();
+		assertEquals(3, instructions.length);
+
+		DataContainer<?>[] constants = objectCode.getConstantDataContainers();
+		assertEquals(2, constants.length);
+		assertEquals("line=1, file=main; script", constants[0].getStringScalarData());
+		assertEquals("a;b c\"d", constants[1].getStringScalarData());
+
+		// The same literals should refer to the same constant data.
+		assertEquals(Memory.Partition.CONSTANT, instructions[1].getOperandPartitions()[1]);
+		assertEquals(1, instructions[1].getOperandAddresses()[1]);
+		assertEquals(1, instructions[2].getOperandAddresses()[1]);
+		assertEquals(0, instructions[2].getMetaAddress());
+	}
+
+	@Test
+	public void testLabels() throws VnanoException {
+		String code
+			= "#LOCAL_VARIABLE\t_i@0;\n"
+			+ "\tALLOC\tint\t_i@0;\n"
+			+ "#LABEL\t&LABEL0;\n"
+			+ "\tADD\tint\t_i@0\t_i@0\t~int:1;\n"
+			+ "\tJMP\tbool\t-\t&LABEL0\t~bool:true;\n";
+
+		VirtualMachineObjectCode objectCode = new Assembler().assemble(code, this.interconnect);
+		Instruction[] instructions = objectCode.getInstructions();
+
+		// A LABEL instruction should be put at the location of the label, and the label should refer to it.
+		assertEquals(4, instructions.length);
+		assertEquals(OperationCode.LABEL, instructions[1].getOperationCode());
+		assertEquals(1, objectCode.getLabelAddress("&LABEL0"));
+	}
+
+	@Test
+	public void testUnclosedStringLiteral() {
+		String code = "\tMOV\tstring\t_s@0\t~string:\"abc;\n";
+		try {
+			new Assembler().assemble(code, this.interconnect);
+			fail("Expected exception did not occurred");
+		} catch (VnanoException e) {
+			assertEquals(ErrorType.STRING_LITERAL_IS_NOT_CLOSED, e.getErrorType());
+		}
+	}
+}
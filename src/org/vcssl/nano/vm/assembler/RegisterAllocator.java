@@ -0,0 +1,340 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.vm.assembler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.vcssl.nano.spec.AssemblyWord;
+import org.vcssl.nano.spec.OperationCode;
+
+
+/**
+ * The class to re-assign addresses of registers in the tokenized VRIL assembly code,
+ * for reusing registers of which lifetimes have already ended.
+ *
+ * The compiler uses a new register for each temporary value of expressions,
+ * so the number of registers (and data containers allocated for them) increases with the size of the script.
+ * This class reduces it, by sharing the same address between registers of which lifetimes do not overlap.
+ *
+ * For keeping the allocation simple and safe, only registers satisfying all of the following conditions are reused:
+ *
+ * - All accesses to the register are in the same straight-line block of code (no jumps, calls, or labels are between them).
+ * - The register is allocated by ALLOC or ALLOCR instruction at first, and then is written before it is read.
+ * - The register is not linked to other data by references, and is not passed to (or returned from) functions.
+ * - The data type and the array-rank of the register are known and not changed.
+ *
+ * A reused address is shared only between registers having the same data type and the same array-rank,
+ * for keeping the data type and the scalar/vector property of each address,
+ * on which {@link org.vcssl.nano.vm.accelerator.Accelerator Accelerator} depends.
+ * Other registers are assigned to unique addresses as before.
+ */
+public class RegisterAllocator {
+
+	/** Operation codes which end straight-line blocks of code. */
+	private static final Set<OperationCode> BLOCK_END_OPCODE_SET = EnumSet.of(
+		OperationCode.JMP, OperationCode.JMPN, OperationCode.CALL,
+		OperationCode.RET, OperationCode.ENDFUN, OperationCode.END
+	);
+
+	/** Operation codes which overwrite the first operand, without reading the previous value of it. */
+	private static final Set<OperationCode> WRITING_OPCODE_SET = EnumSet.of(
+		OperationCode.ADD, OperationCode.SUB, OperationCode.MUL, OperationCode.DIV, OperationCode.REM, OperationCode.NEG,
+		OperationCode.EQ, OperationCode.NEQ, OperationCode.GT, OperationCode.LT, OperationCode.GEQ, OperationCode.LEQ,
+		OperationCode.ANDM, OperationCode.ORM, OperationCode.NOT,
+		OperationCode.MOV, OperationCode.MOVPOP, OperationCode.CAST, OperationCode.FILL, OperationCode.MOVELM
+	);
+
+	/** Operation codes which only read values of operands, excluding the first operand. */
+	private static final Set<OperationCode> READING_OPCODE_SET = EnumSet.of(
+		OperationCode.JMP, OperationCode.JMPN
+	);
+
+	/** The index of the first operand in words of an instruction (next to the operation code and the data type). */
+	private static final int FIRST_OPERAND_WORD_INDEX = 2;
+
+
+	/**
+	 * Create a new register allocator.
+	 */
+	public RegisterAllocator() {
+	}
+
+
+	/**
+	 * Re-assigns addresses of registers in the tokenized VRIL assembly code, for reusing registers.
+	 *
+	 * Words of registers in the specified lines are replaced directly.
+	 *
+	 * @param lines The lines of the VRIL assembly code, each of which is an array of words.
+	 * @return The number of registers after the re-assignment.
+	 */
+	public int allocate(List<String[]> lines) {
+		int lineLength = lines.size();
+		int registerLength = this.getMaxRegisterAddress(lines) + 1;
+
+		// Information of each register before the re-assignment.
+		int[] blockIndices = new int[registerLength];      // The index of the block in which the register is used.
+		int[] lastLineIndices = new int[registerLength];   // The index of the line at which the register is accessed at last.
+		String[] classKeys = new String[registerLength];   // The data type and the array-rank of the register.
+		boolean[] reusable = new boolean[registerLength];
+		boolean[] appeared = new boolean[registerLength];
+		boolean[] written = new boolean[registerLength];
+		Map<String, Integer> variableRankMap = this.getVariableRankMap(lines);
+
+		// Analyze accesses to registers, in each straight-line block.
+		int blockIndex = 0;
+		for (int lineIndex=0; lineIndex<lineLength; lineIndex++) {
+			String[] words = lines.get(lineIndex);
+			if (words[0].charAt(0) == AssemblyWord.DIRECTIVE_PREFIX) {
+				if (words[0].equals(AssemblyWord.LABEL_DIRECTIVE)) {
+					blockIndex++;
+				}
+				continue;
+			}
+
+			OperationCode operationCode = OperationCode.valueOf(words[0]);
+			for (int wordIndex=FIRST_OPERAND_WORD_INDEX; wordIndex<words.length; wordIndex++) {
+				if (!this.isRegister(words[wordIndex])) {
+					continue;
+				}
+				int register = this.getRegisterAddress(words[wordIndex]);
+				boolean isFirstOperand = wordIndex == FIRST_OPERAND_WORD_INDEX;
+				boolean isAllocation = isFirstOperand
+						&& (operationCode == OperationCode.ALLOC || operationCode == OperationCode.ALLOCR);
+
+				// The first access: the register should be allocated by ALLOC/ALLOCR instruction.
+				if (!appeared[register]) {
+					appeared[register] = true;
+					blockIndices[register] = blockIndex;
+					classKeys[register] = isAllocation ? this.getClassKey(words, classKeys, variableRankMap) : null;
+					reusable[register] = classKeys[register] != null;
+
+				// Re-allocations: the data type and the array-rank should not be changed.
+				} else if (isAllocation) {
+					String classKey = this.getClassKey(words, classKeys, variableRankMap);
+					if (classKey == null || !classKey.equals(classKeys[register])) {
+						reusable[register] = false;
+					}
+
+				// The first access after the allocation: the register should be written without reading its value.
+				} else if (!written[register]) {
+					written[register] = true;
+					if (!isFirstOperand || !WRITING_OPCODE_SET.contains(operationCode)
+							|| this.countOccurrences(words, words[wordIndex]) != 1) {
+						reusable[register] = false;
+					}
+
+				// Other accesses: the register should be accessed only by instructions reading/writing values of operands.
+				} else if (!WRITING_OPCODE_SET.contains(operationCode) && !READING_OPCODE_SET.contains(operationCode)
+						&& !((operationCode == OperationCode.ALLOC || operationCode == OperationCode.ALLOCR) && !isFirstOperand)) {
+					reusable[register] = false;
+				}
+
+				// Registers accessed from multiple blocks can not be reused.
+				if (blockIndices[register] != blockIndex) {
+					reusable[register] = false;
+				}
+				lastLineIndices[register] = lineIndex;
+			}
+
+			if (BLOCK_END_OPCODE_SET.contains(operationCode)) {
+				blockIndex++;
+			}
+		}
+
+		// Registers which are allocated but never written are not reused.
+		for (int register=0; register<registerLength; register++) {
+			if (!written[register]) {
+				reusable[register] = false;
+			}
+		}
+
+		// Re-assign addresses, from the head of the code.
+		// Addresses of reusable registers are returned to the pool for each data type and array-rank
+		// just after the lines at which lifetimes of them end,
+		// so a register of which lifetime begins at the same line does not share the address with them.
+		int[] newAddresses = new int[registerLength];
+		Arrays.fill(newAddresses, -1);
+		boolean[] released = new boolean[registerLength];
+		List<Integer> releasedRegisterList = new ArrayList<Integer>();
+		Map<String, Deque<Integer>> freeAddressPoolMap = new HashMap<String, Deque<Integer>>();
+		int newRegisterLength = 0;
+		for (int lineIndex=0; lineIndex<lineLength; lineIndex++) {
+			String[] words = lines.get(lineIndex);
+			if (words[0].charAt(0) == AssemblyWord.DIRECTIVE_PREFIX) {
+				continue;
+			}
+
+			releasedRegisterList.clear();
+			for (int wordIndex=FIRST_OPERAND_WORD_INDEX; wordIndex<words.length; wordIndex++) {
+				if (!this.isRegister(words[wordIndex])) {
+					continue;
+				}
+				int register = this.getRegisterAddress(words[wordIndex]);
+				if (newAddresses[register] == -1) {
+					Deque<Integer> freeAddressPool = reusable[register] ? freeAddressPoolMap.get(classKeys[register]) : null;
+					if (freeAddressPool != null && !freeAddressPool.isEmpty()) {
+						newAddresses[register] = freeAddressPool.pop();
+					} else {
+						newAddresses[register] = newRegisterLength;
+						newRegisterLength++;
+					}
+				}
+				words[wordIndex] = AssemblyWord.REGISTER_OPERAND_PREFIX + Integer.toString(newAddresses[register]);
+
+				if (reusable[register] && lastLineIndices[register] == lineIndex && !released[register]) {
+					released[register] = true;
+					releasedRegisterList.add(register);
+				}
+			}
+
+			for (int register: releasedRegisterList) {
+				Deque<Integer> freeAddressPool = freeAddressPoolMap.get(classKeys[register]);
+				if (freeAddressPool == null) {
+					freeAddressPool = new ArrayDeque<Integer>();
+					freeAddressPoolMap.put(classKeys[register], freeAddressPool);
+				}
+				freeAddressPool.push(newAddresses[register]);
+			}
+		}
+		return newRegisterLength;
+	}
+
+
+	/**
+	 * Gets the key representing the data type and the array-rank of the register allocated by ALLOC/ALLOCR instruction.
+	 *
+	 * @param words Words of the ALLOC/ALLOCR instruction.
+	 * @param classKeys Keys of registers which have already been allocated.
+	 * @param variableRankMap The map of array-ranks of variables.
+	 * @return The key, or null if the array-rank can not be determined.
+	 */
+	private String getClassKey(String[] words, String[] classKeys, Map<String, Integer> variableRankMap) {
+		String dataTypeName = words[1];
+
+		// ALLOC instruction: operands next to the allocated register are lengths of dimensions.
+		if (words[0].equals(OperationCode.ALLOC.name())) {
+			return dataTypeName + AssemblyWord.VALUE_SEPARATOR + (words.length - FIRST_OPERAND_WORD_INDEX - 1);
+		}
+
+		// ALLOCR instruction: the register has the same array-rank as the operand next to it.
+		String determinerWord = words[FIRST_OPERAND_WORD_INDEX + 1];
+		char determinerPrefix = determinerWord.charAt(0);
+		int rank = -1;
+		if (determinerPrefix == AssemblyWord.IMMEDIATE_OPERAND_PREFIX) {
+			rank = 0;
+		} else if (determinerPrefix == AssemblyWord.REGISTER_OPERAND_PREFIX) {
+			String determinerClassKey = classKeys[this.getRegisterAddress(determinerWord)];
+			if (determinerClassKey == null) {
+				return null;
+			}
+			rank = Integer.parseInt(determinerClassKey.substring(determinerClassKey.indexOf(AssemblyWord.VALUE_SEPARATOR) + 1));
+		} else if (variableRankMap.containsKey(determinerWord)) {
+			rank = variableRankMap.get(determinerWord);
+		}
+		if (rank < 0) {
+			return null;
+		}
+		return dataTypeName + AssemblyWord.VALUE_SEPARATOR + rank;
+	}
+
+
+	/**
+	 * Gets array-ranks of variables, from ALLOC instructions allocating them.
+	 *
+	 * Ranks of variables allocated with different ranks are stored as -1.
+	 * Variables not allocated by ALLOC instructions (parameters, external variables, and so on) are not contained.
+	 *
+	 * @param lines The lines of the VRIL assembly code.
+	 * @return The map of which keys are identifiers of variables, and values are array-ranks of them.
+	 */
+	private Map<String, Integer> getVariableRankMap(List<String[]> lines) {
+		Map<String, Integer> variableRankMap = new HashMap<String, Integer>();
+		for (String[] words: lines) {
+			if (!words[0].equals(OperationCode.ALLOC.name())
+					|| words[FIRST_OPERAND_WORD_INDEX].charAt(0) != AssemblyWord.IDENTIFIER_OPERAND_PREFIX) {
+				continue;
+			}
+			String identifier = words[FIRST_OPERAND_WORD_INDEX];
+			int rank = words.length - FIRST_OPERAND_WORD_INDEX - 1;
+			if (variableRankMap.containsKey(identifier) && variableRankMap.get(identifier) != rank) {
+				rank = -1;
+			}
+			variableRankMap.put(identifier, rank);
+		}
+		return variableRankMap;
+	}
+
+
+	/**
+	 * Gets the maximum address of registers in the code.
+	 *
+	 * @param lines The lines of the VRIL assembly code.
+	 * @return The maximum address of registers, or -1 if no registers are used.
+	 */
+	private int getMaxRegisterAddress(List<String[]> lines) {
+		int maxAddress = -1;
+		for (String[] words: lines) {
+			if (words[0].charAt(0) == AssemblyWord.DIRECTIVE_PREFIX) {
+				continue;
+			}
+			for (int wordIndex=FIRST_OPERAND_WORD_INDEX; wordIndex<words.length; wordIndex++) {
+				if (this.isRegister(words[wordIndex])) {
+					maxAddress = Math.max(maxAddress, this.getRegisterAddress(words[wordIndex]));
+				}
+			}
+		}
+		return maxAddress;
+	}
+
+
+	/**
+	 * Counts occurrences of the specified word in operands of the instruction.
+	 *
+	 * @param words Words of the instruction.
+	 * @param word The word to be counted.
+	 * @return The number of occurrences.
+	 */
+	private int countOccurrences(String[] words, String word) {
+		int count = 0;
+		for (int wordIndex=FIRST_OPERAND_WORD_INDEX; wordIndex<words.length; wordIndex++) {
+			if (words[wordIndex].equals(word)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+
+	/**
+	 * Checks whether the specified word is an operand of a register.
+	 *
+	 * @param word The word to be checked.
+	 * @return Returns true if the word is an operand of a register.
+	 */
+	private boolean isRegister(String word) {
+		return word.charAt(0) == AssemblyWord.REGISTER_OPERAND_PREFIX;
+	}
+
+
+	/**
+	 * Gets the address of the register from the word of the operand.
+	 *
+	 * @param word The word of the register operand.
+	 * @return The address of the register.
+	 */
+	private int getRegisterAddress(String word) {
+		return Integer.parseInt(word.substring(1));
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.vm.assembler;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * The test of RegisterAllocator class.
+ */
+public class RegisterAllocatorTest {
+
+	@Test
+	public void testReuseRegistersInBlock() {
+		List<String[]> lines = this.createLines(
+			"ALLOC\tfloat\tR0",
+			"MUL\tfloat\tR0\t_x@0\t_x@0",
+			"ALLOC\tfloat\tR1",
+			"ADD\tfloat\tR1\tR0\t~float:1.0",
+			"ALLOC\tfloat\tR2",
+			"MUL\tfloat\tR2\tR1\t~float:2.0",
+			"ALLOC\tfloat\tR3",
+			"ADD\tfloat\tR3\tR2\t~float:3.0",
+			"MOV\tfloat\t_y@1\tR3"
+		);
+		assertEquals(2, new RegisterAllocator().allocate(lines));
+
+		// The address of R0 is released after the line reading it, so it is reused for R2 but not for R1, and so on.
+		assertEquals("R0", lines.get(0)[2]);
+		assertEquals("R1", lines.get(2)[2]);
+		assertEquals("R0", lines.get(3)[3]);
+		assertEquals("R0", lines.get(4)[2]);
+		assertEquals("R1", lines.get(5)[3]);
+		assertEquals("R1", lines.get(6)[2]);
+		assertEquals("R1", lines.get(8)[3]);
+	}
+
+
+	@Test
+	public void testReuseOnlyBetweenSameDataTypesAndRanks() {
+		List<String[]> lines = this.createLines(
+			"ALLOC\tint\t_a@0\t~int:3",
+			"ALLOC\tint\tR0",
+			"MOV\tint\tR0\t~int:1",
+			"MOV\tint\t_x@1\tR0",
+			"ALLOC\tfloat\tR1",
+			"MOV\tfloat\tR1\t~float:1.0",
+			"MOV\tfloat\t_y@2\tR1",
+			"ALLOCR\tint\tR2\t_a@0",
+			"ADD\tint\tR2\t_a@0\t_a@0",
+			"MOV\tint\t_a@0\tR2",
+			"ALLOC\tint\tR3",
+			"MOV\tint\tR3\t~int:2",
+			"MOV\tint\t_x@1\tR3"
+		);
+		assertEquals(3, new RegisterAllocator().allocate(lines));
+		assertEquals("R0", lines.get(1)[2]);
+		assertEquals("R1", lines.get(4)[2]);
+		assertEquals("R2", lines.get(7)[2]);
+		assertEquals("R0", lines.get(10)[2]);
+	}
+
+
+	@Test
+	public void testRegistersNotReused() {
+		List<String[]> lines = this.createLines(
+
+			// Accessed from multiple blocks.
+			"ALLOC\tint\tR0",
+			"MOV\tint\tR0\t~int:1",
+			"#LABEL\t&LABEL0",
+			"MOV\tint\t_x@0\tR0",
+
+			// Linked to an element of an array by a reference.
+			"REFELM\tint\tR1\t_a@1\t~int:0",
+			"MOV\tint\tR1\t~int:2",
+
+			// Passed to a function.
+			"ALLOC\tint\tR2",
+			"MOV\tint\tR2\t~int:3",
+			"CALLX\tint\tR3\t_f@0\tR2",
+
+			// Read before written.
+			"ALLOC\tint\tR4",
+			"ADD\tint\tR4\tR4\t~int:1",
+			"MOV\tint\t_x@0\tR4",
+
+			"ALLOC\tint\tR5",
+			"MOV\tint\tR5\t~int:4",
+			"MOV\tint\t_x@0\tR5"
+		);
+		assertEquals(6, new RegisterAllocator().allocate(lines));
+		assertEquals("R5", lines.get(12)[2]);
+	}
+
+
+	@Test
+	public void testNoRegisters() {
+		List<String[]> lines = this.createLines(
+			"#META\t\"line=1\"",
+			"ALLOC\tint\t_x@0",
+			"MOV\tint\t_x@0\t~int:1"
+		);
+		assertEquals(0, new RegisterAllocator().allocate(lines));
+		assertEquals("_x@0", lines.get(2)[2]);
+	}
+
+
+	private List<String[]> createLines(String... lines) {
+		List<String[]> lineList = new ArrayList<String[]>();
+		for (String line: lines) {
+			lineList.add(line.split("\t"));
+		}
+		return lineList;
+	}
+}
@@ -318,6 +318,16 @@ public class DataContainer<T> implements ArrayDataAccessorInterface1<T>,
 	}
 
 
+	/**
+	 * Returns whether this data-container refers to other data-container, set by "refer" method.
+	 *
+	 * @return Returns true if this data-container refers to other data-container.
+	 */
+	public final boolean isReference() {
+		return this.referenceTreeRoot != null;
+	}
+
+
 	/**
 	 * Cancels the setting of the reference by "refer" method.
 	 */
@@ -326,6 +336,42 @@ public class DataContainer<T> implements ArrayDataAccessorInterface1<T>,
 	}
 
 
+	/**
+	 * Exchanges all states (the data, the lengths, the offset, and the reference)
+	 * of this data-container with the specified data-container.
+	 *
+	 * Instances of data-containers are not replaced by this method,
+	 * so references to them held by other components (e.g.: caches of operands of instructions) remain valid.
+	 * This method is used for saving/restoring local data of recursive functions to/from stack frames.
+	 *
+	 * @param exchangedDataContainer The data-container of which states will be exchanged with this data-container.
+	 */
+	@SuppressWarnings("unchecked")
+	public final void swap(DataContainer<?> exchangedDataContainer) {
+		DataContainer<T> other = (DataContainer<T>)exchangedDataContainer;
+
+		T data = this.data;
+		this.data = other.data;
+		other.data = data;
+
+		int size = this.size;
+		this.size = other.size;
+		other.size = size;
+
+		int[] lengths = this.lengths;
+		this.lengths = other.lengths;
+		other.lengths = lengths;
+
+		int offset = this.offset;
+		this.offset = other.offset;
+		other.offset = offset;
+
+		DataContainer<T> referenceTreeRoot = this.referenceTreeRoot;
+		this.referenceTreeRoot = other.referenceTreeRoot;
+		other.referenceTreeRoot = referenceTreeRoot;
+	}
+
+
 	/**
 	 * Stores a double ({@link org.vcssl.nano.spec.DataType#FLOAT64 FLOAT64}) type scalar data.
 	 *
@@ -0,0 +1,344 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.vm.memory;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+
+/**
+ * The class of the pool of data-containers and their data arrays, to reuse them between executions.
+ *
+ * Every fresh execution allocates data-containers for all addresses in REGISTER and LOCAL partitions,
+ * and ALLOC instructions allocate new data arrays whenever the required sizes are changed.
+ * For code compiled once and executed many times with different array sizes, they are collected by GC repeatedly.
+ * This pool holds released data-containers and arrays, and provides them again for the next allocations.
+ *
+ * Released arrays are stored in buckets of their data types and size classes,
+ * where the size class of an array is the bit length of its length (e.g.: the length 5 belongs to the class 3).
+ * An array is provided only for the request of exactly the same length,
+ * because the length of a data array is regarded as the number of elements by various processing units and plug-ins.
+ * The number of arrays stored in each bucket and the total number of their elements are limited,
+ * so arrays exceeding the limits are simply left to GC.
+ *
+ * Methods of this class are synchronized, because the same virtual machine may execute code on multiple threads at once.
+ */
+public final class DataContainerPool {
+
+	/** The number of supported data types of arrays (long[], double[], boolean[], String[]). */
+	private static final int ARRAY_TYPE_COUNT = 4;
+
+	/** The index of long[] arrays in buckets. */
+	private static final int INT64_TYPE_INDEX = 0;
+
+	/** The index of double[] arrays in buckets. */
+	private static final int FLOAT64_TYPE_INDEX = 1;
+
+	/** The index of boolean[] arrays in buckets. */
+	private static final int BOOL_TYPE_INDEX = 2;
+
+	/** The index of String[] arrays in buckets. */
+	private static final int STRING_TYPE_INDEX = 3;
+
+	/** The number of size classes (bit lengths of lengths of arrays, from 0 to 31). */
+	private static final int SIZE_CLASS_COUNT = 32;
+
+	/** The maximum number of arrays stored in each bucket. */
+	private static final int MAX_BUCKET_LENGTH = 16;
+
+	/** The maximum length of arrays to be stored in this pool. */
+	private static final int MAX_POOLED_ARRAY_LENGTH = 1 << 20;
+
+	/** The maximum total number of elements of arrays stored in this pool. */
+	private static final long MAX_POOLED_ELEMENT_COUNT = 1L << 22;
+
+	/** The maximum number of data-containers stored in this pool. */
+	private static final int MAX_POOLED_CONTAINER_COUNT = 4096;
+
+
+	/** Stored arrays, of which indices are [typeIndex][sizeClass][indexInBucket]. */
+	private final Object[][][] buckets;
+
+	/** The numbers of arrays stored in buckets, of which indices are [typeIndex][sizeClass]. */
+	private final int[][] bucketLengths;
+
+	/** The total number of elements of stored arrays. */
+	private long pooledElementCount;
+
+	/** Stored data-containers. */
+	private DataContainer<?>[] containers;
+
+	/** The number of stored data-containers. */
+	private int containerCount;
+
+	/** The total number of requests of arrays. */
+	private long arrayRequestCount;
+
+	/** The total number of requests of arrays, satisfied by stored arrays. */
+	private long arrayHitCount;
+
+	/** The total number of requests of data-containers. */
+	private long containerRequestCount;
+
+	/** The total number of requests of data-containers, satisfied by stored data-containers. */
+	private long containerHitCount;
+
+
+	/**
+	 * Creates an empty pool.
+	 */
+	public DataContainerPool() {
+		this.buckets = new Object[ARRAY_TYPE_COUNT][SIZE_CLASS_COUNT][];
+		this.bucketLengths = new int[ARRAY_TYPE_COUNT][SIZE_CLASS_COUNT];
+		this.pooledElementCount = 0;
+		this.containers = new DataContainer<?>[64];
+		this.containerCount = 0;
+	}
+
+
+	/**
+	 * Gets an empty data-container, which is taken from this pool if it is available, or newly created.
+	 *
+	 * @return An empty data-container.
+	 */
+	public final synchronized DataContainer<?> acquireDataContainer() {
+		this.containerRequestCount++;
+		if (this.containerCount == 0) {
+			return new DataContainer<Void>();
+		}
+		this.containerHitCount++;
+		this.containerCount--;
+		DataContainer<?> container = this.containers[this.containerCount];
+		this.containers[this.containerCount] = null;
+		return container;
+	}
+
+
+	/**
+	 * Stores the specified data-container into this pool, after emptying it.
+	 * The data array of the data-container is not stored, so release it by {@link DataContainerPool#releaseArray(Object)}
+	 * before calling this method if necessary.
+	 *
+	 * @param container The data-container to be stored, which must not be used by anyone after calling this method.
+	 */
+	public final synchronized void releaseDataContainer(DataContainer<?> container) {
+		container.initialize();
+		if (MAX_POOLED_CONTAINER_COUNT <= this.containerCount) {
+			return;
+		}
+		if (this.containers.length <= this.containerCount) {
+			this.containers = Arrays.copyOf(this.containers, this.containers.length * 2);
+		}
+		this.containers[this.containerCount] = container;
+		this.containerCount++;
+	}
+
+
+	/**
+	 * Gets a long[] array of which all elements are 0, with the specified length.
+	 *
+	 * @param length The length of the array.
+	 * @return The array, which is taken from this pool if it is available, or newly created.
+	 */
+	public final long[] acquireInt64Array(int length) {
+		long[] array = (long[])this.takeArray(INT64_TYPE_INDEX, length);
+		if (array == null) {
+			return new long[length];
+		}
+		Arrays.fill(array, 0L);
+		return array;
+	}
+
+
+	/**
+	 * Gets a double[] array of which all elements are 0.0, with the specified length.
+	 *
+	 * @param length The length of the array.
+	 * @return The array, which is taken from this pool if it is available, or newly created.
+	 */
+	public final double[] acquireFloat64Array(int length) {
+		double[] array = (double[])this.takeArray(FLOAT64_TYPE_INDEX, length);
+		if (array == null) {
+			return new double[length];
+		}
+		Arrays.fill(array, 0.0);
+		return array;
+	}
+
+
+	/**
+	 * Gets a boolean[] array of which all elements are false, with the specified length.
+	 *
+	 * @param length The length of the array.
+	 * @return The array, which is taken from this pool if it is available, or newly created.
+	 */
+	public final boolean[] acquireBoolArray(int length) {
+		boolean[] array = (boolean[])this.takeArray(BOOL_TYPE_INDEX, length);
+		if (array == null) {
+			return new boolean[length];
+		}
+		Arrays.fill(array, false);
+		return array;
+	}
+
+
+	/**
+	 * Gets a String[] array of which all elements are null, with the specified length.
+	 *
+	 * @param length The length of the array.
+	 * @return The array, which is taken from this pool if it is available, or newly created.
+	 */
+	public final String[] acquireStringArray(int length) {
+		String[] array = (String[])this.takeArray(STRING_TYPE_INDEX, length);
+		if (array == null) {
+			return new String[length];
+		}
+		Arrays.fill(array, null);
+		return array;
+	}
+
+
+	/**
+	 * Stores the specified array into this pool.
+	 * Arrays of unsupported types, too large arrays, and arrays exceeding limits of this pool are ignored.
+	 *
+	 * @param array The array to be stored, which must not be referred by anyone after calling this method.
+	 */
+	public final synchronized void releaseArray(Object array) {
+		int typeIndex = getTypeIndex(array);
+		if (typeIndex == -1) {
+			return;
+		}
+		int length = Array.getLength(array);
+		if (MAX_POOLED_ARRAY_LENGTH < length || MAX_POOLED_ELEMENT_COUNT < this.pooledElementCount + length) {
+			return;
+		}
+		int sizeClass = getSizeClass(length);
+		int bucketLength = this.bucketLengths[typeIndex][sizeClass];
+		if (MAX_BUCKET_LENGTH <= bucketLength) {
+			return;
+		}
+		Object[] bucket = this.buckets[typeIndex][sizeClass];
+		if (bucket == null) {
+			bucket = new Object[MAX_BUCKET_LENGTH];
+			this.buckets[typeIndex][sizeClass] = bucket;
+		}
+
+		// Prevent the same array from being stored twice, which causes sharing it between independent data.
+		for (int bucketIndex=0; bucketIndex<bucketLength; bucketIndex++) {
+			if (bucket[bucketIndex] == array) {
+				return;
+			}
+		}
+		bucket[bucketLength] = array;
+		this.bucketLengths[typeIndex][sizeClass]++;
+		this.pooledElementCount += length;
+	}
+
+
+	/**
+	 * Takes an array of the specified type and length from this pool.
+	 *
+	 * @param typeIndex The index of the data type in buckets.
+	 * @param length The length of the array.
+	 * @return The array taken from this pool, or null if no array is available.
+	 */
+	private synchronized Object takeArray(int typeIndex, int length) {
+		this.arrayRequestCount++;
+		if (length < 0 || MAX_POOLED_ARRAY_LENGTH < length) {
+			return null;
+		}
+		int sizeClass = getSizeClass(length);
+		Object[] bucket = this.buckets[typeIndex][sizeClass];
+		int bucketLength = this.bucketLengths[typeIndex][sizeClass];
+
+		// Search the array from the most recently stored one, and fill the hole by the last one.
+		for (int bucketIndex=bucketLength-1; 0<=bucketIndex; bucketIndex--) {
+			Object array = bucket[bucketIndex];
+			if (Array.getLength(array) == length) {
+				bucket[bucketIndex] = bucket[bucketLength - 1];
+				bucket[bucketLength - 1] = null;
+				this.bucketLengths[typeIndex][sizeClass]--;
+				this.pooledElementCount -= length;
+				this.arrayHitCount++;
+				return array;
+			}
+		}
+		return null;
+	}
+
+
+	/**
+	 * Gets the index in buckets of the data type of the specified array.
+	 *
+	 * @param array The array.
+	 * @return The index of the data type (-1 for unsupported types).
+	 */
+	private static int getTypeIndex(Object array) {
+		if (array instanceof long[]) {
+			return INT64_TYPE_INDEX;
+		} else if (array instanceof double[]) {
+			return FLOAT64_TYPE_INDEX;
+		} else if (array instanceof boolean[]) {
+			return BOOL_TYPE_INDEX;
+		} else if (array instanceof String[]) {
+			return STRING_TYPE_INDEX;
+		} else {
+			return -1;
+		}
+	}
+
+
+	/**
+	 * Gets the size class of arrays having the specified length.
+	 *
+	 * @param length The length of arrays.
+	 * @return The size class.
+	 */
+	private static int getSizeClass(int length) {
+		return Math.min(SIZE_CLASS_COUNT - 1, Integer.SIZE - Integer.numberOfLeadingZeros(length));
+	}
+
+
+	/**
+	 * Gets the total number of requests of arrays to this pool.
+	 *
+	 * @return The total number of requests of arrays.
+	 */
+	public final synchronized long getArrayRequestCount() {
+		return this.arrayRequestCount;
+	}
+
+
+	/**
+	 * Gets the total number of requests of arrays satisfied by arrays stored in this pool.
+	 *
+	 * @return The total number of hits of arrays.
+	 */
+	public final synchronized long getArrayHitCount() {
+		return this.arrayHitCount;
+	}
+
+
+	/**
+	 * Gets the total number of requests of data-containers to this pool.
+	 *
+	 * @return The total number of requests of data-containers.
+	 */
+	public final synchronized long getDataContainerRequestCount() {
+		return this.containerRequestCount;
+	}
+
+
+	/**
+	 * Gets the total number of requests of data-containers satisfied by data-containers stored in this pool.
+	 *
+	 * @return The total number of hits of data-containers.
+	 */
+	public final synchronized long getDataContainerHitCount() {
+		return this.containerHitCount;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.vm.memory;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The test of DataContainerPool class.
+ */
+public class DataContainerPoolTest {
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+	@Test
+	public void test() {
+		this.testAcquireReleaseArray();
+		this.testAcquireReleaseDataContainer();
+		this.testDoubleRelease();
+	}
+
+	private void testAcquireReleaseArray() {
+		DataContainerPool pool = new DataContainerPool();
+
+		// Arrays are created newly when the pool is empty.
+		long[] int64Array = pool.acquireInt64Array(5);
+		if (int64Array.length != 5 || pool.getArrayRequestCount() != 1 || pool.getArrayHitCount() != 0) {
+			fail("Incorrect array");
+		}
+
+		// Released arrays are reused only for requests of the same type and the same length, and cleared.
+		int64Array[0] = 123L;
+		pool.releaseArray(int64Array);
+		pool.acquireInt64Array(6);
+		pool.acquireFloat64Array(5);
+		if (pool.getArrayHitCount() != 0) {
+			fail("Incorrect reuse of the array");
+		}
+		long[] reusedArray = pool.acquireInt64Array(5);
+		if (reusedArray != int64Array || reusedArray[0] != 0L || pool.getArrayHitCount() != 1) {
+			fail("Incorrect reuse of the array");
+		}
+
+		// Check other types.
+		String[] stringArray = pool.acquireStringArray(3);
+		stringArray[2] = "Hello";
+		pool.releaseArray(stringArray);
+		String[] reusedStringArray = pool.acquireStringArray(3);
+		if (reusedStringArray != stringArray || reusedStringArray[2] != null) {
+			fail("Incorrect reuse of the array");
+		}
+	}
+
+	private void testAcquireReleaseDataContainer() {
+		DataContainerPool pool = new DataContainerPool();
+		DataContainer<?> container = pool.acquireDataContainer();
+
+		// Released containers are reused after emptied.
+		container.setInt64ScalarData(1L);
+		pool.releaseDataContainer(container);
+		DataContainer<?> reusedContainer = pool.acquireDataContainer();
+		if (reusedContainer != container || reusedContainer.hasArrayData()) {
+			fail("Incorrect reuse of the data container");
+		}
+		if (pool.getDataContainerRequestCount() != 2 || pool.getDataContainerHitCount() != 1) {
+			fail("Incorrect count");
+		}
+	}
+
+	private void testDoubleRelease() {
+		DataContainerPool pool = new DataContainerPool();
+
+		// The same array released twice must not be provided for two requests.
+		boolean[] boolArray = new boolean[4];
+		pool.releaseArray(boolArray);
+		pool.releaseArray(boolArray);
+		if (pool.acquireBoolArray(4) != boolArray || pool.acquireBoolArray(4) == boolArray) {
+			fail("Incorrect reuse of the array");
+		}
+	}
+}
@@ -41,6 +41,7 @@ public class DataContainerTest {
 		this.testSetGetBoolScalarData();
 		this.testSetGetStringScalarData();
 		this.testGetDataType();
+		this.testSwap();
 	}
 
 	private void testDefaultState(DataContainer<?> container) {
@@ -402,4 +403,38 @@ public class DataContainerTest {
 		}
 	}
 
+	private void testSwap() {
+		DataContainer<long[]> containerA = new DataContainer<long[]>();
+		DataContainer<long[]> containerB = new DataContainer<long[]>();
+		long[] dataA = new long[]{ 1L, 2L, 3L, 4L, 5L, 6L };
+		long[] dataB = new long[]{ 7L };
+		containerA.setArrayData(dataA, 0, new int[]{ 2, 3 });
+		containerB.setArrayData(dataB, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR);
+
+		// Check that the data, size, offset, and lengths are exchanged.
+		containerA.swap(containerB);
+		if (containerA.getArrayData() != dataB || containerA.getArraySize() != 1 || containerA.getArrayRank() != 0) {
+			fail("Incorrect swapped data");
+		}
+		if (containerB.getArrayData() != dataA || containerB.getArraySize() != 6
+				|| !Arrays.equals(containerB.getArrayLengths(), new int[]{ 2, 3 })) {
+			fail("Incorrect swapped data");
+		}
+
+		// Check that a container referring another one is swapped with keeping the reference.
+		DataContainer<long[]> refContainer = new DataContainer<long[]>();
+		refContainer.refer(containerB);
+		refContainer.swap(containerA);
+		if (containerA.getArrayData() != dataA || containerA.getArraySize() != 6) {
+			fail("Incorrect swapped data");
+		}
+		if (refContainer.getArrayData() != dataB || refContainer.getArraySize() != 1) {
+			fail("Incorrect swapped data");
+		}
+		containerA.getArrayData()[0] = 100L;
+		if (containerB.getArrayData()[0] != 100L) {
+			fail("Incorrect reference after swap");
+		}
+	}
+
 }
@@ -6,11 +6,10 @@
 package org.vcssl.nano.vm.memory;
 
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import org.vcssl.nano.vm.VirtualMachineObjectCode;
 import org.vcssl.nano.VnanoFatalException;
@@ -24,10 +23,10 @@ import org.vcssl.nano.VnanoException;
  *
  * The architecture of the VM of the Vnano is a kind of a vector processor,
  * so the unit of this memory is an array, not a scalar.
- * This memory internally has lists of data-containers (instances of {@link DataContainer} class),
+ * This memory internally has arrays of data-containers (instances of {@link DataContainer} class),
  * and each data-container can store an array data. An unique address is assigned for each data-container.
  *
- * This memory has multiple lists of data-containers. We call them as "partitions".
+ * This memory has multiple arrays of data-containers. We call them as "partitions".
  * For example, "LOCAL" partition stores data of local variables,
  * "CONSTANT" partition stores data of constant literal values,
  * and "REGISTER" partiton stores temporary values of operations performed by processors.
@@ -59,20 +58,41 @@ public final class Memory {
 	}
 
 
-	/** The list of data-containers of the GLOBAL partition, in which data of global (external) variables are stored. */
-	private List<DataContainer<?>> globalList;
+	/** The number of elements of {@link Memory.Partition Partition} enum. */
+	private static final int PARTITION_COUNT = Partition.values().length;
 
-	/** The list of data-containers of the LOCAL partition, in which data of local (internal) variables are stored. */
-	private List<DataContainer<?>> localList;
+	/** The ordinal of the NONE partition. */
+	private static final int NONE_ORDINAL = Partition.NONE.ordinal();
 
-	/** The list of data-containers of the CONSTANT partition, in which constant values (immediate literal values and so on) are stored. */
-	private List<DataContainer<?>> constantList;
+	/** The ordinal of the STACK partition. */
+	private static final int STACK_ORDINAL = Partition.STACK.ordinal();
 
-	/** The list of data-containers of the REGISTER partition, in which temporary values of operations performed by processors are stored. */
-	private List<DataContainer<?>> registerList;
+	/** The default length of arrays of the data stack and the return address stack. */
+	private static final int DEFAULT_STACK_LENGTH = 1024;
 
-	/** The list of data-containers of the STACK partition, in which arguments and return values/addresses of function calls are stored. */
-	private Deque<DataContainer<?>> stack;
+	/** An empty array of data-containers, used as the initial content of each partition. */
+	private static final DataContainer<?>[] EMPTY_CONTAINERS = new DataContainer<?>[0];
+
+
+	/**
+	 * Arrays of data-containers of partitions, of which indices are ordinals of partitions.
+	 *
+	 * The element for the STACK partition is null, because the STACK partition is stored in {@link Memory#dataStack}.
+	 * The element for the NONE partition is also null, because {@link Memory#voidContainer} is used for any address of it.
+	 */
+	private DataContainer<?>[][] partitionContainers;
+
+	/** The array of data-containers of the STACK partition, in which arguments and return values of function calls are stored. */
+	private DataContainer<?>[] dataStack;
+
+	/** The number of data-containers stored in {@link Memory#dataStack}. */
+	private int dataStackPointer;
+
+	/** The stack of instruction addresses to which the flow will be returned from called functions. */
+	private int[] returnAddressStack;
+
+	/** The number of addresses stored in {@link Memory#returnAddressStack}. */
+	private int returnAddressStackPointer;
 
 	/** The data-container for storing the evaluation result of a script, if it exists. */
 	private DataContainer<?> resultContainer;
@@ -80,30 +100,66 @@ public final class Memory {
 	/** The empty data-container returned as a data in NONE partition, used for placeholder operands of some instructions. */
 	private DataContainer<Void> voidContainer;
 
-	/** The Map mapping each element of Partition enum to the corresponding list of data-containers. */
-	private HashMap<Partition, List<DataContainer<?>>> containerListMap;
+	/** The pool from which data-containers and data arrays are taken, or null if they are always created newly. */
+	private final DataContainerPool dataContainerPool;
 
 
 	/**
 	 * Creates an empty memory instance.
 	 */
 	public Memory() {
-		this.registerList = new ArrayList<DataContainer<?>>();
-		this.localList = new ArrayList<DataContainer<?>>();
-		this.globalList = new ArrayList<DataContainer<?>>();
-		this.constantList = new ArrayList<DataContainer<?>>();
-		this.stack = new ArrayDeque<DataContainer<?>>();
-
-		this.containerListMap = new HashMap<Partition, List<DataContainer<?>>>();
-		this.containerListMap.put(Memory.Partition.REGISTER, this.registerList);
-		this.containerListMap.put(Memory.Partition.LOCAL, this.localList);
-		this.containerListMap.put(Memory.Partition.GLOBAL, this.globalList);
-		this.containerListMap.put(Memory.Partition.CONSTANT, this.constantList);
+		this(null);
+	}
+
+
+	/**
+	 * Creates an empty memory instance, taking data-containers and data arrays from the specified pool.
+	 *
+	 * @param dataContainerPool The pool of data-containers and data arrays (or null to create them newly).
+	 */
+	public Memory(DataContainerPool dataContainerPool) {
+		this.dataContainerPool = dataContainerPool;
+		this.partitionContainers = new DataContainer<?>[PARTITION_COUNT][];
+		this.partitionContainers[Partition.GLOBAL.ordinal()] = EMPTY_CONTAINERS;
+		this.partitionContainers[Partition.LOCAL.ordinal()] = EMPTY_CONTAINERS;
+		this.partitionContainers[Partition.CONSTANT.ordinal()] = EMPTY_CONTAINERS;
+		this.partitionContainers[Partition.REGISTER.ordinal()] = EMPTY_CONTAINERS;
+
+		this.dataStack = new DataContainer<?>[DEFAULT_STACK_LENGTH];
+		this.dataStackPointer = 0;
+		this.returnAddressStack = new int[DEFAULT_STACK_LENGTH];
+		this.returnAddressStackPointer = 0;
 
 		this.voidContainer = new DataContainer<Void>();
 	}
 
 
+	/**
+	 * Gets the pool from which data-containers and data arrays are taken.
+	 *
+	 * @return The pool of data-containers and data arrays, or null if it is not set.
+	 */
+	public final DataContainerPool getDataContainerPool() {
+		return this.dataContainerPool;
+	}
+
+
+	/**
+	 * Gets the array of data-containers of the specified partition.
+	 *
+	 * @param partition The partition (other than STACK and NONE).
+	 * @return The array of data-containers of the partition.
+	 * @throws VnanoFatalException Thrown when STACK or NONE partition is specified.
+	 */
+	private final DataContainer<?>[] getPartitionContainers(Partition partition) {
+		DataContainer<?>[] containers = this.partitionContainers[partition.ordinal()];
+		if (containers == null) {
+			throw new VnanoFatalException("Unsupported operation for " + partition + " partition.");
+		}
+		return containers;
+	}
+
+
 	/**
 	 * Get the number of storable data-containers (size) of the specified partition.
 	 *
@@ -112,9 +168,9 @@ public final class Memory {
 	 */
 	public final int getSize(Memory.Partition partition) {
 		if (partition == Memory.Partition.STACK) {
-			return this.stack.size();
+			return this.dataStackPointer;
 		} else {
-			return this.containerListMap.get(partition).size();
+			return this.getPartitionContainers(partition).length;
 		}
 	}
 
@@ -128,18 +184,18 @@ public final class Memory {
 	 * @throws VnanoFatalException Thrown when the specified address is out of bounds.
 	 */
 	public final DataContainer<?> getDataContainer(Partition partition, int address) {
-		if (partition == Memory.Partition.NONE) {
+		int partitionOrdinal = partition.ordinal();
+		if (partitionOrdinal == NONE_ORDINAL) {
 			return this.voidContainer;
 		}
-		if (!containerListMap.containsKey(partition)) {
+		if (partitionOrdinal == STACK_ORDINAL) {
 			throw new VnanoFatalException("Unsupported operation for " + partition + " partition.");
 		}
-		List<DataContainer<?>> list = this.containerListMap.get(partition);
-		try {
-			return list.get(address);
-		} catch (IndexOutOfBoundsException e){
+		DataContainer<?>[] containers = this.partitionContainers[partitionOrdinal];
+		if (address < 0 || containers.length <= address) {
 			throw new VnanoFatalException("Address " + address + " is out of bounds of the " + partition + " partition.");
 		}
+		return containers[address];
 	}
 
 
@@ -151,18 +207,18 @@ public final class Memory {
 	 * @param container The data-container to be stored.
 	 */
 	public final void setDataContainer(Partition partition, int address, DataContainer<?> container) {
-		if (!containerListMap.containsKey(partition)) {
-			throw new VnanoFatalException("Unsupported operation for " + partition + " partition.");
-		}
-		List<DataContainer<?>> list = this.containerListMap.get(partition);
-		if (address < list.size()) {
-			list.set(address, container);
-		} else if (address == list.size()) {
-			list.add(container);
-		} else {
-			this.paddList(list, address-list.size());
-			list.add(container);
+		DataContainer<?>[] containers = this.getPartitionContainers(partition);
+
+		// Expand the partition to the specified address, and padd empty data-containers into the expanded area.
+		if (containers.length <= address) {
+			int currentSize = containers.length;
+			containers = Arrays.copyOf(containers, address + 1);
+			for (int paddedAddress=currentSize; paddedAddress<address; paddedAddress++) {
+				containers[paddedAddress] = new DataContainer<Object>();
+			}
+			this.partitionContainers[partition.ordinal()] = containers;
 		}
+		containers[address] = container;
 	}
 
 
@@ -174,14 +230,8 @@ public final class Memory {
 	 * @throws VnanoFatalException Thrown when the NONE partition is specified.
 	 */
 	public final void setDataContainers(Partition partition, DataContainer<?>[] containers) {
-		if (!containerListMap.containsKey(partition)) {
-			throw new VnanoFatalException("Unsupported operation for " + partition + " partition.");
-		}
-		List<DataContainer<?>> list = this.containerListMap.get(partition);
-		list.clear();
-		for (DataContainer<?> container: containers) {
-			list.add(container);
-		}
+		this.getPartitionContainers(partition); // Checks the partition.
+		this.partitionContainers[partition.ordinal()] = Arrays.copyOf(containers, containers.length);
 	}
 
 
@@ -193,25 +243,8 @@ public final class Memory {
 	 * @throws VnanoFatalException Thrown when the NONE partition is specified.
 	 */
 	public final DataContainer<?>[] getDataContainers(Memory.Partition partition) {
-		if (!containerListMap.containsKey(partition)) {
-			throw new VnanoFatalException("Unsupported operation for " + partition + " partition.");
-		}
-		List<DataContainer<?>> list = this.containerListMap.get(partition);
-		return list.toArray(new DataContainer<?>[]{});
-	}
-
-
-	/**
-	 * Padds empty data-containers into the specified list.
-	 * This method is used for initializing the register partition and so on.
-	 *
-	 * @param list The list of data-containers.
-	 * @param n The number of data-containers to be padded to the list.
-	 */
-	private final void paddList(List<DataContainer<?>> list, int n) {
-		for (int i=0; i<n; i++) {
-			list.add(new DataContainer<Object>());
-		}
+		DataContainer<?>[] containers = this.getPartitionContainers(partition);
+		return Arrays.copyOf(containers, containers.length);
 	}
 
 
@@ -221,7 +254,11 @@ public final class Memory {
 	 * @param dataContainer The data-container to be pushed.
 	 */
 	public final void push(DataContainer<?> dataContainer) {
-		this.stack.push(dataContainer);
+		if (this.dataStack.length <= this.dataStackPointer) {
+			this.dataStack = Arrays.copyOf(this.dataStack, this.dataStack.length * 2);
+		}
+		this.dataStack[this.dataStackPointer] = dataContainer;
+		this.dataStackPointer++;
 	}
 
 
@@ -229,19 +266,61 @@ public final class Memory {
 	 * Pops the data-container from the top the STACK partition.
 	 *
 	 * @return The poped data-container.
+	 * @throws VnanoFatalException Thrown when the STACK partition is empty.
 	 */
 	public final DataContainer<?> pop() {
-		return this.stack.pop();
+		if (this.dataStackPointer == 0) {
+			throw new VnanoFatalException("The STACK partition is empty.");
+		}
+		this.dataStackPointer--;
+		DataContainer<?> dataContainer = this.dataStack[this.dataStackPointer];
+		this.dataStack[this.dataStackPointer] = null; // Don't keep the reference, for releasing the data.
+		return dataContainer;
 	}
 
 
 	/**
 	 * Get the data-container at the top of the STACK partition, without popping it.
 	 *
-	 * @return The data-container at the top of the STACK partition.
+	 * @return The data-container at the top of the STACK partition, or null if the STACK partition is empty.
 	 */
 	public final DataContainer<?> peek() {
-		return this.stack.peek();
+		if (this.dataStackPointer == 0) {
+			return null;
+		}
+		return this.dataStack[this.dataStackPointer - 1];
+	}
+
+
+	/**
+	 * Push the instruction address to which the flow will be returned from the called function.
+	 *
+	 * Return addresses are stored in the stack separated from the STACK partition,
+	 * so it is not necessary to wrap them by data-containers.
+	 *
+	 * @param returnAddress The instruction address to which the flow will be returned.
+	 */
+	public final void pushReturnAddress(int returnAddress) {
+		if (this.returnAddressStack.length <= this.returnAddressStackPointer) {
+			this.returnAddressStack = Arrays.copyOf(this.returnAddressStack, this.returnAddressStack.length * 2);
+		}
+		this.returnAddressStack[this.returnAddressStackPointer] = returnAddress;
+		this.returnAddressStackPointer++;
+	}
+
+
+	/**
+	 * Pops the instruction address to which the flow should be returned from the currently running function.
+	 *
+	 * @return The instruction address to which the flow should be returned.
+	 * @throws VnanoFatalException Thrown when no return address is stored.
+	 */
+	public final int popReturnAddress() {
+		if (this.returnAddressStackPointer == 0) {
+			throw new VnanoFatalException("The return address stack is empty.");
+		}
+		this.returnAddressStackPointer--;
+		return this.returnAddressStack[this.returnAddressStackPointer];
 	}
 
 
@@ -276,7 +355,7 @@ public final class Memory {
 
 
 	/**
-	 * Allocates lists in this memory, for executing the specified VM object code.
+	 * Allocates partitions in this memory, for executing the specified VM object code.
 	 *
 	 * @param vmObjectCode The VM object code, executed with using this memory.
 	 * @param globalVariableTable The table of the global (external) variables.
@@ -286,34 +365,99 @@ public final class Memory {
 			throws VnanoException {
 
 		// Allocate REGISTER parition.
-		this.registerList.clear();
 		int maxRegisterAddress = vmObjectCode.getMaximumRegisterAddress();
+		DataContainer<?>[] registerContainers = new DataContainer<?>[maxRegisterAddress + 1];
 		for (int registerAddress=0; registerAddress<=maxRegisterAddress; registerAddress++) {
-			this.registerList.add(new DataContainer<Void>());
+			registerContainers[registerAddress] = this.createDataContainer();
 		}
+		this.partitionContainers[Partition.REGISTER.ordinal()] = registerContainers;
 
 		// Allocate LOCAL parition.
-		this.localList.clear();
 		int maxLocalAddress = vmObjectCode.getMaximumLocalAddress();
+		DataContainer<?>[] localContainers = new DataContainer<?>[maxLocalAddress + 1];
 		for (int localAddress=0; localAddress<=maxLocalAddress; localAddress++) {
-			this.localList.add(new DataContainer<Void>());
+			localContainers[localAddress] = this.createDataContainer();
 		}
+		this.partitionContainers[Partition.LOCAL.ordinal()] = localContainers;
 
 		// Allocate GLOBAL parition.
-		this.globalList.clear();
 		int globalSize = globalVariableTable.getSize();
+		DataContainer<?>[] globalContainers = new DataContainer<?>[globalSize];
 		for (int globalIndex=0; globalIndex<globalSize; globalIndex++) {
 			AbstractVariable variable = globalVariableTable.getVariableByIndex(globalIndex);
-			this.globalList.add(variable.getDataContainer());
+			globalContainers[globalIndex] = variable.getDataContainer();
 		}
+		this.partitionContainers[Partition.GLOBAL.ordinal()] = globalContainers;
 
 		// Allocate CONSTANT parition.
-		this.constantList.clear();
 		int maxConstantAddress = vmObjectCode.getMaximumConstantAddress();
 		DataContainer<?>[] constantDataContainers = vmObjectCode.getConstantDataContainers();
-		for (int constantAddress=0; constantAddress<=maxConstantAddress; constantAddress++) {
-			this.constantList.add(constantDataContainers[constantAddress]);
+		this.partitionContainers[Partition.CONSTANT.ordinal()] = Arrays.copyOf(constantDataContainers, maxConstantAddress + 1);
+
+		// Empty the STACK partition and the return address stack,
+		// which may not be empty if the previous execution on this memory has been aborted by an error.
+		Arrays.fill(this.dataStack, 0, this.dataStackPointer, null);
+		this.dataStackPointer = 0;
+		this.returnAddressStackPointer = 0;
+	}
+
+
+	/**
+	 * Creates an empty data-container, taking it from the pool if it is set.
+	 *
+	 * @return The empty data-container.
+	 */
+	private DataContainer<?> createDataContainer() {
+		return (this.dataContainerPool != null) ? this.dataContainerPool.acquireDataContainer() : new DataContainer<Void>();
+	}
+
+
+	/**
+	 * Returns data-containers in REGISTER and LOCAL partitions and their data arrays to the pool,
+	 * and empties all partitions. If the pool is not set, this method only empties partitions.
+	 *
+	 * Data arrays shared with data-containers which may be used after this method
+	 * (data in GLOBAL and CONSTANT partitions, and the evaluation result) are not returned.
+	 * This method must be called only when the code executed on this memory will never be executed on it again,
+	 * because resources depending on data-containers in this memory (e.g.: nodes of the accelerator) become invalid.
+	 */
+	public final void release() {
+		if (this.dataContainerPool != null) {
+
+			// Collect arrays which must not be returned, because they may be used after this method.
+			Set<Object> retainedArraySet = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+			for (Partition partition: new Partition[] { Partition.GLOBAL, Partition.CONSTANT }) {
+				for (DataContainer<?> container: this.partitionContainers[partition.ordinal()]) {
+					if (container != null && container.hasArrayData()) {
+						retainedArraySet.add(container.getArrayData());
+					}
+				}
+			}
+			if (this.resultContainer != null && this.resultContainer.hasArrayData()) {
+				retainedArraySet.add(this.resultContainer.getArrayData());
+			}
+
+			// Return arrays and data-containers. Each array is returned only once, even if it is shared by multiple containers.
+			for (Partition partition: new Partition[] { Partition.REGISTER, Partition.LOCAL }) {
+				for (DataContainer<?> container: this.partitionContainers[partition.ordinal()]) {
+					if (container.hasArrayData() && retainedArraySet.add(container.getArrayData())) {
+						this.dataContainerPool.releaseArray(container.getArrayData());
+					}
+					if (container != this.resultContainer) {
+						this.dataContainerPool.releaseDataContainer(container);
+					}
+				}
+			}
 		}
+
+		this.partitionContainers[Partition.GLOBAL.ordinal()] = EMPTY_CONTAINERS;
+		this.partitionContainers[Partition.LOCAL.ordinal()] = EMPTY_CONTAINERS;
+		this.partitionContainers[Partition.CONSTANT.ordinal()] = EMPTY_CONTAINERS;
+		this.partitionContainers[Partition.REGISTER.ordinal()] = EMPTY_CONTAINERS;
+		Arrays.fill(this.dataStack, 0, this.dataStackPointer, null);
+		this.dataStackPointer = 0;
+		this.returnAddressStackPointer = 0;
+		this.resultContainer = null;
 	}
 
 
@@ -350,7 +494,7 @@ public final class Memory {
 			@SuppressWarnings("unchecked")
 			DataContainer<Object> varDataContainer = (DataContainer<Object>)variable.getDataContainer();
 			@SuppressWarnings("unchecked")
-			DataContainer<Object> memDataContainer = (DataContainer<Object>)this.globalList.get(globalIndex);
+			DataContainer<Object> memDataContainer = (DataContainer<Object>)this.partitionContainers[Partition.GLOBAL.ordinal()][globalIndex];
 
 			// Copy data, without swapping the instance.
 			memDataContainer.setArrayData(
@@ -0,0 +1,538 @@
+/*
+ * Copyright(C) 2026 RINEARN
+ * This software is released under the MIT License.
+ */
+
+package org.vcssl.nano.vm.processor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.vcssl.nano.VnanoFatalException;
+import org.vcssl.nano.spec.OperationCode;
+import org.vcssl.nano.vm.memory.DataContainer;
+import org.vcssl.nano.vm.memory.Memory;
+
+
+/**
+ * The class managing stack frames of recursive functions.
+ *
+ * In the VM of the Vnano, local variables and registers used in a function are stored at fixed addresses in the memory,
+ * and instructions of the function access them directly. It is fast, but the same function can not be running
+ * multiple times at once by itself.
+ * So this class detects functions which may be called recursively (directly, or through other functions),
+ * by scanning the code. When such function is called while it is already running,
+ * data of its local variables and registers (we call them as a "frame") are saved to a pooled frame,
+ * and they are restored when the function returns.
+ *
+ * Data containers in the memory are not replaced when a frame is saved/restored.
+ * Instead, their states are exchanged with data containers of the pooled frame
+ * (see: {@link org.vcssl.nano.vm.memory.DataContainer#swap(DataContainer) DataContainer.swap}),
+ * so caches of data containers held by processing units remain valid.
+ * A pooled frame is allocated at the first time when the recursion reaches its depth, and reused after that.
+ *
+ * Functions which are never called recursively have no frames,
+ * so calls of them are processed in the same way as before, without any additional costs.
+ */
+public final class CallFrameUnit {
+
+	/** The number of partitions of the memory. */
+	private static final int PARTITION_COUNT = Memory.Partition.values().length;
+
+	/** The default number of frames of each function, allocated when it is called recursively at first. */
+	private static final int DEFAULT_FRAME_POOL_LENGTH = 16;
+
+
+	/**
+	 * The class of the pool of frames of a recursive function.
+	 */
+	public static final class FramePool {
+
+		/** Data containers in the memory, of local variables and registers used in the function. */
+		private final DataContainer<?>[] liveContainers;
+
+		/** The table to get the index of a data container in a frame, from [partition][address] (-1 if it is not in a frame). */
+		private final int[][] slotIndices;
+
+		/** Saved frames, of which indices correspond with depths of the recursion (the outermost call is 0). */
+		private DataContainer<?>[][] savedFrames;
+
+		/** Data containers to pass return values to callers, of which indices correspond with depths of the recursion. */
+		private DataContainer<?>[] returnValueContainers;
+
+		/** The number of the currently running calls of the function. */
+		private int depth;
+
+
+		/**
+		 * Creates a new pool of frames storing specified data containers.
+		 *
+		 * @param liveContainers Data containers in the memory, of local variables and registers used in the function.
+		 * @param slotIndices The table to get the index of a data container in a frame, from [partition][address].
+		 */
+		private FramePool(DataContainer<?>[] liveContainers, int[][] slotIndices) {
+			this.liveContainers = liveContainers;
+			this.slotIndices = slotIndices;
+			this.savedFrames = new DataContainer<?>[DEFAULT_FRAME_POOL_LENGTH][];
+			this.returnValueContainers = new DataContainer<?>[DEFAULT_FRAME_POOL_LENGTH];
+			this.depth = 0;
+		}
+
+
+		/**
+		 * Gets the index of the specified data in a frame of the function.
+		 *
+		 * @param partition The partition of the data.
+		 * @param address The address of the data.
+		 * @return The index in a frame (-1 if the specified data is not a local data of the function).
+		 */
+		public final int getSlotIndex(Memory.Partition partition, int address) {
+			int[] partitionSlotIndices = this.slotIndices[ partition.ordinal() ];
+			return (address < partitionSlotIndices.length) ? partitionSlotIndices[address] : -1;
+		}
+
+
+		/**
+		 * Processes the beginning of a call of the function.
+		 * If the function is already running, current data of its frame are saved to the pooled frame.
+		 */
+		public final void enter() {
+			if (this.depth != 0) {
+				DataContainer<?>[] frame = this.getFrame(this.depth - 1);
+				int frameLength = frame.length;
+				for (int slotIndex=0; slotIndex<frameLength; slotIndex++) {
+					this.liveContainers[slotIndex].swap(frame[slotIndex]);
+				}
+			}
+			this.depth++;
+		}
+
+
+		/**
+		 * Gets the data container storing the value of an argument passed to the function,
+		 * after calling {@link FramePool#enter() enter()}.
+		 *
+		 * If the argument is a local data of the function and it has been saved to the pooled frame,
+		 * the data container of the pooled frame will be returned.
+		 * Otherwise, the specified data container will be returned as it is.
+		 *
+		 * @param argumentContainer The data container specified as the argument.
+		 * @param slotIndex The index in a frame of the argument (-1 if it is not a local data of the function).
+		 * @return The data container storing the value of the argument.
+		 */
+		public final DataContainer<?> getArgumentContainer(DataContainer<?> argumentContainer, int slotIndex) {
+			if (slotIndex < 0 || this.depth < 2) {
+				return argumentContainer;
+			}
+			return this.savedFrames[this.depth - 2][slotIndex];
+		}
+
+
+		/**
+		 * Processes the end of a call of the function, and returns the data container of the return value.
+		 * If the returned call is a recursive call, data of the frame of the caller are restored from the pooled frame.
+		 *
+		 * @param returnValueContainer The data container of the return value (null for void functions).
+		 * @param slotIndex The index in a frame of the return value (-1 if it is not a local data of the function).
+		 * @return The data container storing the return value, which should be passed to the caller.
+		 */
+		public final DataContainer<?> leave(DataContainer<?> returnValueContainer, int slotIndex) {
+			this.depth--;
+			if (this.depth == 0) {
+				return returnValueContainer;
+			}
+
+			// The data container of the return value will be overwritten by restoring the frame of the caller,
+			// so pass the data of it through the other data container.
+			// (The data itself is not copied, because it is read by the caller immediately after returned.
+			//  Also, references are resolved here, because referred data also might be overwritten by restoring frames.)
+			DataContainer<?> passedContainer = returnValueContainer;
+			if (0 <= slotIndex) {
+				@SuppressWarnings("unchecked")
+				DataContainer<Object> returnedContainer = (DataContainer<Object>)this.returnValueContainers[this.depth - 1];
+				returnedContainer.setArrayData(
+					returnValueContainer.getArrayData(), returnValueContainer.getArrayOffset(), returnValueContainer.getArrayLengths()
+				);
+				passedContainer = returnedContainer;
+			}
+
+			// Restore the frame of the caller. References in the pooled frame are cancelled,
+			// for preventing data of them from being changed by restoring other frames referred by them.
+			DataContainer<?>[] frame = this.savedFrames[this.depth - 1];
+			int frameLength = frame.length;
+			for (int frameSlotIndex=0; frameSlotIndex<frameLength; frameSlotIndex++) {
+				this.liveContainers[frameSlotIndex].swap(frame[frameSlotIndex]);
+				frame[frameSlotIndex].derefer();
+			}
+			return passedContainer;
+		}
+
+
+		/**
+		 * Gets the pooled frame at the specified depth, with allocating it if it has not been allocated yet.
+		 *
+		 * @param frameDepth The depth of the recursion.
+		 * @return The pooled frame.
+		 */
+		private DataContainer<?>[] getFrame(int frameDepth) {
+			if (this.savedFrames.length <= frameDepth) {
+				this.savedFrames = Arrays.copyOf(this.savedFrames, this.savedFrames.length * 2);
+				this.returnValueContainers = Arrays.copyOf(this.returnValueContainers, this.returnValueContainers.length * 2);
+			}
+			if (this.savedFrames[frameDepth] != null) {
+				return this.savedFrames[frameDepth];
+			}
+
+			// Data containers of a new frame are allocated as same as current ones, if they are scalars.
+			// It is necessary because some optimizations move allocations of scalars out of functions.
+			int frameLength = this.liveContainers.length;
+			DataContainer<?>[] frame = new DataContainer<?>[frameLength];
+			for (int slotIndex=0; slotIndex<frameLength; slotIndex++) {
+				frame[slotIndex] = this.allocateScalarLike(this.liveContainers[slotIndex]);
+			}
+			this.savedFrames[frameDepth] = frame;
+			this.returnValueContainers[frameDepth] = new DataContainer<Object>();
+			return frame;
+		}
+
+
+		/**
+		 * Creates a new data container storing a copy of the specified data container, if it stores a scalar.
+		 *
+		 * @param container The data container to be copied.
+		 * @return The created data container (empty if the specified data container does not store a scalar).
+		 */
+		private DataContainer<?> allocateScalarLike(DataContainer<?> container) {
+			DataContainer<Object> allocatedContainer = new DataContainer<Object>();
+			if (!container.hasArrayData() || container.getArrayRank() != DataContainer.ARRAY_RANK_OF_SCALAR) {
+				return allocatedContainer;
+			}
+			Object data = container.getArrayData();
+			int offset = container.getArrayOffset();
+			Object copiedData = null;
+			if (data instanceof long[]) {
+				copiedData = new long[] { ((long[])data)[offset] };
+			} else if (data instanceof double[]) {
+				copiedData = new double[] { ((double[])data)[offset] };
+			} else if (data instanceof boolean[]) {
+				copiedData = new boolean[] { ((boolean[])data)[offset] };
+			} else if (data instanceof String[]) {
+				copiedData = new String[] { ((String[])data)[offset] };
+			} else {
+				return allocatedContainer;
+			}
+			allocatedContainer.setArrayData(copiedData, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR);
+			return allocatedContainer;
+		}
+	}
+
+
+	/** Pools of frames, of which indices correspond with instruction addresses of heads of functions (null for non-recursive functions). */
+	private final FramePool[] framePools;
+
+	/** The flags representing whether data at [partition][address] is in a frame of any recursive function. */
+	private final boolean[][] frameDataFlags;
+
+	/** The flag representing whether the code has any recursive function. */
+	private final boolean recursiveFunctionExists;
+
+
+	/**
+	 * Creates a new unit by analyzing the specified code.
+	 *
+	 * @param instructions The code to be processed.
+	 * @param memory The memory allocated for processing the code.
+	 */
+	public CallFrameUnit(Instruction[] instructions, Memory memory) {
+		int instructionLength = instructions.length;
+		this.framePools = new FramePool[instructionLength];
+		this.frameDataFlags = new boolean[PARTITION_COUNT][];
+		for (Memory.Partition partition: Memory.Partition.values()) {
+			this.frameDataFlags[ partition.ordinal() ] = new boolean[ isFramePartition(partition) ? memory.getSize(partition) : 0 ];
+		}
+
+		// Detect heads of functions from operands of CALL instructions, and the end (ENDFUN instruction) of each function.
+		// Then, mark which function each instruction belongs to (-1 for instructions out of functions).
+		int[] functionOfInstructions = new int[instructionLength];
+		Arrays.fill(functionOfInstructions, -1);
+		List<Integer> functionAddressList = new ArrayList<Integer>();
+		for (Instruction instruction: instructions) {
+			if (instruction.getOperationCode() != OperationCode.CALL) {
+				continue;
+			}
+			int functionAddress = getCalleeFunctionAddress(instruction, memory);
+			if (functionOfInstructions[functionAddress] == functionAddress) {
+				continue;
+			}
+			functionAddressList.add(functionAddress);
+			for (int address=functionAddress; address<instructionLength; address++) {
+				functionOfInstructions[address] = functionAddress;
+				if (instructions[address].getOperationCode() == OperationCode.ENDFUN) {
+					break;
+				}
+			}
+		}
+
+		// If the code calls no functions, no further analysis is required.
+		if (functionAddressList.isEmpty()) {
+			this.recursiveFunctionExists = false;
+			return;
+		}
+
+		// List functions called from each function.
+		List<List<Integer>> calleeLists = new ArrayList<List<Integer>>();
+		for (int functionAddress=0; functionAddress<instructionLength; functionAddress++) {
+			calleeLists.add(null);
+		}
+		for (int functionAddress: functionAddressList) {
+			calleeLists.set(functionAddress, new ArrayList<Integer>());
+		}
+		for (int address=0; address<instructionLength; address++) {
+			if (functionOfInstructions[address] != -1 && instructions[address].getOperationCode() == OperationCode.CALL) {
+				calleeLists.get( functionOfInstructions[address] ).add( getCalleeFunctionAddress(instructions[address], memory) );
+			}
+		}
+
+		// Local variables used out of functions are global for functions, so they should not be included in frames.
+		boolean[] outOfFunctionLocalFlags = new boolean[ memory.getSize(Memory.Partition.LOCAL) ];
+		for (int address=0; address<instructionLength; address++) {
+			if (functionOfInstructions[address] != -1) {
+				continue;
+			}
+			Memory.Partition[] partitions = instructions[address].getOperandPartitions();
+			int[] addresses = instructions[address].getOperandAddresses();
+			for (int operandIndex=0; operandIndex<partitions.length; operandIndex++) {
+				if (partitions[operandIndex] == Memory.Partition.LOCAL) {
+					outOfFunctionLocalFlags[ addresses[operandIndex] ] = true;
+				}
+			}
+		}
+
+		// Create pools of frames for recursive functions.
+		boolean[] recursiveFlags = detectRecursiveFunctions(functionAddressList, calleeLists, instructionLength);
+		boolean recursiveFunctionExists = false;
+		for (int functionAddress: functionAddressList) {
+			if (!recursiveFlags[functionAddress]) {
+				continue;
+			}
+			recursiveFunctionExists = true;
+			this.framePools[functionAddress] = this.createFramePool(
+				functionAddress, instructions, memory, functionOfInstructions, outOfFunctionLocalFlags
+			);
+		}
+		this.recursiveFunctionExists = recursiveFunctionExists;
+	}
+
+
+	/**
+	 * Creates the pool of frames of the specified function.
+	 *
+	 * @param functionAddress The instruction address of the head of the function.
+	 * @param instructions The code to be processed.
+	 * @param memory The memory allocated for processing the code.
+	 * @param functionOfInstructions Addresses of functions to which instructions belong.
+	 * @param outOfFunctionLocalFlags The flags representing whether each local variable is used out of functions.
+	 * @return The created pool of frames.
+	 */
+	private FramePool createFramePool(int functionAddress, Instruction[] instructions, Memory memory,
+			int[] functionOfInstructions, boolean[] outOfFunctionLocalFlags) {
+
+		int[][] slotIndices = new int[PARTITION_COUNT][];
+		for (Memory.Partition partition: Memory.Partition.values()) {
+			slotIndices[ partition.ordinal() ] = new int[ isFramePartition(partition) ? memory.getSize(partition) : 0 ];
+			Arrays.fill(slotIndices[ partition.ordinal() ], -1);
+		}
+
+		List<DataContainer<?>> liveContainerList = new ArrayList<DataContainer<?>>();
+		for (int address=functionAddress; address<instructions.length && functionOfInstructions[address]==functionAddress; address++) {
+			Memory.Partition[] partitions = instructions[address].getOperandPartitions();
+			int[] addresses = instructions[address].getOperandAddresses();
+			for (int operandIndex=0; operandIndex<partitions.length; operandIndex++) {
+				Memory.Partition partition = partitions[operandIndex];
+				int dataAddress = addresses[operandIndex];
+				if (!isFramePartition(partition)
+						|| slotIndices[ partition.ordinal() ][ dataAddress ] != -1
+						|| (partition == Memory.Partition.LOCAL && outOfFunctionLocalFlags[dataAddress])) {
+					continue;
+				}
+				slotIndices[ partition.ordinal() ][ dataAddress ] = liveContainerList.size();
+				liveContainerList.add(memory.getDataContainer(partition, dataAddress));
+				this.frameDataFlags[ partition.ordinal() ][ dataAddress ] = true;
+			}
+		}
+		return new FramePool(liveContainerList.toArray(new DataContainer<?>[0]), slotIndices);
+	}
+
+
+	/**
+	 * Detects functions which may be called recursively, by finding cycles in the graph of function calls.
+	 *
+	 * Strongly connected components of the graph are found by a single pass of Tarjan's algorithm
+	 * (implemented without recursive calls, for deeply nested calls in the code).
+	 * Functions in a component consisting of multiple functions, or calling themselves directly, are recursive.
+	 *
+	 * @param functionAddressList Instruction addresses of heads of functions.
+	 * @param calleeLists Lists of functions called from functions.
+	 * @param instructionLength The number of instructions.
+	 * @return Flags representing whether functions may be called recursively, of which indices correspond with addresses of functions.
+	 */
+	private static boolean[] detectRecursiveFunctions(
+			List<Integer> functionAddressList, List<List<Integer>> calleeLists, int instructionLength) {
+
+		boolean[] recursiveFlags = new boolean[instructionLength];
+		int[] visitOrders = new int[instructionLength];
+		int[] lowLinks = new int[instructionLength];
+		int[] calleeCursors = new int[instructionLength];
+		boolean[] onComponentStack = new boolean[instructionLength];
+		Arrays.fill(visitOrders, -1);
+
+		int functionCount = functionAddressList.size();
+		int[] componentStack = new int[functionCount];
+		int[] callStack = new int[functionCount];
+		int componentStackTop = 0;
+		int callStackTop = 0;
+		int nextVisitOrder = 0;
+
+		for (int rootAddress: functionAddressList) {
+			if (visitOrders[rootAddress] != -1) {
+				continue;
+			}
+			visitOrders[rootAddress] = lowLinks[rootAddress] = nextVisitOrder++;
+			componentStack[componentStackTop++] = rootAddress;
+			onComponentStack[rootAddress] = true;
+			callStack[callStackTop++] = rootAddress;
+
+			while (callStackTop != 0) {
+				int functionAddress = callStack[callStackTop - 1];
+				List<Integer> calleeList = calleeLists.get(functionAddress);
+
+				// Visit the next function called from the current function.
+				if (calleeCursors[functionAddress] < calleeList.size()) {
+					int calleeAddress = calleeList.get(calleeCursors[functionAddress]++);
+					if (calleeAddress == functionAddress) {
+						recursiveFlags[functionAddress] = true;
+					}
+					if (visitOrders[calleeAddress] == -1) {
+						visitOrders[calleeAddress] = lowLinks[calleeAddress] = nextVisitOrder++;
+						componentStack[componentStackTop++] = calleeAddress;
+						onComponentStack[calleeAddress] = true;
+						callStack[callStackTop++] = calleeAddress;
+					} else if (onComponentStack[calleeAddress]) {
+						lowLinks[functionAddress] = Math.min(lowLinks[functionAddress], visitOrders[calleeAddress]);
+					}
+					continue;
+				}
+
+				// All callees have been visited, so return to the caller.
+				callStackTop--;
+				if (callStackTop != 0) {
+					int callerAddress = callStack[callStackTop - 1];
+					lowLinks[callerAddress] = Math.min(lowLinks[callerAddress], lowLinks[functionAddress]);
+				}
+
+				// If the current function is the root of a component, pop functions in the component.
+				if (lowLinks[functionAddress] == visitOrders[functionAddress]) {
+					int componentBottom = componentStackTop - 1;
+					while (componentStack[componentBottom] != functionAddress) {
+						componentBottom--;
+					}
+					boolean isCyclic = (componentStackTop - componentBottom) != 1 || recursiveFlags[functionAddress];
+					for (int stackIndex=componentBottom; stackIndex<componentStackTop; stackIndex++) {
+						onComponentStack[ componentStack[stackIndex] ] = false;
+						recursiveFlags[ componentStack[stackIndex] ] = isCyclic;
+					}
+					componentStackTop = componentBottom;
+				}
+			}
+		}
+		return recursiveFlags;
+	}
+
+
+	/**
+	 * Checks whether data in the specified partition can be included in frames.
+	 *
+	 * @param partition The partition to be checked.
+	 * @return Returns true if data in the partition can be included in frames.
+	 */
+	private static boolean isFramePartition(Memory.Partition partition) {
+		return partition == Memory.Partition.LOCAL || partition == Memory.Partition.REGISTER;
+	}
+
+
+	/**
+	 * Gets the instruction address of the head of the function called by the specified CALL instruction.
+	 *
+	 * @param instruction The CALL instruction.
+	 * @param memory The memory allocated for processing the code.
+	 * @return The instruction address of the head of the called function.
+	 */
+	private static int getCalleeFunctionAddress(Instruction instruction, Memory memory) {
+		DataContainer<?> functionAddressContainer = memory.getDataContainer(
+			instruction.getOperandPartitions()[1], instruction.getOperandAddresses()[1]
+		);
+		if (!(functionAddressContainer.getArrayData() instanceof long[])) {
+			throw new VnanoFatalException("Unexpected data type of the function address detected.");
+		}
+		return (int)( (long[])functionAddressContainer.getArrayData() )[0];
+	}
+
+
+	/**
+	 * Gets the pool of frames of the specified function.
+	 *
+	 * @param functionAddress The instruction address of the head of the function (before reordered by optimizations).
+	 * @return The pool of frames (null if the function is not called recursively).
+	 */
+	public final FramePool getFramePool(int functionAddress) {
+		return this.framePools[functionAddress];
+	}
+
+
+	/**
+	 * Checks whether the specified function may be called recursively.
+	 *
+	 * @param functionAddress The instruction address of the head of the function (before reordered by optimizations).
+	 * @return Returns true if the function may be called recursively.
+	 */
+	public final boolean isRecursiveFunction(int functionAddress) {
+		return this.framePools[functionAddress] != null;
+	}
+
+
+	/**
+	 * Checks whether the code has any function which may be called recursively.
+	 *
+	 * @return Returns true if the code has any recursive function.
+	 */
+	public final boolean hasRecursiveFunctions() {
+		return this.recursiveFunctionExists;
+	}
+
+
+	/**
+	 * Checks whether the specified data is saved/restored as a part of frames of recursive functions.
+	 *
+	 * @param partition The partition of the data.
+	 * @param address The address of the data.
+	 * @return Returns true if the specified data is in a frame.
+	 */
+	public final boolean isFrameData(Memory.Partition partition, int address) {
+		boolean[] partitionFrameDataFlags = this.frameDataFlags[ partition.ordinal() ];
+		return address < partitionFrameDataFlags.length && partitionFrameDataFlags[address];
+	}
+
+
+	/**
+	 * Resets states of all pools of frames, for processing the code again from the beginning
+	 * (e.g.: after the last processing has been interrupted by an error).
+	 */
+	public final void reset() {
+		for (FramePool framePool: this.framePools) {
+			if (framePool != null) {
+				framePool.depth = 0;
+			}
+		}
+	}
+}
@@ -13,6 +13,7 @@ import org.vcssl.nano.spec.DataType;
 import org.vcssl.nano.spec.ErrorType;
 import org.vcssl.nano.spec.OperationCode;
 import org.vcssl.nano.vm.memory.DataContainer;
+import org.vcssl.nano.vm.memory.DataContainerPool;
 import org.vcssl.nano.vm.memory.Memory;
 
 
@@ -35,21 +36,47 @@ public class DispatchUnit {
 	 * @param memory The memory to/from which data will be written/read.
 	 * @param interconnect The interconnect having external variables/functions.
 	 * @param executionUnit The execution unit to execute the instruction.s
-	 * @param functionRunningFlags The flags representing whether each function is being processed
-	 *           (might be modified by the execution of the instruction).
+	 * @param callFrameUnit The unit managing frames of recursive functions, used by CALL and RET instructions
+	 *           (states of it might be modified by the execution of the instruction; null if the code has no recursive functions).
 	 * @param programCounter The value of the program cunter just before execution of the specified instruction.
 	 * @return The value of the program cunter just after execution of the specified instruction.
 	 * @throws VnanoException Thrown when an incorrect/unsupported instruction is specified, or when any run-time error has occurred.
 	 */
 	public final int dispatch(Instruction instruction, Memory memory, Interconnect interconnect,
-			ExecutionUnit executionUnit, boolean[] functionRunningFlags, int programCounter)
+			ExecutionUnit executionUnit, CallFrameUnit callFrameUnit, int programCounter)
+					throws VnanoException {
+
+		// Load data containers of operands from the memory, and dispatch the instruction with them.
+		DataContainer<?>[] operands = this.loadOperandData(instruction, memory);
+		return this.dispatch(instruction, operands, memory, interconnect, executionUnit, callFrameUnit, programCounter);
+	}
+
+
+	/**
+	 * Dispatches the specified instruction to the execution unit, to execute it,
+	 * with data containers of operands which have been loaded from the memory in advance.
+	 *
+	 * Data containers stored in the memory are not replaced during the execution of instructions,
+	 * so operands loaded once by {@link DispatchUnit#loadOperandData(Instruction, Memory) loadOperandData}
+	 * can be reused for executing the same instruction repeatedly.
+	 *
+	 * @param instruction The instruction to be dispatched to the execution unit (to be executed).
+	 * @param operands Data containers of operands of the instruction, loaded from the memory.
+	 * @param memory The memory to/from which data will be written/read.
+	 * @param interconnect The interconnect having external variables/functions.
+	 * @param executionUnit The execution unit to execute the instruction.s
+	 * @param callFrameUnit The unit managing frames of recursive functions, used by CALL and RET instructions
+	 *           (states of it might be modified by the execution of the instruction; null if the code has no recursive functions).
+	 * @param programCounter The value of the program cunter just before execution of the specified instruction.
+	 * @return The value of the program cunter just after execution of the specified instruction.
+	 * @throws VnanoException Thrown when an incorrect/unsupported instruction is specified, or when any run-time error has occurred.
+	 */
+	public final int dispatch(Instruction instruction, DataContainer<?>[] operands, Memory memory, Interconnect interconnect,
+			ExecutionUnit executionUnit, CallFrameUnit callFrameUnit, int programCounter)
 					throws VnanoException {
 
 		OperationCode opcode = instruction.getOperationCode();
 		DataType[] dataTypes = instruction.getDataTypes();
-
-		// Load data containers of operands from the memory.
-		DataContainer<?>[] operands = this.loadOperandData(instruction, memory);
 		int operandLength = operands.length;
 
 		// Dispatch to the execution unit, and execute.
@@ -175,6 +202,12 @@ public class DispatchUnit {
 			}
 			case FREE : {
 				this.checkNumberOfOperands(instruction, 1);
+
+				// Return the data array to the pool, if it is owned by the freed data container (not a reference to other one).
+				DataContainerPool dataContainerPool = memory.getDataContainerPool();
+				if (dataContainerPool != null && operands[0].hasArrayData() && !operands[0].isReference()) {
+					dataContainerPool.releaseArray(operands[0].getArrayData());
+				}
 				operands[0].initialize();
 				return programCounter + 1;
 			}
@@ -290,26 +323,31 @@ public class DispatchUnit {
 
 			case CALL : {
 
-				// Push the instruction address to which the flow will be returned (the next of the current instruction) to the stack.
-				int returnAddress = programCounter + 1;
-				DataContainer<long[]> returnAddressContainer = new DataContainer<long[]>();
-				returnAddressContainer.setArrayData(new long[] { returnAddress }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR);
-				memory.push(returnAddressContainer);
-
-				// Push arguments to the stack.
-				for (int operandIndex=2; operandIndex<operandLength; operandIndex++) {
-					memory.push(operands[operandIndex]);
-				}
+				// Push the instruction address to which the flow will be returned (the next of the current instruction)
+				// to the return address stack, which is separated from the data stack (STACK partition).
+				memory.pushReturnAddress(programCounter + 1);
 
 				// Get the instruction address of the top of the function's code, which is specified as the operands[1].
 				int functionAddress = (int)( (long[])operands[1].getArrayData() )[0];
 
-				// If the specified function is being processd: Error.
-				// (Because this interpreter does not support recursive calls of functions.)
-				if(functionRunningFlags[functionAddress]) {
-					throw new VnanoException(ErrorType.RECURSIVE_FUNCTION_CALL);
+				// If the function may be called recursively, save the frame of it if it is running,
+				// and push arguments to the stack. Arguments in the saved frame are pushed from the saved data.
+				CallFrameUnit.FramePool framePool = (callFrameUnit != null) ? callFrameUnit.getFramePool(functionAddress) : null;
+				if (framePool != null) {
+					framePool.enter();
+					Memory.Partition[] operandPartitions = instruction.getOperandPartitions();
+					int[] operandAddresses = instruction.getOperandAddresses();
+					for (int operandIndex=2; operandIndex<operandLength; operandIndex++) {
+						int slotIndex = framePool.getSlotIndex(operandPartitions[operandIndex], operandAddresses[operandIndex]);
+						memory.push(framePool.getArgumentContainer(operands[operandIndex], slotIndex));
+					}
+
+				// Otherwise, simply push arguments to the stack.
+				} else {
+					for (int operandIndex=2; operandIndex<operandLength; operandIndex++) {
+						memory.push(operands[operandIndex]);
+					}
 				}
-				functionRunningFlags[functionAddress] = true;
 
 				// The next instruction is the top of the function's code.
 				return functionAddress;
@@ -317,23 +355,30 @@ public class DispatchUnit {
 
 			case RET : {
 
-				// Pops the instruction address to which the processing flow should return, from the stack.
-				DataContainer<?> returnAddressContainer = memory.pop();
-				int returnAddress = (int)( (long[])returnAddressContainer.getArrayData() )[0];
+				// Pops the instruction address to which the processing flow should return, from the return address stack.
+				int returnAddress = memory.popReturnAddress();
+
+				// If the function may be called recursively, restore the frame of the caller if it is a recursive call.
+				int functionAddress = (int)( (long[])operands[1].getArrayData() )[0];
+				CallFrameUnit.FramePool framePool = (callFrameUnit != null) ? callFrameUnit.getFramePool(functionAddress) : null;
 
 				// If the instruction has no return value, push an empty data container to the stack.
+				// (It is popped and discarded by the caller-side, so push the empty container of the NONE partition, without allocating a new one.)
 				if (operands.length <= 2) { // operands[0] is a placeholder, operands[1] is the address.
-					memory.push(new DataContainer<Void>());
+					if (framePool != null) {
+						framePool.leave(null, -1);
+					}
+					memory.push(memory.getDataContainer(Memory.Partition.NONE, 0));
 
 				// If the instruction has a return value, push it to the stack.
+				// (When the frame of the caller is restored, the return value is moved to the container managed by the frame pool.)
+				} else if (framePool != null) {
+					int slotIndex = framePool.getSlotIndex(instruction.getOperandPartitions()[2], instruction.getOperandAddresses()[2]);
+					memory.push(framePool.leave(operands[2], slotIndex));
 				} else {
 					memory.push(operands[2]); // operands[2] is the return value.
 				}
 
-				// Turn off the flag representing the function is being processed.
-				int functionAddress = (int)( (long[])operands[1].getArrayData() )[0];
-				functionRunningFlags[functionAddress] = false;
-
 				// Go to the return address, which is the next of the CALL instruction.
 				return returnAddress;
 			}
@@ -355,13 +400,8 @@ public class DispatchUnit {
 			case END : {
 
 				// If the evaluation result value is specified as an operand, store it to the memory.
+				// (The container of the operand is stored as it is, and it is read by the caller-side before it is released.)
 				if (operandLength == 2) {
-
-					// Depends on its partition, data container may be going to released when the execution of script has end,
-					// so copy the content of the data container, not reference of it..
-					DataContainer<?> result = new DataContainer<Object>();
-					executionUnit.allocSameLengths(dataTypes[0], result, operands[1]);
-					executionUnit.mov(dataTypes[0], result, operands[1]);
 					memory.setResultDataContainer(operands[1]);
 				}
 
@@ -383,6 +423,117 @@ public class DispatchUnit {
 	}
 
 
+	/**
+	 * Checks whether the specified instruction can be executed by
+	 * {@link DispatchUnit#dispatchScalar(Instruction, DataContainer[], ExecutionUnit, int) dispatchScalar},
+	 * which is the faster path specialized for instructions of which all operands are scalars.
+	 *
+	 * It is supported for arithmetic and comparison instructions of int/float scalars,
+	 * NOT and EQ/NEQ instructions of bool scalars, and MOV instructions of scalars of all types.
+	 * Operands are checked on their current data in containers,
+	 * so call this method after operands have been allocated (e.g.: just before the first execution of the instruction).
+	 *
+	 * @param instruction The instruction to be checked.
+	 * @param operands Data containers of operands of the instruction, loaded from the memory.
+	 * @return Returns true if the instruction can be executed by dispatchScalar.
+	 */
+	public final boolean isScalarDispatchable(Instruction instruction, DataContainer<?>[] operands) {
+		DataType type = instruction.getDataTypes()[0];
+		DataType outputType = type;
+		int expectedOperandLength = 3;
+
+		switch (instruction.getOperationCode()) {
+			case ADD :
+			case SUB :
+			case MUL :
+			case DIV :
+			case REM : {
+				if (type != DataType.INT64 && type != DataType.FLOAT64) {
+					return false;
+				}
+				break;
+			}
+			case NEG : {
+				if (type != DataType.INT64 && type != DataType.FLOAT64) {
+					return false;
+				}
+				expectedOperandLength = 2;
+				break;
+			}
+			case GEQ :
+			case LEQ :
+			case GT :
+			case LT : {
+				if (type != DataType.INT64 && type != DataType.FLOAT64) {
+					return false;
+				}
+				outputType = DataType.BOOL;
+				break;
+			}
+			case EQ :
+			case NEQ : {
+				if (type != DataType.INT64 && type != DataType.FLOAT64 && type != DataType.BOOL) {
+					return false;
+				}
+				outputType = DataType.BOOL;
+				break;
+			}
+			case NOT : {
+				if (type != DataType.BOOL) {
+					return false;
+				}
+				expectedOperandLength = 2;
+				break;
+			}
+			case MOV : {
+				if (type != DataType.INT64 && type != DataType.FLOAT64 && type != DataType.BOOL && type != DataType.STRING) {
+					return false;
+				}
+				expectedOperandLength = 2;
+				break;
+			}
+			default : {
+				return false;
+			}
+		}
+
+		if (operands.length != expectedOperandLength) {
+			return false;
+		}
+		for (int operandIndex=0; operandIndex<expectedOperandLength; operandIndex++) {
+			DataContainer<?> operand = operands[operandIndex];
+			if (!operand.hasArrayData() || operand.getArrayRank() != DataContainer.ARRAY_RANK_OF_SCALAR) {
+				return false;
+			}
+			if (operand.getDataType() != (operandIndex == 0 ? outputType : type)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * Dispatches the specified instruction of which all operands are scalars to the execution unit, to execute it.
+	 *
+	 * This method skips checks of operands performed in {@link DispatchUnit#dispatch dispatch},
+	 * so use it only for instructions for which
+	 * {@link DispatchUnit#isScalarDispatchable(Instruction, DataContainer[]) isScalarDispatchable} returned true.
+	 *
+	 * @param instruction The instruction to be dispatched to the execution unit (to be executed).
+	 * @param operands Data containers of operands of the instruction, loaded from the memory.
+	 * @param executionUnit The execution unit to execute the instruction.
+	 * @param programCounter The value of the program cunter just before execution of the specified instruction.
+	 * @return The value of the program cunter just after execution of the specified instruction.
+	 */
+	public final int dispatchScalar(Instruction instruction, DataContainer<?>[] operands,
+			ExecutionUnit executionUnit, int programCounter) {
+
+		executionUnit.executeScalar(instruction.getOperationCode(), instruction.getDataTypes()[0], operands);
+		return programCounter + 1;
+	}
+
+
 	/**
 	 * Check whether the number of operands matches with the expected number.
 	 *
@@ -413,7 +564,7 @@ public class DispatchUnit {
 	 * @return Data containers of operands.
 	 * @throws VnanoFatalException Thrown when invalid memory access has been detected.
 	 */
-	private DataContainer<?>[] loadOperandData(Instruction instruction, Memory memory) {
+	public final DataContainer<?>[] loadOperandData(Instruction instruction, Memory memory) {
 
 		Memory.Partition[] operandPartitions = instruction.getOperandPartitions();
 		int[] operandAddress = instruction.getOperandAddresses();
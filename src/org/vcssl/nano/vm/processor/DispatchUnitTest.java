@@ -175,6 +175,7 @@ public class DispatchUnitTest {
 		this.testCallx();
 		this.testDispatchNop();
 		this.testDispatchLabel();
+		this.testDispatchScalar();
 	}
 
 	private Instruction generateInt64x2Instruction(OperationCode operationCode) {
@@ -208,12 +209,12 @@ public class DispatchUnitTest {
 
 	private int dispatch(Instruction instruction, int pc) throws VnanoException, VnanoFatalException {
 		return new DispatchUnit().dispatch(
-				instruction, this.memory, new Interconnect(), new ExecutionUnit(), new boolean[] {false}, pc
+				instruction, this.memory, new Interconnect(), new ExecutionUnit(), null, pc
 		);
 	}
 	private int dispatch(Instruction instruction, Interconnect interconnect, int pc) throws VnanoException, VnanoFatalException {
 		return new DispatchUnit().dispatch(
-				instruction, this.memory, interconnect, new ExecutionUnit(), new boolean[] {false}, pc
+				instruction, this.memory, interconnect, new ExecutionUnit(), null, pc
 		);
 	}
 
@@ -1413,4 +1414,58 @@ public class DispatchUnitTest {
 
 
 
+	private void testDispatchScalar() {
+
+		// Operands of this test are arrays, so the instruction can not be dispatched to the path specialized for scalars.
+		DispatchUnit dispatchUnit = new DispatchUnit();
+		Instruction instruction = this.generateInt64x3Instruction(OperationCode.ADD);
+		DataContainer<?>[] operands = dispatchUnit.loadOperandData(instruction, this.memory);
+		if (dispatchUnit.isScalarDispatchable(instruction, operands)) {
+			fail("Incorrect result of the check for scalar operands");
+		}
+
+		// Set scalar values to operands.
+		this.int64InputA.setArrayData(new long[]{ 0L, 2L, 0L }, 1, DataContainer.ARRAY_LENGTHS_OF_SCALAR);
+		this.int64InputB.setArrayData(new long[]{ 3L }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR);
+		this.int64Output.setArrayData(new long[]{ -1L }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR);
+		this.boolOutput.setArrayData(new boolean[]{ false }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR);
+
+		// Dispatch/execute the ADD instruction.
+		if (!dispatchUnit.isScalarDispatchable(instruction, operands)) {
+			fail("Incorrect result of the check for scalar operands");
+		}
+		int programCounter = dispatchUnit.dispatchScalar(instruction, operands, new ExecutionUnit(), 10);
+		if (programCounter != 11) {
+			fail("Incorrect program counter");
+		}
+		if (this.int64Output.getArrayData()[0] != 5L) {
+			fail("Incorrect output");
+		}
+
+		// Dispatch/execute the LT instruction, of which output is a bool scalar.
+		instruction = this.generateBoolx1Int64x2Instruction(OperationCode.LT);
+		operands = dispatchUnit.loadOperandData(instruction, this.memory);
+		if (!dispatchUnit.isScalarDispatchable(instruction, operands)) {
+			fail("Incorrect result of the check for scalar operands");
+		}
+		dispatchUnit.dispatchScalar(instruction, operands, new ExecutionUnit(), 10);
+		if (!this.boolOutput.getArrayData()[0]) {
+			fail("Incorrect output");
+		}
+
+		// Instructions of which output types are mismatched, and unsupported instructions, should not be dispatched to the scalar path.
+		instruction = this.generateInt64x3Instruction(OperationCode.LT);
+		operands = dispatchUnit.loadOperandData(instruction, this.memory);
+		if (dispatchUnit.isScalarDispatchable(instruction, operands)) {
+			fail("Incorrect result of the check for scalar operands");
+		}
+		instruction = this.generateBoolx3Instruction(OperationCode.ANDM);
+		operands = dispatchUnit.loadOperandData(instruction, this.memory);
+		if (dispatchUnit.isScalarDispatchable(instruction, operands)) {
+			fail("Incorrect result of the check for scalar operands");
+		}
+	}
+
+
+
 }
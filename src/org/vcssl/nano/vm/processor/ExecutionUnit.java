@@ -9,7 +9,9 @@ import org.vcssl.nano.VnanoFatalException;
 import org.vcssl.nano.interconnect.DataConverter;
 import org.vcssl.nano.spec.DataType;
 import org.vcssl.nano.spec.ErrorType;
+import org.vcssl.nano.spec.OperationCode;
 import org.vcssl.nano.vm.memory.DataContainer;
+import org.vcssl.nano.vm.memory.DataContainerPool;
 import org.vcssl.nano.VnanoException;
 
 
@@ -23,10 +25,25 @@ public class ExecutionUnit {
 	//       https://www.vcssl.org/en-us/vril/isa/instruction
 	// --------------------------------------------------------------------------------
 
+	/** The pool from which data arrays are taken by ALLOC instructions, or null if they are always created newly. */
+	private final DataContainerPool dataContainerPool;
+
+
 	/**
 	 * Create a new execution unit.
 	 */
 	public ExecutionUnit() {
+		this(null);
+	}
+
+
+	/**
+	 * Create a new execution unit, which takes data arrays allocated by ALLOC instructions from the specified pool.
+	 *
+	 * @param dataContainerPool The pool of data arrays (or null to create them newly).
+	 */
+	public ExecutionUnit(DataContainerPool dataContainerPool) {
+		this.dataContainerPool = dataContainerPool;
 	}
 
 
@@ -743,10 +760,105 @@ public class ExecutionUnit {
 	}
 
 
+	/**
+	 * Execute an arithmetic, comparison, NOT, or MOV instruction of which all operands are scalars,
+	 * by reading/writing the elements of their data arrays directly.
+	 *
+	 * This method skips checks of data-types and sizes of operands, and the loop over elements,
+	 * so it should be used only for instructions of which operands have been checked by
+	 * {@link DispatchUnit#isScalarDispatchable(Instruction, DataContainer[]) DispatchUnit.isScalarDispatchable}.
+	 * Ranks and data-types of data containers of operands are not changed during the execution of code
+	 * (data arrays in them may be replaced, so they are read at every execution),
+	 * so the result of the check at the first execution of the instruction can be reused.
+	 *
+	 * @param opcode The operation code of the instruction.
+	 * @param type The data-type of operands (for comparison instructions, the data-type of input operands).
+	 * @param operands Data containers of operands of the instruction, of which the first one is the output.
+	 */
+	public void executeScalar(OperationCode opcode, DataType type, DataContainer<?>[] operands) {
+
+		// For unary operations (NEG, NOT, and MOV), inputA and inputB are the same operand.
+		DataContainer<?> output = operands[0];
+		DataContainer<?> inputA = operands[1];
+		DataContainer<?> inputB = operands[operands.length - 1];
+		Object outputData = output.getArrayData();
+		int outputOffset = output.getArrayOffset();
+
+		switch (type) {
+			case INT64 : {
+				long a = ((long[])inputA.getArrayData())[inputA.getArrayOffset()];
+				long b = ((long[])inputB.getArrayData())[inputB.getArrayOffset()];
+				switch (opcode) {
+					case ADD : ((long[])outputData)[outputOffset] = a + b; return;
+					case SUB : ((long[])outputData)[outputOffset] = a - b; return;
+					case MUL : ((long[])outputData)[outputOffset] = a * b; return;
+					case DIV : ((long[])outputData)[outputOffset] = a / b; return;
+					case REM : ((long[])outputData)[outputOffset] = a % b; return;
+					case NEG : ((long[])outputData)[outputOffset] = -a; return;
+					case MOV : ((long[])outputData)[outputOffset] = a; return;
+					case EQ  : ((boolean[])outputData)[outputOffset] = a == b; return;
+					case NEQ : ((boolean[])outputData)[outputOffset] = a != b; return;
+					case GEQ : ((boolean[])outputData)[outputOffset] = a >= b; return;
+					case LEQ : ((boolean[])outputData)[outputOffset] = a <= b; return;
+					case GT  : ((boolean[])outputData)[outputOffset] = a > b; return;
+					case LT  : ((boolean[])outputData)[outputOffset] = a < b; return;
+					default  : break;
+				}
+				break;
+			}
+			case FLOAT64 : {
+				double a = ((double[])inputA.getArrayData())[inputA.getArrayOffset()];
+				double b = ((double[])inputB.getArrayData())[inputB.getArrayOffset()];
+				switch (opcode) {
+					case ADD : ((double[])outputData)[outputOffset] = a + b; return;
+					case SUB : ((double[])outputData)[outputOffset] = a - b; return;
+					case MUL : ((double[])outputData)[outputOffset] = a * b; return;
+					case DIV : ((double[])outputData)[outputOffset] = a / b; return;
+					case REM : ((double[])outputData)[outputOffset] = a % b; return;
+					case NEG : ((double[])outputData)[outputOffset] = -a; return;
+					case MOV : ((double[])outputData)[outputOffset] = a; return;
+					case EQ  : ((boolean[])outputData)[outputOffset] = a == b; return;
+					case NEQ : ((boolean[])outputData)[outputOffset] = a != b; return;
+					case GEQ : ((boolean[])outputData)[outputOffset] = a >= b; return;
+					case LEQ : ((boolean[])outputData)[outputOffset] = a <= b; return;
+					case GT  : ((boolean[])outputData)[outputOffset] = a > b; return;
+					case LT  : ((boolean[])outputData)[outputOffset] = a < b; return;
+					default  : break;
+				}
+				break;
+			}
+			case BOOL : {
+				boolean a = ((boolean[])inputA.getArrayData())[inputA.getArrayOffset()];
+				boolean b = ((boolean[])inputB.getArrayData())[inputB.getArrayOffset()];
+				switch (opcode) {
+					case NOT : ((boolean[])outputData)[outputOffset] = !a; return;
+					case MOV : ((boolean[])outputData)[outputOffset] = a; return;
+					case EQ  : ((boolean[])outputData)[outputOffset] = a == b; return;
+					case NEQ : ((boolean[])outputData)[outputOffset] = a != b; return;
+					default  : break;
+				}
+				break;
+			}
+			case STRING : {
+				if (opcode == OperationCode.MOV) {
+					((String[])outputData)[outputOffset] = ((String[])inputA.getArrayData())[inputA.getArrayOffset()];
+					return;
+				}
+				break;
+			}
+			default : {
+				break;
+			}
+		}
+		throw new VnanoFatalException("Unsupported scalar operation: " + opcode + " (data type: " + type + ")");
+	}
+
+
 
 
 	/**
 	 * Execute the ALLOC instruction, to allocate memory for a scalar/array data.
+	 * If the pool of data arrays is set, the allocated array is taken from it when it is available.
 	 *
 	 * @param type The data-type of the data.
 	 * @param target The data container for storing the data.
@@ -758,28 +870,37 @@ public class ExecutionUnit {
 
 		Object currentData = target.getArrayData();
 		int currentSize = target.getArraySize();
+		DataContainerPool pool = this.dataContainerPool;
 		switch (type) {
 			case INT64 : {
 				if (!(currentData instanceof long[]) || currentSize != dataLength) {
-					((DataContainer<long[]>)target).setArrayData(new long[dataLength], 0, arrayLengths);
+					((DataContainer<long[]>)target).setArrayData(
+						pool != null ? pool.acquireInt64Array(dataLength) : new long[dataLength], 0, arrayLengths
+					);
 				}
 				return;
 			}
 			case FLOAT64 : {
 				if (!(currentData instanceof double[]) || currentSize != dataLength) {
-					((DataContainer<double[]>)target).setArrayData(new double[dataLength], 0, arrayLengths);
+					((DataContainer<double[]>)target).setArrayData(
+						pool != null ? pool.acquireFloat64Array(dataLength) : new double[dataLength], 0, arrayLengths
+					);
 				}
 				return;
 			}
 			case BOOL : {
 				if (!(currentData instanceof boolean[]) || currentSize != dataLength) {
-					((DataContainer<boolean[]>)target).setArrayData(new boolean[dataLength], 0, arrayLengths);
+					((DataContainer<boolean[]>)target).setArrayData(
+						pool != null ? pool.acquireBoolArray(dataLength) : new boolean[dataLength], 0, arrayLengths
+					);
 				}
 				return;
 			}
 			case STRING : {
 				if (!(currentData instanceof String[]) || currentSize != dataLength) {
-					((DataContainer<String[]>)target).setArrayData(new String[dataLength], 0, arrayLengths);
+					((DataContainer<String[]>)target).setArrayData(
+						pool != null ? pool.acquireStringArray(dataLength) : new String[dataLength], 0, arrayLengths
+					);
 				}
 				return;
 			}
@@ -14,6 +14,7 @@ import org.vcssl.nano.vm.memory.DataContainer;
 import org.vcssl.nano.VnanoFatalException;
 import org.vcssl.nano.spec.DataType;
 import org.vcssl.nano.spec.ErrorType;
+import org.vcssl.nano.spec.OperationCode;
 import org.vcssl.nano.VnanoException;
 
 public class ExecutionUnitTest {
@@ -3695,6 +3696,114 @@ public class ExecutionUnitTest {
 
 
 
+	// ==================================================
+	// executeScalar
+	// ==================================================
+
+	@Test
+	public void testExecuteScalarInt64() {
+
+		// Set values to operands (the input A is offsetted).
+		DataContainer<long[]> output = new DataContainer<long[]>();
+		DataContainer<long[]> inputA = new DataContainer<long[]>();
+		DataContainer<long[]> inputB = new DataContainer<long[]>();
+		DataContainer<boolean[]> boolOutput = new DataContainer<boolean[]>();
+		output.setArrayData( new long[]{ -1L }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR );
+		inputA.setArrayData( new long[]{ 0L, 7L, 0L }, 1, DataContainer.ARRAY_LENGTHS_OF_SCALAR );
+		inputB.setArrayData( new long[]{ 2L }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR );
+		boolOutput.setArrayData( new boolean[]{ false }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR );
+		DataContainer<?>[] operands = new DataContainer<?>[] { output, inputA, inputB };
+		DataContainer<?>[] comparisonOperands = new DataContainer<?>[] { boolOutput, inputA, inputB };
+		DataContainer<?>[] unaryOperands = new DataContainer<?>[] { output, inputA };
+		ExecutionUnit executionUnit = new ExecutionUnit();
+
+		// Perform operations to be tested, and check results.
+		executionUnit.executeScalar(OperationCode.ADD, DataType.INT64, operands);
+		assertEquals(9L, output.getArrayData()[0]);
+		executionUnit.executeScalar(OperationCode.SUB, DataType.INT64, operands);
+		assertEquals(5L, output.getArrayData()[0]);
+		executionUnit.executeScalar(OperationCode.MUL, DataType.INT64, operands);
+		assertEquals(14L, output.getArrayData()[0]);
+		executionUnit.executeScalar(OperationCode.DIV, DataType.INT64, operands);
+		assertEquals(3L, output.getArrayData()[0]);
+		executionUnit.executeScalar(OperationCode.REM, DataType.INT64, operands);
+		assertEquals(1L, output.getArrayData()[0]);
+		executionUnit.executeScalar(OperationCode.NEG, DataType.INT64, unaryOperands);
+		assertEquals(-7L, output.getArrayData()[0]);
+		executionUnit.executeScalar(OperationCode.MOV, DataType.INT64, unaryOperands);
+		assertEquals(7L, output.getArrayData()[0]);
+		executionUnit.executeScalar(OperationCode.GT, DataType.INT64, comparisonOperands);
+		assertTrue(boolOutput.getArrayData()[0]);
+		executionUnit.executeScalar(OperationCode.LEQ, DataType.INT64, comparisonOperands);
+		assertFalse(boolOutput.getArrayData()[0]);
+		executionUnit.executeScalar(OperationCode.NEQ, DataType.INT64, comparisonOperands);
+		assertTrue(boolOutput.getArrayData()[0]);
+
+		// Check that other values in the offsetted array have not changed.
+		assertEquals(0L, inputA.getArrayData()[0]);
+		assertEquals(0L, inputA.getArrayData()[2]);
+	}
+
+	@Test
+	public void testExecuteScalarFloat64() {
+
+		// Set values to operands.
+		DataContainer<double[]> output = new DataContainer<double[]>();
+		DataContainer<double[]> inputA = new DataContainer<double[]>();
+		DataContainer<double[]> inputB = new DataContainer<double[]>();
+		DataContainer<boolean[]> boolOutput = new DataContainer<boolean[]>();
+		output.setArrayData( new double[]{ -1.0 }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR );
+		inputA.setArrayData( new double[]{ 1.5 }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR );
+		inputB.setArrayData( new double[]{ 0.5 }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR );
+		boolOutput.setArrayData( new boolean[]{ true }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR );
+		DataContainer<?>[] operands = new DataContainer<?>[] { output, inputA, inputB };
+		DataContainer<?>[] comparisonOperands = new DataContainer<?>[] { boolOutput, inputA, inputB };
+		ExecutionUnit executionUnit = new ExecutionUnit();
+
+		// Perform operations to be tested, and check results.
+		executionUnit.executeScalar(OperationCode.ADD, DataType.FLOAT64, operands);
+		assertEquals(2.0, output.getArrayData()[0], FLOAT64_PERMISSIBLE_ERROR);
+		executionUnit.executeScalar(OperationCode.DIV, DataType.FLOAT64, operands);
+		assertEquals(3.0, output.getArrayData()[0], FLOAT64_PERMISSIBLE_ERROR);
+		executionUnit.executeScalar(OperationCode.LT, DataType.FLOAT64, comparisonOperands);
+		assertFalse(boolOutput.getArrayData()[0]);
+		executionUnit.executeScalar(OperationCode.GEQ, DataType.FLOAT64, comparisonOperands);
+		assertTrue(boolOutput.getArrayData()[0]);
+	}
+
+	@Test
+	public void testExecuteScalarBoolAndString() {
+
+		// Set values to operands.
+		DataContainer<boolean[]> boolOutput = new DataContainer<boolean[]>();
+		DataContainer<boolean[]> boolInput = new DataContainer<boolean[]>();
+		DataContainer<String[]> stringOutput = new DataContainer<String[]>();
+		DataContainer<String[]> stringInput = new DataContainer<String[]>();
+		boolOutput.setArrayData( new boolean[]{ false }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR );
+		boolInput.setArrayData( new boolean[]{ false }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR );
+		stringOutput.setArrayData( new String[]{ "" }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR );
+		stringInput.setArrayData( new String[]{ "Hello" }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR );
+		ExecutionUnit executionUnit = new ExecutionUnit();
+
+		// Perform operations to be tested, and check results.
+		executionUnit.executeScalar(OperationCode.NOT, DataType.BOOL, new DataContainer<?>[] { boolOutput, boolInput });
+		assertTrue(boolOutput.getArrayData()[0]);
+		executionUnit.executeScalar(OperationCode.MOV, DataType.STRING, new DataContainer<?>[] { stringOutput, stringInput });
+		assertEquals("Hello", stringOutput.getArrayData()[0]);
+
+		// Test unsupported operations.
+		try {
+			executionUnit.executeScalar(OperationCode.ADD, DataType.BOOL, new DataContainer<?>[] { boolOutput, boolInput, boolInput });
+			fail("Expected exception did not occured");
+		} catch (VnanoFatalException e) {
+			// We expect that the exception occurs.
+		}
+	}
+
+
+
+
+
 	// ==================================================
 	// alloc
 	// ==================================================
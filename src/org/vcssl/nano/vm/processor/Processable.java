@@ -46,7 +46,7 @@ public interface Processable {
 	 *
 	 * Note that,
 	 * if {@link OperationCode#CALL CALL} or {@link OperationCode#RET RET} instruction is processed by this method,
-	 * the detection of recursive calls (unsupported on this interpreter) will not work.
+	 * frames of recursive functions will not be saved/restored, so recursive calls will not work correctly.
 	 *
 	 * @param instruction The instruction to be processed.
 	 * @param memory The memory to which data I/O will be performed.
@@ -6,16 +6,17 @@
 package org.vcssl.nano.vm.processor;
 
 import java.io.PrintStream;
-import java.util.Arrays;
 import java.util.Map;
 
 import org.vcssl.nano.VnanoException;
+import org.vcssl.nano.VnanoFatalException;
 import org.vcssl.nano.interconnect.Interconnect;
 import org.vcssl.nano.spec.ErrorType;
 import org.vcssl.nano.spec.MetaInformationSyntax;
 import org.vcssl.nano.spec.OperationCode;
 import org.vcssl.nano.spec.OptionKey;
 import org.vcssl.nano.spec.OptionValue;
+import org.vcssl.nano.vm.memory.DataContainer;
 import org.vcssl.nano.vm.memory.Memory;
 
 
@@ -31,6 +32,63 @@ import org.vcssl.nano.vm.memory.Memory;
 public class Processor implements Processable {
 
 
+	/**
+	 * The container class for caching resources decoded from the code,
+	 * to reduce overheads when this processor processes the same code repetitively.
+	 *
+	 * An instance of this class is bound to the code and the memory used when it was created,
+	 * so it must be passed to {@link Processor#reprocess(Instruction[], Memory, Interconnect, ReprocessingCache)}
+	 * only with the same code and the same memory.
+	 * Also, the same instance must not be used by multiple threads at the same time.
+	 */
+	public static final class ReprocessingCache {
+
+		/** The unit performing operations, of which data arrays are taken from the pool of the memory. */
+		private final ExecutionUnit executionUnit;
+
+		/** The unit for dispatching each instruction to the corresponding method in the execution unit. */
+		private final DispatchUnit dispatchUnit;
+
+		/**
+		 * Data containers of operands of instructions, of which indices correspond with indices of instructions.
+		 * Data containers in the memory are not replaced while it is used,
+		 * so operands of each instruction are loaded from the memory only when it is executed at first, and reused after that.
+		 * (It is done lazily, for avoiding to load operands of instructions never executed, e.g.: unused library functions.)
+		 */
+		private final DataContainer<?>[][] instructionOperands;
+
+		/**
+		 * Flags representing whether each instruction can be executed by the faster path specialized for scalar operands.
+		 * Ranks and data-types of operands are not changed, so they are checked only when operands are loaded.
+		 */
+		private final boolean[] scalarDispatchables;
+
+		/**
+		 * The unit managing frames of functions which may be called recursively
+		 * (null if the code has no recursive functions, because no frames are required for it).
+		 */
+		private final CallFrameUnit callFrameUnit;
+
+		/**
+		 * Creates the resources for processing the specified code on the specified memory.
+		 * (Instances of this class are created only by the Processor.)
+		 *
+		 * @param instructions The list of the instructions to be processed.
+		 * @param memory The memory to which data I/O will be performed.
+		 */
+		private ReprocessingCache(Instruction[] instructions, Memory memory) {
+			this.executionUnit = new ExecutionUnit(memory.getDataContainerPool());
+			this.dispatchUnit = new DispatchUnit();
+			this.instructionOperands = new DataContainer<?>[instructions.length][];
+			this.scalarDispatchables = new boolean[instructions.length];
+
+			// Analyze the graph of function calls in the code only once here, and keep the unit only when it is necessary.
+			CallFrameUnit callFrameUnit = new CallFrameUnit(instructions, memory);
+			this.callFrameUnit = callFrameUnit.hasRecursiveFunctions() ? callFrameUnit : null;
+		}
+	}
+
+
 	/**
 	 * The flag representing whether the process should continue.
 	 *
@@ -69,6 +127,18 @@ public class Processor implements Processable {
 	 */
 	private OperationCode currentOperationCode;
 
+	/**
+	 * The execution unit used for processing each instruction by {@link Processor#process(Instruction, Memory, Interconnect, int)}.
+	 * It has no states, so it can be shared between multiple threads.
+	 */
+	private final ExecutionUnit singleInstructionExecutionUnit = new ExecutionUnit();
+
+	/**
+	 * The dispatch unit used for processing each instruction by {@link Processor#process(Instruction, Memory, Interconnect, int)}.
+	 * It has no states, so it can be shared between multiple threads.
+	 */
+	private final DispatchUnit singleInstructionDispatchUnit = new DispatchUnit();
+
 
 	/**
 	 * Create a new processor.
@@ -100,6 +170,44 @@ public class Processor implements Processable {
 	 */
 	@Override
 	public void process(Instruction[] instructions, Memory memory, Interconnect interconnect) throws VnanoException {
+		this.reprocess(instructions, memory, interconnect, this.prepare(instructions, memory));
+	}
+
+
+	/**
+	 * Creates the resources for processing the specified code on the specified memory,
+	 * which can be reused for processing the same code repetitively, by
+	 * {@link Processor#reprocess(Instruction[], Memory, Interconnect, ReprocessingCache) reprocess(...)} method.
+	 *
+	 * @param instructions The list of the instructions to be processed.
+	 * @param memory The memory to which data I/O will be performed.
+	 * @return The created resources.
+	 */
+	public ReprocessingCache prepare(Instruction[] instructions, Memory memory) {
+		return new ReprocessingCache(instructions, memory);
+	}
+
+
+	/**
+	 * Processes the list of instructions, with using the resources created for the same code and the same memory.
+	 *
+	 * The flow of the processing is the same as
+	 * {@link Processor#process(Instruction[], Memory, Interconnect) process(...)} method,
+	 * but operands of instructions decoded in the last processing are reused without decoding them again.
+	 *
+	 * @param instructions The list of the instructions to be processed.
+	 * @param memory The memory to which data I/O will be performed (must be the same instance used when the cache was created).
+	 * @param interconnect The interconnect having the external function plug-ins which may be called by the instructions.
+	 * @param cache The resources created by {@link Processor#prepare(Instruction[], Memory) prepare(...)} method for the same code.
+	 * @throws VnanoException Thrown when any normal run-time error has been occurred (errors of cast, array indexing, and so on).
+	 * @throws VnanoFatalException Thrown when any abnormal error (might be a bug of the VM or the compiler) occurred.
+	 */
+	public void reprocess(Instruction[] instructions, Memory memory, Interconnect interconnect, ReprocessingCache cache)
+			throws VnanoException {
+
+		if (cache == null) {
+			throw new VnanoFatalException("No cached resources for re-processing the instructions.");
+		}
 
 		// Read values of related options.
 		boolean terminatable, monitorable, shouldDump, dumpTargetIsAll, shouldRun;
@@ -116,11 +224,19 @@ public class Processor implements Processable {
 			monitorable = (Boolean)optionMap.get(OptionKey.PERFORMANCE_MONITOR_ENABLED);
 		}
 
-		// The unit performing operations (addition, subtraction, ...).
-		ExecutionUnit executionUnit = new ExecutionUnit();
-
-		// The unit for dispatching each instruction to the corresponding method in executionUnit.
-		DispatchUnit dispatchUnit = new DispatchUnit();
+		// Extract resources decoded from the code, which are reused while the same code is processed on the same memory.
+		ExecutionUnit executionUnit = cache.executionUnit;
+		DispatchUnit dispatchUnit = cache.dispatchUnit;
+		DataContainer<?>[][] instructionOperands = cache.instructionOperands;
+		boolean[] scalarDispatchables = cache.scalarDispatchables;
+
+		// The unit managing frames of functions which may be called recursively.
+		// Local data of such functions are saved to pooled frames when they are called recursively, and restored when returned.
+		// Reset states of it, because they might remain if the last processing has been interrupted by an error.
+		CallFrameUnit callFrameUnit = cache.callFrameUnit;
+		if (callFrameUnit != null) {
+			callFrameUnit.reset();
+		}
 
 		// The program counter, which is the index of the instruction to be executed at the next.
 		int programCounter = 0;
@@ -128,13 +244,6 @@ public class Processor implements Processable {
 		// The total length of the instructions to be executed.
 		int instructionLength = instructions.length;
 
-		// The flags for detecting recursive calls of functions.
-		// This VM does not support recursive calls, so we should detect it and should throw an exception.
-		// The index of the following array corresponds with the address of the top of the code of each function.
-		// The value of each element is set true when the corresponding function is being processed.
-		boolean[] functionRunningFlags = new boolean[instructionLength];
-		Arrays.fill(functionRunningFlags, false);
-
 		// If the option for running code is disabled, do nothing.
 		if (!shouldRun) {
 			return;
@@ -156,21 +265,35 @@ public class Processor implements Processable {
 
 			try {
 
-				// Execute an instruction, and update the program counter.
-				programCounter = dispatchUnit.dispatch(
-					instructions[programCounter], memory, interconnect, executionUnit, functionRunningFlags, programCounter
-				);
-
 				// For the performance monitoring:
 				if (monitorable) {
 
 					// Stores the operation code of the currently executed instruction.
+					// (Get it before the execution, because the program counter may point to out of the range after it.)
 					this.currentOperationCode = instructions[programCounter].getOperationCode();
 
 					// Increment the counter of the instructions executed by this instance.
 					this.executedInstructionCount++;
 				}
 
+				// Load data containers of operands of the instruction from the memory, if it is executed at first.
+				Instruction instruction = instructions[programCounter];
+				DataContainer<?>[] operands = instructionOperands[programCounter];
+				if (operands == null) {
+					operands = dispatchUnit.loadOperandData(instruction, memory);
+					instructionOperands[programCounter] = operands;
+					scalarDispatchables[programCounter] = dispatchUnit.isScalarDispatchable(instruction, operands);
+				}
+
+				// Execute an instruction, and update the program counter.
+				if (scalarDispatchables[programCounter]) {
+					programCounter = dispatchUnit.dispatchScalar(instruction, operands, executionUnit, programCounter);
+				} else {
+					programCounter = dispatchUnit.dispatch(
+						instruction, operands, memory, interconnect, executionUnit, callFrameUnit, programCounter
+					);
+				}
+
 			} catch (Exception e) {
 
 				// Wrap the Exception by a VnanoException.
@@ -211,8 +334,8 @@ public class Processor implements Processable {
 	 * Process the specified instruction, and returns the updated value of the program counter.
 	 *
 	 * Note that,
-	 * if {@link OperationCode#CALL CALL} or {@link OperationCode#RET RET} instruction is processed by this method,
-	 * the detection of recursive calls (unsupported on this interpreter) will not work.
+	 * {@link OperationCode#CALL CALL} and {@link OperationCode#RET RET} instructions can not be processed by this method,
+	 * because they require the state of frames of functions, managed in the processing of the whole code.
 	 *
 	 * @param instruction The instruction to be processed.
 	 * @param memory The memory to which data I/O will be performed.
@@ -226,9 +349,10 @@ public class Processor implements Processable {
 	public int process(Instruction instruction, Memory memory, Interconnect interconnect, int programCounter)
 			throws VnanoException {
 
-		ExecutionUnit executionUnit = new ExecutionUnit();
-		DispatchUnit dispatchUnit = new DispatchUnit();
-		return dispatchUnit.dispatch(instruction, memory, interconnect, executionUnit, null, programCounter);
+		// This method is called frequently from the accelerator, so reuse units instead of creating them for each call.
+		return this.singleInstructionDispatchUnit.dispatch(
+			instruction, memory, interconnect, this.singleInstructionExecutionUnit, null, programCounter
+		);
 	}
 
 
@@ -222,6 +222,38 @@ public class ProcessorTest {
 	}
 
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testReprocessInstructions() {
+
+		// Set the values to the registers.
+		this.initializeRegisters();
+		((DataContainer<long[]>)this.registers[0]).setArrayData(new long[]{ -1L }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR);  // R0=-1
+		((DataContainer<long[]>)this.registers[1]).setArrayData(new long[]{ 123L }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR); // R1=123
+		((DataContainer<long[]>)this.registers[2]).setArrayData(new long[]{ 456L }, 0, DataContainer.ARRAY_LENGTHS_OF_SCALAR); // R2=456
+
+		// Create instructions performing the operation "R0 = R1 + R2".
+		Instruction[] instructions = new Instruction[]{
+				this.generateInstruction(OperationCode.ADD, DataType.INT64, 0, 1, 2), // ADD INT64 R0 R1 R2 (R0=R1+R2)
+		};
+
+		// Execute instructions twice with the same cached resources, with modifying the value of R1 between them.
+		Processor processor = new Processor();
+		Processor.ReprocessingCache cache = processor.prepare(instructions, this.memory);
+		try {
+			processor.reprocess(instructions, this.memory, this.interconnect, cache);
+			assertEquals(579L, ((DataContainer<long[]>)this.registers[0]).getArrayData()[0]); // R0==579
+
+			((DataContainer<long[]>)this.registers[1]).getArrayData()[0] = 1000L; // R1=1000 (without replacing the data container)
+			processor.reprocess(instructions, this.memory, this.interconnect, cache);
+			assertEquals(1456L, ((DataContainer<long[]>)this.registers[0]).getArrayData()[0]); // R0==1456
+		} catch (VnanoException e) {
+			e.printStackTrace();
+			fail("Unexpected exception occurred");
+		}
+	}
+
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testProcessCallInstructions() {